@@ -11,7 +11,9 @@ import edu.msu.cse.dkvf.Utils;
 import edu.msu.cse.dkvf.config.ConfigReader;
 
 import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +24,11 @@ public class COPSClient extends DKVFClient{
 	int numOfPartitions;
 	
 	HashMap<String, Version> nearest;
+
+	// The last written key and the dependencies sent with it. A read version
+	// that is not newer than one of them is already a dependency of the last
+	// write, so it is not added to nearest.
+	HashMap<String, Version> lastWrite;
 	
 	public COPSClient(ConfigReader cnfReader) {
 		super(cnfReader);
@@ -29,12 +36,13 @@ public class COPSClient extends DKVFClient{
 		numOfPartitions = new Integer(protocolProperties.get("num_of_partitions").get(0));
 		dcId = new Integer(protocolProperties.get("dc_id").get(0));
 		nearest = new HashMap<>();
+		lastWrite = new HashMap<>();
 	}
 
 	@Override
 	public boolean put(String key, byte[] value) {
 		try {
-			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).addAllNearest(getDcTimeItems()).build();
+			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).setCompactNearest(getCompactNearest()).build();
 			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(pm).build();
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
@@ -43,11 +51,14 @@ public class COPSClient extends DKVFClient{
 			ClientReply cr = readFromServer(serverId);
 
 			if (cr != null && cr.getStatus()) {
-				nearest.clear();
 				Version version = Configurations.getVersionObject();
 				for (NodeVersion nodeVersion : cr.getPutReply().getVersionList()){
 					version.updateVersion(nodeVersion.getNode(), nodeVersion.getVersion(), System.currentTimeMillis());
 				}
+				lastWrite.clear();
+				lastWrite.putAll(nearest);
+				lastWrite.put(key, version);
+				nearest.clear();
 				nearest.put(key, version);
 				//System.out.println("SERVER COM A KEY: " + key);
 				return true;
@@ -96,19 +107,53 @@ public class COPSClient extends DKVFClient{
 		return (int) (hash % numOfPartitions);
 	}
 	
-	private List<Dependency> getDcTimeItems() {
-		List<Dependency> result = new ArrayList<>();
-		for (Map.Entry<String, Version> entry : nearest.entrySet()) {
-			List<NodeVersion> nodeVersions = new ArrayList<>();
-			for (Map.Entry<String, Long> version : entry.getValue().getVersions().entrySet())
-				nodeVersions.add(NodeVersion.newBuilder().setNode(version.getKey()).setVersion(version.getValue()).build());
-			Dependency dep = Dependency.newBuilder().setKey(entry.getKey()).addAllNodeVersion(nodeVersions).build();
-			result.add(dep);
+	/**
+	 * Encodes nearest as {@link CompactDependencies}. The dependencies are
+	 * sorted by their versions so that the differences between consecutive
+	 * versions are small.
+	 */
+	private CompactDependencies getCompactNearest() {
+		List<Map.Entry<String, Map<String, Long>>> deps = new ArrayList<>(nearest.size());
+		for (Map.Entry<String, Version> entry : nearest.entrySet())
+			deps.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().getVersions()));
+		deps.sort(Comparator.comparingLong(dep -> firstVersion(dep.getValue())));
+		CompactDependencies.Builder result = CompactDependencies.newBuilder();
+		HashMap<String, Integer> nodeIndexes = new HashMap<>();
+		long previous = 0;
+		for (Map.Entry<String, Map<String, Long>> dep : deps) {
+			Map<String, Long> versions = dep.getValue();
+			result.addKey(dep.getKey());
+			result.addVersionsPerKey(versions.size());
+			for (Map.Entry<String, Long> version : versions.entrySet()) {
+				Integer nodeIndex = nodeIndexes.get(version.getKey());
+				if (nodeIndex == null) {
+					nodeIndex = nodeIndexes.size();
+					nodeIndexes.put(version.getKey(), nodeIndex);
+					result.addNode(version.getKey());
+				}
+				result.addNodeIndex(nodeIndex);
+				result.addVersionDelta(version.getValue() - previous);
+				previous = version.getValue();
+			}
 		}
-		return result;
+		return result.build();
+	}
+
+	private static long firstVersion(Map<String, Long> versions) {
+		return versions.isEmpty() ? 0 : versions.values().iterator().next();
+	}
+
+	private boolean coveredByLastWrite(String key, Version version) {
+		Version covering = lastWrite.get(key);
+		if (covering == null)
+			return false;
+		Occurred occurred = version.compare(covering);
+		return occurred == Occurred.TIE || occurred == Occurred.AFTER;
 	}
 	
 	private void updateNearest (String key, Version version){
+		if (coveredByLastWrite(key, version))
+			return;
 		if (nearest.containsKey(key)){
 			if(version.compare(nearest.get(key)) == Occurred.BEFORE) {
 				nearest.put(key, nearest.get(key));
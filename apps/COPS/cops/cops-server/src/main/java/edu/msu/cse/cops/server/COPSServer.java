@@ -53,16 +53,21 @@ public class COPSServer<K,V> extends DKVFServer {
 			metaData.setClientMessageAgent(cma);
 			framework.newMessage(new Message<>(Message.Type.GET, content, metaData));
 		} else if (cma.getClientMessage().hasPutMessage()) {
-			Content<K,V> content = new Content<>((K) cma.getClientMessage().getPutMessage().getKey(),
-												 (V) cma.getClientMessage().getPutMessage().getValue());
+			PutMessage pm = cma.getClientMessage().getPutMessage();
+			Content<K,V> content = new Content<>((K) pm.getKey(), (V) pm.getValue());
 			MetaData metaData = new MetaData();
-			HashMap<String, Version> dependencies = new HashMap<>();
-			for (Dependency dep : cma.getClientMessage().getPutMessage().getNearestList()){
-				Version version = Configurations.getVersionObject();
-				for (NodeVersion nodeVersion : dep.getNodeVersionList()){
-					version.updateVersion(nodeVersion.getNode(), nodeVersion.getVersion(), System.currentTimeMillis());
+			HashMap<String, Version> dependencies;
+			if (pm.hasCompactNearest()) {
+				dependencies = decodeDependencies(pm.getCompactNearest());
+			} else {
+				dependencies = new HashMap<>();
+				for (Dependency dep : pm.getNearestList()){
+					Version version = Configurations.getVersionObject();
+					for (NodeVersion nodeVersion : dep.getNodeVersionList()){
+						version.updateVersion(nodeVersion.getNode(), nodeVersion.getVersion(), System.currentTimeMillis());
+					}
+					dependencies.put(dep.getKey(), version);
 				}
-				dependencies.put(dep.getKey(), version);
 			}
 			metaData.setDependencies(dependencies);
 			metaData.setClientMessageAgent(cma);
@@ -119,6 +124,27 @@ public class COPSServer<K,V> extends DKVFServer {
 		}
 	}
 
+	/**
+	 * Decodes the dependencies of a put sent as {@link CompactDependencies}.
+	 * The columns are read by index, so no message is created per dependency.
+	 */
+	private HashMap<String, Version> decodeDependencies(CompactDependencies nearest) {
+		int numOfKeys = nearest.getKeyCount();
+		HashMap<String, Version> dependencies = new HashMap<>(numOfKeys * 4 / 3 + 1);
+		long now = System.currentTimeMillis();
+		long version = 0;
+		int v = 0;
+		for (int i = 0; i < numOfKeys; i++) {
+			Version dep = Configurations.getVersionObject();
+			for (int j = nearest.getVersionsPerKey(i); j > 0; j--, v++) {
+				version += nearest.getVersionDelta(v);
+				dep.updateVersion(nearest.getNode(nearest.getNodeIndex(v)), version, now);
+			}
+			dependencies.put(nearest.getKey(i), dep);
+		}
+		return dependencies;
+	}
+
 	public void sendDepCheckMessages(String key, List<Dependency> nearestList) {
 		for (Dependency dep : nearestList) {
 			DependencyCheckMessage dcm = DependencyCheckMessage.newBuilder().setForKey(key).setDep(dep).setPId(pId).build();
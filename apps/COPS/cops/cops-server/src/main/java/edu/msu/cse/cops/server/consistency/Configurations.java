@@ -38,6 +38,8 @@ public class Configurations {
     private static Class<?> versionType = null;
     private static Class<?> keyType = null;
     private static Class<?> valueType = null;
+    // looked up once, as a version object is created for every dependency
+    private static volatile Constructor<? extends Version> versionConstructor = null;
 
     public static <K,V> ReplicateInterface<K,V> getReplicateClass(GroupMembershipInterface groupMembership, QuorumInterface<K,V> quorum, CommunicationInterface.internal<K,V> internal, CommunicationInterface.external<K,V> external, DeliveryConditionInterface<K,V> deliveryCondition) {
         Class<?> clazz = null;
@@ -168,10 +170,13 @@ public class Configurations {
     }
 
     public static Version getVersionObject(){
-        Class<? extends Version> classDefinition = null;
         try {
-            classDefinition = (Class<? extends Version>) Class.forName(Configurations.versioning);
-            Constructor<? extends Version> cons = classDefinition .getConstructor();
+            Constructor<? extends Version> cons = versionConstructor;
+            if (cons == null || !cons.getDeclaringClass().getName().equals(Configurations.versioning)) {
+                Class<? extends Version> classDefinition = (Class<? extends Version>) Class.forName(Configurations.versioning);
+                cons = classDefinition.getConstructor();
+                versionConstructor = cons;
+            }
             return cons.newInstance();
         } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
             e.printStackTrace();
@@ -5,15 +5,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.protobuf.ByteString;
 
 import edu.msu.cse.dkvf.DKVFClient;
-import edu.msu.cse.dkvf.ServerConnector.NetworkStatus;
 import edu.msu.cse.dkvf.Utils;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
-import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 import edu.msu.cse.dkvf.metadata.Metadata.GetMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.PutMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.TgTimeItem;
@@ -36,47 +35,55 @@ public class ACCFClient extends DKVFClient {
 	}
 
 	public boolean put(String key, byte[] value) {
+		return putAsync(key, value).join();
+	}
+
+	public byte[] get(String key) {
+		return getAsync(key).join();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> putAsync(String key, byte[] value) {
 		try {
 			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).addAllDsItem(getTgTimeItems()).build();
 			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(pm).build();
 			String serverId = findServer (key);
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return false;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				updateDS(cr.getPutReply().getTg(), cr.getPutReply().getUt());
-				return true;
-			} else {
-				protocolLOGGER.severe("Server could not put the key= " + key);
-				return false;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					updateDS(cr.getPutReply().getTg(), cr.getPutReply().getUt());
+					return true;
+				} else {
+					protocolLOGGER.severe("Server could not put the key= " + key);
+					return false;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to put due to exception", e));
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 	}
 
-	public byte[] get(String key) {
+	@Override
+	public CompletableFuture<byte[]> getAsync(String key) {
 		try {
 			GetMessage gm = GetMessage.newBuilder().addAllDsItem(getTgTimeItems()).setKey(key).setCg(cg_id).build();
 			ClientMessage cm = ClientMessage.newBuilder().setGetMessage(gm).build();
 			String serverId = findServer (key);
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return null;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				for (TgTimeItem tti : cr.getGetReply().getD().getDsItemList()) {
-					updateDS(tti.getTg(), tti.getTime());
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					for (TgTimeItem tti : cr.getGetReply().getD().getDsItemList()) {
+						updateDS(tti.getTg(), tti.getTime());
+					}
+					updateDS(cr.getGetReply().getD().getTg(), cr.getGetReply().getD().getUt());
+					return cr.getGetReply().getD().getValue().toByteArray();
+				} else {
+					protocolLOGGER.severe("Server could not get the key= " + key);
+					return null;
 				}
-				updateDS(cr.getGetReply().getD().getTg(), cr.getGetReply().getD().getUt());
-				return cr.getGetReply().getD().getValue().toByteArray();
-			} else {
-				protocolLOGGER.severe("Server could not get the key= " + key);
-				return null;
-			}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to get due to exception", e));
-			return null;
+			return CompletableFuture.completedFuture(null);
 		}
 	}
 
@@ -86,7 +93,7 @@ public class ACCFClient extends DKVFClient {
 		return cg_id + "_" + partition; //we should change this function for final system. It can query a load balancer to find the server. 
 	}
 
-	private void updateDS(int tg, long time) {
+	private synchronized void updateDS(int tg, long time) {
 		if (ds.containsKey(tg))
 			ds.put(tg, Math.max(time, ds.get(tg)));
 		else {
@@ -94,7 +101,7 @@ public class ACCFClient extends DKVFClient {
 		}
 	}
 
-	private List<TgTimeItem> getTgTimeItems() {
+	private synchronized List<TgTimeItem> getTgTimeItems() {
 		List<TgTimeItem> result = new ArrayList<>();
 		for (Map.Entry<Integer, Long> entry : ds.entrySet()) {
 			TgTimeItem dti = TgTimeItem.newBuilder().setTg(entry.getKey()).setTime(entry.getValue()).build();
@@ -1,87 +0,0 @@
-//
-// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.2.8-b130911.1802 
-// See <a href="http://java.sun.com/xml/jaxb">http://java.sun.com/xml/jaxb</a> 
-// Any modifications to this file will be lost upon recompilation of the source schema. 
-// Generated on: 2017.11.08 at 06:18:09 PM EST 
-//
-
-
-package edu.msu.cse.dkvf.config;
-
-import javax.xml.bind.annotation.XmlRegistry;
-
-
-/**
- * This object contains factory methods for each 
- * Java content interface and Java element interface 
- * generated in the edu.msu.cse.dkvf.config package. 
- * <p>An ObjectFactory allows you to programatically 
- * construct new instances of the Java representation 
- * for XML content. The Java representation of XML 
- * content can consist of schema derived interfaces 
- * and classes representing the binding of schema 
- * type definitions, element declarations and model 
- * groups.  Factory methods for each of these are 
- * provided in this class.
- * 
- */
-@XmlRegistry
-public class ObjectFactory {
-
-
-    /**
-     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: edu.msu.cse.dkvf.config
-     * 
-     */
-    public ObjectFactory() {
-    }
-
-    /**
-     * Create an instance of {@link Config }
-     * 
-     */
-    public Config createConfig() {
-        return new Config();
-    }
-
-    /**
-     * Create an instance of {@link Storage }
-     * 
-     */
-    public Storage createStorage() {
-        return new Storage();
-    }
-
-    /**
-     * Create an instance of {@link ConnectTo }
-     * 
-     */
-    public ConnectTo createConnectTo() {
-        return new ConnectTo();
-    }
-
-    /**
-     * Create an instance of {@link Config.ProtocolProperties }
-     * 
-     */
-    public Config.ProtocolProperties createConfigProtocolProperties() {
-        return new Config.ProtocolProperties();
-    }
-
-    /**
-     * Create an instance of {@link ServerInfo }
-     * 
-     */
-    public ServerInfo createServerInfo() {
-        return new ServerInfo();
-    }
-
-    /**
-     * Create an instance of {@link Property }
-     * 
-     */
-    public Property createProperty() {
-        return new Property();
-    }
-
-}
@@ -1,3827 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: Control.proto
-
-package edu.msu.cse.dkvf.controlMetadata;
-
-public final class ControlMetadata {
-  private ControlMetadata() {}
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  public interface StatusCheckOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.StatusCheck)
-      com.google.protobuf.MessageOrBuilder {
-  }
-  /**
-   * Protobuf type {@code Metadata.StatusCheck}
-   */
-  public  static final class StatusCheck extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.StatusCheck)
-      StatusCheckOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use StatusCheck.newBuilder() to construct.
-    private StatusCheck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private StatusCheck() {
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private StatusCheck(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheck_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheck_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder.class);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) obj;
-
-      boolean result = true;
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.StatusCheck}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.StatusCheck)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheck_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheck_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.StatusCheck.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheck_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck(this);
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance()) return this;
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.StatusCheck)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.StatusCheck)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<StatusCheck>
-        PARSER = new com.google.protobuf.AbstractParser<StatusCheck>() {
-      public StatusCheck parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new StatusCheck(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<StatusCheck> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<StatusCheck> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface StatusCheckReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.StatusCheckReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>string id = 1;</code>
-     */
-    java.lang.String getId();
-    /**
-     * <code>string id = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getIdBytes();
-
-    /**
-     * <code>int32 servers = 3;</code>
-     */
-    int getServers();
-
-    /**
-     * <code>int32 servers_expected = 4;</code>
-     */
-    int getServersExpected();
-
-    /**
-     * <code>int32 clients = 5;</code>
-     */
-    int getClients();
-  }
-  /**
-   * Protobuf type {@code Metadata.StatusCheckReply}
-   */
-  public  static final class StatusCheckReply extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.StatusCheckReply)
-      StatusCheckReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use StatusCheckReply.newBuilder() to construct.
-    private StatusCheckReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private StatusCheckReply() {
-      id_ = "";
-      servers_ = 0;
-      serversExpected_ = 0;
-      clients_ = 0;
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private StatusCheckReply(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              id_ = s;
-              break;
-            }
-            case 24: {
-
-              servers_ = input.readInt32();
-              break;
-            }
-            case 32: {
-
-              serversExpected_ = input.readInt32();
-              break;
-            }
-            case 40: {
-
-              clients_ = input.readInt32();
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheckReply_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheckReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder.class);
-    }
-
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
-    /**
-     * <code>string id = 1;</code>
-     */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        id_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string id = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int SERVERS_FIELD_NUMBER = 3;
-    private int servers_;
-    /**
-     * <code>int32 servers = 3;</code>
-     */
-    public int getServers() {
-      return servers_;
-    }
-
-    public static final int SERVERS_EXPECTED_FIELD_NUMBER = 4;
-    private int serversExpected_;
-    /**
-     * <code>int32 servers_expected = 4;</code>
-     */
-    public int getServersExpected() {
-      return serversExpected_;
-    }
-
-    public static final int CLIENTS_FIELD_NUMBER = 5;
-    private int clients_;
-    /**
-     * <code>int32 clients = 5;</code>
-     */
-    public int getClients() {
-      return clients_;
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
-      }
-      if (servers_ != 0) {
-        output.writeInt32(3, servers_);
-      }
-      if (serversExpected_ != 0) {
-        output.writeInt32(4, serversExpected_);
-      }
-      if (clients_ != 0) {
-        output.writeInt32(5, clients_);
-      }
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
-      }
-      if (servers_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, servers_);
-      }
-      if (serversExpected_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, serversExpected_);
-      }
-      if (clients_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(5, clients_);
-      }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) obj;
-
-      boolean result = true;
-      result = result && getId()
-          .equals(other.getId());
-      result = result && (getServers()
-          == other.getServers());
-      result = result && (getServersExpected()
-          == other.getServersExpected());
-      result = result && (getClients()
-          == other.getClients());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + getId().hashCode();
-      hash = (37 * hash) + SERVERS_FIELD_NUMBER;
-      hash = (53 * hash) + getServers();
-      hash = (37 * hash) + SERVERS_EXPECTED_FIELD_NUMBER;
-      hash = (53 * hash) + getServersExpected();
-      hash = (37 * hash) + CLIENTS_FIELD_NUMBER;
-      hash = (53 * hash) + getClients();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.StatusCheckReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.StatusCheckReply)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheckReply_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheckReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.StatusCheckReply.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        id_ = "";
-
-        servers_ = 0;
-
-        serversExpected_ = 0;
-
-        clients_ = 0;
-
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_StatusCheckReply_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply(this);
-        result.id_ = id_;
-        result.servers_ = servers_;
-        result.serversExpected_ = serversExpected_;
-        result.clients_ = clients_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
-          onChanged();
-        }
-        if (other.getServers() != 0) {
-          setServers(other.getServers());
-        }
-        if (other.getServersExpected() != 0) {
-          setServersExpected(other.getServersExpected());
-        }
-        if (other.getClients() != 0) {
-          setClients(other.getClients());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private java.lang.Object id_ = "";
-      /**
-       * <code>string id = 1;</code>
-       */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          id_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string id = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string id = 1;</code>
-       */
-      public Builder setId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string id = 1;</code>
-       */
-      public Builder clearId() {
-        
-        id_ = getDefaultInstance().getId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string id = 1;</code>
-       */
-      public Builder setIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        id_ = value;
-        onChanged();
-        return this;
-      }
-
-      private int servers_ ;
-      /**
-       * <code>int32 servers = 3;</code>
-       */
-      public int getServers() {
-        return servers_;
-      }
-      /**
-       * <code>int32 servers = 3;</code>
-       */
-      public Builder setServers(int value) {
-        
-        servers_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 servers = 3;</code>
-       */
-      public Builder clearServers() {
-        
-        servers_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private int serversExpected_ ;
-      /**
-       * <code>int32 servers_expected = 4;</code>
-       */
-      public int getServersExpected() {
-        return serversExpected_;
-      }
-      /**
-       * <code>int32 servers_expected = 4;</code>
-       */
-      public Builder setServersExpected(int value) {
-        
-        serversExpected_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 servers_expected = 4;</code>
-       */
-      public Builder clearServersExpected() {
-        
-        serversExpected_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private int clients_ ;
-      /**
-       * <code>int32 clients = 5;</code>
-       */
-      public int getClients() {
-        return clients_;
-      }
-      /**
-       * <code>int32 clients = 5;</code>
-       */
-      public Builder setClients(int value) {
-        
-        clients_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 clients = 5;</code>
-       */
-      public Builder clearClients() {
-        
-        clients_ = 0;
-        onChanged();
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.StatusCheckReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.StatusCheckReply)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<StatusCheckReply>
-        PARSER = new com.google.protobuf.AbstractParser<StatusCheckReply>() {
-      public StatusCheckReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new StatusCheckReply(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<StatusCheckReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<StatusCheckReply> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface TurnoffReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.TurnoffReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>bool ok = 1;</code>
-     */
-    boolean getOk();
-  }
-  /**
-   * Protobuf type {@code Metadata.TurnoffReply}
-   */
-  public  static final class TurnoffReply extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.TurnoffReply)
-      TurnoffReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use TurnoffReply.newBuilder() to construct.
-    private TurnoffReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private TurnoffReply() {
-      ok_ = false;
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private TurnoffReply(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 8: {
-
-              ok_ = input.readBool();
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_TurnoffReply_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_TurnoffReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder.class);
-    }
-
-    public static final int OK_FIELD_NUMBER = 1;
-    private boolean ok_;
-    /**
-     * <code>bool ok = 1;</code>
-     */
-    public boolean getOk() {
-      return ok_;
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (ok_ != false) {
-        output.writeBool(1, ok_);
-      }
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (ok_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, ok_);
-      }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) obj;
-
-      boolean result = true;
-      result = result && (getOk()
-          == other.getOk());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + OK_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getOk());
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.TurnoffReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.TurnoffReply)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_TurnoffReply_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_TurnoffReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.TurnoffReply.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        ok_ = false;
-
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_TurnoffReply_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply(this);
-        result.ok_ = ok_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance()) return this;
-        if (other.getOk() != false) {
-          setOk(other.getOk());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private boolean ok_ ;
-      /**
-       * <code>bool ok = 1;</code>
-       */
-      public boolean getOk() {
-        return ok_;
-      }
-      /**
-       * <code>bool ok = 1;</code>
-       */
-      public Builder setOk(boolean value) {
-        
-        ok_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>bool ok = 1;</code>
-       */
-      public Builder clearOk() {
-        
-        ok_ = false;
-        onChanged();
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.TurnoffReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.TurnoffReply)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<TurnoffReply>
-        PARSER = new com.google.protobuf.AbstractParser<TurnoffReply>() {
-      public TurnoffReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new TurnoffReply(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<TurnoffReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<TurnoffReply> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface TurnoffOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.Turnoff)
-      com.google.protobuf.MessageOrBuilder {
-  }
-  /**
-   * Protobuf type {@code Metadata.Turnoff}
-   */
-  public  static final class Turnoff extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.Turnoff)
-      TurnoffOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Turnoff.newBuilder() to construct.
-    private Turnoff(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Turnoff() {
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Turnoff(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_Turnoff_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_Turnoff_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder.class);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) obj;
-
-      boolean result = true;
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.Turnoff}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.Turnoff)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_Turnoff_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_Turnoff_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.Turnoff.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_Turnoff_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff(this);
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance()) return this;
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.Turnoff)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.Turnoff)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<Turnoff>
-        PARSER = new com.google.protobuf.AbstractParser<Turnoff>() {
-      public Turnoff parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Turnoff(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<Turnoff> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Turnoff> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface ControlMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.ControlMessage)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    boolean hasStatusCheck();
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getStatusCheck();
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder getStatusCheckOrBuilder();
-
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    boolean hasTurnoff();
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getTurnoff();
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder getTurnoffOrBuilder();
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.MessageTypeCase getMessageTypeCase();
-  }
-  /**
-   * Protobuf type {@code Metadata.ControlMessage}
-   */
-  public  static final class ControlMessage extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.ControlMessage)
-      ControlMessageOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use ControlMessage.newBuilder() to construct.
-    private ControlMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private ControlMessage() {
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ControlMessage(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder subBuilder = null;
-              if (messageTypeCase_ == 1) {
-                subBuilder = ((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_).toBuilder();
-              }
-              messageType_ =
-                  input.readMessage(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_);
-                messageType_ = subBuilder.buildPartial();
-              }
-              messageTypeCase_ = 1;
-              break;
-            }
-            case 18: {
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder subBuilder = null;
-              if (messageTypeCase_ == 2) {
-                subBuilder = ((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_).toBuilder();
-              }
-              messageType_ =
-                  input.readMessage(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_);
-                messageType_ = subBuilder.buildPartial();
-              }
-              messageTypeCase_ = 2;
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlMessage_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlMessage_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.Builder.class);
-    }
-
-    private int messageTypeCase_ = 0;
-    private java.lang.Object messageType_;
-    public enum MessageTypeCase
-        implements com.google.protobuf.Internal.EnumLite {
-      STATUS_CHECK(1),
-      TURNOFF(2),
-      MESSAGETYPE_NOT_SET(0);
-      private final int value;
-      private MessageTypeCase(int value) {
-        this.value = value;
-      }
-      /**
-       * @deprecated Use {@link #forNumber(int)} instead.
-       */
-      @java.lang.Deprecated
-      public static MessageTypeCase valueOf(int value) {
-        return forNumber(value);
-      }
-
-      public static MessageTypeCase forNumber(int value) {
-        switch (value) {
-          case 1: return STATUS_CHECK;
-          case 2: return TURNOFF;
-          case 0: return MESSAGETYPE_NOT_SET;
-          default: return null;
-        }
-      }
-      public int getNumber() {
-        return this.value;
-      }
-    };
-
-    public MessageTypeCase
-    getMessageTypeCase() {
-      return MessageTypeCase.forNumber(
-          messageTypeCase_);
-    }
-
-    public static final int STATUS_CHECK_FIELD_NUMBER = 1;
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    public boolean hasStatusCheck() {
-      return messageTypeCase_ == 1;
-    }
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getStatusCheck() {
-      if (messageTypeCase_ == 1) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-    }
-    /**
-     * <code>.Metadata.StatusCheck status_check = 1;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder getStatusCheckOrBuilder() {
-      if (messageTypeCase_ == 1) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-    }
-
-    public static final int TURNOFF_FIELD_NUMBER = 2;
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    public boolean hasTurnoff() {
-      return messageTypeCase_ == 2;
-    }
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getTurnoff() {
-      if (messageTypeCase_ == 2) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-    }
-    /**
-     * <code>.Metadata.Turnoff turnoff = 2;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder getTurnoffOrBuilder() {
-      if (messageTypeCase_ == 2) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (messageTypeCase_ == 1) {
-        output.writeMessage(1, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_);
-      }
-      if (messageTypeCase_ == 2) {
-        output.writeMessage(2, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_);
-      }
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (messageTypeCase_ == 1) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_);
-      }
-      if (messageTypeCase_ == 2) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_);
-      }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage) obj;
-
-      boolean result = true;
-      result = result && getMessageTypeCase().equals(
-          other.getMessageTypeCase());
-      if (!result) return false;
-      switch (messageTypeCase_) {
-        case 1:
-          result = result && getStatusCheck()
-              .equals(other.getStatusCheck());
-          break;
-        case 2:
-          result = result && getTurnoff()
-              .equals(other.getTurnoff());
-          break;
-        case 0:
-        default:
-      }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      switch (messageTypeCase_) {
-        case 1:
-          hash = (37 * hash) + STATUS_CHECK_FIELD_NUMBER;
-          hash = (53 * hash) + getStatusCheck().hashCode();
-          break;
-        case 2:
-          hash = (37 * hash) + TURNOFF_FIELD_NUMBER;
-          hash = (53 * hash) + getTurnoff().hashCode();
-          break;
-        case 0:
-        default:
-      }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.ControlMessage}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.ControlMessage)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessageOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlMessage_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlMessage_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.ControlMessage.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        messageTypeCase_ = 0;
-        messageType_ = null;
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlMessage_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage(this);
-        if (messageTypeCase_ == 1) {
-          if (statusCheckBuilder_ == null) {
-            result.messageType_ = messageType_;
-          } else {
-            result.messageType_ = statusCheckBuilder_.build();
-          }
-        }
-        if (messageTypeCase_ == 2) {
-          if (turnoffBuilder_ == null) {
-            result.messageType_ = messageType_;
-          } else {
-            result.messageType_ = turnoffBuilder_.build();
-          }
-        }
-        result.messageTypeCase_ = messageTypeCase_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage.getDefaultInstance()) return this;
-        switch (other.getMessageTypeCase()) {
-          case STATUS_CHECK: {
-            mergeStatusCheck(other.getStatusCheck());
-            break;
-          }
-          case TURNOFF: {
-            mergeTurnoff(other.getTurnoff());
-            break;
-          }
-          case MESSAGETYPE_NOT_SET: {
-            break;
-          }
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int messageTypeCase_ = 0;
-      private java.lang.Object messageType_;
-      public MessageTypeCase
-          getMessageTypeCase() {
-        return MessageTypeCase.forNumber(
-            messageTypeCase_);
-      }
-
-      public Builder clearMessageType() {
-        messageTypeCase_ = 0;
-        messageType_ = null;
-        onChanged();
-        return this;
-      }
-
-
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder> statusCheckBuilder_;
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public boolean hasStatusCheck() {
-        return messageTypeCase_ == 1;
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck getStatusCheck() {
-        if (statusCheckBuilder_ == null) {
-          if (messageTypeCase_ == 1) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-        } else {
-          if (messageTypeCase_ == 1) {
-            return statusCheckBuilder_.getMessage();
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public Builder setStatusCheck(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck value) {
-        if (statusCheckBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          messageType_ = value;
-          onChanged();
-        } else {
-          statusCheckBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public Builder setStatusCheck(
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder builderForValue) {
-        if (statusCheckBuilder_ == null) {
-          messageType_ = builderForValue.build();
-          onChanged();
-        } else {
-          statusCheckBuilder_.setMessage(builderForValue.build());
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public Builder mergeStatusCheck(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck value) {
-        if (statusCheckBuilder_ == null) {
-          if (messageTypeCase_ == 1 &&
-              messageType_ != edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance()) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.newBuilder((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            messageType_ = value;
-          }
-          onChanged();
-        } else {
-          if (messageTypeCase_ == 1) {
-            statusCheckBuilder_.mergeFrom(value);
-          }
-          statusCheckBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public Builder clearStatusCheck() {
-        if (statusCheckBuilder_ == null) {
-          if (messageTypeCase_ == 1) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-            onChanged();
-          }
-        } else {
-          if (messageTypeCase_ == 1) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-          }
-          statusCheckBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder getStatusCheckBuilder() {
-        return getStatusCheckFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder getStatusCheckOrBuilder() {
-        if ((messageTypeCase_ == 1) && (statusCheckBuilder_ != null)) {
-          return statusCheckBuilder_.getMessageOrBuilder();
-        } else {
-          if (messageTypeCase_ == 1) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.StatusCheck status_check = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder> 
-          getStatusCheckFieldBuilder() {
-        if (statusCheckBuilder_ == null) {
-          if (!(messageTypeCase_ == 1)) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.getDefaultInstance();
-          }
-          statusCheckBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckOrBuilder>(
-                  (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheck) messageType_,
-                  getParentForChildren(),
-                  isClean());
-          messageType_ = null;
-        }
-        messageTypeCase_ = 1;
-        onChanged();;
-        return statusCheckBuilder_;
-      }
-
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder> turnoffBuilder_;
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public boolean hasTurnoff() {
-        return messageTypeCase_ == 2;
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff getTurnoff() {
-        if (turnoffBuilder_ == null) {
-          if (messageTypeCase_ == 2) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-        } else {
-          if (messageTypeCase_ == 2) {
-            return turnoffBuilder_.getMessage();
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public Builder setTurnoff(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff value) {
-        if (turnoffBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          messageType_ = value;
-          onChanged();
-        } else {
-          turnoffBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public Builder setTurnoff(
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder builderForValue) {
-        if (turnoffBuilder_ == null) {
-          messageType_ = builderForValue.build();
-          onChanged();
-        } else {
-          turnoffBuilder_.setMessage(builderForValue.build());
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public Builder mergeTurnoff(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff value) {
-        if (turnoffBuilder_ == null) {
-          if (messageTypeCase_ == 2 &&
-              messageType_ != edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance()) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.newBuilder((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            messageType_ = value;
-          }
-          onChanged();
-        } else {
-          if (messageTypeCase_ == 2) {
-            turnoffBuilder_.mergeFrom(value);
-          }
-          turnoffBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public Builder clearTurnoff() {
-        if (turnoffBuilder_ == null) {
-          if (messageTypeCase_ == 2) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-            onChanged();
-          }
-        } else {
-          if (messageTypeCase_ == 2) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-          }
-          turnoffBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder getTurnoffBuilder() {
-        return getTurnoffFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder getTurnoffOrBuilder() {
-        if ((messageTypeCase_ == 2) && (turnoffBuilder_ != null)) {
-          return turnoffBuilder_.getMessageOrBuilder();
-        } else {
-          if (messageTypeCase_ == 2) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.Turnoff turnoff = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder> 
-          getTurnoffFieldBuilder() {
-        if (turnoffBuilder_ == null) {
-          if (!(messageTypeCase_ == 2)) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.getDefaultInstance();
-          }
-          turnoffBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffOrBuilder>(
-                  (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.Turnoff) messageType_,
-                  getParentForChildren(),
-                  isClean());
-          messageType_ = null;
-        }
-        messageTypeCase_ = 2;
-        onChanged();;
-        return turnoffBuilder_;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.ControlMessage)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.ControlMessage)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<ControlMessage>
-        PARSER = new com.google.protobuf.AbstractParser<ControlMessage>() {
-      public ControlMessage parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new ControlMessage(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<ControlMessage> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<ControlMessage> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface ControlReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Metadata.ControlReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    boolean hasStatusCheckReply();
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getStatusCheckReply();
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder getStatusCheckReplyOrBuilder();
-
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    boolean hasTrunoffReply();
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getTrunoffReply();
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder getTrunoffReplyOrBuilder();
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.MessageTypeCase getMessageTypeCase();
-  }
-  /**
-   * Protobuf type {@code Metadata.ControlReply}
-   */
-  public  static final class ControlReply extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Metadata.ControlReply)
-      ControlReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use ControlReply.newBuilder() to construct.
-    private ControlReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private ControlReply() {
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ControlReply(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder subBuilder = null;
-              if (messageTypeCase_ == 1) {
-                subBuilder = ((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_).toBuilder();
-              }
-              messageType_ =
-                  input.readMessage(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_);
-                messageType_ = subBuilder.buildPartial();
-              }
-              messageTypeCase_ = 1;
-              break;
-            }
-            case 18: {
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder subBuilder = null;
-              if (messageTypeCase_ == 2) {
-                subBuilder = ((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_).toBuilder();
-              }
-              messageType_ =
-                  input.readMessage(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_);
-                messageType_ = subBuilder.buildPartial();
-              }
-              messageTypeCase_ = 2;
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlReply_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.Builder.class);
-    }
-
-    private int messageTypeCase_ = 0;
-    private java.lang.Object messageType_;
-    public enum MessageTypeCase
-        implements com.google.protobuf.Internal.EnumLite {
-      STATUS_CHECK_REPLY(1),
-      TRUNOFF_REPLY(2),
-      MESSAGETYPE_NOT_SET(0);
-      private final int value;
-      private MessageTypeCase(int value) {
-        this.value = value;
-      }
-      /**
-       * @deprecated Use {@link #forNumber(int)} instead.
-       */
-      @java.lang.Deprecated
-      public static MessageTypeCase valueOf(int value) {
-        return forNumber(value);
-      }
-
-      public static MessageTypeCase forNumber(int value) {
-        switch (value) {
-          case 1: return STATUS_CHECK_REPLY;
-          case 2: return TRUNOFF_REPLY;
-          case 0: return MESSAGETYPE_NOT_SET;
-          default: return null;
-        }
-      }
-      public int getNumber() {
-        return this.value;
-      }
-    };
-
-    public MessageTypeCase
-    getMessageTypeCase() {
-      return MessageTypeCase.forNumber(
-          messageTypeCase_);
-    }
-
-    public static final int STATUS_CHECK_REPLY_FIELD_NUMBER = 1;
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    public boolean hasStatusCheckReply() {
-      return messageTypeCase_ == 1;
-    }
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getStatusCheckReply() {
-      if (messageTypeCase_ == 1) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-    }
-    /**
-     * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder getStatusCheckReplyOrBuilder() {
-      if (messageTypeCase_ == 1) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-    }
-
-    public static final int TRUNOFF_REPLY_FIELD_NUMBER = 2;
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    public boolean hasTrunoffReply() {
-      return messageTypeCase_ == 2;
-    }
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getTrunoffReply() {
-      if (messageTypeCase_ == 2) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-    }
-    /**
-     * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-     */
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder getTrunoffReplyOrBuilder() {
-      if (messageTypeCase_ == 2) {
-         return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_;
-      }
-      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-    }
-
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (messageTypeCase_ == 1) {
-        output.writeMessage(1, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_);
-      }
-      if (messageTypeCase_ == 2) {
-        output.writeMessage(2, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_);
-      }
-      unknownFields.writeTo(output);
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (messageTypeCase_ == 1) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_);
-      }
-      if (messageTypeCase_ == 2) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_);
-      }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply)) {
-        return super.equals(obj);
-      }
-      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply) obj;
-
-      boolean result = true;
-      result = result && getMessageTypeCase().equals(
-          other.getMessageTypeCase());
-      if (!result) return false;
-      switch (messageTypeCase_) {
-        case 1:
-          result = result && getStatusCheckReply()
-              .equals(other.getStatusCheckReply());
-          break;
-        case 2:
-          result = result && getTrunoffReply()
-              .equals(other.getTrunoffReply());
-          break;
-        case 0:
-        default:
-      }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      switch (messageTypeCase_) {
-        case 1:
-          hash = (37 * hash) + STATUS_CHECK_REPLY_FIELD_NUMBER;
-          hash = (53 * hash) + getStatusCheckReply().hashCode();
-          break;
-        case 2:
-          hash = (37 * hash) + TRUNOFF_REPLY_FIELD_NUMBER;
-          hash = (53 * hash) + getTrunoffReply().hashCode();
-          break;
-        case 0:
-        default:
-      }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code Metadata.ControlReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Metadata.ControlReply)
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlReply_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.Builder.class);
-      }
-
-      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.ControlReply.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        messageTypeCase_ = 0;
-        messageType_ = null;
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ControlReply_descriptor;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply getDefaultInstanceForType() {
-        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.getDefaultInstance();
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply build() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply buildPartial() {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply(this);
-        if (messageTypeCase_ == 1) {
-          if (statusCheckReplyBuilder_ == null) {
-            result.messageType_ = messageType_;
-          } else {
-            result.messageType_ = statusCheckReplyBuilder_.build();
-          }
-        }
-        if (messageTypeCase_ == 2) {
-          if (trunoffReplyBuilder_ == null) {
-            result.messageType_ = messageType_;
-          } else {
-            result.messageType_ = trunoffReplyBuilder_.build();
-          }
-        }
-        result.messageTypeCase_ = messageTypeCase_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
-      }
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
-      }
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply) {
-          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply other) {
-        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply.getDefaultInstance()) return this;
-        switch (other.getMessageTypeCase()) {
-          case STATUS_CHECK_REPLY: {
-            mergeStatusCheckReply(other.getStatusCheckReply());
-            break;
-          }
-          case TRUNOFF_REPLY: {
-            mergeTrunoffReply(other.getTrunoffReply());
-            break;
-          }
-          case MESSAGETYPE_NOT_SET: {
-            break;
-          }
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int messageTypeCase_ = 0;
-      private java.lang.Object messageType_;
-      public MessageTypeCase
-          getMessageTypeCase() {
-        return MessageTypeCase.forNumber(
-            messageTypeCase_);
-      }
-
-      public Builder clearMessageType() {
-        messageTypeCase_ = 0;
-        messageType_ = null;
-        onChanged();
-        return this;
-      }
-
-
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder> statusCheckReplyBuilder_;
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public boolean hasStatusCheckReply() {
-        return messageTypeCase_ == 1;
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply getStatusCheckReply() {
-        if (statusCheckReplyBuilder_ == null) {
-          if (messageTypeCase_ == 1) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-        } else {
-          if (messageTypeCase_ == 1) {
-            return statusCheckReplyBuilder_.getMessage();
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public Builder setStatusCheckReply(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply value) {
-        if (statusCheckReplyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          messageType_ = value;
-          onChanged();
-        } else {
-          statusCheckReplyBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public Builder setStatusCheckReply(
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder builderForValue) {
-        if (statusCheckReplyBuilder_ == null) {
-          messageType_ = builderForValue.build();
-          onChanged();
-        } else {
-          statusCheckReplyBuilder_.setMessage(builderForValue.build());
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public Builder mergeStatusCheckReply(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply value) {
-        if (statusCheckReplyBuilder_ == null) {
-          if (messageTypeCase_ == 1 &&
-              messageType_ != edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance()) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.newBuilder((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            messageType_ = value;
-          }
-          onChanged();
-        } else {
-          if (messageTypeCase_ == 1) {
-            statusCheckReplyBuilder_.mergeFrom(value);
-          }
-          statusCheckReplyBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 1;
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public Builder clearStatusCheckReply() {
-        if (statusCheckReplyBuilder_ == null) {
-          if (messageTypeCase_ == 1) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-            onChanged();
-          }
-        } else {
-          if (messageTypeCase_ == 1) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-          }
-          statusCheckReplyBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder getStatusCheckReplyBuilder() {
-        return getStatusCheckReplyFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder getStatusCheckReplyOrBuilder() {
-        if ((messageTypeCase_ == 1) && (statusCheckReplyBuilder_ != null)) {
-          return statusCheckReplyBuilder_.getMessageOrBuilder();
-        } else {
-          if (messageTypeCase_ == 1) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.StatusCheckReply status_check_reply = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder> 
-          getStatusCheckReplyFieldBuilder() {
-        if (statusCheckReplyBuilder_ == null) {
-          if (!(messageTypeCase_ == 1)) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.getDefaultInstance();
-          }
-          statusCheckReplyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReplyOrBuilder>(
-                  (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply) messageType_,
-                  getParentForChildren(),
-                  isClean());
-          messageType_ = null;
-        }
-        messageTypeCase_ = 1;
-        onChanged();;
-        return statusCheckReplyBuilder_;
-      }
-
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder> trunoffReplyBuilder_;
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public boolean hasTrunoffReply() {
-        return messageTypeCase_ == 2;
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply getTrunoffReply() {
-        if (trunoffReplyBuilder_ == null) {
-          if (messageTypeCase_ == 2) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-        } else {
-          if (messageTypeCase_ == 2) {
-            return trunoffReplyBuilder_.getMessage();
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public Builder setTrunoffReply(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply value) {
-        if (trunoffReplyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          messageType_ = value;
-          onChanged();
-        } else {
-          trunoffReplyBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public Builder setTrunoffReply(
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder builderForValue) {
-        if (trunoffReplyBuilder_ == null) {
-          messageType_ = builderForValue.build();
-          onChanged();
-        } else {
-          trunoffReplyBuilder_.setMessage(builderForValue.build());
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public Builder mergeTrunoffReply(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply value) {
-        if (trunoffReplyBuilder_ == null) {
-          if (messageTypeCase_ == 2 &&
-              messageType_ != edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance()) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.newBuilder((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_)
-                .mergeFrom(value).buildPartial();
-          } else {
-            messageType_ = value;
-          }
-          onChanged();
-        } else {
-          if (messageTypeCase_ == 2) {
-            trunoffReplyBuilder_.mergeFrom(value);
-          }
-          trunoffReplyBuilder_.setMessage(value);
-        }
-        messageTypeCase_ = 2;
-        return this;
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public Builder clearTrunoffReply() {
-        if (trunoffReplyBuilder_ == null) {
-          if (messageTypeCase_ == 2) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-            onChanged();
-          }
-        } else {
-          if (messageTypeCase_ == 2) {
-            messageTypeCase_ = 0;
-            messageType_ = null;
-          }
-          trunoffReplyBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder getTrunoffReplyBuilder() {
-        return getTrunoffReplyFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder getTrunoffReplyOrBuilder() {
-        if ((messageTypeCase_ == 2) && (trunoffReplyBuilder_ != null)) {
-          return trunoffReplyBuilder_.getMessageOrBuilder();
-        } else {
-          if (messageTypeCase_ == 2) {
-            return (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_;
-          }
-          return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-        }
-      }
-      /**
-       * <code>.Metadata.TurnoffReply trunoff_reply = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder> 
-          getTrunoffReplyFieldBuilder() {
-        if (trunoffReplyBuilder_ == null) {
-          if (!(messageTypeCase_ == 2)) {
-            messageType_ = edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.getDefaultInstance();
-          }
-          trunoffReplyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReplyOrBuilder>(
-                  (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.TurnoffReply) messageType_,
-                  getParentForChildren(),
-                  isClean());
-          messageType_ = null;
-        }
-        messageTypeCase_ = 2;
-        onChanged();;
-        return trunoffReplyBuilder_;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:Metadata.ControlReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:Metadata.ControlReply)
-    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply();
-    }
-
-    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<ControlReply>
-        PARSER = new com.google.protobuf.AbstractParser<ControlReply>() {
-      public ControlReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-          return new ControlReply(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<ControlReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<ControlReply> getParserForType() {
-      return PARSER;
-    }
-
-    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_StatusCheck_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_StatusCheck_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_StatusCheckReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_StatusCheckReply_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_TurnoffReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_TurnoffReply_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_Turnoff_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_Turnoff_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_ControlMessage_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_ControlMessage_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_ControlReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_ControlReply_fieldAccessorTable;
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
-  }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\rControl.proto\022\010Metadata\"\r\n\013StatusCheck" +
-      "\"Z\n\020StatusCheckReply\022\n\n\002id\030\001 \001(\t\022\017\n\007serv" +
-      "ers\030\003 \001(\005\022\030\n\020servers_expected\030\004 \001(\005\022\017\n\007c" +
-      "lients\030\005 \001(\005\"\032\n\014TurnoffReply\022\n\n\002ok\030\001 \001(\010" +
-      "\"\t\n\007Turnoff\"u\n\016ControlMessage\022-\n\014status_" +
-      "check\030\001 \001(\0132\025.Metadata.StatusCheckH\000\022$\n\007" +
-      "turnoff\030\002 \001(\0132\021.Metadata.TurnoffH\000B\016\n\014me" +
-      "ssage_type\"\211\001\n\014ControlReply\0228\n\022status_ch" +
-      "eck_reply\030\001 \001(\0132\032.Metadata.StatusCheckRe" +
-      "plyH\000\022/\n\rtrunoff_reply\030\002 \001(\0132\026.Metadata.",
-      "TurnoffReplyH\000B\016\n\014message_typeB4\n!edu.ms" +
-      "u.cse.gdkvp.controlMetadataB\017ControlMeta" +
-      "datab\006proto3"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
-    internal_static_Metadata_StatusCheck_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_Metadata_StatusCheck_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_StatusCheck_descriptor,
-        new java.lang.String[] { });
-    internal_static_Metadata_StatusCheckReply_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_Metadata_StatusCheckReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_StatusCheckReply_descriptor,
-        new java.lang.String[] { "Id", "Servers", "ServersExpected", "Clients", });
-    internal_static_Metadata_TurnoffReply_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_Metadata_TurnoffReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_TurnoffReply_descriptor,
-        new java.lang.String[] { "Ok", });
-    internal_static_Metadata_Turnoff_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_Metadata_Turnoff_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_Turnoff_descriptor,
-        new java.lang.String[] { });
-    internal_static_Metadata_ControlMessage_descriptor =
-      getDescriptor().getMessageTypes().get(4);
-    internal_static_Metadata_ControlMessage_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_ControlMessage_descriptor,
-        new java.lang.String[] { "StatusCheck", "Turnoff", "MessageType", });
-    internal_static_Metadata_ControlReply_descriptor =
-      getDescriptor().getMessageTypes().get(5);
-    internal_static_Metadata_ControlReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_ControlReply_descriptor,
-        new java.lang.String[] { "StatusCheckReply", "TrunoffReply", "MessageType", });
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
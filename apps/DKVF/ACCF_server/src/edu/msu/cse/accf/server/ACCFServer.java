@@ -14,7 +14,9 @@ import java.util.function.Predicate;
 import edu.msu.cse.accf.server.Utils;
 import edu.msu.cse.dkvf.ClientMessageAgent;
 import edu.msu.cse.dkvf.DKVFServer;
+import edu.msu.cse.dkvf.HybridLogicalClock;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
+import edu.msu.cse.dkvf.VisibilityWaiter;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 import edu.msu.cse.dkvf.metadata.Metadata.GetMessage;
@@ -38,6 +40,8 @@ public class ACCFServer extends DKVFServer {
 
 	// GST computation
 	ArrayList<AtomicLong> vv;
+	VisibilityWaiter vvWaiter; // GETs waiting for vv to reach the dependencies of the client
+	HybridLogicalClock hlc = new HybridLogicalClock(); // vv[tg_id] follows it
 	HashMap<Integer, List<Long>> childrenVvs;
 
 	// Tree structure
@@ -51,6 +55,10 @@ public class ACCFServer extends DKVFServer {
 	
 	//simulation parameters
 	int messageDelay;  
+
+	// the maximum time a GET waits for its dependencies (ms)
+	long visibilityWaitTimeout;
+	final static long VISIBILITY_WAIT_TIMEOUT_DEFAULT = 5000;
 	
 	// Heartbeat
 	long timeOfLastRepOrHeartbeat;
@@ -83,6 +91,10 @@ public class ACCFServer extends DKVFServer {
 
 		heartbeatInterval = new Integer(protocolProperties.get("heartbeat_interval").get(0));
 		svvComutationInterval = new Integer(protocolProperties.get("svv_comutation_interval").get(0));
+		if (protocolProperties.get("visibility_wait_timeout") != null)
+			visibilityWaitTimeout = new Long(protocolProperties.get("visibility_wait_timeout").get(0));
+		else
+			visibilityWaitTimeout = VISIBILITY_WAIT_TIMEOUT_DEFAULT;
 
 		vv = new ArrayList<>();
 		ArrayList<Long> allZero = new ArrayList<>();
@@ -90,6 +102,7 @@ public class ACCFServer extends DKVFServer {
 			vv.add(i, new AtomicLong(0));
 			allZero.add(new Long(0));
 		}
+		vvWaiter = new VisibilityWaiter(numOfTrackingGroups);
 		
 		
 		childrenVvs = new HashMap<>();
@@ -129,14 +142,10 @@ public class ACCFServer extends DKVFServer {
 		List<TgTimeItem> ds = cma.getClientMessage().getGetMessage().getDsItemList();
 		for (int i = 0; i < ds.size(); i++) {
 			TgTimeItem dti = ds.get(i);
+			AtomicLong v = vv.get(dti.getTg());
 			try {
-			   // synchronized(svv) {
-			        while(vv.get(dti.getTg()).get() < dti.getTime()) {
-			        	protocolLOGGER.info(MessageFormat.format("Waiting! vv[{0}] = {1} while ds[{0}]= {2}", dti.getTg(), vv.get(dti.getTg()).get(), dti.getTime()));
-			        	//svv.wait();
-			        	Thread.sleep(1);
-			        }
-			   // }
+				if (!vvWaiter.await(dti.getTg(), dti.getTime(), v::get, visibilityWaitTimeout))
+					protocolLOGGER.warning(MessageFormat.format("Timed out waiting! vv[{0}] = {1} while ds[{0}]= {2}", dti.getTg(), v.get(), dti.getTime()));
 			} catch (InterruptedException e) {
 			    protocolLOGGER.severe("Intruption exception while waiting for consistent version");
 			}	
@@ -194,10 +203,12 @@ public class ACCFServer extends DKVFServer {
 	private void handlePutMessage(ClientMessageAgent cma) {
 		PutMessage pm = cma.getClientMessage().getPutMessage();
 		long dt = Utils.maxDsTime(pm.getDsItemList());
-		updateHlc(dt);
 		Record rec = null;
 		synchronized (putLock) {
-			rec = Record.newBuilder().setValue(pm.getValue()).setUt(vv.get(tg_id).get()).setTg(tg_id).addAllDsItem(pm.getDsItemList()).build();
+			// The timestamp is taken under the lock, so replicates are sent in the order of their timestamps.
+			long ut = hlc.update(dt);
+			setVv(tg_id, ut);
+			rec = Record.newBuilder().setValue(pm.getValue()).setUt(ut).setTg(tg_id).addAllDsItem(pm.getDsItemList()).build();
 			sendReplicateMessages(pm.getKey(),rec); // The order is different than the paper
 										// algorithm. We first send replicate to
 										// insure a version with smaller
@@ -227,40 +238,23 @@ public class ACCFServer extends DKVFServer {
 		timeOfLastRepOrHeartbeat = Utils.getPhysicalTime(); //we don't need to synchronize for it, because it is not critical
 	}
 
-	private void updateHlc(long dt) {
-		long vv_l = Utils.getL(vv.get(tg_id).get());
-		long physicalTime = Utils.getPhysicalTime();
-		long dt_l = Utils.getL(dt);
-
-		long newL = Math.max(Math.max(vv_l, dt_l), Utils.shiftToHighBits(physicalTime));
-
-		long vv_c = Utils.getC(vv.get(tg_id).get());
-		long dt_c = Utils.getC(dt);
-		long newC;
-		if (newL == vv_l && newL == dt_l)
-			newC = Math.max(vv_c, dt_c) + 1;
-		else if (newL == vv_l)
-			newC = vv_c + 1;
-		else if (newL == dt_l)
-			newC = dt_c + 1;
-		else
-			newC = 0;
-		vv.get(tg_id).set(newL + newC);
+	/**
+	 * Advances the clock of this partition for a heartbeat.
+	 * @return The new time of this partition
+	 */
+	long updateHlc() {
+		long time = hlc.tick();
+		setVv(tg_id, time);
+		return time;
 	}
 
-	void updateHlc() {
-		long vv_l = Utils.getL(vv.get(tg_id).get());
-		long physicalTime = Utils.getPhysicalTime();
-
-		long newL = Math.max(vv_l, Utils.shiftToHighBits(physicalTime));
-
-		long vv_c = Utils.getC(vv.get(tg_id).get());
-		long newC;
-		if (newL == vv_l)
-			newC = vv_c + 1;
-		else
-			newC = 0;
-		vv.get(tg_id).set(newL + newC);
+	/**
+	 * Advances the entry of a tracking group in vv, and wakes up the GETs waiting for it.
+	 * The entry never moves back, so threads that take timestamps concurrently can set it in any order.
+	 */
+	void setVv(int tg, long time) {
+		long current = vv.get(tg).accumulateAndGet(time, Math::max);
+		vvWaiter.signal(tg, current);
 	}
 
 	public void handleServerMessage(ServerMessage sm) {
@@ -280,12 +274,12 @@ public class ACCFServer extends DKVFServer {
 		int senderTgId = sm.getReplicateMessage().getTg();
 		Record d = sm.getReplicateMessage().getD();
 		insert(sm.getReplicateMessage().getKey(), d);
-		vv.get(senderTgId).set(d.getUt());
+		setVv(senderTgId, d.getUt());
 	}
 
 	void handleHearbeatMessage(ServerMessage sm) {
 		int senderTgId = sm.getHeartbeatMessage().getTg();
-		vv.get(senderTgId).set(sm.getHeartbeatMessage().getTime());
+		setVv(senderTgId, sm.getHeartbeatMessage().getTime());
 	}
 
 	void handleVvMessage(ServerMessage sm) {
@@ -314,7 +308,6 @@ public class ACCFServer extends DKVFServer {
 		synchronized (svv) {
 			for (int i=0; i<newSvv.size();i++)
 				svv.set(i, newSvv.get(i));	
-			svv.notify();
 		}
 	}
 }
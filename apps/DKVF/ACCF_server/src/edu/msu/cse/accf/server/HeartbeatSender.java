@@ -12,8 +12,8 @@ public class HeartbeatSender implements Runnable {
 	public void run() {
 		long ct = System.currentTimeMillis(); 
 		if (ct > server.timeOfLastRepOrHeartbeat + server.heartbeatInterval){
-			server.updateHlc();
-			ServerMessage sm = ServerMessage.newBuilder().setHeartbeatMessage(HeartbeatMessage.newBuilder().setTg(server.tg_id).setTime(server.vv.get(server.tg_id).get())).build();
+			long time = server.updateHlc();
+			ServerMessage sm = ServerMessage.newBuilder().setHeartbeatMessage(HeartbeatMessage.newBuilder().setTg(server.tg_id).setTime(time)).build();
 			for (int i = 0; i < server.numOfTrackingGroups; i++) {
 				if (i == server.tg_id)
 					continue;
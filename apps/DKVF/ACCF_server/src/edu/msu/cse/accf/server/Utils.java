@@ -37,24 +37,6 @@ public class Utils {
 		return result;
 	}
 	
-	//HLC operations
-	public static long getL(long time) {
-		return time & 0xFFFFFFFFFFFF0000L;
-	}
-
-	public static long getC(long time) {
-		return time & 0x000000000000FFFFL;
-	}
-
-	public static long incrementL(long time) {
-		return shiftToHighBits(1) + time;
-	}
-
-
-	public static long shiftToHighBits(long time) {
-		return time << 16;
-	}
-	
 	public static long maxDsTime(List<TgTimeItem> tgItemList) {
 		if (tgItemList == null || tgItemList.isEmpty())
 			return 0;
@@ -1,6 +1,7 @@
 package edu.msu.cse.dkvf;
 
 
+import java.io.IOException;
 import java.net.Socket;
 import java.text.MessageFormat;
 import java.util.logging.Logger;
@@ -9,6 +10,7 @@ import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
+import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 /**
  * The handler for incoming clients
  *
@@ -36,7 +38,8 @@ public class ClientHandler implements Runnable {
 	/**
 	 * Handles client message. It calls the protocol
 	 * {@link edu.msu.cse.dkvf.DKVFServer#handleClientMessage} upon
-	 * receiving a client message.
+	 * receiving a client message. A message the protocol did not reply to,
+	 * because it failed or did not handle it, gets a failure reply.
 	 */
 	public void run() {
 		try {
@@ -53,11 +56,24 @@ public class ClientHandler implements Runnable {
 				}
 				LOGGER.finer(MessageFormat.format("New clinet message arrived:\n{0}", cm.toString()));
 				ClientMessageAgent cma = new ClientMessageAgent(cm, out, LOGGER);
-				protocol.handleClientMessage(cma);
+				try {
+					protocol.handleClientMessage(cma);
+				} catch (Exception e) {
+					LOGGER.severe(Utils.exceptionLogMessge("Error in handling client message. toString: {0} Message:\n{1}", e));
+				}
+				if (!cma.hasReplied()) {
+					LOGGER.warning(MessageFormat.format("No reply to client message, sending a failure reply:\n{0}", cm.toString()));
+					cma.sendReply(ClientReply.newBuilder().setStatus(false).build());
+				}
 			}
 		} catch (Exception e) {
 			LOGGER.severe(Utils.exceptionLogMessge("Error in reading client message. toString: {0} Message:\n{1}", e));
 			protocol.decrementNumberOfClients();
+			try {
+				clientSocket.close();
+			} catch (IOException ce) {
+				LOGGER.warning(Utils.exceptionLogMessge("Problem in closing client socket. toString: {0} Message:\n{1}", ce));
+			}
 		}
 	}
 }
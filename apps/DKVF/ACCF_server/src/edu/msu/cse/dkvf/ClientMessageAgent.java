@@ -18,6 +18,7 @@ public class ClientMessageAgent {
 	ClientMessage cm;
 	Logger LOGGER;
 	CodedOutputStream out;
+	private boolean replied = false;
 	
 	/**
 	 * Constructor for ClientMEssageAgent
@@ -32,6 +33,14 @@ public class ClientMessageAgent {
 
 	}
 
+	/**
+	 * Has a reply been sent to the client message.
+	 * @return <b>true</b> if {@link #sendReply(ClientReply)} was called
+	 */
+	boolean hasReplied() {
+		return replied;
+	}
+
 	/**
 	 * Gets the received client message. 
 	 * @return
@@ -42,11 +51,15 @@ public class ClientMessageAgent {
 	}
 
 	/**
-	 * Sends response to the client message.
+	 * Sends response to the client message. The reply gets the request_id of
+	 * the client message.
 	 * @param cr
 	 * 			The client reply to send to client. 
 	 */
 	public void sendReply(ClientReply cr) {
+		replied = true;
+		if (cm.getRequestId() != 0)
+			cr = cr.toBuilder().setRequestId(cm.getRequestId()).build();
 		try {
 			
 			out.writeInt32NoTag(cr.getSerializedSize());
@@ -0,0 +1,120 @@
+package edu.msu.cse.dkvf;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A hybrid logical clock (HLC) that can be ticked and updated by many threads
+ * without locking. A timestamp keeps the logical time l, which is a physical
+ * time in milliseconds, in its higher 48 bits, and the counter c in its lower
+ * 16 bits, so timestamps compare as numbers. Each operation is a
+ * compare-and-set loop on the clock value, so every call returns a distinct
+ * timestamp, and the timestamps returned to a thread are increasing.
+ *
+ * If more than 2^16 events happen within the same millisecond, the counter
+ * carries into l, which then runs ahead of the physical time.
+ *
+ */
+public class HybridLogicalClock {
+
+	private final AtomicLong time = new AtomicLong(0);
+	private final LongSupplier physicalClock;
+
+	/**
+	 * Constructor for HybridLogicalClock using the system time.
+	 */
+	public HybridLogicalClock() {
+		this(System::currentTimeMillis);
+	}
+
+	/**
+	 * Constructor for HybridLogicalClock.
+	 * @param physicalClock Gets the physical time in milliseconds
+	 */
+	public HybridLogicalClock(LongSupplier physicalClock) {
+		this.physicalClock = physicalClock;
+	}
+
+	/**
+	 * Advances the clock for a local or send event, such as a write or a
+	 * heartbeat.
+	 * @return The timestamp of the event
+	 */
+	public long tick() {
+		while (true) {
+			long current = time.get();
+			long pt = fromPhysicalTime(physicalClock.getAsLong());
+			long next = pt > getL(current) ? pt : current + 1;
+			if (time.compareAndSet(current, next))
+				return next;
+		}
+	}
+
+	/**
+	 * Advances the clock past a timestamp received from another process, or a
+	 * dependency of a client.
+	 * @param received The received timestamp
+	 * @return The timestamp of the receive event
+	 */
+	public long update(long received) {
+		while (true) {
+			long current = time.get();
+			long l = Math.max(Math.max(getL(current), getL(received)), fromPhysicalTime(physicalClock.getAsLong()));
+			long next;
+			if (l == getL(current) && l == getL(received))
+				next = Math.max(current, received) + 1;
+			else if (l == getL(current))
+				next = current + 1;
+			else if (l == getL(received))
+				next = received + 1;
+			else
+				next = l;
+			if (time.compareAndSet(current, next))
+				return next;
+		}
+	}
+
+	/**
+	 * Gets the current value of the clock.
+	 * @return The last timestamp
+	 */
+	public long get() {
+		return time.get();
+	}
+
+	/**
+	 * Gets the logical time of a timestamp.
+	 * @param timestamp The timestamp
+	 * @return The timestamp with its counter cleared
+	 */
+	public static long getL(long timestamp) {
+		return timestamp & 0xFFFFFFFFFFFF0000L;
+	}
+
+	/**
+	 * Gets the counter of a timestamp.
+	 * @param timestamp The timestamp
+	 * @return The lower 16 bits of the timestamp
+	 */
+	public static long getC(long timestamp) {
+		return timestamp & 0x000000000000FFFFL;
+	}
+
+	/**
+	 * Converts a physical time to a timestamp with a zero counter.
+	 * @param physicalTime The time in milliseconds
+	 * @return The timestamp
+	 */
+	public static long fromPhysicalTime(long physicalTime) {
+		return physicalTime << 16;
+	}
+
+	/**
+	 * Converts a timestamp to the physical time of its logical time.
+	 * @param timestamp The timestamp
+	 * @return The time in milliseconds
+	 */
+	public static long toPhysicalTime(long timestamp) {
+		return timestamp >>> 16;
+	}
+}
@@ -0,0 +1,139 @@
+package edu.msu.cse.dkvf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets client handlers wait until a timestamp of a vector, such as a version
+ * vector entry of a tracking group or a data center, reaches a target time.
+ * The threads that advance the timestamps signal the waiter, which wakes up
+ * exactly the handlers whose target time is reached.
+ *
+ */
+public class VisibilityWaiter {
+
+	static class Waiter {
+		boolean released = false;
+	}
+
+	static class Slot {
+		// waiters by their target time
+		final TreeMap<Long, List<Waiter>> waiters = new TreeMap<>();
+		volatile int size = 0;
+	}
+
+	private final Slot[] slots;
+
+	private final AtomicLong waits = new AtomicLong(0);
+	private final AtomicLong timeouts = new AtomicLong(0);
+
+	/**
+	 * Constructor for VisibilityWaiter
+	 * @param numOfSlots The number of timestamps to wait on, e.g. the number of tracking groups
+	 */
+	public VisibilityWaiter(int numOfSlots) {
+		slots = new Slot[numOfSlots];
+		for (int i = 0; i < numOfSlots; i++)
+			slots[i] = new Slot();
+	}
+
+	/**
+	 * Waits until the timestamp of the slot reaches the given time. The
+	 * timestamp must be updated before {@link #signal(int, long)} is called.
+	 * @param slot The index of the timestamp
+	 * @param time The target time
+	 * @param current Gets the current timestamp of the slot
+	 * @param timeout The maximum time to wait in milliseconds
+	 * @return true if the timestamp reached the target time, false on timeout
+	 * @throws InterruptedException
+	 */
+	public boolean await(int slot, long time, LongSupplier current, long timeout) throws InterruptedException {
+		if (current.getAsLong() >= time)
+			return true;
+		Slot s = slots[slot];
+		Waiter w = new Waiter();
+		synchronized (s) {
+			// size is published before the timestamp is checked again, and signal reads size after
+			// updating the timestamp, so either the check sees the new timestamp or signal sees the
+			// waiter and takes the lock, which it only gets after the waiter is added.
+			s.size++;
+			if (current.getAsLong() >= time) {
+				s.size--;
+				return true;
+			}
+			s.waiters.computeIfAbsent(time, t -> new ArrayList<>()).add(w);
+		}
+		waits.incrementAndGet();
+		long deadline = System.currentTimeMillis() + timeout;
+		try {
+			synchronized (w) {
+				while (!w.released) {
+					long remaining = deadline - System.currentTimeMillis();
+					if (remaining <= 0)
+						break;
+					w.wait(remaining);
+				}
+				if (w.released)
+					return true;
+			}
+		} finally {
+			remove(s, time, w);
+		}
+		timeouts.incrementAndGet();
+		return current.getAsLong() >= time;
+	}
+
+	private void remove(Slot s, long time, Waiter w) {
+		synchronized (s) {
+			List<Waiter> l = s.waiters.get(time);
+			if (l != null && l.remove(w)) {
+				s.size--;
+				if (l.isEmpty())
+					s.waiters.remove(time);
+			}
+		}
+	}
+
+	/**
+	 * Wakes up the waiters of the slot whose target time is reached.
+	 * @param slot The index of the timestamp
+	 * @param time The new timestamp of the slot
+	 */
+	public void signal(int slot, long time) {
+		Slot s = slots[slot];
+		if (s.size == 0)
+			return;
+		List<Waiter> ready = new ArrayList<>();
+		synchronized (s) {
+			for (List<Waiter> l : s.waiters.headMap(time, true).values())
+				ready.addAll(l);
+			s.waiters.headMap(time, true).clear();
+			s.size -= ready.size();
+		}
+		for (Waiter w : ready) {
+			synchronized (w) {
+				w.released = true;
+				w.notify();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of calls to {@link #await(int, long, LongSupplier, long)} that had to block.
+	 * @return The number of waits
+	 */
+	public long getWaits() {
+		return waits.get();
+	}
+
+	/**
+	 * Gets the number of waits that timed out.
+	 * @return The number of timeouts
+	 */
+	public long getTimeouts() {
+		return timeouts.get();
+	}
+}
@@ -3887,6 +3887,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutMessageOrBuilder getPutMessageOrBuilder();
 
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -3902,6 +3911,7 @@ public final class Metadata {
       super(builder);
     }
     private ClientMessage() {
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -3963,6 +3973,11 @@ public final class Metadata {
               messageTypeCase_ = 2;
               break;
             }
+            case 24: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4077,6 +4092,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutMessage.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4095,6 +4123,9 @@ public final class Metadata {
       if (messageTypeCase_ == 2) {
         output.writeMessage(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(3, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -4111,6 +4142,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -4127,6 +4162,8 @@ public final class Metadata {
       edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other = (edu.msu.cse.dkvf.metadata.Metadata.ClientMessage) obj;
 
       boolean result = true;
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -4153,6 +4190,9 @@ public final class Metadata {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 1:
           hash = (37 * hash) + GET_MESSAGE_FIELD_NUMBER;
@@ -4294,6 +4334,8 @@ public final class Metadata {
       }
       public Builder clear() {
         super.clear();
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -4332,6 +4374,7 @@ public final class Metadata {
             result.messageType_ = putMessageBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -4374,6 +4417,9 @@ public final class Metadata {
 
       public Builder mergeFrom(edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other) {
         if (other == edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_MESSAGE: {
             mergeGetMessage(other.getGetMessage());
@@ -4700,6 +4746,44 @@ public final class Metadata {
         onChanged();;
         return putMessageBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -5889,6 +5973,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutReplyOrBuilder getPutReplyOrBuilder();
 
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientReply.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -5905,6 +5998,7 @@ public final class Metadata {
     }
     private ClientReply() {
       status_ = false;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -5971,6 +6065,11 @@ public final class Metadata {
               messageTypeCase_ = 3;
               break;
             }
+            case 32: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6094,6 +6193,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutReply.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -6115,6 +6227,9 @@ public final class Metadata {
       if (messageTypeCase_ == 3) {
         output.writeMessage(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(4, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -6135,6 +6250,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6153,6 +6272,8 @@ public final class Metadata {
       boolean result = true;
       result = result && (getStatus()
           == other.getStatus());
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -6182,6 +6303,9 @@ public final class Metadata {
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getStatus());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 2:
           hash = (37 * hash) + GET_REPLY_FIELD_NUMBER;
@@ -6325,6 +6449,8 @@ public final class Metadata {
         super.clear();
         status_ = false;
 
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -6364,6 +6490,7 @@ public final class Metadata {
             result.messageType_ = putReplyBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -6409,6 +6536,9 @@ public final class Metadata {
         if (other.getStatus() != false) {
           setStatus(other.getStatus());
         }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_REPLY: {
             mergeGetReply(other.getGetReply());
@@ -6761,6 +6891,44 @@ public final class Metadata {
         onChanged();;
         return putReplyBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -10734,27 +10902,28 @@ public final class Metadata {
       "sage\022\013\n\003key\030\001 \001(\t\022\n\n\002cg\030\002 \001(\005\022%\n\007ds_item" +
       "\030\003 \003(\0132\024.Metadata.TgTimeItem\"O\n\nPutMessa" +
       "ge\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014\022%\n\007ds_ite" +
-      "m\030\003 \003(\0132\024.Metadata.TgTimeItem\"y\n\rClientM" +
-      "essage\022+\n\013get_message\030\001 \001(\0132\024.Metadata.G" +
-      "etMessageH\000\022+\n\013put_message\030\002 \001(\0132\024.Metad" +
-      "ata.PutMessageH\000B\016\n\014message_type\"\'\n\010GetR" +
-      "eply\022\033\n\001d\030\001 \001(\0132\020.Metadata.Record\"\"\n\010Put" +
-      "Reply\022\n\n\002tg\030\001 \001(\005\022\n\n\002ut\030\002 \001(\003\"\177\n\013ClientR" +
-      "eply\022\016\n\006status\030\001 \001(\010\022\'\n\tget_reply\030\002 \001(\0132" +
-      "\022.Metadata.GetReplyH\000\022\'\n\tput_reply\030\003 \001(\013" +
-      "2\022.Metadata.PutReplyH\000B\016\n\014message_type\"H" +
-      "\n\020ReplicateMessage\022\013\n\003key\030\001 \001(\t\022\033\n\001d\030\002 \001" +
-      "(\0132\020.Metadata.Record\022\n\n\002tg\030\003 \001(\005\",\n\020Hear" +
-      "tbeatMessage\022\014\n\004time\030\001 \001(\003\022\n\n\002tg\030\002 \001(\005\")" +
-      "\n\tVVMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(" +
-      "\005\"\035\n\nSVVMessage\022\017\n\007svvItem\030\001 \003(\003\"\351\001\n\rSer" +
-      "verMessage\0227\n\021replicate_message\030\001 \001(\0132\032." +
-      "Metadata.ReplicateMessageH\000\0227\n\021heartbeat" +
-      "_message\030\002 \001(\0132\032.Metadata.HeartbeatMessa" +
-      "geH\000\022)\n\nvv_message\030\003 \001(\0132\023.Metadata.VVMe" +
-      "ssageH\000\022+\n\013svv_message\030\004 \001(\0132\024.Metadata." +
-      "SVVMessageH\000B\016\n\014message_typeB%\n\031edu.msu." +
-      "cse.dkvf.metadataB\010Metadatab\006proto3"
+      "m\030\003 \003(\0132\024.Metadata.TgTimeItem\"\215\001\n\rClient" +
+      "Message\022+\n\013get_message\030\001 \001(\0132\024.Metadata." +
+      "GetMessageH\000\022+\n\013put_message\030\002 \001(\0132\024.Meta" +
+      "data.PutMessageH\000\022\022\n\nrequest_id\030\003 \001(\003B\016\n" +
+      "\014message_type\"\'\n\010GetReply\022\033\n\001d\030\001 \001(\0132\020.M" +
+      "etadata.Record\"\"\n\010PutReply\022\n\n\002tg\030\001 \001(\005\022\n" +
+      "\n\002ut\030\002 \001(\003\"\223\001\n\013ClientReply\022\016\n\006status\030\001 \001" +
+      "(\010\022\'\n\tget_reply\030\002 \001(\0132\022.Metadata.GetRepl" +
+      "yH\000\022\'\n\tput_reply\030\003 \001(\0132\022.Metadata.PutRep" +
+      "lyH\000\022\022\n\nrequest_id\030\004 \001(\003B\016\n\014message_type" +
+      "\"H\n\020ReplicateMessage\022\013\n\003key\030\001 \001(\t\022\033\n\001d\030\002" +
+      " \001(\0132\020.Metadata.Record\022\n\n\002tg\030\003 \001(\005\",\n\020He" +
+      "artbeatMessage\022\014\n\004time\030\001 \001(\003\022\n\n\002tg\030\002 \001(\005" +
+      "\")\n\tVVMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 " +
+      "\001(\005\"\035\n\nSVVMessage\022\017\n\007svvItem\030\001 \003(\003\"\351\001\n\rS" +
+      "erverMessage\0227\n\021replicate_message\030\001 \001(\0132" +
+      "\032.Metadata.ReplicateMessageH\000\0227\n\021heartbe" +
+      "at_message\030\002 \001(\0132\032.Metadata.HeartbeatMes" +
+      "sageH\000\022)\n\nvv_message\030\003 \001(\0132\023.Metadata.VV" +
+      "MessageH\000\022+\n\013svv_message\030\004 \001(\0132\024.Metadat" +
+      "a.SVVMessageH\000B\016\n\014message_typeB%\n\031edu.ms" +
+      "u.cse.dkvf.metadataB\010Metadatab\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10797,7 +10966,7 @@ public final class Metadata {
     internal_static_Metadata_ClientMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientMessage_descriptor,
-        new java.lang.String[] { "GetMessage", "PutMessage", "MessageType", });
+        new java.lang.String[] { "GetMessage", "PutMessage", "RequestId", "MessageType", });
     internal_static_Metadata_GetReply_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_Metadata_GetReply_fieldAccessorTable = new
@@ -10815,7 +10984,7 @@ public final class Metadata {
     internal_static_Metadata_ClientReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientReply_descriptor,
-        new java.lang.String[] { "Status", "GetReply", "PutReply", "MessageType", });
+        new java.lang.String[] { "Status", "GetReply", "PutReply", "RequestId", "MessageType", });
     internal_static_Metadata_ReplicateMessage_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_Metadata_ReplicateMessage_fieldAccessorTable = new
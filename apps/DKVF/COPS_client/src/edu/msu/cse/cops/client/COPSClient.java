@@ -5,15 +5,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.protobuf.ByteString;
 
 import edu.msu.cse.dkvf.DKVFClient;
-import edu.msu.cse.dkvf.ServerConnector.NetworkStatus;
 import edu.msu.cse.dkvf.Utils;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
-import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 import edu.msu.cse.dkvf.metadata.Metadata.Dependency;
 import edu.msu.cse.dkvf.metadata.Metadata.GetMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.PutMessage;
@@ -35,48 +34,56 @@ public class COPSClient extends  DKVFClient{
 
 	@Override
 	public boolean put(String key, byte[] value) {
+		return putAsync(key, value).join();
+	}
+
+	@Override
+	public byte[] get(String key) {
+		return getAsync(key).join();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> putAsync(String key, byte[] value) {
 		try {
-			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).addAllNearest(getDcTimeItems()).build();
+			Map<String, Long> sentNearest = getNearest();
+			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).addAllNearest(getDcTimeItems(sentNearest)).build();
 			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(pm).build();
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return false;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				nearest.clear();
-				nearest.put(key, cr.getPutReply().getVersion());
-				return true;
-			} else {
-				protocolLOGGER.severe("Server could not put the key= " + key);
-				return false;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					replaceNearest(sentNearest, key, cr.getPutReply().getVersion());
+					return true;
+				} else {
+					protocolLOGGER.severe("Server could not put the key= " + key);
+					return false;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to put due to exception", e));
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 	}
 
 	@Override
-	public byte[] get(String key) {
+	public CompletableFuture<byte[]> getAsync(String key) {
 		try {
 			GetMessage gm = GetMessage.newBuilder().setKey(key).build();
 			ClientMessage cm = ClientMessage.newBuilder().setGetMessage(gm).build();
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return null;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				updateNearest(key, cr.getGetReply().getRecord().getVersion());
-				return cr.getGetReply().getRecord().getValue().toByteArray();
-			} else {
-				protocolLOGGER.severe("Server could not get the key= " + key);
-				return null;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					updateNearest(key, cr.getGetReply().getRecord().getVersion());
+					return cr.getGetReply().getRecord().getValue().toByteArray();
+				} else {
+					protocolLOGGER.severe("Server could not get the key= " + key);
+					return null;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to get due to exception", e));
-			return null;
+			return CompletableFuture.completedFuture(null);
 		}
 	}
 	
@@ -85,20 +92,38 @@ public class COPSClient extends  DKVFClient{
 		return (int) (hash % numOfPartitions);
 	}
 	
-	private List<Dependency> getDcTimeItems() {
+	private List<Dependency> getDcTimeItems(Map<String, Long> deps) {
 		List<Dependency> result = new ArrayList<>();
-		for (Map.Entry<String, Long> entry : nearest.entrySet()) {
+		for (Map.Entry<String, Long> entry : deps.entrySet()) {
 			Dependency dep = Dependency.newBuilder().setKey(entry.getKey()).setVersion(entry.getValue()).build();
 			result.add(dep);
 		}
 		return result;
 	}
+
+	private synchronized Map<String, Long> getNearest() {
+		return new HashMap<>(nearest);
+	}
 	
-	private void updateNearest (String key, long version){
+	private synchronized void updateNearest (String key, long version){
 		if (nearest.containsKey(key)){
 			nearest.put(key, Math.max(nearest.get(key), version));
 		}else 
 			nearest.put(key, version);
 	}
 
+	/**
+	 * The new version depends on the nearest dependencies sent with it, so
+	 * they are replaced by the new version. Dependencies added by operations
+	 * that completed in the meantime are kept.
+	 */
+	private synchronized void replaceNearest(Map<String, Long> sentNearest, String key, long version) {
+		for (Map.Entry<String, Long> entry : sentNearest.entrySet()) {
+			Long current = nearest.get(entry.getKey());
+			if (current != null && current <= entry.getValue())
+				nearest.remove(entry.getKey());
+		}
+		updateNearest(key, version);
+	}
+
 }
@@ -2635,6 +2635,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutMessageOrBuilder getPutMessageOrBuilder();
 
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -2650,6 +2659,7 @@ public final class Metadata {
       super(builder);
     }
     private ClientMessage() {
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -2708,6 +2718,11 @@ public final class Metadata {
               messageTypeCase_ = 2;
               break;
             }
+            case 24: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2822,6 +2837,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutMessage.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2840,6 +2868,9 @@ public final class Metadata {
       if (messageTypeCase_ == 2) {
         output.writeMessage(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(3, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2856,6 +2887,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2872,6 +2907,8 @@ public final class Metadata {
       edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other = (edu.msu.cse.dkvf.metadata.Metadata.ClientMessage) obj;
 
       boolean result = true;
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -2898,6 +2935,9 @@ public final class Metadata {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 1:
           hash = (37 * hash) + GET_MESSAGE_FIELD_NUMBER;
@@ -3039,6 +3079,8 @@ public final class Metadata {
       }
       public Builder clear() {
         super.clear();
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -3077,6 +3119,7 @@ public final class Metadata {
             result.messageType_ = putMessageBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -3119,6 +3162,9 @@ public final class Metadata {
 
       public Builder mergeFrom(edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other) {
         if (other == edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_MESSAGE: {
             mergeGetMessage(other.getGetMessage());
@@ -3445,6 +3491,44 @@ public final class Metadata {
         onChanged();;
         return putMessageBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -4565,6 +4649,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutReplyOrBuilder getPutReplyOrBuilder();
 
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientReply.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -4581,6 +4674,7 @@ public final class Metadata {
     }
     private ClientReply() {
       status_ = false;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -4644,6 +4738,11 @@ public final class Metadata {
               messageTypeCase_ = 3;
               break;
             }
+            case 32: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4767,6 +4866,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutReply.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4788,6 +4900,9 @@ public final class Metadata {
       if (messageTypeCase_ == 3) {
         output.writeMessage(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(4, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -4808,6 +4923,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -4826,6 +4945,8 @@ public final class Metadata {
       boolean result = true;
       result = result && (getStatus()
           == other.getStatus());
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -4855,6 +4976,9 @@ public final class Metadata {
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getStatus());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 2:
           hash = (37 * hash) + GET_REPLY_FIELD_NUMBER;
@@ -4998,6 +5122,8 @@ public final class Metadata {
         super.clear();
         status_ = false;
 
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -5037,6 +5163,7 @@ public final class Metadata {
             result.messageType_ = putReplyBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -5082,6 +5209,9 @@ public final class Metadata {
         if (other.getStatus() != false) {
           setStatus(other.getStatus());
         }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_REPLY: {
             mergeGetReply(other.getGetReply());
@@ -5434,6 +5564,44 @@ public final class Metadata {
         onChanged();;
         return putReplyBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -8782,27 +8950,28 @@ public final class Metadata {
       "ord\022\r\n\005value\030\001 \001(\014\022\017\n\007version\030\002 \001(\003\"\031\n\nG" +
       "etMessage\022\013\n\003key\030\001 \001(\t\"O\n\nPutMessage\022\013\n\003" +
       "key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014\022%\n\007nearest\030\003 \003(" +
-      "\0132\024.Metadata.Dependency\"y\n\rClientMessage" +
-      "\022+\n\013get_message\030\001 \001(\0132\024.Metadata.GetMess" +
-      "ageH\000\022+\n\013put_message\030\002 \001(\0132\024.Metadata.Pu" +
-      "tMessageH\000B\016\n\014message_type\",\n\010GetReply\022 " +
-      "\n\006record\030\001 \001(\0132\020.Metadata.Record\"\033\n\010PutR",
-      "eply\022\017\n\007version\030\001 \001(\003\"\177\n\013ClientReply\022\016\n\006" +
-      "status\030\001 \001(\010\022\'\n\tget_reply\030\002 \001(\0132\022.Metada" +
-      "ta.GetReplyH\000\022\'\n\tput_reply\030\003 \001(\0132\022.Metad" +
-      "ata.PutReplyH\000B\016\n\014message_type\"X\n\020Replic" +
-      "ateMessage\022\035\n\003rec\030\001 \001(\0132\020.Metadata.Recor" +
-      "d\022%\n\007nearest\030\002 \003(\0132\024.Metadata.Dependency" +
-      "\";\n\026DependencyCheckMessage\022!\n\003dep\030\001 \001(\0132" +
-      "\024.Metadata.Dependency\">\n\031DependencyRespo" +
-      "nseMessage\022!\n\003dep\030\001 \001(\0132\024.Metadata.Depen" +
-      "dency\"\334\001\n\rServerMessage\0227\n\021replicate_mes",
-      "sage\030\001 \001(\0132\032.Metadata.ReplicateMessageH\000" +
-      "\022=\n\021dep_check_message\030\002 \001(\0132 .Metadata.D" +
-      "ependencyCheckMessageH\000\022C\n\024dep_response_" +
-      "message\030\003 \001(\0132#.Metadata.DependencyRespo" +
-      "nseMessageH\000B\016\n\014message_typeB%\n\031edu.msu." +
-      "cse.dkvf.metadataB\010Metadatab\006proto3"
+      "\0132\024.Metadata.Dependency\"\215\001\n\rClientMessag" +
+      "e\022+\n\013get_message\030\001 \001(\0132\024.Metadata.GetMes" +
+      "sageH\000\022+\n\013put_message\030\002 \001(\0132\024.Metadata.P" +
+      "utMessageH\000\022\022\n\nrequest_id\030\003 \001(\003B\016\n\014messa" +
+      "ge_type\",\n\010GetReply\022 \n\006record\030\001 \001(\0132\020.Me",
+      "tadata.Record\"\033\n\010PutReply\022\017\n\007version\030\001 \001" +
+      "(\003\"\223\001\n\013ClientReply\022\016\n\006status\030\001 \001(\010\022\'\n\tge" +
+      "t_reply\030\002 \001(\0132\022.Metadata.GetReplyH\000\022\'\n\tp" +
+      "ut_reply\030\003 \001(\0132\022.Metadata.PutReplyH\000\022\022\n\n" +
+      "request_id\030\004 \001(\003B\016\n\014message_type\"X\n\020Repl" +
+      "icateMessage\022\035\n\003rec\030\001 \001(\0132\020.Metadata.Rec" +
+      "ord\022%\n\007nearest\030\002 \003(\0132\024.Metadata.Dependen" +
+      "cy\";\n\026DependencyCheckMessage\022!\n\003dep\030\001 \001(" +
+      "\0132\024.Metadata.Dependency\">\n\031DependencyRes" +
+      "ponseMessage\022!\n\003dep\030\001 \001(\0132\024.Metadata.Dep",
+      "endency\"\334\001\n\rServerMessage\0227\n\021replicate_m" +
+      "essage\030\001 \001(\0132\032.Metadata.ReplicateMessage" +
+      "H\000\022=\n\021dep_check_message\030\002 \001(\0132 .Metadata" +
+      ".DependencyCheckMessageH\000\022C\n\024dep_respons" +
+      "e_message\030\003 \001(\0132#.Metadata.DependencyRes" +
+      "ponseMessageH\000B\016\n\014message_typeB%\n\031edu.ms" +
+      "u.cse.dkvf.metadataB\010Metadatab\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -8845,7 +9014,7 @@ public final class Metadata {
     internal_static_Metadata_ClientMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientMessage_descriptor,
-        new java.lang.String[] { "GetMessage", "PutMessage", "MessageType", });
+        new java.lang.String[] { "GetMessage", "PutMessage", "RequestId", "MessageType", });
     internal_static_Metadata_GetReply_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_Metadata_GetReply_fieldAccessorTable = new
@@ -8863,7 +9032,7 @@ public final class Metadata {
     internal_static_Metadata_ClientReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientReply_descriptor,
-        new java.lang.String[] { "Status", "GetReply", "PutReply", "MessageType", });
+        new java.lang.String[] { "Status", "GetReply", "PutReply", "RequestId", "MessageType", });
     internal_static_Metadata_ReplicateMessage_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_Metadata_ReplicateMessage_fieldAccessorTable = new
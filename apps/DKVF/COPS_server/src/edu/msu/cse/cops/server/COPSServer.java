@@ -8,6 +8,8 @@ import java.util.List;
 
 import edu.msu.cse.dkvf.ClientMessageAgent;
 import edu.msu.cse.dkvf.DKVFServer;
+import edu.msu.cse.dkvf.LamportClock;
+import edu.msu.cse.dkvf.RecordPredicate;
 import edu.msu.cse.cops.server.Utils;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
 import edu.msu.cse.dkvf.config.ConfigReader;
@@ -25,27 +27,15 @@ import edu.msu.cse.dkvf.metadata.Metadata.ServerMessage;
 
 public class COPSServer extends DKVFServer {
 
-	class RecordDependecies {
-		Record record;
-		List<Dependency> deps;
-
-		public RecordDependecies(Record rec, List<Dependency> deps) {
-			this.record = rec;
-			this.deps = deps;
-		}
-	}
-
 	int dcId;// datacenter id
 	int pId; // partition id
 	int numOfDatacenters;
 	int numOfPartitions;
 
-	Long clock = new Long(0); // higher bits are Lamport clocks
+	LamportClock clock = new LamportClock(); // the higher bits of versions
 
-	// dependency check mechanism
-	HashMap<String, List<DependencyCheckMessage>> waitingDepChecks; //the key is the key that we want as dependency, and value is the dependency that is waiting for this key.
-	HashMap<String, List<String>> waitingLocalDeps; //the key is the key that we want as dependency, the value is the list of pending keys that are waiting. Both dependency key and pending key are hosted on this partition, that why it is called local dep check. 
-	HashMap<String, RecordDependecies> pendingKeys; //the key is the key that is pending, and the value is the record to write + its dependencies. 
+	// dependency check mechanism: pending keys with their records, and the local pending keys and other partitions waiting for each key.
+	DependencyTracker depTracker;
 
 	public COPSServer(ConfigReader cnfReader) {
 		super(cnfReader);
@@ -58,9 +48,7 @@ public class COPSServer extends DKVFServer {
 		numOfDatacenters = new Integer(protocolProperties.get("num_of_datacenters").get(0));
 		numOfPartitions = new Integer(protocolProperties.get("num_of_partitions").get(0));
 
-		waitingDepChecks = new HashMap<>();
-		waitingLocalDeps = new HashMap<>();
-		pendingKeys = new HashMap<>();
+		depTracker = new DependencyTracker(DependencyTracker.DEFAULT_NUM_OF_SHARDS, this::isVisible);
 
 	}
 
@@ -75,9 +63,7 @@ public class COPSServer extends DKVFServer {
 	private void handleGetMessage(ClientMessageAgent cma) {
 		GetMessage gm = cma.getClientMessage().getGetMessage();
 		List<Record> result = new ArrayList<>();
-		StorageStatus ss = read(gm.getKey(), (Record rec) -> {
-			return true;
-		}, result);
+		StorageStatus ss = read(gm.getKey(), RecordPredicate.latest(), result);
 		ClientReply cr = null;
 		if (ss == StorageStatus.SUCCESS) {
 			Record rec = result.get(0);
@@ -92,7 +78,7 @@ public class COPSServer extends DKVFServer {
 		PutMessage pm = cma.getClientMessage().getPutMessage();
 		long veriosn = getNextVersion();
 		Record rec = Record.newBuilder().setValue(pm.getValue()).setVersion(veriosn).build();
-		boolean result = makeVisible(pm.getKey(), rec);
+		boolean result = makeVisible(pm.getKey(), rec) && waitForDurability() == StorageStatus.SUCCESS;
 		ClientReply cr = null;
 		if (result) {
 			cr = ClientReply.newBuilder().setStatus(true).setPutReply(PutReply.newBuilder().setVersion(veriosn)).build();
@@ -128,35 +114,16 @@ public class COPSServer extends DKVFServer {
 
 	private void handleDepResponseMessage(ServerMessage sm) {
 		DependencyResponseMessage drm = sm.getDepResponseMessage();
-		int metIndex = -1;
-		if (pendingKeys.containsKey(drm.getForKey())) {
-			for (int i = 0; i < pendingKeys.get(drm.getForKey()).deps.size(); i++) {
-				Dependency dep = pendingKeys.get(drm.getForKey()).deps.get(i);
-				if (dep.getKey().equals(drm.getDep().getKey())) {
-					if (dep.getVersion() <= drm.getDep().getVersion()) {
-						metIndex = i;
-						break;
-					}
-				}
-			}
-		}
-		if (metIndex >= 0) {
-			pendingKeys.get(drm.getForKey()).deps.remove(metIndex);
-			if (pendingKeys.get(drm.getForKey()).deps.isEmpty()) {
-				makeVisible(drm.getForKey(), pendingKeys.get(drm.getForKey()).record);
-				//pendingKeys.remove(drm.getForKey());
-			}
-		}
-
+		Record rec = depTracker.satisfy(drm.getForKey(), drm.getDep().getKey(), drm.getDep().getVersion());
+		if (rec != null)
+			makeVisible(drm.getForKey(), rec);
 	}
 
 	private boolean makeVisible(String key, Record rec) {
 		// first we check the current verison, maybe it is higher than the
 		// version that we want to write. In that case we don't write it.
 		List<Record> result = new ArrayList<>();
-		StorageStatus ss = read(key, (Record rec2) -> {
-			return true;
-		}, result);
+		StorageStatus ss = read(key, RecordPredicate.latest(), result);
 		if (ss == StorageStatus.SUCCESS) {
 			Record currentRec = result.get(0);
 			if (currentRec.getVersion() >= rec.getVersion())
@@ -174,121 +141,57 @@ public class COPSServer extends DKVFServer {
 
 	private void handleDepCheckMessage(ServerMessage sm) {
 		DependencyCheckMessage cdm = sm.getDepCheckMessage();
-
-		List<Record> result = new ArrayList<>();
-		StorageStatus ss = read(cdm.getDep().getKey(), (Record rec) -> {
-			return true;
-		}, result);
-		if (ss == StorageStatus.SUCCESS) {
-			Record rec = result.get(0);
-			if (rec.getVersion() >= cdm.getDep().getVersion()) {
-				sendDepResponse(cdm.getPId(), cdm.getForKey(), cdm.getDep());
-				return;
-			}
-		}
-		addToWaitingDepChecks(cdm);
+		if (depTracker.awaitRemote(cdm))
+			sendDepResponse(cdm.getPId(), cdm.getForKey(), cdm.getDep());
 	}
 
-	private void addToWaitingDepChecks(DependencyCheckMessage cdm) {
-		if (waitingDepChecks.containsKey(cdm.getDep().getKey())) {
-			waitingDepChecks.get(cdm.getDep().getKey()).add(cdm);
-		} else {
-			List<DependencyCheckMessage> cdms = new ArrayList<>();
-			cdms.add(cdm);
-			waitingDepChecks.put(cdm.getDep().getKey(), cdms);
-		}
+	/**
+	 * Checks whether the given version of a key hosted by this partition, or
+	 * a newer one, is visible.
+	 */
+	private boolean isVisible(Dependency dep) {
+		List<Record> result = new ArrayList<>();
+		StorageStatus ss = read(dep.getKey(), RecordPredicate.latest(), result);
+		return ss == StorageStatus.SUCCESS && !result.isEmpty() && result.get(0).getVersion() >= dep.getVersion();
 	}
 
 	private void handleReplicateMessage(ServerMessage sm) {
 		protocolLOGGER.finer(MessageFormat.format("Received replicate message: {0}", sm.toString()));
 		ReplicateMessage rm = sm.getReplicateMessage();
-		updateClock(rm.getRec().getVersion());
-
-		synchronized (pendingKeys) {
-			List<Dependency> remainingDeps = localDepChecking(rm.getKey(), rm.getNearestList());
-			if (remainingDeps.isEmpty()) {
-				makeVisible(rm.getKey(), rm.getRec());
-			} else {
-				List<Dependency> deps = new ArrayList<>();
-				for (Dependency dep : rm.getNearestList()) {
-					deps.add(dep);
-				}
-				pendingKeys.put(rm.getKey(), new RecordDependecies(rm.getRec(), deps));
-				sendDepCheckMessages(rm.getKey(), remainingDeps);
-			}
-		}
-	}
+		clock.update(Utils.shiftFromHighBits(rm.getRec().getVersion()));
 
-	private void sendDepCheckMessages(String key, List<Dependency> nearestList) {
-		for (Dependency dep : nearestList) {
-			DependencyCheckMessage dcm = DependencyCheckMessage.newBuilder().setForKey(key).setDep(dep).setPId(pId).build();
-			ServerMessage sm = ServerMessage.newBuilder().setDepCheckMessage(dcm).build();
-			int partition;
+		if (rm.getNearestCount() == 0) {
+			makeVisible(rm.getKey(), rm.getRec());
+			return;
+		}
+		// The record is pending before we look at its dependencies, so a dependency that becomes visible meanwhile finds it.
+		depTracker.addPending(rm.getKey(), rm.getRec(), rm.getNearestList());
+		Record ready = null;
+		for (Dependency dep : rm.getNearestList()) {
+			int hostingPartition;
 			try {
-				partition = findPartition(key);
+				hostingPartition = findPartition(dep.getKey());
 			} catch (NoSuchAlgorithmException e) {
-				protocolLOGGER.severe("Problem finding partition for key " + key);
-				return;
+				protocolLOGGER.severe("Problem finding hosting partition for key " + dep.getKey());
+				hostingPartition = pId;
 			}
-			if (partition != pId) {
-				String serverId = dcId + "_" + partition;
-				sendToServerViaChannel(serverId, sm);
+			if (hostingPartition != pId) {
+				sendDepCheckMessage(rm.getKey(), dep, hostingPartition);
+			} else if (depTracker.awaitLocal(rm.getKey(), dep)) {
+				Record rec = depTracker.satisfy(rm.getKey(), dep.getKey(), dep.getVersion());
+				if (rec != null)
+					ready = rec;
 			}
 		}
-
+		if (ready != null)
+			makeVisible(rm.getKey(), ready);
 	}
 
-	/**
-	 * 
-	 * @param key
-	 *            Pending key, the key for which we are doing dependency
-	 *            checking.
-	 * @param deps
-	 *            List of dependencies
-	 * @return List of remaining dependencies (local/non-local)
-	 */
-	private List<Dependency> localDepChecking(String key, List<Dependency> deps) {
-		List<Dependency> remaining = new ArrayList<>();
-		try {
-			if (deps != null) {
-				for (Dependency dep : deps) {
-					int hostingPartition = 0;
-					try {
-						hostingPartition = findPartition(dep.getKey());
-					} catch (NoSuchAlgorithmException e) {
-						protocolLOGGER.severe("Problem finding hosting partition for key " + dep.getKey());
-						continue;
-					}
-					if (hostingPartition != pId) {
-						remaining.add(dep);
-					} else {
-						List<Record> result = new ArrayList<>();
-						StorageStatus ss = read(dep.getKey(), (Record rec) -> {
-							return true;
-						}, result);
-						if (ss != StorageStatus.SUCCESS || result.get(0).getVersion() < dep.getVersion()) {
-							remaining.add(dep);
-							addToWaitingLocalDeps(dep.getKey(), key);
-						}
-					}
-				}
-			}
-		} catch (Exception e) {
-			protocolLOGGER.severe(edu.msu.cse.dkvf.Utils.exceptionLogMessge("Error in local dep checking", e));
-		}
-		return remaining;
-	}
-
-	private void addToWaitingLocalDeps(String wantedKey, String pendingKey) {
-		if (waitingLocalDeps.containsKey(wantedKey)) {
-			if (!waitingLocalDeps.get(wantedKey).contains(pendingKey)) {
-				waitingLocalDeps.get(wantedKey).add(pendingKey);
-			}
-		} else {
-			List<String> newPendingKeyList = new ArrayList<String>();
-			newPendingKeyList.add(pendingKey);
-			waitingLocalDeps.put(wantedKey, newPendingKeyList);
-		}
+	private void sendDepCheckMessage(String key, Dependency dep, int partition) {
+		DependencyCheckMessage dcm = DependencyCheckMessage.newBuilder().setForKey(key).setDep(dep).setPId(pId).build();
+		ServerMessage sm = ServerMessage.newBuilder().setDepCheckMessage(dcm).build();
+		String serverId = dcId + "_" + partition;
+		sendToServerViaChannel(serverId, sm);
 	}
 
 	private int findPartition(String key) throws NoSuchAlgorithmException {
@@ -297,69 +200,29 @@ public class COPSServer extends DKVFServer {
 	}
 
 	private long getNextVersion() {
-		updateClock();
 		long lowerBits = Utils.getLowerBits(dcId);
-		return clock + lowerBits;
-	}
-
-	private void updateClock(long newVersion) {
-		synchronized (clock) {
-			//Lamport logical clock algorithm
-			long newVersionInHigherBits = Utils.getHigherBits(newVersion);
-
-			long newHigherBits = Math.max(clock, newVersionInHigherBits) + Utils.shiftToHighBits(1);
-			clock = newHigherBits;
-		}
-
-	}
-
-	private void updateClock() {
-		synchronized (clock) {
-			clock = clock + Utils.shiftToHighBits(1);
-		}
-
+		return Utils.shiftToHighBits(clock.tick()) + lowerBits;
 	}
 
 	private void postVisibility(String key, long version) {
 		//Two types of partitions may wait for visibility of version: 1) local partition, or 2) antoher parition. 
-		//We check both cases. 
-
-		//local dep check 
-		try {
-			synchronized (pendingKeys) {
-				if (waitingLocalDeps.containsKey(key)) {
-					for (String pendingKey : waitingLocalDeps.get(key)) {
-						List<Dependency> oldPending = new ArrayList<>();
-						if (pendingKeys.containsKey(pendingKey)) {
-							for (Dependency dep : pendingKeys.get(pendingKey).deps)
-								oldPending.add(dep);
-							for (Dependency dep : oldPending) {
-								if (dep.getKey().equals(key) && dep.getVersion() <= version) {
-									pendingKeys.get(pendingKey).deps.remove(dep);
-									if (pendingKeys.get(pendingKey).deps.isEmpty()) {
-										makeVisible(pendingKey, pendingKeys.get(pendingKey).record);
-										//pendingKeys.remove(pendingKey);
-									}
-								}
-							}
-						}
-					}
-				}
-			}
-		} catch (Exception e) {
-			protocolLOGGER.severe(edu.msu.cse.dkvf.Utils.exceptionLogMessge("Error in PostVisibility: ", e));
+		//All the waiters satisfied by this version are woken up at once.
+		DependencyTracker.Wakeup wakeup = depTracker.onVisible(key, version);
 
-		}
+		//check othre requests from other partitions
+		for (DependencyCheckMessage dcm : wakeup.depChecks)
+			sendDepResponse(dcm.getPId(), dcm.getForKey(), dcm.getDep());
 
-		//check othre requests from other partitions		
-		if (waitingDepChecks.containsKey(key)) {
-			for (DependencyCheckMessage dcm : waitingDepChecks.get(key)) {
-				if (dcm.getDep().getVersion() <= version) {
-					sendDepResponse(dcm.getPId(), dcm.getForKey(), dcm.getDep());
-				}
+		//local dep check
+		for (String pendingKey : wakeup.pendingKeys) {
+			try {
+				Record rec = depTracker.satisfy(pendingKey, key, version);
+				if (rec != null)
+					makeVisible(pendingKey, rec);
+			} catch (Exception e) {
+				protocolLOGGER.severe(edu.msu.cse.dkvf.Utils.exceptionLogMessge("Error in PostVisibility: ", e));
 			}
 		}
-
 	}
 
 	private void sendDepResponse(int requesterPId, String forKey, Dependency dep) {
@@ -0,0 +1,194 @@
+package edu.msu.cse.cops.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import edu.msu.cse.dkvf.metadata.Metadata.Dependency;
+import edu.msu.cse.dkvf.metadata.Metadata.DependencyCheckMessage;
+import edu.msu.cse.dkvf.metadata.Metadata.Record;
+
+/**
+ * Keeps the replicated records that wait for their dependencies, and who waits
+ * for which key. The state is sharded by key hash, and each shard has its own
+ * lock, so replicate, dependency check and dependency response messages of
+ * different keys do not contend.
+ *
+ * A pending record lives in the shard of its key. The waiters of a key live in
+ * the shard of that key, ordered by the version they wait for, so making a
+ * version visible wakes up all the waiters it satisfies at once.
+ *
+ */
+public class DependencyTracker {
+
+	public static final int DEFAULT_NUM_OF_SHARDS = 64;
+
+	/**
+	 * A replicated record that is not visible yet, with its unsatisfied
+	 * dependencies.
+	 */
+	static class PendingRecord {
+		Record record;
+		List<Dependency> deps;
+
+		PendingRecord(Record record, List<Dependency> deps) {
+			this.record = record;
+			this.deps = deps;
+		}
+	}
+
+	/**
+	 * The waiters of a key, by the version they wait for.
+	 */
+	static class Waiters {
+		// pending keys of this partition
+		TreeMap<Long, List<String>> local = new TreeMap<>();
+		// dependency checks of other partitions
+		TreeMap<Long, List<DependencyCheckMessage>> remote = new TreeMap<>();
+
+		boolean isEmpty() {
+			return local.isEmpty() && remote.isEmpty();
+		}
+	}
+
+	/**
+	 * The waiters woken up by a visible version.
+	 */
+	public static class Wakeup {
+		public final List<String> pendingKeys = new ArrayList<>();
+		public final List<DependencyCheckMessage> depChecks = new ArrayList<>();
+	}
+
+	static class Shard {
+		final HashMap<String, PendingRecord> pendingRecords = new HashMap<>();
+		final HashMap<String, Waiters> waiters = new HashMap<>();
+	}
+
+	private final Shard[] shards;
+	private final Predicate<Dependency> isVisible;
+
+	/**
+	 * Constructor for DependencyTracker
+	 * @param numOfShards The number of shards
+	 * @param isVisible Checks whether the storage has the version of a dependency, or a newer one
+	 */
+	public DependencyTracker(int numOfShards, Predicate<Dependency> isVisible) {
+		this.shards = new Shard[numOfShards];
+		for (int i = 0; i < numOfShards; i++)
+			shards[i] = new Shard();
+		this.isVisible = isVisible;
+	}
+
+	private Shard shardOf(String key) {
+		return shards[(key.hashCode() & 0x7fffffff) % shards.length];
+	}
+
+	/**
+	 * Adds a record that waits for the given dependencies. It replaces the
+	 * pending record of the same key, if any.
+	 * @param key The key of the record
+	 * @param record The record to make visible once the dependencies are satisfied
+	 * @param deps The dependencies of the record
+	 */
+	public void addPending(String key, Record record, List<Dependency> deps) {
+		Shard shard = shardOf(key);
+		synchronized (shard) {
+			shard.pendingRecords.put(key, new PendingRecord(record, new ArrayList<>(deps)));
+		}
+	}
+
+	/**
+	 * Removes the dependencies of the pending key on the given key that are
+	 * satisfied by the given version.
+	 * @param pendingKey The key of the pending record
+	 * @param depKey The key that became visible
+	 * @param version The version of depKey that became visible
+	 * @return The record of pendingKey if it has no more dependencies, otherwise null.
+	 * 			A record is returned to only one caller.
+	 */
+	public Record satisfy(String pendingKey, String depKey, long version) {
+		Shard shard = shardOf(pendingKey);
+		synchronized (shard) {
+			PendingRecord pending = shard.pendingRecords.get(pendingKey);
+			if (pending == null)
+				return null;
+			pending.deps.removeIf(dep -> dep.getKey().equals(depKey) && dep.getVersion() <= version);
+			if (!pending.deps.isEmpty())
+				return null;
+			shard.pendingRecords.remove(pendingKey);
+			return pending.record;
+		}
+	}
+
+	/**
+	 * Makes the pending key wait for a dependency hosted by this partition,
+	 * unless the dependency is already visible.
+	 * @param pendingKey The key of the pending record
+	 * @param dep The dependency
+	 * @return true if the dependency is already visible
+	 */
+	public boolean awaitLocal(String pendingKey, Dependency dep) {
+		Shard shard = shardOf(dep.getKey());
+		synchronized (shard) {
+			// checked under the lock, so onVisible can not run between the check and adding the waiter
+			if (isVisible.test(dep))
+				return true;
+			Waiters w = shard.waiters.computeIfAbsent(dep.getKey(), k -> new Waiters());
+			List<String> keys = w.local.computeIfAbsent(dep.getVersion(), v -> new ArrayList<>());
+			if (!keys.contains(pendingKey))
+				keys.add(pendingKey);
+			return false;
+		}
+	}
+
+	/**
+	 * Makes the dependency check of another partition wait, unless the
+	 * dependency is already visible.
+	 * @param dcm The dependency check message
+	 * @return true if the dependency is already visible
+	 */
+	public boolean awaitRemote(DependencyCheckMessage dcm) {
+		Dependency dep = dcm.getDep();
+		Shard shard = shardOf(dep.getKey());
+		synchronized (shard) {
+			if (isVisible.test(dep))
+				return true;
+			Waiters w = shard.waiters.computeIfAbsent(dep.getKey(), k -> new Waiters());
+			w.remote.computeIfAbsent(dep.getVersion(), v -> new ArrayList<>()).add(dcm);
+			return false;
+		}
+	}
+
+	/**
+	 * Removes and returns all the waiters satisfied by a new visible version
+	 * of the key. It must be called after the version is written to the
+	 * storage.
+	 * @param key The key
+	 * @param version The version that became visible
+	 * @return The waiters to wake up
+	 */
+	public Wakeup onVisible(String key, long version) {
+		Wakeup wakeup = new Wakeup();
+		Shard shard = shardOf(key);
+		synchronized (shard) {
+			Waiters w = shard.waiters.get(key);
+			if (w == null)
+				return wakeup;
+			drain(w.local.headMap(version, true), wakeup.pendingKeys);
+			drain(w.remote.headMap(version, true), wakeup.depChecks);
+			if (w.isEmpty())
+				shard.waiters.remove(key);
+		}
+		return wakeup;
+	}
+
+	private static <T> void drain(SortedMap<Long, List<T>> satisfied, List<T> to) {
+		for (Collection<T> c : satisfied.values())
+			to.addAll(c);
+		satisfied.clear();
+	}
+}
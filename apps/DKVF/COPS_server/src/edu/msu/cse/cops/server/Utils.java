@@ -12,6 +12,10 @@ public class Utils {
 	public static long shiftToHighBits(long time) {
 		return time << 16;
 	}
+
+	public static long shiftFromHighBits(long version) {
+		return getHigherBits(version) >>> 16;
+	}
 	
 	public static long getHigherBits(long time) {
 		return time & 0xFFFFFFFFFFFF0000L;
@@ -5,15 +5,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.protobuf.ByteString;
 
 import edu.msu.cse.dkvf.DKVFClient;
-import edu.msu.cse.dkvf.ServerConnector.NetworkStatus;
 import edu.msu.cse.dkvf.Utils;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
-import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 import edu.msu.cse.dkvf.metadata.Metadata.DcTimeItem;
 import edu.msu.cse.dkvf.metadata.Metadata.GetMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.PutMessage;
@@ -43,49 +42,57 @@ public class CausalSpartanClient extends DKVFClient {
 	}
 
 	public boolean put(String key, byte[] value) {
+		return putAsync(key, value).join();
+	}
+
+	public byte[] get(String key) {
+		return getAsync(key).join();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> putAsync(String key, byte[] value) {
 		try {
 			PutMessage pm = PutMessage.newBuilder().setKey(key).setValue(ByteString.copyFrom(value)).addAllDsItem(getDcTimeItems()).build();
 			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(pm).build();
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return false;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				updateDS(dcId, cr.getPutReply().getUt());
-				return true;
-			} else {
-				protocolLOGGER.severe("Server could not put the key= " + key);
-				return false;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					updateDS(dcId, cr.getPutReply().getUt());
+					return true;
+				} else {
+					protocolLOGGER.severe("Server could not put the key= " + key);
+					return false;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to put due to exception", e));
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 	}
 
-	public byte[] get(String key) {
+	@Override
+	public CompletableFuture<byte[]> getAsync(String key) {
 		try {
-			GetMessage gm = GetMessage.newBuilder().addAllDsvItem(dsv).setKey(key).build();
+			GetMessage gm = GetMessage.newBuilder().addAllDsvItem(getDsv()).setKey(key).build();
 			ClientMessage cm = ClientMessage.newBuilder().setGetMessage(gm).build();
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return null;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				updateDsv(cr.getGetReply().getDsvItemList());
-				for (DcTimeItem dti : cr.getGetReply().getDsItemList()) {
-					updateDS(dti.getDcId(), dti.getTime());
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					updateDsv(cr.getGetReply().getDsvItemList());
+					for (DcTimeItem dti : cr.getGetReply().getDsItemList()) {
+						updateDS(dti.getDcId(), dti.getTime());
+					}
+					return cr.getGetReply().getValue().toByteArray();
+				} else {
+					protocolLOGGER.severe("Server could not get the key= " + key);
+					return null;
 				}
-				return cr.getGetReply().getValue().toByteArray();
-			} else {
-				protocolLOGGER.severe("Server could not get the key= " + key);
-				return null;
-			}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe(Utils.exceptionLogMessge("Failed to get due to exception", e));
-			return null;
+			return CompletableFuture.completedFuture(null);
 		}
 	}
 
@@ -94,7 +101,7 @@ public class CausalSpartanClient extends DKVFClient {
 		return (int) (hash % numOfPartitions);
 	}
 
-	private void updateDS(int dc, long time) {
+	private synchronized void updateDS(int dc, long time) {
 		if (ds.containsKey(dc))
 			ds.put(dc, Math.max(time, ds.get(dc)));
 		else {
@@ -102,7 +109,7 @@ public class CausalSpartanClient extends DKVFClient {
 		}
 	}
 
-	private List<DcTimeItem> getDcTimeItems() {
+	private synchronized List<DcTimeItem> getDcTimeItems() {
 		List<DcTimeItem> result = new ArrayList<>();
 		for (Map.Entry<Integer, Long> entry : ds.entrySet()) {
 			DcTimeItem dti = DcTimeItem.newBuilder().setDcId(entry.getKey()).setTime(entry.getValue()).build();
@@ -111,7 +118,11 @@ public class CausalSpartanClient extends DKVFClient {
 		return result;
 	}
 
-	private void updateDsv(List<Long> dsvItemList) {
+	private synchronized List<Long> getDsv() {
+		return new ArrayList<>(dsv);
+	}
+
+	private synchronized void updateDsv(List<Long> dsvItemList) {
 		if (dsvItemList == null || dsvItemList.isEmpty())
 			return;
 		for (int i = 0; i < dsv.size(); i++) {
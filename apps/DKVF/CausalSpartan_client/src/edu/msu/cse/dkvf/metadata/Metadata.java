@@ -3449,6 +3449,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutMessageOrBuilder getPutMessageOrBuilder();
 
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -3464,6 +3473,7 @@ public final class Metadata {
       super(builder);
     }
     private ClientMessage() {
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -3522,6 +3532,11 @@ public final class Metadata {
               messageTypeCase_ = 2;
               break;
             }
+            case 24: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3636,6 +3651,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutMessage.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -3654,6 +3682,9 @@ public final class Metadata {
       if (messageTypeCase_ == 2) {
         output.writeMessage(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(3, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3670,6 +3701,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3686,6 +3721,8 @@ public final class Metadata {
       edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other = (edu.msu.cse.dkvf.metadata.Metadata.ClientMessage) obj;
 
       boolean result = true;
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -3712,6 +3749,9 @@ public final class Metadata {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 1:
           hash = (37 * hash) + GET_MESSAGE_FIELD_NUMBER;
@@ -3853,6 +3893,8 @@ public final class Metadata {
       }
       public Builder clear() {
         super.clear();
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -3891,6 +3933,7 @@ public final class Metadata {
             result.messageType_ = putMessageBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -3933,6 +3976,9 @@ public final class Metadata {
 
       public Builder mergeFrom(edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other) {
         if (other == edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_MESSAGE: {
             mergeGetMessage(other.getGetMessage());
@@ -4259,6 +4305,44 @@ public final class Metadata {
         onChanged();;
         return putMessageBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -6022,6 +6106,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutReplyOrBuilder getPutReplyOrBuilder();
 
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientReply.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -6038,6 +6131,7 @@ public final class Metadata {
     }
     private ClientReply() {
       status_ = false;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -6101,6 +6195,11 @@ public final class Metadata {
               messageTypeCase_ = 3;
               break;
             }
+            case 32: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6224,6 +6323,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutReply.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -6245,6 +6357,9 @@ public final class Metadata {
       if (messageTypeCase_ == 3) {
         output.writeMessage(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(4, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -6265,6 +6380,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6283,6 +6402,8 @@ public final class Metadata {
       boolean result = true;
       result = result && (getStatus()
           == other.getStatus());
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -6312,6 +6433,9 @@ public final class Metadata {
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getStatus());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 2:
           hash = (37 * hash) + GET_REPLY_FIELD_NUMBER;
@@ -6455,6 +6579,8 @@ public final class Metadata {
         super.clear();
         status_ = false;
 
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -6494,6 +6620,7 @@ public final class Metadata {
             result.messageType_ = putReplyBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -6539,6 +6666,9 @@ public final class Metadata {
         if (other.getStatus() != false) {
           setStatus(other.getStatus());
         }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_REPLY: {
             mergeGetReply(other.getGetReply());
@@ -6891,6 +7021,44 @@ public final class Metadata {
         onChanged();;
         return putReplyBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -10895,29 +11063,30 @@ public final class Metadata {
       "cTimeItem\"+\n\nGetMessage\022\013\n\003key\030\001 \001(\t\022\020\n\010" +
       "dsv_item\030\002 \003(\003\"O\n\nPutMessage\022\013\n\003key\030\001 \001(" +
       "\t\022\r\n\005value\030\002 \001(\014\022%\n\007ds_item\030\003 \003(\0132\024.Meta" +
-      "data.DcTimeItem\"y\n\rClientMessage\022+\n\013get_" +
-      "message\030\001 \001(\0132\024.Metadata.GetMessageH\000\022+\n" +
-      "\013put_message\030\002 \001(\0132\024.Metadata.PutMessage",
-      "H\000B\016\n\014message_type\"R\n\010GetReply\022\r\n\005value\030" +
-      "\001 \001(\014\022%\n\007ds_item\030\003 \003(\0132\024.Metadata.DcTime" +
-      "Item\022\020\n\010dsv_item\030\002 \003(\003\"\"\n\010PutReply\022\n\n\002ut" +
-      "\030\001 \001(\003\022\n\n\002sr\030\002 \001(\005\"\177\n\013ClientReply\022\016\n\006sta" +
-      "tus\030\001 \001(\010\022\'\n\tget_reply\030\002 \001(\0132\022.Metadata." +
-      "GetReplyH\000\022\'\n\tput_reply\030\003 \001(\0132\022.Metadata" +
-      ".PutReplyH\000B\016\n\014message_type\"M\n\020Replicate" +
-      "Message\022\013\n\003key\030\001 \001(\t\022\035\n\003rec\030\002 \001(\0132\020.Meta" +
-      "data.Record\022\r\n\005dc_id\030\003 \001(\005\"/\n\020HeartbeatM" +
-      "essage\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n\tV",
-      "VMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005\"+" +
-      "\n\nDSVMessage\022\017\n\007dsvItem\030\001 \003(\003\022\014\n\004p_id\030\002 " +
-      "\001(\005\"\351\001\n\rServerMessage\0227\n\021replicate_messa" +
-      "ge\030\001 \001(\0132\032.Metadata.ReplicateMessageH\000\0227" +
-      "\n\021heartbeat_message\030\002 \001(\0132\032.Metadata.Hea" +
-      "rtbeatMessageH\000\022)\n\nvv_message\030\003 \001(\0132\023.Me" +
-      "tadata.VVMessageH\000\022+\n\013dsv_message\030\004 \001(\0132" +
-      "\024.Metadata.DSVMessageH\000B\016\n\014message_typeB" +
-      "%\n\031edu.msu.cse.dkvf.metadataB\010Metadatab\006" +
-      "proto3"
+      "data.DcTimeItem\"\215\001\n\rClientMessage\022+\n\013get" +
+      "_message\030\001 \001(\0132\024.Metadata.GetMessageH\000\022+" +
+      "\n\013put_message\030\002 \001(\0132\024.Metadata.PutMessag",
+      "eH\000\022\022\n\nrequest_id\030\003 \001(\003B\016\n\014message_type\"" +
+      "R\n\010GetReply\022\r\n\005value\030\001 \001(\014\022%\n\007ds_item\030\003 " +
+      "\003(\0132\024.Metadata.DcTimeItem\022\020\n\010dsv_item\030\002 " +
+      "\003(\003\"\"\n\010PutReply\022\n\n\002ut\030\001 \001(\003\022\n\n\002sr\030\002 \001(\005\"" +
+      "\223\001\n\013ClientReply\022\016\n\006status\030\001 \001(\010\022\'\n\tget_r" +
+      "eply\030\002 \001(\0132\022.Metadata.GetReplyH\000\022\'\n\tput_" +
+      "reply\030\003 \001(\0132\022.Metadata.PutReplyH\000\022\022\n\nreq" +
+      "uest_id\030\004 \001(\003B\016\n\014message_type\"M\n\020Replica" +
+      "teMessage\022\013\n\003key\030\001 \001(\t\022\035\n\003rec\030\002 \001(\0132\020.Me" +
+      "tadata.Record\022\r\n\005dc_id\030\003 \001(\005\"/\n\020Heartbea",
+      "tMessage\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n" +
+      "\tVVMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005" +
+      "\"+\n\nDSVMessage\022\017\n\007dsvItem\030\001 \003(\003\022\014\n\004p_id\030" +
+      "\002 \001(\005\"\351\001\n\rServerMessage\0227\n\021replicate_mes" +
+      "sage\030\001 \001(\0132\032.Metadata.ReplicateMessageH\000" +
+      "\0227\n\021heartbeat_message\030\002 \001(\0132\032.Metadata.H" +
+      "eartbeatMessageH\000\022)\n\nvv_message\030\003 \001(\0132\023." +
+      "Metadata.VVMessageH\000\022+\n\013dsv_message\030\004 \001(" +
+      "\0132\024.Metadata.DSVMessageH\000B\016\n\014message_typ" +
+      "eB%\n\031edu.msu.cse.dkvf.metadataB\010Metadata",
+      "b\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10960,7 +11129,7 @@ public final class Metadata {
     internal_static_Metadata_ClientMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientMessage_descriptor,
-        new java.lang.String[] { "GetMessage", "PutMessage", "MessageType", });
+        new java.lang.String[] { "GetMessage", "PutMessage", "RequestId", "MessageType", });
     internal_static_Metadata_GetReply_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_Metadata_GetReply_fieldAccessorTable = new
@@ -10978,7 +11147,7 @@ public final class Metadata {
     internal_static_Metadata_ClientReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientReply_descriptor,
-        new java.lang.String[] { "Status", "GetReply", "PutReply", "MessageType", });
+        new java.lang.String[] { "Status", "GetReply", "PutReply", "RequestId", "MessageType", });
     internal_static_Metadata_ReplicateMessage_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_Metadata_ReplicateMessage_fieldAccessorTable = new
@@ -4,16 +4,18 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import edu.msu.cse.dkvf.ClientMessageAgent;
 import edu.msu.cse.dkvf.DKVFServer;
+import edu.msu.cse.dkvf.HybridLogicalClock;
+import edu.msu.cse.dkvf.RecordPredicate;
+import edu.msu.cse.dkvf.Stabilizer;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
+import edu.msu.cse.dkvf.VisibilityWaiter;
 import edu.msu.cse.causalSpartan.server.Utils;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
@@ -36,8 +38,10 @@ public class CausalSpartanServer extends DKVFServer {
 	int numOfPartitions;
 
 	// GST computation
-	ArrayList<AtomicLong> vv;
-	HashMap<Integer, List<Long>> childrenVvs;
+	AtomicLongArray vv;
+	VisibilityWaiter vvWaiter; // GETs waiting for vv to reach the dsv of the client
+	Stabilizer stabilizer;
+	HybridLogicalClock hlc = new HybridLogicalClock(); // vv[dcId] follows it
 
 	// Tree structure
 	List<Integer> childrenPIds;
@@ -46,6 +50,11 @@ public class CausalSpartanServer extends DKVFServer {
 	// intervals
 	int heartbeatInterval;
 	int dsvComutationInterval;
+	long minPropagationInterval;
+
+	// the maximum time a GET waits for vv to reach the dsv of the client (ms)
+	long visibilityWaitTimeout;
+	final static long VISIBILITY_WAIT_TIMEOUT_DEFAULT = 5000;
 
 	// Heartbeat
 	long timeOfLastRepOrHeartbeat;
@@ -74,31 +83,44 @@ public class CausalSpartanServer extends DKVFServer {
 
 		heartbeatInterval = new Integer(protocolProperties.get("heartbeat_interval").get(0));
 		dsvComutationInterval = new Integer(protocolProperties.get("dsv_comutation_interval").get(0));
+		if (protocolProperties.get("min_propagation_interval") != null)
+			minPropagationInterval = new Long(protocolProperties.get("min_propagation_interval").get(0));
+		else
+			minPropagationInterval = Stabilizer.DEFAULT_MIN_PROPAGATION_INTERVAL;
+		if (protocolProperties.get("visibility_wait_timeout") != null)
+			visibilityWaitTimeout = new Long(protocolProperties.get("visibility_wait_timeout").get(0));
+		else
+			visibilityWaitTimeout = VISIBILITY_WAIT_TIMEOUT_DEFAULT;
 
-		vv = new ArrayList<>();
-		ArrayList<Long> allZero = new ArrayList<>();
-		for (int i = 0; i < numOfDatacenters; i++) {
-			vv.add(i, new AtomicLong(0));
-			allZero.add(new Long(0));
-		}
-		
-		
-		childrenVvs = new HashMap<>();
-		for (int cpId: childrenPIds){
-			childrenVvs.put(cpId, allZero);
-		}
+		// vv holds hybrid logical clocks, whose physical part is in the high bits
+		stabilizer = new Stabilizer(numOfDatacenters, childrenPIds, parentPId == pId, new DsvComputation(this), HybridLogicalClock::toPhysicalTime, protocolLOGGER);
+		vv = stabilizer.getVv();
+		vvWaiter = new VisibilityWaiter(numOfDatacenters);
 
 		dsv = new ArrayList<>();
 		for (int i = 0; i < numOfDatacenters; i++) {
 			dsv.add(i, new Long(0));
 		}
 
+		isVisible = RecordPredicate.dsCovered(dcId, dsv, (Record r) -> {
+			if (dcId == r.getSr())
+				return true;
+
+			for (int i = 0; i < r.getDsItemCount(); i++) {
+				DcTimeItem dti = r.getDsItem(i);
+				if (dsv.get(dti.getDcId()) < dti.getTime())
+					return false;
+			}
+			return true;
+
+		});
+		getStorage().setStablePredicate(isVisible);
+
 		// Scheduling periodic operations
 		ScheduledExecutorService heartbeatTimer = Executors.newScheduledThreadPool(1);
-		ScheduledExecutorService dsvComputationTimer = Executors.newScheduledThreadPool(1);
 
 		heartbeatTimer.scheduleAtFixedRate(new HeartbeatSender(this), 0, heartbeatInterval, TimeUnit.MILLISECONDS);
-		dsvComputationTimer.scheduleAtFixedRate(new DsvComputation(this), 0, dsvComutationInterval, TimeUnit.MILLISECONDS);
+		stabilizer.start(dsvComutationInterval, minPropagationInterval);
 	}
 
 	public void handleClientMessage(ClientMessageAgent cma) {
@@ -112,6 +134,7 @@ public class CausalSpartanServer extends DKVFServer {
 
 	private void handleGetMessage(ClientMessageAgent cma) {
 		GetMessage gm = cma.getClientMessage().getGetMessage();
+		waitForDsv(gm.getDsvItemList());
 		updateDsv(gm.getDsvItemList());
 		List<Record> result = new ArrayList<>();
 		StorageStatus ss = read(gm.getKey(), isVisible, result);
@@ -126,6 +149,26 @@ public class CausalSpartanServer extends DKVFServer {
 		cma.sendReply(cr);
 	}
 
+	/**
+	 * Waits until this partition received the updates of every data center up to the dsv of the client.
+	 * Once it adopts that dsv, the records it covers are visible, so they must be here. A partition that
+	 * restarted, or lags behind the rest of its data center, holds the GET until replication catches up.
+	 * @param dsvItemList The dsv of the client
+	 */
+	private void waitForDsv(List<Long> dsvItemList) {
+		for (int i = 0; i < dsvItemList.size(); i++) {
+			final int dc = i;
+			try {
+				if (!vvWaiter.await(dc, dsvItemList.get(dc), () -> vv.get(dc), visibilityWaitTimeout))
+					protocolLOGGER.warning(MessageFormat.format("Timed out waiting! vv[{0}] = {1} while dsv[{0}]= {2}", dc, vv.get(dc), dsvItemList.get(dc)));
+			} catch (InterruptedException e) {
+				protocolLOGGER.severe("Intruption exception while waiting for dsv");
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
 	private void updateDsv(List<Long> dsvItemList) {
 		if (dsvItemList == null || dsvItemList.isEmpty())
 			return;
@@ -137,32 +180,25 @@ public class CausalSpartanServer extends DKVFServer {
 
 	}
 
-	Predicate<Record> isVisible = (Record r) -> {
-		if (dcId == r.getSr())
-			return true;
-
-		for (int i = 0; i < r.getDsItemCount(); i++) {
-			DcTimeItem dti = r.getDsItem(i);
-			if (dsv.get(dti.getDcId()) < dti.getTime())
-				return false;
-		}
-		return true;
-
-	};
+	RecordPredicate isVisible;
 
 	private void handlePutMessage(ClientMessageAgent cma) {
 		PutMessage pm = cma.getClientMessage().getPutMessage();
 		long dt = Utils.maxDsTime(pm.getDsItemList());
-		updateHlc(dt);
 		Record rec = null;
 		synchronized (putLock) {
-			rec = Record.newBuilder().setValue(pm.getValue()).setUt(vv.get(dcId).get()).setSr(dcId).addAllDsItem(pm.getDsItemList()).build();
+			// The timestamp is taken under the lock, so replicates are sent in the order of their timestamps.
+			long ut = hlc.update(dt);
+			updateVv(dcId, ut);
+			rec = Record.newBuilder().setValue(pm.getValue()).setUt(ut).setSr(dcId).addAllDsItem(pm.getDsItemList()).build();
 			sendReplicateMessages(pm.getKey(),rec); // The order is different than the paper
 										// algorithm. We first send replicate to
 										// insure a version with smaller
 										// timestamp is replicated sooner.
 		}
 		StorageStatus ss = insert(pm.getKey(), rec);
+		if (ss == StorageStatus.SUCCESS)
+			ss = waitForDurability();
 		ClientReply cr = null;
 
 		if (ss == StorageStatus.SUCCESS) {
@@ -186,40 +222,22 @@ public class CausalSpartanServer extends DKVFServer {
 		timeOfLastRepOrHeartbeat = Utils.getPhysicalTime(); //we don't need to synchronize for it, because it is not critical
 	}
 
-	private void updateHlc(long dt) {
-		long vv_l = Utils.getL(vv.get(dcId).get());
-		long physicalTime = Utils.getPhysicalTime();
-		long dt_l = Utils.getL(dt);
-
-		long newL = Math.max(Math.max(vv_l, dt_l), Utils.shiftToHighBits(physicalTime));
-
-		long vv_c = Utils.getC(vv.get(dcId).get());
-		long dt_c = Utils.getC(dt);
-		long newC;
-		if (newL == vv_l && newL == dt_l)
-			newC = Math.max(vv_c, dt_c) + 1;
-		else if (newL == vv_l)
-			newC = vv_c + 1;
-		else if (newL == dt_l)
-			newC = dt_c + 1;
-		else
-			newC = 0;
-		vv.get(dcId).set(newL + newC);
+	/**
+	 * Advances the clock of this partition for a heartbeat.
+	 * @return The new time of this partition
+	 */
+	long updateHlc() {
+		long time = hlc.tick();
+		updateVv(dcId, time);
+		return time;
 	}
 
-	void updateHlc() {
-		long vv_l = Utils.getL(vv.get(dcId).get());
-		long physicalTime = Utils.getPhysicalTime();
-
-		long newL = Math.max(vv_l, Utils.shiftToHighBits(physicalTime));
-
-		long vv_c = Utils.getC(vv.get(dcId).get());
-		long newC;
-		if (newL == vv_l)
-			newC = vv_c + 1;
-		else
-			newC = 0;
-		vv.get(dcId).set(newL + newC);
+	/**
+	 * Advances the entry of a data center in vv, and wakes up the GETs waiting for it.
+	 */
+	void updateVv(int dc, long time) {
+		stabilizer.updateVv(dc, time);
+		vvWaiter.signal(dc, vv.get(dc));
 	}
 
 	public void handleServerMessage(ServerMessage sm) {
@@ -239,19 +257,19 @@ public class CausalSpartanServer extends DKVFServer {
 		int senderDcId = sm.getReplicateMessage().getDcId();
 		Record d = sm.getReplicateMessage().getRec();
 		insert(sm.getReplicateMessage().getKey(), d);
-		vv.get(senderDcId).set(d.getUt());
+		updateVv(senderDcId, d.getUt());
 	}
 
 	void handleHearbeatMessage(ServerMessage sm) {
 		int senderDcId = sm.getHeartbeatMessage().getDcId();
-		vv.get(senderDcId).set(sm.getHeartbeatMessage().getTime());
+		updateVv(senderDcId, sm.getHeartbeatMessage().getTime());
 	}
 
 	void handleVvMessage(ServerMessage sm) {
 		int senderPId = sm.getVvMessage().getPId();
 		List<Long> receivedVv = sm.getVvMessage().getVvItemList();
 		protocolLOGGER.finest("Recieved" + sm.toString());
-		childrenVvs.put(senderPId, receivedVv);
+		stabilizer.setChildVv(senderPId, receivedVv);
 	}
 
 	void handleDsvMessage(ServerMessage sm) {
@@ -262,8 +280,7 @@ public class CausalSpartanServer extends DKVFServer {
 	}
 
 	void sendToAllChildren(ServerMessage sm) {
-		for (Map.Entry<Integer, List<Long>> child : childrenVvs.entrySet()) {
-			int childId = child.getKey();
+		for (int childId : childrenPIds) {
 			sendToServerViaChannel(dcId + "_" + childId, sm);
 		}
 	}
@@ -273,6 +290,10 @@ public class CausalSpartanServer extends DKVFServer {
 			for (int i=0; i<newDsv.size();i++)
 				dsv.set(i, newDsv.get(i));	
 		}
+		long minDsv = Long.MAX_VALUE;
+		for (long t : newDsv)
+			minDsv = Math.min(minDsv, t);
+		stabilizer.recordStable(minDsv);
 	}
 	
 	private List<DcTimeItem> updateDS(int dc, long time, List<DcTimeItem> ds) {
@@ -2,14 +2,13 @@ package edu.msu.cse.causalSpartan.server;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
+import edu.msu.cse.dkvf.Stabilizer;
 import edu.msu.cse.dkvf.metadata.Metadata.DSVMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.ServerMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.VVMessage;
 
-public class DsvComputation implements Runnable {
+public class DsvComputation implements Stabilizer.Propagation {
 
 	CausalSpartanServer server;
 
@@ -17,35 +16,25 @@ public class DsvComputation implements Runnable {
 		this.server = server;
 	}
 
+	//if the node is not root, it send vvMessage to its parent.
 	@Override
-	public void run() {
-		//take minimum of all childrens 
-		List<Long> minVv = new ArrayList<Long>();
-		for (AtomicLong v : server.vv) {
-			minVv.add(v.get());
-		}
-		
-		for (Map.Entry<Integer, List<Long>> childVv : server.childrenVvs.entrySet()) {
-			for (int i = 0; i < childVv.getValue().size(); i++) {
-				if (minVv.get(i) > childVv.getValue().get(i))
-					minVv.set(i, childVv.getValue().get(i));
-			}
-		}
-
-		//if the node is parent it send DsvMessage to its children
-		ServerMessage sm = null;
-		if (server.parentPId == server.pId) {
-			server.setDsv(minVv);
-			sm = ServerMessage.newBuilder().setDsvMessage(DSVMessage.newBuilder().addAllDsvItem(minVv)).build();
-			server.sendToAllChildren(sm);
-		}
-		//if the node is not root, it send vvMessage to its parent.
-		else {
-			VVMessage vvM = VVMessage.newBuilder().setPId(server.pId).addAllVvItem(minVv).build();
-			sm = ServerMessage.newBuilder().setVvMessage(vvM).build();
-			server.sendToServerViaChannel(server.dcId + "_" + server.parentPId, sm);
-		}
+	public void sendToParent(long[] minVv) {
+		VVMessage.Builder vvM = VVMessage.newBuilder().setPId(server.pId);
+		for (long v : minVv)
+			vvM.addVvItem(v);
+		ServerMessage sm = ServerMessage.newBuilder().setVvMessage(vvM).build();
+		server.sendToServerViaChannel(server.dcId + "_" + server.parentPId, sm);
+	}
 
+	//if the node is parent it send DsvMessage to its children
+	@Override
+	public void stabilize(long[] minVv) {
+		List<Long> newDsv = new ArrayList<>(minVv.length);
+		for (long v : minVv)
+			newDsv.add(v);
+		server.setDsv(newDsv);
+		ServerMessage sm = ServerMessage.newBuilder().setDsvMessage(DSVMessage.newBuilder().addAllDsvItem(newDsv)).build();
+		server.sendToAllChildren(sm);
 	}
 
 }
@@ -12,8 +12,8 @@ public class HeartbeatSender implements Runnable {
 	public void run() {
 		long ct = System.currentTimeMillis(); 
 		if (ct > server.timeOfLastRepOrHeartbeat + server.heartbeatInterval){
-			server.updateHlc();
-			ServerMessage sm = ServerMessage.newBuilder().setHeartbeatMessage(HeartbeatMessage.newBuilder().setDcId(server.dcId).setTime(server.vv.get(server.dcId).get())).build();
+			long time = server.updateHlc();
+			ServerMessage sm = ServerMessage.newBuilder().setHeartbeatMessage(HeartbeatMessage.newBuilder().setDcId(server.dcId).setTime(time)).build();
 			for (int i = 0; i < server.numOfDatacenters; i++) {
 				if (i == server.dcId)
 					continue;
@@ -3565,6 +3565,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutMessageOrBuilder getPutMessageOrBuilder();
 
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -3580,6 +3589,7 @@ public final class Metadata {
       super(builder);
     }
     private ClientMessage() {
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -3638,6 +3648,11 @@ public final class Metadata {
               messageTypeCase_ = 2;
               break;
             }
+            case 24: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3752,6 +3767,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutMessage.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -3770,6 +3798,9 @@ public final class Metadata {
       if (messageTypeCase_ == 2) {
         output.writeMessage(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(3, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3786,6 +3817,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3802,6 +3837,8 @@ public final class Metadata {
       edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other = (edu.msu.cse.dkvf.metadata.Metadata.ClientMessage) obj;
 
       boolean result = true;
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -3828,6 +3865,9 @@ public final class Metadata {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 1:
           hash = (37 * hash) + GET_MESSAGE_FIELD_NUMBER;
@@ -3969,6 +4009,8 @@ public final class Metadata {
       }
       public Builder clear() {
         super.clear();
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -4007,6 +4049,7 @@ public final class Metadata {
             result.messageType_ = putMessageBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -4049,6 +4092,9 @@ public final class Metadata {
 
       public Builder mergeFrom(edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other) {
         if (other == edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_MESSAGE: {
             mergeGetMessage(other.getGetMessage());
@@ -4375,6 +4421,44 @@ public final class Metadata {
         onChanged();;
         return putMessageBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -6138,6 +6222,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutReplyOrBuilder getPutReplyOrBuilder();
 
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientReply.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -6154,6 +6247,7 @@ public final class Metadata {
     }
     private ClientReply() {
       status_ = false;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -6217,6 +6311,11 @@ public final class Metadata {
               messageTypeCase_ = 3;
               break;
             }
+            case 32: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6340,6 +6439,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutReply.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -6361,6 +6473,9 @@ public final class Metadata {
       if (messageTypeCase_ == 3) {
         output.writeMessage(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(4, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -6381,6 +6496,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6399,6 +6518,8 @@ public final class Metadata {
       boolean result = true;
       result = result && (getStatus()
           == other.getStatus());
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -6428,6 +6549,9 @@ public final class Metadata {
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getStatus());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 2:
           hash = (37 * hash) + GET_REPLY_FIELD_NUMBER;
@@ -6571,6 +6695,8 @@ public final class Metadata {
         super.clear();
         status_ = false;
 
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -6610,6 +6736,7 @@ public final class Metadata {
             result.messageType_ = putReplyBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -6655,6 +6782,9 @@ public final class Metadata {
         if (other.getStatus() != false) {
           setStatus(other.getStatus());
         }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_REPLY: {
             mergeGetReply(other.getGetReply());
@@ -7007,6 +7137,44 @@ public final class Metadata {
         onChanged();;
         return putReplyBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -10945,28 +11113,29 @@ public final class Metadata {
       "cTimeItem\"+\n\nGetMessage\022\013\n\003key\030\001 \001(\t\022\020\n\010" +
       "dsv_item\030\002 \003(\003\"O\n\nPutMessage\022\013\n\003key\030\001 \001(" +
       "\t\022\r\n\005value\030\002 \001(\014\022%\n\007ds_item\030\003 \003(\0132\024.Meta" +
-      "data.DcTimeItem\"y\n\rClientMessage\022+\n\013get_" +
-      "message\030\001 \001(\0132\024.Metadata.GetMessageH\000\022+\n" +
-      "\013put_message\030\002 \001(\0132\024.Metadata.PutMessage",
-      "H\000B\016\n\014message_type\"R\n\010GetReply\022\r\n\005value\030" +
-      "\001 \001(\014\022%\n\007ds_item\030\003 \003(\0132\024.Metadata.DcTime" +
-      "Item\022\020\n\010dsv_item\030\002 \003(\003\"\"\n\010PutReply\022\n\n\002ut" +
-      "\030\001 \001(\003\022\n\n\002sr\030\002 \001(\005\"\177\n\013ClientReply\022\016\n\006sta" +
-      "tus\030\001 \001(\010\022\'\n\tget_reply\030\002 \001(\0132\022.Metadata." +
-      "GetReplyH\000\022\'\n\tput_reply\030\003 \001(\0132\022.Metadata" +
-      ".PutReplyH\000B\016\n\014message_type\"M\n\020Replicate" +
-      "Message\022\013\n\003key\030\001 \001(\t\022\035\n\003rec\030\002 \001(\0132\020.Meta" +
-      "data.Record\022\r\n\005dc_id\030\003 \001(\005\"/\n\020HeartbeatM" +
-      "essage\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n\tV",
-      "VMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005\"\035" +
-      "\n\nDSVMessage\022\017\n\007dsvItem\030\001 \003(\003\"\351\001\n\rServer" +
-      "Message\0227\n\021replicate_message\030\001 \001(\0132\032.Met" +
-      "adata.ReplicateMessageH\000\0227\n\021heartbeat_me" +
-      "ssage\030\002 \001(\0132\032.Metadata.HeartbeatMessageH" +
-      "\000\022)\n\nvv_message\030\003 \001(\0132\023.Metadata.VVMessa" +
-      "geH\000\022+\n\013dsv_message\030\004 \001(\0132\024.Metadata.DSV" +
-      "MessageH\000B\016\n\014message_typeB%\n\031edu.msu.cse" +
-      ".dkvf.metadataB\010Metadatab\006proto3"
+      "data.DcTimeItem\"\215\001\n\rClientMessage\022+\n\013get" +
+      "_message\030\001 \001(\0132\024.Metadata.GetMessageH\000\022+" +
+      "\n\013put_message\030\002 \001(\0132\024.Metadata.PutMessag",
+      "eH\000\022\022\n\nrequest_id\030\003 \001(\003B\016\n\014message_type\"" +
+      "R\n\010GetReply\022\r\n\005value\030\001 \001(\014\022%\n\007ds_item\030\003 " +
+      "\003(\0132\024.Metadata.DcTimeItem\022\020\n\010dsv_item\030\002 " +
+      "\003(\003\"\"\n\010PutReply\022\n\n\002ut\030\001 \001(\003\022\n\n\002sr\030\002 \001(\005\"" +
+      "\223\001\n\013ClientReply\022\016\n\006status\030\001 \001(\010\022\'\n\tget_r" +
+      "eply\030\002 \001(\0132\022.Metadata.GetReplyH\000\022\'\n\tput_" +
+      "reply\030\003 \001(\0132\022.Metadata.PutReplyH\000\022\022\n\nreq" +
+      "uest_id\030\004 \001(\003B\016\n\014message_type\"M\n\020Replica" +
+      "teMessage\022\013\n\003key\030\001 \001(\t\022\035\n\003rec\030\002 \001(\0132\020.Me" +
+      "tadata.Record\022\r\n\005dc_id\030\003 \001(\005\"/\n\020Heartbea",
+      "tMessage\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n" +
+      "\tVVMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005" +
+      "\"\035\n\nDSVMessage\022\017\n\007dsvItem\030\001 \003(\003\"\351\001\n\rServ" +
+      "erMessage\0227\n\021replicate_message\030\001 \001(\0132\032.M" +
+      "etadata.ReplicateMessageH\000\0227\n\021heartbeat_" +
+      "message\030\002 \001(\0132\032.Metadata.HeartbeatMessag" +
+      "eH\000\022)\n\nvv_message\030\003 \001(\0132\023.Metadata.VVMes" +
+      "sageH\000\022+\n\013dsv_message\030\004 \001(\0132\024.Metadata.D" +
+      "SVMessageH\000B\016\n\014message_typeB%\n\031edu.msu.c" +
+      "se.dkvf.metadataB\010Metadatab\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -11009,7 +11178,7 @@ public final class Metadata {
     internal_static_Metadata_ClientMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientMessage_descriptor,
-        new java.lang.String[] { "GetMessage", "PutMessage", "MessageType", });
+        new java.lang.String[] { "GetMessage", "PutMessage", "RequestId", "MessageType", });
     internal_static_Metadata_GetReply_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_Metadata_GetReply_fieldAccessorTable = new
@@ -11027,7 +11196,7 @@ public final class Metadata {
     internal_static_Metadata_ClientReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientReply_descriptor,
-        new java.lang.String[] { "Status", "GetReply", "PutReply", "MessageType", });
+        new java.lang.String[] { "Status", "GetReply", "PutReply", "RequestId", "MessageType", });
     internal_static_Metadata_ReplicateMessage_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_Metadata_ReplicateMessage_fieldAccessorTable = new
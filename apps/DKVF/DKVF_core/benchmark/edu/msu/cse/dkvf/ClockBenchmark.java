@@ -0,0 +1,79 @@
+package edu.msu.cse.dkvf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the clocks shared by all threads of a server. The
+ * synchronized variants are the locking read-modify-write the clocks replace.
+ *
+ * It needs JMH (jmh-core and jmh-generator-annprocess) on the class path, and
+ * runs with all available threads by default, e.g.
+ * <pre>
+ * java -cp ... org.openjdk.jmh.Main ClockBenchmark -t 16
+ * </pre>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class ClockBenchmark {
+
+	LamportClock lamportClock = new LamportClock();
+	HybridLogicalClock hlc = new HybridLogicalClock();
+
+	final Object lock = new Object();
+	long lockedLamportClock = 0;
+	long lockedHlc = 0;
+
+	@Benchmark
+	public long lamportTick() {
+		return lamportClock.tick();
+	}
+
+	@Benchmark
+	public long lamportUpdate() {
+		return lamportClock.update(lamportClock.get());
+	}
+
+	@Benchmark
+	public long synchronizedLamportUpdate() {
+		synchronized (lock) {
+			lockedLamportClock = Math.max(lockedLamportClock, lockedLamportClock) + 1;
+			return lockedLamportClock;
+		}
+	}
+
+	@Benchmark
+	public long hlcTick() {
+		return hlc.tick();
+	}
+
+	@Benchmark
+	public long hlcUpdate() {
+		return hlc.update(hlc.get());
+	}
+
+	@Benchmark
+	public long synchronizedHlcTick() {
+		synchronized (lock) {
+			long pt = HybridLogicalClock.fromPhysicalTime(System.currentTimeMillis());
+			lockedHlc = pt > HybridLogicalClock.getL(lockedHlc) ? pt : lockedHlc + 1;
+			return lockedHlc;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package edu.msu.cse.dkvf;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct byte buffers of the same size. Allocating direct buffers is
+ * expensive, so connections borrow them while they have bytes to decode and
+ * give them back when they become idle.
+ *
+ */
+public class BufferPool {
+	private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooled = new AtomicInteger(0);
+	private final int bufferSize;
+	private final int maxPooled;
+
+	/**
+	 * Constructor for BufferPool
+	 * @param bufferSize The capacity of each buffer in bytes
+	 * @param maxPooled The maximum number of idle buffers kept by the pool
+	 */
+	public BufferPool(int bufferSize, int maxPooled) {
+		this.bufferSize = bufferSize;
+		this.maxPooled = maxPooled;
+	}
+
+	/**
+	 * Gets a cleared buffer from the pool, or allocates a new one if the pool
+	 * is empty.
+	 * @return The buffer
+	 */
+	public ByteBuffer acquire() {
+		ByteBuffer buffer = buffers.poll();
+		if (buffer == null)
+			return ByteBuffer.allocateDirect(bufferSize);
+		pooled.decrementAndGet();
+		return buffer;
+	}
+
+	/**
+	 * Returns a buffer to the pool. The buffer must not be used after this call.
+	 * @param buffer The buffer taken by {@link #acquire()}
+	 */
+	public void release(ByteBuffer buffer) {
+		if (buffer.capacity() != bufferSize)
+			return;
+		if (pooled.incrementAndGet() > maxPooled) {
+			pooled.decrementAndGet();
+			return;
+		}
+		buffer.clear();
+		buffers.offer(buffer);
+	}
+
+	/**
+	 * Gets the capacity of the buffers of this pool.
+	 * @return The capacity in bytes
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+}
@@ -5,17 +5,35 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.UnknownHostException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.protobuf.CodedOutputStream;
 
+import edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats;
 import edu.msu.cse.dkvf.metadata.Metadata.ServerMessage;
 /**
- * This class manages the reliable FIFO delivery to servers.
+ * This class manages the reliable FIFO delivery to servers. Pending messages
+ * are sent in batches: a batch takes the queued messages until it reaches the
+ * batch size, optionally lingers a little for more messages, and is then
+ * written with a single flush.
  *
  */
 public class ChannelManager implements Runnable {
+	/**
+	 * Default maximum size of a batch in bytes.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+	/**
+	 * Default time in microseconds to wait for more messages before flushing
+	 * a batch that is not full.
+	 */
+	public static final int DEFAULT_LINGER = 0;
+
 	LinkedBlockingDeque<ServerMessage> deque = new LinkedBlockingDeque<>();
 	boolean running = true;
 
@@ -23,10 +41,27 @@ public class ChannelManager implements Runnable {
 	private CodedOutputStream out;
 	private String ip;
 	private int port;
-	private ServerMessage currentMessage;
 	private int tryAgainWaitTime;
+	private int batchSize;
+	private long lingerNanos;
 	private Logger logger;
-	
+
+	/**
+	 * The batch being sent. It is kept until it is completely flushed, so a
+	 * batch that failed is sent again after reconnecting.
+	 */
+	private ArrayList<ServerMessage> batch = new ArrayList<>();
+	private int batchBytes;
+
+	// Written only by the sending thread
+	private volatile long batches;
+	private volatile long messages;
+	private volatile long bytes;
+
+	// Used to compute the rate between two calls of getStats
+	private long lastStatsBytes;
+	private long lastStatsTime = System.nanoTime();
+
 	/**
 	 * Constructor for ChannelManager class
 	 * @param ip The IP address of the destination
@@ -36,25 +71,42 @@ public class ChannelManager implements Runnable {
 	 * @param logger The logger
 	 */
 	public ChannelManager(String ip, int port, int tryAgainWaitTime, int capacity, Logger logger) {
+		this(ip, port, tryAgainWaitTime, capacity, DEFAULT_BATCH_SIZE, DEFAULT_LINGER, logger);
+	}
+
+	/**
+	 * Constructor for ChannelManager class
+	 * @param ip The IP address of the destination
+	 * @param port The port number of the destination
+	 * @param tryAgainWaitTime The time before trying again in case of a failed delivery
+	 * @param capacity The capacity of pending messages
+	 * @param batchSize The maximum size of a batch in bytes
+	 * @param linger The time in microseconds to wait for more messages before sending a batch that is not full
+	 * @param logger The logger
+	 */
+	public ChannelManager(String ip, int port, int tryAgainWaitTime, int capacity, int batchSize, int linger, Logger logger) {
 		this.ip = ip;
 		this.port = port;
 		this.logger = logger;
 		this.deque = new LinkedBlockingDeque<>(capacity);
 		this.tryAgainWaitTime = tryAgainWaitTime;
+		this.batchSize = batchSize;
+		this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(linger);
 		Thread thread = new Thread(this);
 		thread.start();
-		
+
 	}
 
 	/**
 	 * Connects to the destination
-	 * 
+	 *
 	 * @throws UnknownHostException
 	 * @throws IOException
 	 */
 	public void connect() throws UnknownHostException, IOException {
 		socket = new Socket(ip, port);
-		out = CodedOutputStream.newInstance(socket.getOutputStream());
+		socket.setTcpNoDelay(true);
+		out = CodedOutputStream.newInstance(socket.getOutputStream(), batchSize);
 	}
 
 	/**
@@ -71,14 +123,20 @@ public class ChannelManager implements Runnable {
 				}
 				if (socket == null || socket.isClosed() || !socket.isConnected())
 					connect();
-				
-				if (currentMessage == null)
-					currentMessage = deque.takeFirst();
-				logger.finest(MessageFormat.format("Sending message to ip: {0}, port:{1}\n Message:\n{2}", ip, port, currentMessage.toString()));
-				out.writeInt32NoTag(currentMessage.getSerializedSize());
-				currentMessage.writeTo(out);
+
+				if (batch.isEmpty())
+					fillBatch();
+				for (ServerMessage sm : batch) {
+					if (logger.isLoggable(Level.FINEST))
+						logger.finest(MessageFormat.format("Sending message to ip: {0}, port:{1}\n Message:\n{2}", ip, port, sm.toString()));
+					out.writeInt32NoTag(sm.getSerializedSize());
+					sm.writeTo(out);
+				}
 				out.flush();
-				currentMessage = null;
+				batches++;
+				messages += batch.size();
+				bytes += batchBytes;
+				batch.clear();
 			} catch (InterruptedException e) {
 				// TODO log here: Interrupted while waiting for queue.
 			}catch (UnknownHostException e){
@@ -90,15 +148,46 @@ public class ChannelManager implements Runnable {
 					Thread.sleep(tryAgainWaitTime);
 					connectionFailure = true;
 				} catch (InterruptedException e1) {
-					// TODO log here: Interrupted while waiting to try again. 
+					// TODO log here: Interrupted while waiting to try again.
 				}
 			}
 		}
 	}
 
-	/** 
-	 * Adds a new server message to the queue. 
-	 * @param sm The ServerMessage object to add to the queue. 
+	/**
+	 * Waits for the first message, then takes the queued messages in order
+	 * until the batch is full. If the queue runs empty, it waits up to the
+	 * linger time for more messages.
+	 *
+	 * @throws InterruptedException
+	 */
+	private void fillBatch() throws InterruptedException {
+		batchBytes = 0;
+		add(deque.takeFirst());
+		long deadline = System.nanoTime() + lingerNanos;
+		while (batchBytes < batchSize) {
+			ServerMessage sm = deque.pollFirst();
+			if (sm == null) {
+				long wait = deadline - System.nanoTime();
+				if (wait <= 0)
+					break;
+				sm = deque.pollFirst(wait, TimeUnit.NANOSECONDS);
+				if (sm == null)
+					break;
+			}
+			add(sm);
+		}
+	}
+
+	private void add(ServerMessage sm) {
+		int size = sm.getSerializedSize();
+		batch.add(sm);
+		batchBytes += CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+	}
+
+	/**
+	 * Adds a new server message to the queue.
+	 * @param sm The ServerMessage object to add to the queue.
 	 */
 	public void addMessage(ServerMessage sm) {
 		deque.addLast(sm);
@@ -110,4 +199,25 @@ public class ChannelManager implements Runnable {
 	public void stop() {
 		running = false;
 	}
+
+	/**
+	 * Gets the statistics of this channel. The rate of bytes is computed since
+	 * the previous call.
+	 *
+	 * @param serverId The ID of the destination server
+	 * @return The statistics of the channel
+	 */
+	public synchronized ChannelStats getStats(String serverId) {
+		long now = System.nanoTime();
+		long sentBatches = batches;
+		long sentMessages = messages;
+		long sentBytes = bytes;
+		double seconds = (now - lastStatsTime) / 1e9;
+		double bytesPerSecond = seconds > 0 ? (sentBytes - lastStatsBytes) / seconds : 0;
+		lastStatsTime = now;
+		lastStatsBytes = sentBytes;
+		return ChannelStats.newBuilder().setServerId(serverId).setQueueDepth(deque.size()).setBatches(sentBatches)
+				.setMessages(sentMessages).setAvgBatchSize(sentBatches > 0 ? (double) sentMessages / sentBatches : 0)
+				.setBytesPerSecond(bytesPerSecond).build();
+	}
 }
@@ -1,63 +1,290 @@
 package edu.msu.cse.dkvf;
 
 
-import java.net.Socket;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
+import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 /**
- * The handler for incoming clients
+ * The handler for one connected client. The selector thread of
+ * {@link ClientListener} decodes the size prefixed client messages, and the
+ * worker threads run the protocol on them one at a time, in the order they
+ * arrived.
  *
  */
-public class ClientHandler implements Runnable {
+public class ClientHandler {
+	/**
+	 * Number of decoded messages waiting for a worker after which we stop
+	 * reading from the client.
+	 */
+	static final int MAX_PENDING_MESSAGES = 1024;
+
 	/**
 	 * The protocol to run its client handler upon receiving a client message.
 	 */
 	DKVFServer protocol;
 
-	Socket clientSocket;
+	SocketChannel clientChannel;
+	ClientListener listener;
+	SelectionKey key;
 	Logger LOGGER;
+
+	/**
+	 * The pooled buffer holding the bytes not decoded yet. It is only set while
+	 * a partial message is buffered. It is only touched by the selector thread.
+	 */
+	private ByteBuffer readBuffer;
+
+	/**
+	 * A message that does not fit in a pooled buffer is read directly into
+	 * this buffer.
+	 */
+	private ByteBuffer largeMessage;
+
+	private final ConcurrentLinkedQueue<ClientMessage> inbound = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger(0);
+	private volatile boolean readPaused = false;
+
 	/**
-	 * Constructor for ClientHandler. 
-	 * @param clientSocket The Socket object of the client
-	 * @param protocol The Protocol object that is used to handle client requests
+	 * Replies that could not be written right away. Guarded by itself.
+	 */
+	private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+	private boolean writeRequested = false;
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	/**
+	 * Constructor for ClientHandler.
+	 * @param clientChannel The non-blocking channel of the client
+	 * @param listener The listener that accepted the client
 	 * @param logger The logger
 	 */
-	public ClientHandler(Socket clientSocket, DKVFServer protocol, Logger logger) {
+	public ClientHandler(SocketChannel clientChannel, ClientListener listener, Logger logger) {
 		this.LOGGER = logger;
-		this.clientSocket = clientSocket;
-		this.protocol = protocol;
+		this.clientChannel = clientChannel;
+		this.listener = listener;
+		this.protocol = listener.protocol;
 	}
 
 	/**
-	 * Handles client message. It calls the protocol
-	 * {@link edu.msu.cse.dkvf.DKVFServer#handleClientMessage} upon
-	 * receiving a client message.
+	 * Reads the available bytes, and hands every complete client message to
+	 * the workers. Called by the selector thread.
+	 * @throws IOException
 	 */
-	public void run() {
-		try {
-			CodedInputStream in = CodedInputStream.newInstance(clientSocket.getInputStream());
-			CodedOutputStream out = CodedOutputStream.newInstance(clientSocket.getOutputStream());
-			while (true) {
-				int size = in.readInt32();
-				byte[] newMessageBytes = in.readRawBytes(size);
-				ClientMessage cm = ClientMessage.parseFrom(newMessageBytes);
-				if (cm == null) {
-					LOGGER.info("Null message from client");
-					protocol.decrementNumberOfClients();
+	void read() throws IOException {
+		if (largeMessage != null) {
+			if (clientChannel.read(largeMessage) < 0) {
+				close();
+				return;
+			}
+			if (!largeMessage.hasRemaining()) {
+				largeMessage.flip();
+				dispatch(ClientMessage.parseFrom(largeMessage));
+				largeMessage = null;
+			}
+			return;
+		}
+
+		if (readBuffer == null)
+			readBuffer = listener.bufferPool.acquire();
+		int n = clientChannel.read(readBuffer);
+		readBuffer.flip();
+		decode();
+		if (readBuffer.hasRemaining() && n >= 0) {
+			readBuffer.compact();
+		} else {
+			listener.bufferPool.release(readBuffer);
+			readBuffer = null;
+		}
+		if (n < 0)
+			close();
+	}
+
+	/**
+	 * Decodes the complete messages of the read buffer. Each message is
+	 * prefixed by its size as a varint, as written by
+	 * {@link CodedOutputStream#writeInt32NoTag(int)}.
+	 * @throws IOException
+	 */
+	private void decode() throws IOException {
+		while (readBuffer.hasRemaining()) {
+			int start = readBuffer.position();
+			int size = readSize(readBuffer);
+			if (size < 0) {
+				readBuffer.position(start);
+				return;
+			}
+			if (size > readBuffer.remaining()) {
+				if (size + (readBuffer.position() - start) <= readBuffer.capacity()) {
+					// wait for the rest of the message
+					readBuffer.position(start);
 					return;
 				}
-				LOGGER.finer(MessageFormat.format("New clinet message arrived:\n{0}", cm.toString()));
-				ClientMessageAgent cma = new ClientMessageAgent(cm, out, LOGGER);
+				largeMessage = ByteBuffer.allocate(size);
+				largeMessage.put(readBuffer);
+				return;
+			}
+			ByteBuffer message = readBuffer.slice();
+			message.limit(size);
+			readBuffer.position(readBuffer.position() + size);
+			dispatch(ClientMessage.parseFrom(message));
+		}
+	}
+
+	/**
+	 * Reads a varint size prefix.
+	 * @return The size, or -1 if the prefix is not complete yet.
+	 * @throws IOException
+	 */
+	private static int readSize(ByteBuffer buffer) throws IOException {
+		int result = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			if (!buffer.hasRemaining())
+				return -1;
+			byte b = buffer.get();
+			result |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return result;
+		}
+		throw new IOException("Malformed size prefix of client message");
+	}
+
+	/**
+	 * Queues the message, and schedules this client on the workers if no
+	 * worker is serving it.
+	 */
+	private void dispatch(ClientMessage cm) {
+		if (LOGGER.isLoggable(Level.FINER))
+			LOGGER.finer(MessageFormat.format("New clinet message arrived:\n{0}", cm.toString()));
+		inbound.add(cm);
+		int queued = pending.incrementAndGet();
+		if (queued == 1)
+			listener.workers.execute(this::handleMessages);
+		else if (queued >= MAX_PENDING_MESSAGES && !readPaused) {
+			readPaused = true;
+			key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+			// A worker that drained the messages before readPaused was set did not
+			// see it and will not resume reading, but then pending is seen drained here.
+			resumeRead();
+		}
+	}
+
+	/**
+	 * Runs the protocol on the queued messages. Messages of the same client are
+	 * never handled concurrently, so replies go out in the order of the
+	 * messages. A message the protocol did not reply to, because it failed or
+	 * did not handle it, gets a failure reply, so a client waiting for the
+	 * reply is not left waiting.
+	 */
+	private void handleMessages() {
+		do {
+			ClientMessage cm = inbound.poll();
+			ClientMessageAgent cma = new ClientMessageAgent(cm, this, LOGGER);
+			try {
 				protocol.handleClientMessage(cma);
+			} catch (Exception e) {
+				LOGGER.severe(Utils.exceptionLogMessge("Error in handling client message. toString: {0} Message:\n{1}", e));
 			}
-		} catch (Exception e) {
-			LOGGER.severe(Utils.exceptionLogMessge("Error in reading client message. toString: {0} Message:\n{1}", e));
-			protocol.decrementNumberOfClients();
+			if (!cma.hasReplied()) {
+				LOGGER.warning(MessageFormat.format("No reply to client message, sending a failure reply:\n{0}", cm.toString()));
+				cma.sendReply(ClientReply.newBuilder().setStatus(false).build());
+			}
+		} while (pending.decrementAndGet() > 0);
+		if (readPaused)
+			listener.runOnSelector(this::resumeRead);
+	}
+
+	/**
+	 * Starts reading again if the client was paused because of too many
+	 * pending messages. Called by the selector thread.
+	 */
+	private void resumeRead() {
+		if (readPaused && key.isValid() && pending.get() < MAX_PENDING_MESSAGES) {
+			readPaused = false;
+			key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+		}
+	}
+
+	/**
+	 * Sends a reply to the client. The reply is written right away if nothing
+	 * is queued for the client, otherwise it is queued and flushed by the
+	 * selector thread with the other queued replies in one gathering write.
+	 * @param cr The reply to send
+	 * @throws IOException
+	 */
+	void sendReply(ClientReply cr) throws IOException {
+		int size = cr.getSerializedSize();
+		byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+		CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+		out.writeInt32NoTag(size);
+		cr.writeTo(out);
+		ByteBuffer reply = ByteBuffer.wrap(bytes);
+		synchronized (outbound) {
+			if (outbound.isEmpty()) {
+				try {
+					clientChannel.write(reply);
+				} catch (IOException e) {
+					close();
+					throw e;
+				}
+				if (!reply.hasRemaining())
+					return;
+			}
+			outbound.add(reply);
+			if (!writeRequested) {
+				writeRequested = true;
+				listener.runOnSelector(this::enableWrite);
+			}
+		}
+	}
+
+	private void enableWrite() {
+		if (key.isValid())
+			key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+	}
+
+	/**
+	 * Writes the queued replies. Called by the selector thread when the
+	 * client can take more bytes.
+	 * @throws IOException
+	 */
+	void flush() throws IOException {
+		synchronized (outbound) {
+			clientChannel.write(outbound.toArray(new ByteBuffer[outbound.size()]));
+			while (!outbound.isEmpty() && !outbound.peekFirst().hasRemaining())
+				outbound.pollFirst();
+			if (outbound.isEmpty()) {
+				writeRequested = false;
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+			}
+		}
+	}
+
+	/**
+	 * Closes the connection to the client.
+	 */
+	void close() {
+		if (!closed.compareAndSet(false, true))
+			return;
+		try {
+			if (key != null)
+				key.cancel();
+			clientChannel.close();
+		} catch (IOException e) {
+			LOGGER.warning(Utils.exceptionLogMessge("Problem in closing client channel. toString: {0} Message:\n{1}", e));
 		}
+		protocol.decrementNumberOfClients();
 	}
 }
@@ -1,30 +1,74 @@
 package edu.msu.cse.dkvf;
 
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
- * The listener for incoming clients
+ * The listener for incoming clients. A single selector thread accepts the
+ * clients, reads and decodes their messages, and flushes the replies that
+ * could not be written right away. Client messages are handled by a bounded
+ * pool of worker threads, so the number of server threads does not grow with
+ * the number of clients.
  *
  */
 public class ClientListener implements Runnable {
+	/**
+	 * Default number of threads that run the client handler of the protocol.
+	 */
+	public static final int DEFAULT_WORKER_THREADS = 64;
+
+	/**
+	 * Size of the pooled buffers used to read client messages.
+	 */
+	static final int READ_BUFFER_SIZE = 16 * 1024;
+
+	/**
+	 * Maximum number of idle read buffers kept by the pool.
+	 */
+	static final int MAX_POOLED_BUFFERS = 1024;
+
 	/**
 	 * The port to listen for clients
 	 */
 	int port;
-	
+
 	/**
 	 * The protocol to run its client handler upon receiving a client message
 	 */
 	DKVFServer protocol;
-	
+
 	/**
 	 * The logger to use by client listener
 	 */
 	Logger LOGGER;
 
+	/**
+	 * Number of threads that run the client handler of the protocol
+	 */
+	int workerThreads;
+
+	Selector selector;
+	ExecutorService workers;
+	BufferPool bufferPool = new BufferPool(READ_BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+	/**
+	 * Changes to the interest sets requested by the worker threads. They are
+	 * applied by the selector thread.
+	 */
+	ConcurrentLinkedQueue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+
 	/**
 	 * Constructor for ClientListener
 	 * @param port The port to listen for incoming clients
@@ -32,27 +76,45 @@ public class ClientListener implements Runnable {
 	 * @param logger The logger
 	 */
 	public ClientListener(int port, DKVFServer protocol, Logger logger) {
+		this(port, protocol, DEFAULT_WORKER_THREADS, logger);
+	}
+
+	/**
+	 * Constructor for ClientListener
+	 * @param port The port to listen for incoming clients
+	 * @param protocol The Protocol object that is used to handle client requests
+	 * @param workerThreads The number of threads that handle client messages
+	 * @param logger The logger
+	 */
+	public ClientListener(int port, DKVFServer protocol, int workerThreads, Logger logger) {
 		this.LOGGER = logger;
 		this.port = port;
 		this.protocol = protocol;
+		this.workerThreads = workerThreads;
 	}
 
 	@Override
 	/**
-	 * Listens for clients, and creates one thread for each client. 
+	 * Listens for clients, and serves all of them with one selector thread.
 	 */
 	public void run() {
-		LOGGER.info("Start listening for clients at port: " + port);
-		ServerSocket serverSocket = null;
+		LOGGER.info(MessageFormat.format("Start listening for clients at port: {0} with {1} worker threads", port, workerThreads));
+		ServerSocketChannel serverChannel = null;
 		try {
-			serverSocket = new ServerSocket(port);
+			selector = Selector.open();
+			serverChannel = ServerSocketChannel.open();
+			serverChannel.bind(new InetSocketAddress(port));
+			serverChannel.configureBlocking(false);
+			serverChannel.register(selector, SelectionKey.OP_ACCEPT);
 		} catch (Exception e) {
 			try {
 				LOGGER.severe(MessageFormat.format(
 						"Problem in creating server socket to accept clients at port= {0} toString: {1} Message:\n{2}",
 						port, e.toString(), " Message: " + e.getMessage()));
-				if (serverSocket != null)
-					serverSocket.close();
+				if (serverChannel != null)
+					serverChannel.close();
+				if (selector != null)
+					selector.close();
 			} catch (Exception e1) {
 				LOGGER.warning(MessageFormat.format(
 						"Problem in closing serverSocket to accept clients at port= {0} toString: {1} Message:\n{2}",
@@ -61,22 +123,84 @@ public class ClientListener implements Runnable {
 			}
 			return;
 		}
+		workers = Executors.newFixedThreadPool(workerThreads, new WorkerThreadFactory());
 
 		while (true) {
 			try {
-				Socket clientSocket = serverSocket.accept();
-				LOGGER.finer("New client arrived.");
-				protocol.incrementNumberOfClients();
-				ClientHandler ch = new ClientHandler(clientSocket, protocol, LOGGER);
-				Thread t = new Thread(ch);
-				t.start();
+				selector.select();
+				Runnable task;
+				while ((task = selectorTasks.poll()) != null)
+					task.run();
+
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (!key.isValid())
+						continue;
+					if (key.isAcceptable())
+						accept(serverChannel);
+					else
+						handleKey(key);
+				}
 			} catch (Exception e) {
 				LOGGER.severe(MessageFormat.format(
-						"Problem in accepting new client socket at port= {0} toString: {1} Message:\n{2}", port,
+						"Problem in serving clients at port= {0} toString: {1} Message:\n{2}", port,
 						e.toString(), " Message: " + e.getMessage()));
 			}
 
 		}
 	}
 
+	/**
+	 * Accepts a new client, and registers it for reading.
+	 */
+	private void accept(ServerSocketChannel serverChannel) throws IOException {
+		SocketChannel clientChannel = serverChannel.accept();
+		if (clientChannel == null)
+			return;
+		clientChannel.configureBlocking(false);
+		clientChannel.socket().setTcpNoDelay(true);
+		LOGGER.finer("New client arrived.");
+		protocol.incrementNumberOfClients();
+		ClientHandler ch = new ClientHandler(clientChannel, this, LOGGER);
+		ch.key = clientChannel.register(selector, SelectionKey.OP_READ, ch);
+	}
+
+	/**
+	 * Reads from or writes to the client of the selected key.
+	 */
+	private void handleKey(SelectionKey key) {
+		ClientHandler ch = (ClientHandler) key.attachment();
+		try {
+			if (key.isReadable())
+				ch.read();
+			if (key.isValid() && key.isWritable())
+				ch.flush();
+		} catch (Exception e) {
+			LOGGER.severe(Utils.exceptionLogMessge("Error in reading client message. toString: {0} Message:\n{1}", e));
+			ch.close();
+		}
+	}
+
+	/**
+	 * Runs the given task on the selector thread.
+	 * @param task The task to run
+	 */
+	void runOnSelector(Runnable task) {
+		selectorTasks.add(task);
+		selector.wakeup();
+	}
+
+	/**
+	 * Names the worker threads after the client port.
+	 */
+	private class WorkerThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		public Thread newThread(Runnable r) {
+			return new Thread(r, "client-worker-" + port + "-" + counter.incrementAndGet());
+		}
+	}
+
 }
@@ -1,6 +1,7 @@
 package edu.msu.cse.dkvf;
 
 import java.text.MessageFormat;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.protobuf.CodedOutputStream;
@@ -18,6 +19,8 @@ public class ClientMessageAgent {
 	ClientMessage cm;
 	Logger LOGGER;
 	CodedOutputStream out;
+	ClientHandler handler;
+	private boolean replied = false;
 	
 	/**
 	 * Constructor for ClientMEssageAgent
@@ -32,6 +35,26 @@ public class ClientMessageAgent {
 
 	}
 
+	/**
+	 * Constructor for ClientMessageAgent of a client served by {@link ClientListener}
+	 * @param cm The client message
+	 * @param handler The handler of the client to send the reply to
+	 * @param logger The logger
+	 */
+	ClientMessageAgent(ClientMessage cm, ClientHandler handler, Logger logger) {
+		this.cm = cm;
+		this.LOGGER = logger;
+		this.handler = handler;
+	}
+
+	/**
+	 * Has a reply been sent to the client message.
+	 * @return <b>true</b> if {@link #sendReply(ClientReply)} was called
+	 */
+	boolean hasReplied() {
+		return replied;
+	}
+
 	/**
 	 * Gets the received client message. 
 	 * @return
@@ -42,18 +65,26 @@ public class ClientMessageAgent {
 	}
 
 	/**
-	 * Sends response to the client message.
+	 * Sends response to the client message. The reply gets the request_id of
+	 * the client message.
 	 * @param cr
 	 * 			The client reply to send to client. 
 	 */
 	public void sendReply(ClientReply cr) {
+		replied = true;
+		if (cm.getRequestId() != 0)
+			cr = cr.toBuilder().setRequestId(cm.getRequestId()).build();
 		try {
-			
-			out.writeInt32NoTag(cr.getSerializedSize());
-			cr.writeTo(out);
-			out.flush();
+			if (handler != null) {
+				handler.sendReply(cr);
+			} else {
+				out.writeInt32NoTag(cr.getSerializedSize());
+				cr.writeTo(out);
+				out.flush();
+			}
 			//cr.writeDelimitedTo(out);
-			LOGGER.finer(MessageFormat.format("Sent to client: \n Client message={0}\n Response= {1}", cm.toString(), cr.toString()));
+			if (LOGGER.isLoggable(Level.FINER))
+				LOGGER.finer(MessageFormat.format("Sent to client: \n Client message={0}\n Response= {1}", cm.toString(), cr.toString()));
 		} catch (Exception e) {
 			LOGGER.severe(MessageFormat.format("Problem in sending clienr response. toString={0}, Message={1}", e.toString(), e.getMessage()));
 
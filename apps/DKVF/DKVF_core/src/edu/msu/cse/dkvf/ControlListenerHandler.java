@@ -132,7 +132,7 @@ public class ControlListenerHandler  implements Runnable {
 	}
 
 	/**
-	 * Prepares the status report of this node
+	 * Prepares the status report of this node, including the statistics of its channels to the other servers
 	 * @return
 	 * 			The control reply contacting the status report
 	 */			
@@ -142,7 +142,8 @@ public class ControlListenerHandler  implements Runnable {
 		int numOfExpectedServers = protocol.getNumOfExpectedServers();
 		String id = protocol.getId();
 
-		StatusCheckReply scr = StatusCheckReply.newBuilder().setClients(numOfClients).setServers(numOfServers).setServersExpected(numOfExpectedServers).setId(id).build();
+		StatusCheckReply scr = StatusCheckReply.newBuilder().setClients(numOfClients).setServers(numOfServers).setServersExpected(numOfExpectedServers).setId(id)
+				.addAllChannels(protocol.getChannelStats()).build();
 
 		ControlReply cr = ControlReply.newBuilder().setStatusCheckReply(scr).build();
 		return cr;
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -214,6 +215,32 @@ public abstract class DKVFBase {
 		return storage.insert(key, value);
 	}
 
+	/**
+	 * Waits until the records inserted so far are durable. Protocols call it
+	 * before replying to a client that wrote a record. If the thread is
+	 * interrupted, it returns {@link StorageStatus#FAILURE} with the interrupt
+	 * status of the thread set.
+	 * 
+	 * @return The result of the operation.
+	 */
+	public StorageStatus waitForDurability() {
+		if (storage == null) {
+			frameworkLOGGER.severe("Trying to wait for durability while stable storage is not set.");
+			return StorageStatus.FAILURE;
+		}
+		try {
+			return storage.durable().get();
+		} catch (InterruptedException e) {
+			// the record may not be durable yet, so the write is reported as failed
+			Thread.currentThread().interrupt();
+			frameworkLOGGER.warning(Utils.exceptionLogMessge("Interrupted while waiting for durability", e));
+			return StorageStatus.FAILURE;
+		} catch (ExecutionException e) {
+			frameworkLOGGER.severe(Utils.exceptionLogMessge("Problem in waiting for durability", e));
+			return StorageStatus.FAILURE;
+		}
+	}
+
 	/**
 	 * Reads the value of the record with the given key that satisfies the given
 	 * predicate.
@@ -3,6 +3,11 @@ package edu.msu.cse.dkvf;
 
 
 import java.text.MessageFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 
 import edu.msu.cse.dkvf.ServerConnector.NetworkStatus;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
@@ -14,9 +19,22 @@ import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
  * The base class for the client side of the protocol. Any protocol needs to
  * extends this class for the client side.
  *
+ * A protocol can talk to a server either with the blocking
+ * {@link #sendToServer(String, ClientMessage)} and
+ * {@link #readFromServer(String)}, which allow one request at a time, or with
+ * {@link #sendToServerAsync(String, ClientMessage)}, which allows many requests
+ * in flight on the same connection. The two must not be mixed on the
+ * connection to the same server.
+ *
  */
 public abstract class DKVFClient extends DKVFBase {
 
+	/**
+	 * The pipelined connections to the servers, created on the first
+	 * asynchronous request to each server.
+	 */
+	private final ConcurrentHashMap<String, PipelinedConnection> pipelinedConnections = new ConcurrentHashMap<>();
+
 	/**
 	 * The abstract method for putting a value with the given key.
 	 * 
@@ -40,6 +58,36 @@ public abstract class DKVFClient extends DKVFBase {
 	 */
 	public abstract byte[] get(String key);
 
+	/**
+	 * Puts a value with the given key without waiting for the result. By
+	 * default, it runs {@link #put(String, byte[])}. A protocol that sends its
+	 * requests with {@link #sendToServerAsync(String, ClientMessage)} overrides
+	 * it.
+	 * 
+	 * @param key
+	 *            The key of data to put
+	 * @param value
+	 *            The value to put
+	 * @return The future result of the operation, as returned by
+	 *         {@link #put(String, byte[])}
+	 */
+	public CompletableFuture<Boolean> putAsync(String key, byte[] value) {
+		return CompletableFuture.completedFuture(put(key, value));
+	}
+
+	/**
+	 * Gets a value with the given key without waiting for the result. By
+	 * default, it runs {@link #get(String)}. A protocol that sends its requests
+	 * with {@link #sendToServerAsync(String, ClientMessage)} overrides it.
+	 * 
+	 * @param key
+	 *            The key of data to get
+	 * @return The future value, as returned by {@link #get(String)}
+	 */
+	public CompletableFuture<byte[]> getAsync(String key) {
+		return CompletableFuture.completedFuture(get(key));
+	}
+
 	public DKVFClient(ConfigReader cnfReader) {
 		super(cnfReader);
 	}
@@ -125,4 +173,60 @@ public abstract class DKVFClient extends DKVFBase {
 		}
 	}
 
+	/**
+	 * Sends a client message to the server with the given ID without waiting
+	 * for the reply. Many messages can be in flight on the connection to the
+	 * same server. Each message carries a request ID that the server copies
+	 * into its reply, and a reader thread completes each message with its
+	 * reply.
+	 * 
+	 * @param serverId
+	 *            The ID of the destination server.
+	 * @param cm
+	 *            The client message to send
+	 * @return The future reply. It is completed with <b>null</b> if the
+	 *         message could not be sent or the reply could not be read.
+	 */
+	public CompletableFuture<ClientReply> sendToServerAsync(String serverId, ClientMessage cm) {
+		PipelinedConnection connection = getPipelinedConnection(serverId);
+		if (connection == null) {
+			frameworkLOGGER.warning(MessageFormat.format("Not connected to server with Id= {0}", serverId));
+			return CompletableFuture.completedFuture(null);
+		}
+		return connection.send(cm);
+	}
+
+	private PipelinedConnection getPipelinedConnection(String serverId) {
+		PipelinedConnection connection = pipelinedConnections.get(serverId);
+		if (connection != null && !connection.isClosed())
+			return connection;
+		synchronized (pipelinedConnections) {
+			connection = pipelinedConnections.get(serverId);
+			if (connection != null && !connection.isClosed())
+				return connection;
+			CodedOutputStream out = serversOut.get(serverId);
+			CodedInputStream in = serversIn.get(serverId);
+			if (out == null || in == null)
+				return null;
+			if (connection != null && connection.out == out)
+				// The failed connection has not been replaced yet.
+				return connection;
+			connection = new PipelinedConnection(serverId, out, in, frameworkLOGGER);
+			pipelinedConnections.put(serverId, connection);
+			return connection;
+		}
+	}
+
+	/**
+	 * Gets the number of asynchronous requests waiting for their replies.
+	 * 
+	 * @return The number of requests in flight on all connections
+	 */
+	public int getInFlightRequests() {
+		int result = 0;
+		for (PipelinedConnection connection : pipelinedConnections.values())
+			result += connection.getInFlight();
+		return result;
+	}
+
 }
@@ -3,7 +3,9 @@ package edu.msu.cse.dkvf;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -12,6 +14,7 @@ import edu.msu.cse.dkvf.Storage.StorageStatus;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.config.ConfigReader.ServerInfo;
 import edu.msu.cse.dkvf.metadata.Metadata.*;
+import edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats;
 import edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlMessage;
 import edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ControlReply;
 
@@ -100,7 +103,8 @@ public abstract class DKVFServer extends DKVFBase {
 		try {
 			for (ServerInfo si : cnfReader.getServerInfos()) {
 				if (!channelManagers.containsKey(si.id)) {
-					ChannelManager cm = new ChannelManager(si.ip, si.port, new Integer(cnf.getConnectorSleepTime().trim()), new Integer(cnf.getChannelCapacity().trim()),frameworkLOGGER);
+					ChannelManager cm = new ChannelManager(si.ip, si.port, new Integer(cnf.getConnectorSleepTime().trim()), new Integer(cnf.getChannelCapacity().trim()),
+							new Integer(cnf.getChannelBatchSize().trim()), new Integer(cnf.getChannelLinger().trim()), frameworkLOGGER);
 					channelManagers.put(si.id, cm);
 				}
 			}
@@ -270,7 +274,7 @@ public abstract class DKVFServer extends DKVFBase {
 	 */
 	private NetworkStatus runClientListener() {
 		try {
-			ClientListener cl = new ClientListener(new Integer(cnf.getClientPort().trim()), this, frameworkLOGGER);
+			ClientListener cl = new ClientListener(new Integer(cnf.getClientPort().trim()), this, new Integer(cnf.getClientWorkerThreads().trim()), frameworkLOGGER);
 			Thread t = new Thread(cl);
 			t.start();
 			return NetworkStatus.SUCCESS;
@@ -356,6 +360,18 @@ public abstract class DKVFServer extends DKVFBase {
 		return numOfServers.intValue();
 	}
 
+	/**
+	 * Gets the statistics of the channels to the peer servers.
+	 * 
+	 * @return The statistics of every channel
+	 */
+	public List<ChannelStats> getChannelStats() {
+		List<ChannelStats> result = new ArrayList<>();
+		for (Map.Entry<String, ChannelManager> entry : channelManagers.entrySet())
+			result.add(entry.getValue().getStats(entry.getKey()));
+		return result;
+	}
+
 	/**
 	 * Gets the server ID.
 	 * 
@@ -0,0 +1,192 @@
+package edu.msu.cse.dkvf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import edu.msu.cse.dkvf.Storage.StorageStatus;
+
+/**
+ * Makes the inserts of a storage durable in groups. The storage counts every
+ * insert with {@link #inserted()}, and a committer thread runs the sync of the
+ * storage once a group of inserts is pending, or a given time after the first
+ * of them, whichever comes first. The committer blocks while no insert is
+ * pending.
+ *
+ */
+public class GroupCommitter {
+
+	private final String name;
+	private final Supplier<StorageStatus> sync;
+	private final int groupSize;
+	private final long intervalNanos;
+	private final Logger logger;
+
+	private final Object lock = new Object();
+	private final AtomicLong insertSeq = new AtomicLong(0);
+	private volatile long syncedSeq = 0;
+	// futures waiting for durability, by the number of inserts they wait for. Guarded by lock.
+	private final TreeMap<Long, List<CompletableFuture<StorageStatus>>> waiters = new TreeMap<>();
+	private volatile Thread thread;
+
+	private volatile long commits;
+	private volatile long committedInserts;
+
+	/**
+	 * Constructor for GroupCommitter.
+	 * @param name The name of the storage, used to name the committer thread
+	 * @param sync Makes the inserts made so far durable
+	 * @param groupSize The number of pending inserts that are synced without waiting
+	 * @param intervalMicros The maximum time in microseconds an insert waits for its group
+	 * @param logger The logger
+	 */
+	public GroupCommitter(String name, Supplier<StorageStatus> sync, int groupSize, long intervalMicros, Logger logger) {
+		this.name = name;
+		this.sync = sync;
+		this.groupSize = groupSize;
+		this.intervalNanos = TimeUnit.MICROSECONDS.toNanos(intervalMicros);
+		this.logger = logger;
+	}
+
+	/**
+	 * Starts the committer thread.
+	 */
+	public void start() {
+		Thread t = new Thread(this::run, "group-commit-" + name);
+		t.setDaemon(true);
+		thread = t;
+		t.start();
+	}
+
+	/**
+	 * Stops the committer, and commits the remaining inserts. The futures
+	 * that are still waiting then, because they were taken after the last
+	 * commit, are completed exceptionally.
+	 * @throws InterruptedException
+	 */
+	public void stop() throws InterruptedException {
+		Thread t = thread;
+		if (t == null)
+			return;
+		synchronized (lock) {
+			thread = null;
+			lock.notifyAll();
+		}
+		t.join();
+		commit();
+		List<CompletableFuture<StorageStatus>> left = new ArrayList<>();
+		synchronized (lock) {
+			for (List<CompletableFuture<StorageStatus>> l : waiters.values())
+				left.addAll(l);
+			waiters.clear();
+		}
+		for (CompletableFuture<StorageStatus> f : left)
+			f.completeExceptionally(new IllegalStateException("Storage " + name + " closed before the inserts were durable"));
+	}
+
+	/**
+	 * Counts an insert. Wakes up the committer for the first pending insert,
+	 * and when a group is full.
+	 */
+	public void inserted() {
+		long pending = insertSeq.incrementAndGet() - syncedSeq;
+		if (pending == 1 || pending >= groupSize) {
+			synchronized (lock) {
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Gets a future that completes when all the inserts counted so far are
+	 * durable.
+	 * @return The future of the result of making the inserts durable
+	 */
+	public CompletableFuture<StorageStatus> durable() {
+		long seq = insertSeq.get();
+		if (seq <= syncedSeq)
+			return CompletableFuture.completedFuture(StorageStatus.SUCCESS);
+		CompletableFuture<StorageStatus> f = new CompletableFuture<>();
+		synchronized (lock) {
+			if (seq <= syncedSeq)
+				return CompletableFuture.completedFuture(StorageStatus.SUCCESS);
+			if (thread == null) {
+				f.completeExceptionally(new IllegalStateException("Storage " + name + " is closed"));
+				return f;
+			}
+			waiters.computeIfAbsent(seq, k -> new ArrayList<>()).add(f);
+		}
+		return f;
+	}
+
+	/**
+	 * Waits for an insert, then syncs once the group is full or the interval
+	 * after that insert ends.
+	 */
+	private void run() {
+		try {
+			while (thread == Thread.currentThread()) {
+				synchronized (lock) {
+					while (thread == Thread.currentThread() && insertSeq.get() == syncedSeq)
+						lock.wait();
+					long deadline = System.nanoTime() + intervalNanos;
+					while (thread == Thread.currentThread() && insertSeq.get() - syncedSeq < groupSize) {
+						long remaining = deadline - System.nanoTime();
+						if (remaining <= 0)
+							break;
+						TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+					}
+				}
+				commit();
+			}
+		} catch (InterruptedException e) {
+			logger.warning("Group commit interrupted.");
+		}
+	}
+
+	/**
+	 * Syncs the inserts counted so far, and completes the futures waiting for
+	 * them.
+	 */
+	private void commit() {
+		long target = insertSeq.get();
+		if (target <= syncedSeq)
+			return;
+		StorageStatus status = sync.get();
+		List<CompletableFuture<StorageStatus>> done = new ArrayList<>();
+		synchronized (lock) {
+			if (status == StorageStatus.SUCCESS) {
+				committedInserts += target - syncedSeq;
+				commits++;
+				syncedSeq = target;
+			}
+			for (List<CompletableFuture<StorageStatus>> l : waiters.headMap(target, true).values())
+				done.addAll(l);
+			waiters.headMap(target, true).clear();
+		}
+		for (CompletableFuture<StorageStatus> f : done)
+			f.complete(status);
+	}
+
+	/**
+	 * Gets the number of group commits.
+	 * @return The number of commits
+	 */
+	public long getCommits() {
+		return commits;
+	}
+
+	/**
+	 * Gets the average number of inserts made durable by a group commit.
+	 * @return The average number of inserts
+	 */
+	public double getAverageCommitSize() {
+		long c = commits;
+		return c > 0 ? (double) committedInserts / c : 0;
+	}
+}
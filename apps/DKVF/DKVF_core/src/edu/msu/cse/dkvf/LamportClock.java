@@ -0,0 +1,60 @@
+package edu.msu.cse.dkvf;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Lamport logical clock that can be ticked and updated by many threads
+ * without locking. Each operation is a compare-and-set loop on the clock
+ * value, so every call returns a distinct timestamp, and the timestamps
+ * returned to a thread are increasing.
+ *
+ */
+public class LamportClock {
+
+	private final AtomicLong time;
+
+	/**
+	 * Constructor for LamportClock. The clock starts at zero.
+	 */
+	public LamportClock() {
+		this(0);
+	}
+
+	/**
+	 * Constructor for LamportClock.
+	 * @param initialTime The initial value of the clock
+	 */
+	public LamportClock(long initialTime) {
+		time = new AtomicLong(initialTime);
+	}
+
+	/**
+	 * Advances the clock for a local event, such as a write.
+	 * @return The timestamp of the event
+	 */
+	public long tick() {
+		return time.incrementAndGet();
+	}
+
+	/**
+	 * Advances the clock past a timestamp received from another process.
+	 * @param received The received timestamp
+	 * @return The timestamp of the receive event
+	 */
+	public long update(long received) {
+		while (true) {
+			long current = time.get();
+			long next = Math.max(current, received) + 1;
+			if (time.compareAndSet(current, next))
+				return next;
+		}
+	}
+
+	/**
+	 * Gets the current value of the clock.
+	 * @return The last timestamp
+	 */
+	public long get() {
+		return time.get();
+	}
+}
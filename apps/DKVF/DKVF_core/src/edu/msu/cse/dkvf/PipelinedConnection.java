@@ -0,0 +1,164 @@
+package edu.msu.cse.dkvf;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
+import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
+
+/**
+ * A connection to a server with many client messages in flight. Each message
+ * gets the next request ID of the connection in its request_id when it is
+ * written, and the server copies it into the request_id of the reply. A reader
+ * thread reads the replies and completes the request with the matching ID, so
+ * a request the server did not reply to never gets the reply of another one.
+ *
+ * If the connection fails, all requests in flight are completed with null, as
+ * {@link DKVFClient#readFromServer(String)} returns null on failure.
+ *
+ */
+class PipelinedConnection implements Runnable {
+
+	/**
+	 * Maximum number of requests in flight. Sending blocks while this many
+	 * requests wait for their replies.
+	 */
+	static final int MAX_IN_FLIGHT = 1024;
+
+	final String serverId;
+	final CodedOutputStream out;
+	final CodedInputStream in;
+	final Logger LOGGER;
+
+	private final Map<Long, CompletableFuture<ClientReply>> inFlight = new ConcurrentHashMap<>();
+	private final Semaphore permits = new Semaphore(MAX_IN_FLIGHT);
+
+	// Guarded by out. IDs start at 1, as 0 is the request_id of messages sent without pipelining.
+	private long nextRequestId = 1;
+	private boolean closed = false;
+
+	/**
+	 * Constructor for PipelinedConnection. It starts the reader thread.
+	 * @param serverId The ID of the server
+	 * @param out The output stream of the server
+	 * @param in The input stream of the server
+	 * @param logger The logger
+	 */
+	PipelinedConnection(String serverId, CodedOutputStream out, CodedInputStream in, Logger logger) {
+		this.serverId = serverId;
+		this.out = out;
+		this.in = in;
+		this.LOGGER = logger;
+		Thread reader = new Thread(this, "DKVF reply reader " + serverId);
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * Sends a client message to the server.
+	 * @param cm The client message to send
+	 * @return The future completed with the reply, or with null if the
+	 *         message could not be sent or the connection failed
+	 */
+	CompletableFuture<ClientReply> send(ClientMessage cm) {
+		CompletableFuture<ClientReply> result = new CompletableFuture<>();
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.complete(null);
+			return result;
+		}
+		try {
+			synchronized (out) {
+				if (closed) {
+					permits.release();
+					result.complete(null);
+					return result;
+				}
+				long requestId = nextRequestId++;
+				cm = cm.toBuilder().setRequestId(requestId).build();
+				inFlight.put(requestId, result);
+				out.writeInt32NoTag(cm.getSerializedSize());
+				cm.writeTo(out);
+				out.flush();
+				LOGGER.finer(MessageFormat.format("Sent request {0} to server with id= {1} \n{2}", requestId, serverId, cm.toString()));
+			}
+		} catch (Exception e) {
+			LOGGER.warning(Utils.exceptionLogMessge(MessageFormat.format("Problem in sending to server with Id= {0}", serverId), e));
+			close();
+		}
+		return result;
+	}
+
+	/**
+	 * Reads the replies and completes their requests until the connection
+	 * fails.
+	 */
+	public void run() {
+		try {
+			while (true) {
+				int size = in.readInt32();
+				byte[] bytes = in.readRawBytes(size);
+				// The size limit of the stream applies to the bytes read since the last reset.
+				in.resetSizeCounter();
+				ClientReply cr = ClientReply.parseFrom(bytes);
+				long requestId = cr.getRequestId();
+				CompletableFuture<ClientReply> request = inFlight.remove(requestId);
+				if (request == null) {
+					LOGGER.warning(MessageFormat.format("Received a reply from server with id= {0} for unknown request {1}", serverId, requestId));
+					continue;
+				}
+				permits.release();
+				request.complete(cr);
+			}
+		} catch (Exception e) {
+			LOGGER.warning(Utils.exceptionLogMessge(MessageFormat.format("Problem in reading response from server with Id= {0}", serverId), e));
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Stops sending on this connection, and completes the requests in flight
+	 * with null.
+	 */
+	void close() {
+		synchronized (out) {
+			closed = true;
+		}
+		// No request is added after closed is set.
+		for (Long requestId : inFlight.keySet()) {
+			CompletableFuture<ClientReply> request = inFlight.remove(requestId);
+			if (request != null) {
+				permits.release();
+				request.complete(null);
+			}
+		}
+	}
+
+	/**
+	 * Is the connection closed.
+	 * @return <b>true</b> if no more messages can be sent on the connection.
+	 */
+	boolean isClosed() {
+		synchronized (out) {
+			return closed;
+		}
+	}
+
+	/**
+	 * Gets the number of requests waiting for their replies.
+	 * @return The number of requests in flight
+	 */
+	int getInFlight() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,125 @@
+package edu.msu.cse.dkvf;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import edu.msu.cse.dkvf.metadata.Metadata.Record;
+
+/**
+ * A read predicate that tells the storage which common visibility check it
+ * is. A storage that keeps the versions in memory can run the check on its own
+ * copy of the timestamps instead of calling the predicate on every version.
+ * Any other storage just tests the records with the protocol's predicate.
+ *
+ */
+public class RecordPredicate implements Predicate<Record> {
+
+	/**
+	 * The visibility checks known by the storage.
+	 */
+	public enum Kind {
+		/**
+		 * The newest version.
+		 */
+		LATEST,
+		/**
+		 * The newest version that is local, or its update time is not higher
+		 * than the global stable time.
+		 */
+		UT_AT_MOST,
+		/**
+		 * The newest version that is local, or its dependency set is covered by
+		 * the data center stable vector.
+		 */
+		DS_COVERED
+	}
+
+	private static final RecordPredicate LATEST = new RecordPredicate(Kind.LATEST, -1, null, null, (Record r) -> {
+		return true;
+	});
+
+	final Kind kind;
+	final int localDcId;
+	final LongSupplier gst;
+	final List<Long> dsv;
+	final Predicate<Record> p;
+
+	private RecordPredicate(Kind kind, int localDcId, LongSupplier gst, List<Long> dsv, Predicate<Record> p) {
+		this.kind = kind;
+		this.localDcId = localDcId;
+		this.gst = gst;
+		this.dsv = dsv;
+		this.p = p;
+	}
+
+	/**
+	 * Gets the predicate that accepts the newest version.
+	 * @return The predicate
+	 */
+	public static RecordPredicate latest() {
+		return LATEST;
+	}
+
+	/**
+	 * Gets the predicate that accepts a version written in the local data
+	 * center, or with an update time not higher than the global stable time.
+	 * @param localDcId The ID of the local data center
+	 * @param gst Gets the current global stable time
+	 * @param p The same check on a record, used by storages without a fast path
+	 * @return The predicate
+	 */
+	public static RecordPredicate utAtMost(int localDcId, LongSupplier gst, Predicate<Record> p) {
+		return new RecordPredicate(Kind.UT_AT_MOST, localDcId, gst, null, p);
+	}
+
+	/**
+	 * Gets the predicate that accepts a version written in the local data
+	 * center, or with all its dependencies covered by the data center stable
+	 * vector.
+	 * @param localDcId The ID of the local data center
+	 * @param dsv The data center stable vector, indexed by data center ID
+	 * @param p The same check on a record, used by storages without a fast path
+	 * @return The predicate
+	 */
+	public static RecordPredicate dsCovered(int localDcId, List<Long> dsv, Predicate<Record> p) {
+		return new RecordPredicate(Kind.DS_COVERED, localDcId, null, dsv, p);
+	}
+
+	/**
+	 * Gets the visibility check of this predicate.
+	 * @return The kind of the check
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Gets the ID of the local data center.
+	 * @return The data center ID
+	 */
+	public int getLocalDcId() {
+		return localDcId;
+	}
+
+	/**
+	 * Gets the current global stable time. Only used by {@link Kind#UT_AT_MOST}.
+	 * @return The global stable time
+	 */
+	public long getGst() {
+		return gst.getAsLong();
+	}
+
+	/**
+	 * Gets the data center stable vector. Only used by {@link Kind#DS_COVERED}.
+	 * @return The data center stable vector
+	 */
+	public List<Long> getDsv() {
+		return dsv;
+	}
+
+	@Override
+	public boolean test(Record r) {
+		return p.test(r);
+	}
+}
@@ -0,0 +1,215 @@
+package edu.msu.cse.dkvf;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongUnaryOperator;
+import java.util.logging.Logger;
+
+/**
+ * Computes the stable time of the partitions of a data center over the tree
+ * of partitions. Each partition takes the entry-wise minimum of its version
+ * vector and the version vectors reported by its children. A partition other
+ * than the root sends it to its parent, and the root turns it into the stable
+ * time (GST, DSV, SVV) that is sent down the tree.
+ *
+ * The minimum is computed periodically, and also soon after the version
+ * vector or a child's version vector changes, but it is propagated only if it
+ * changed. All computations run on a single timer thread.
+ *
+ */
+public class Stabilizer {
+
+	/**
+	 * Default minimum time in milliseconds between two computations triggered
+	 * by changes.
+	 */
+	public static final long DEFAULT_MIN_PROPAGATION_INTERVAL = 1;
+
+	/**
+	 * Sends the result of a computation. It is implemented by the protocol,
+	 * which knows the messages.
+	 */
+	public interface Propagation {
+		/**
+		 * Called on a partition that is not the root.
+		 * @param minVv The minimum version vector of the subtree of this partition
+		 */
+		void sendToParent(long[] minVv);
+
+		/**
+		 * Called on the root.
+		 * @param minVv The minimum version vector of all partitions
+		 */
+		void stabilize(long[] minVv);
+	}
+
+	private final AtomicLongArray vv;
+	private final ConcurrentHashMap<Integer, long[]> childrenVvs = new ConcurrentHashMap<>();
+	private final boolean isRoot;
+	private final Propagation propagation;
+	private final LongUnaryOperator toPhysicalTime;
+	private final Logger logger;
+
+	private final ScheduledExecutorService timer;
+	private final AtomicBoolean triggered = new AtomicBoolean(false);
+	private volatile boolean started = false;
+	private long minPropagationInterval = DEFAULT_MIN_PROPAGATION_INTERVAL;
+
+	// Only touched by the timer thread
+	private long[] lastPropagated;
+	private volatile long lastComputationTime;
+
+	// staleness metrics
+	private volatile long staleness;
+	private long maxStaleness;
+	private long stalenessSum;
+	private long stalenessCount;
+
+	/**
+	 * Constructor for Stabilizer
+	 * @param size The number of entries of the version vector
+	 * @param childrenPIds The IDs of the children partitions
+	 * @param isRoot Whether this partition is the root of the tree
+	 * @param propagation Sends the computed minimum version vectors
+	 * @param toPhysicalTime Converts a timestamp to milliseconds since the epoch, to measure the staleness
+	 * @param logger The logger
+	 */
+	public Stabilizer(int size, List<Integer> childrenPIds, boolean isRoot, Propagation propagation, LongUnaryOperator toPhysicalTime, Logger logger) {
+		this.vv = new AtomicLongArray(size);
+		for (int cpId : childrenPIds)
+			childrenVvs.put(cpId, new long[size]);
+		this.isRoot = isRoot;
+		this.propagation = propagation;
+		this.toPhysicalTime = toPhysicalTime;
+		this.logger = logger;
+		this.timer = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	/**
+	 * Starts the periodic computation.
+	 * @param interval The time between two periodic computations in milliseconds
+	 * @param minPropagationInterval The minimum time between two computations triggered by changes in milliseconds
+	 */
+	public void start(long interval, long minPropagationInterval) {
+		this.minPropagationInterval = minPropagationInterval;
+		started = true;
+		timer.scheduleAtFixedRate(this::compute, 0, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Gets the version vector of this partition.
+	 * @return The version vector
+	 */
+	public AtomicLongArray getVv() {
+		return vv;
+	}
+
+	/**
+	 * Advances an entry of the version vector of this partition. The entry
+	 * never moves back, so threads that take timestamps concurrently can
+	 * update it in any order.
+	 * @param i The index of the entry
+	 * @param time The new time
+	 */
+	public void updateVv(int i, long time) {
+		vv.accumulateAndGet(i, time, Math::max);
+		trigger();
+	}
+
+	/**
+	 * Sets the version vector reported by a child.
+	 * @param childPId The ID of the child partition
+	 * @param childVv The version vector of the subtree of the child
+	 */
+	public void setChildVv(int childPId, List<Long> childVv) {
+		long[] v = new long[childVv.size()];
+		for (int i = 0; i < v.length; i++)
+			v[i] = childVv.get(i);
+		childrenVvs.put(childPId, v);
+		trigger();
+	}
+
+	/**
+	 * Schedules a computation, unless one is already scheduled.
+	 */
+	private void trigger() {
+		if (!started || !triggered.compareAndSet(false, true))
+			return;
+		long delay = lastComputationTime + minPropagationInterval - System.currentTimeMillis();
+		timer.schedule(this::compute, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Computes the minimum version vector, and propagates it if it changed.
+	 */
+	void compute() {
+		triggered.set(false);
+		lastComputationTime = System.currentTimeMillis();
+		long[] minVv = new long[vv.length()];
+		for (int i = 0; i < minVv.length; i++)
+			minVv[i] = vv.get(i);
+		for (long[] childVv : childrenVvs.values()) {
+			for (int i = 0; i < childVv.length && i < minVv.length; i++)
+				minVv[i] = Math.min(minVv[i], childVv[i]);
+		}
+		if (Arrays.equals(minVv, lastPropagated))
+			return;
+		lastPropagated = minVv;
+		try {
+			if (isRoot)
+				propagation.stabilize(minVv);
+			else
+				propagation.sendToParent(minVv);
+		} catch (Exception e) {
+			// the next computation propagates again
+			lastPropagated = null;
+			logger.severe(Utils.exceptionLogMessge("Problem in propagating the stable time", e));
+		}
+	}
+
+	/**
+	 * Records a new stable time to measure the staleness, that is, how far
+	 * behind the current time the stable time is. A stable time of zero means
+	 * no time is stable yet, and it is ignored.
+	 * @param stableTime The new stable time
+	 */
+	public synchronized void recordStable(long stableTime) {
+		if (stableTime <= 0)
+			return;
+		long s = System.currentTimeMillis() - toPhysicalTime.applyAsLong(stableTime);
+		staleness = s;
+		maxStaleness = Math.max(maxStaleness, s);
+		stalenessSum += s;
+		stalenessCount++;
+	}
+
+	/**
+	 * Gets the staleness measured for the last stable time.
+	 * @return The staleness in milliseconds
+	 */
+	public long getStaleness() {
+		return staleness;
+	}
+
+	/**
+	 * Gets the maximum measured staleness.
+	 * @return The staleness in milliseconds
+	 */
+	public synchronized long getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	/**
+	 * Gets the average measured staleness.
+	 * @return The staleness in milliseconds
+	 */
+	public synchronized double getAverageStaleness() {
+		return stalenessCount > 0 ? (double) stalenessSum / stalenessCount : 0;
+	}
+}
@@ -3,6 +3,7 @@ package edu.msu.cse.dkvf;
   
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -83,5 +84,27 @@ public abstract class Storage {
 	 */
 	public abstract StorageStatus clean();
 	
+	/**
+	 * Sets the predicate of the stable versions. Once a version satisfies it,
+	 * it keeps satisfying it, and reads never return the older versions of
+	 * the same key. Storage engines that keep multiple versions may remove
+	 * those older versions. By default it does nothing. 
+	 * @param p
+	 * 			The predicate of the stable versions. 
+	 */
+	public void setStablePredicate(Predicate<Record> p) {
+	}
+	
+	/**
+	 * Gets a future that completes when all the inserts made so far are 
+	 * durable. By default inserts are as durable as they will get once insert
+	 * returns, so the future is already completed. 
+	 * @return
+	 * 			The future of the result of making the inserts durable. 
+	 */
+	public CompletableFuture<StorageStatus> durable() {
+		return CompletableFuture.completedFuture(StorageStatus.SUCCESS);
+	}
+	
 
 }
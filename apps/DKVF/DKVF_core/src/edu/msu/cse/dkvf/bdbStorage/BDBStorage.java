@@ -2,12 +2,14 @@ package edu.msu.cse.dkvf.bdbStorage;
 
 import java.io.File;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.sleepycat.je.Cursor;
@@ -20,6 +22,7 @@ import com.sleepycat.je.EnvironmentConfig;
 import com.sleepycat.je.LockMode;
 import com.sleepycat.je.OperationStatus;
 
+import edu.msu.cse.dkvf.GroupCommitter;
 import edu.msu.cse.dkvf.Storage;
 import edu.msu.cse.dkvf.Utils;
 import edu.msu.cse.dkvf.metadata.Metadata.*;
@@ -41,11 +44,34 @@ public class BDBStorage extends Storage {
 
 	String comparatorClassName;
 
+	// version garbage collection
+	long gcInterval;
+	int gcMaxRemovalsPerSecond;
+	volatile Predicate<Record> stablePredicate;
+	volatile Thread gcThread;
+	final Object gcLock = new Object();
+
+	volatile long gcPasses;
+	volatile long gcScannedKeys;
+	volatile long gcRemovedVersions;
+	volatile long gcLastPassTime;
+
+	// group commit
+	boolean groupCommit;
+	int groupCommitSize;
+	long groupCommitInterval; // microseconds
+	volatile GroupCommitter committer;
+
 	final static String DB_NAME_DEFAULT = "MyDB";
 	final static String DB_DIRECTORY_DEFAULT = "DB";
 	final static String INSTANT_STABLE_DEFAULT = "false";
 	final static String MULTI_VERSION = "true";
 	final static String COMPARATOR_CLASS_NAME_DEFAULT = "edu.msu.cse.dkvf.comparator.RecordCompartor";
+	final static String GC_INTERVAL_DEFAULT = "0";
+	final static String GC_MAX_REMOVALS_PER_SECOND_DEFAULT = "10000";
+	final static String GROUP_COMMIT_DEFAULT = "false";
+	final static String GROUP_COMMIT_SIZE_DEFAULT = "128";
+	final static String GROUP_COMMIT_INTERVAL_DEFAULT = "1000";
 
 	/**
 	 * Initializes the storage engine. 
@@ -60,12 +86,18 @@ public class BDBStorage extends Storage {
 		this.instantStable = Boolean.parseBoolean(setProperty(INSTANT_STABLE_DEFAULT, storageConfig.get("instant_stable")));
 		this.multiVersion = Boolean.parseBoolean(setProperty(MULTI_VERSION, storageConfig.get("multi_version")));
 		this.comparatorClassName = setProperty(COMPARATOR_CLASS_NAME_DEFAULT, storageConfig.get("comparator_class_name"));
+		this.gcInterval = Long.parseLong(setProperty(GC_INTERVAL_DEFAULT, storageConfig.get("gc_interval")));
+		this.gcMaxRemovalsPerSecond = Integer.parseInt(setProperty(GC_MAX_REMOVALS_PER_SECOND_DEFAULT, storageConfig.get("gc_max_removals_per_second")));
+		this.groupCommit = Boolean.parseBoolean(setProperty(GROUP_COMMIT_DEFAULT, storageConfig.get("group_commit")));
+		this.groupCommitSize = Integer.parseInt(setProperty(GROUP_COMMIT_SIZE_DEFAULT, storageConfig.get("group_commit_size")));
+		this.groupCommitInterval = Long.parseLong(setProperty(GROUP_COMMIT_INTERVAL_DEFAULT, storageConfig.get("group_commit_interval")));
 		return StorageStatus.SUCCESS;
 	}
 
 
 	/**
-	 * Inserts the given value for the given key
+	 * Inserts the given value for the given key. With group commit, the
+	 * insert becomes durable with the next commit, see {@link #durable()}.
 	 * @param key The key
 	 * @param value The value
 	 * @return The result of the operation
@@ -80,7 +112,10 @@ public class BDBStorage extends Storage {
 				logger.severe("Problem in puting key= " + key + ". DB is not running properly.");
 				return StorageStatus.FAILURE;
 			}
-			if (instantStable)
+			GroupCommitter c = committer;
+			if (c != null)
+				c.inserted();
+			else if (instantStable)
 				db.sync();
 			return StorageStatus.SUCCESS;
 		} catch (Exception e) {
@@ -135,6 +170,9 @@ public class BDBStorage extends Storage {
 	 */
 	public StorageStatus close() {
 		try {
+			stopGc();
+			if (committer != null)
+				committer.stop();
 			if (db != null) {
 				db.close();
 			}
@@ -218,9 +256,7 @@ public class BDBStorage extends Storage {
 				Record record = Record.parseFrom(myData.getData());
 				if (p.test(record))
 					result.add(record);
-				else {
-					retVal = cursor.getNextDup(myKey, myData, LockMode.DEFAULT);
-				}
+				retVal = cursor.getNextDup(myKey, myData, LockMode.DEFAULT);
 			}
 			cursor.close();
 			if (result.size() > 0)
@@ -261,6 +297,12 @@ public class BDBStorage extends Storage {
 			}
 
 			db = env.openDatabase(null, name, dbConfig);
+			if (multiVersion && gcInterval > 0)
+				startGc();
+			if (groupCommit) {
+				committer = new GroupCommitter(name, this::makeStable, groupCommitSize, groupCommitInterval, logger);
+				committer.start();
+			}
 			return StorageStatus.SUCCESS;
 		} catch (Exception e) {
 			logger.severe(Utils.exceptionLogMessge("Problem in running db", e));
@@ -269,6 +311,215 @@ public class BDBStorage extends Storage {
 	}
 
 
+	/**
+	 * Sets the predicate of the stable versions. The version garbage collector
+	 * keeps, for every key, the versions up to the newest stable one, and
+	 * removes the older ones.
+	 * @param p The predicate of the stable versions
+	 */
+	@Override
+	public void setStablePredicate(Predicate<Record> p) {
+		this.stablePredicate = p;
+	}
+
+	private void startGc() {
+		Thread t = new Thread(this::runGc, "bdb-version-gc-" + name);
+		t.setDaemon(true);
+		gcThread = t;
+		t.start();
+	}
+
+	/**
+	 * Stops the garbage collector and waits for it. The thread is not
+	 * interrupted, as interrupting Berkeley-DB I/O invalidates the environment.
+	 */
+	private void stopGc() throws InterruptedException {
+		Thread t = gcThread;
+		if (t == null)
+			return;
+		synchronized (gcLock) {
+			gcThread = null;
+			gcLock.notifyAll();
+		}
+		t.join();
+	}
+
+	/**
+	 * Waits for the given time, unless the garbage collector is stopped.
+	 * @return false if the garbage collector is stopped
+	 */
+	private boolean gcWait(long millis) throws InterruptedException {
+		synchronized (gcLock) {
+			if (gcThread == Thread.currentThread() && millis > 0)
+				gcLock.wait(millis);
+			return gcThread == Thread.currentThread();
+		}
+	}
+
+	/**
+	 * Runs a garbage collection pass every gc_interval milliseconds, until the
+	 * storage is closed.
+	 */
+	private void runGc() {
+		try {
+			while (gcWait(gcInterval)) {
+				Predicate<Record> p = stablePredicate;
+				if (p == null)
+					continue;
+				try {
+					collectGarbage(p);
+				} catch (InterruptedException e) {
+					throw e;
+				} catch (Exception e) {
+					logger.severe(Utils.exceptionLogMessge("Problem in version garbage collection", e));
+				}
+			}
+		} catch (InterruptedException e) {
+			logger.warning("Version garbage collection interrupted.");
+		}
+	}
+
+	/**
+	 * Removes, for every key, the versions older than the newest stable
+	 * version. The cursor is closed after each key, so readers and writers of
+	 * other keys are not blocked, and the pass sleeps whenever it removed
+	 * gc_max_removals_per_second versions within a second.
+	 * @param p The predicate of the stable versions
+	 * @throws Exception
+	 */
+	void collectGarbage(Predicate<Record> p) throws Exception {
+		long start = System.currentTimeMillis();
+		long windowStart = start;
+		int windowRemovals = 0;
+		long keys = 0;
+		long removed = 0;
+		byte[] lastKey = null;
+		while (gcThread == Thread.currentThread()) {
+			int removedOfKey;
+			Cursor cursor = db.openCursor(null, null);
+			try {
+				DatabaseEntry myKey = new DatabaseEntry();
+				DatabaseEntry myData = new DatabaseEntry();
+				OperationStatus retVal;
+				if (lastKey == null) {
+					retVal = cursor.getFirst(myKey, myData, LockMode.DEFAULT);
+				} else {
+					myKey.setData(lastKey);
+					retVal = cursor.getSearchKeyRange(myKey, myData, LockMode.DEFAULT);
+					if (retVal == OperationStatus.SUCCESS && Arrays.equals(myKey.getData(), lastKey))
+						retVal = cursor.getNextNoDup(myKey, myData, LockMode.DEFAULT);
+				}
+				if (retVal != OperationStatus.SUCCESS)
+					break;
+				lastKey = myKey.getData();
+				removedOfKey = pruneKey(cursor, myKey, myData, p);
+			} finally {
+				cursor.close();
+			}
+			keys++;
+			removed += removedOfKey;
+			windowRemovals += removedOfKey;
+			if (gcMaxRemovalsPerSecond > 0 && windowRemovals >= gcMaxRemovalsPerSecond) {
+				if (!gcWait(windowStart + 1000 - System.currentTimeMillis()))
+					break;
+				windowStart = System.currentTimeMillis();
+				windowRemovals = 0;
+			}
+		}
+		gcPasses++;
+		gcScannedKeys += keys;
+		gcRemovedVersions += removed;
+		gcLastPassTime = System.currentTimeMillis() - start;
+		if (logger.isLoggable(Level.FINE))
+			logger.fine("Version garbage collection scanned " + keys + " keys and removed " + removed + " versions in " + gcLastPassTime + " ms");
+	}
+
+	/**
+	 * Removes the versions of the key of the cursor that are older than its
+	 * newest stable version. Versions are only parsed until the stable one is
+	 * found.
+	 * @return The number of removed versions
+	 */
+	private int pruneKey(Cursor cursor, DatabaseEntry myKey, DatabaseEntry myData, Predicate<Record> p) throws Exception {
+		boolean stableFound = false;
+		int removed = 0;
+		OperationStatus retVal = OperationStatus.SUCCESS;
+		while (retVal == OperationStatus.SUCCESS) {
+			if (stableFound) {
+				cursor.delete();
+				removed++;
+			} else if (p.test(Record.parseFrom(myData.getData()))) {
+				stableFound = true;
+			}
+			retVal = cursor.getNextDup(myKey, myData, LockMode.DEFAULT);
+		}
+		return removed;
+	}
+
+	/**
+	 * Gets a future that completes when all the inserts made so far are
+	 * durable. Without group commit, inserts are synced by insert itself if
+	 * instant_stable is set, so the future is already completed.
+	 * @return The future of the result of making the inserts durable
+	 */
+	@Override
+	public CompletableFuture<StorageStatus> durable() {
+		GroupCommitter c = committer;
+		if (c == null)
+			return CompletableFuture.completedFuture(StorageStatus.SUCCESS);
+		return c.durable();
+	}
+
+	/**
+	 * Gets the number of group commits.
+	 * @return The number of commits
+	 */
+	public long getCommits() {
+		GroupCommitter c = committer;
+		return c != null ? c.getCommits() : 0;
+	}
+
+	/**
+	 * Gets the average number of inserts made durable by a group commit.
+	 * @return The average number of inserts
+	 */
+	public double getAverageCommitSize() {
+		GroupCommitter c = committer;
+		return c != null ? c.getAverageCommitSize() : 0;
+	}
+
+	/**
+	 * Gets the number of completed version garbage collection passes.
+	 * @return The number of passes
+	 */
+	public long getGcPasses() {
+		return gcPasses;
+	}
+
+	/**
+	 * Gets the number of keys scanned by the version garbage collection.
+	 * @return The number of keys
+	 */
+	public long getGcScannedKeys() {
+		return gcScannedKeys;
+	}
+
+	/**
+	 * Gets the number of versions removed by the version garbage collection.
+	 * @return The number of versions
+	 */
+	public long getGcRemovedVersions() {
+		return gcRemovedVersions;
+	}
+
+	/**
+	 * Gets the duration of the last version garbage collection pass.
+	 * @return The duration in milliseconds
+	 */
+	public long getGcLastPassTime() {
+		return gcLastPassTime;
+	}
+
 	String setProperty(String defaultValue, String received) {
 		if (received != null)
 			return received;
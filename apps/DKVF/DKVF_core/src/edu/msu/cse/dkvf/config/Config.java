@@ -34,6 +34,9 @@ import javax.xml.bind.annotation.XmlType;
  *         &lt;element name="storage" type="{}Storage" minOccurs="0"/>
  *         &lt;element name="connector_sleep_time" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
  *         &lt;element name="channel_capacity" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
+ *         &lt;element name="channel_batch_size" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
+ *         &lt;element name="channel_linger" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
+ *         &lt;element name="client_worker_threads" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
  *         &lt;element name="synch_communication" type="{http://www.w3.org/2001/XMLSchema}boolean" minOccurs="0"/>
  *         &lt;element name="protocol_log_file" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
  *         &lt;element name="protocol_log_level" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/>
@@ -82,6 +85,12 @@ public class Config {
     protected String connectorSleepTime;
     @XmlElement(name = "channel_capacity")
     protected String channelCapacity;
+    @XmlElement(name = "channel_batch_size", defaultValue = "65536")
+    protected String channelBatchSize;
+    @XmlElement(name = "channel_linger", defaultValue = "0")
+    protected String channelLinger;
+    @XmlElement(name = "client_worker_threads", defaultValue = "64")
+    protected String clientWorkerThreads;
     @XmlElement(name = "synch_communication", defaultValue = "false")
     protected Boolean synchCommunication;
     @XmlElement(name = "protocol_log_file", defaultValue = "protocol_log.txt")
@@ -273,6 +282,78 @@ public class Config {
         this.channelCapacity = value;
     }
 
+    /**
+     * Gets the value of the channelBatchSize property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getChannelBatchSize() {
+        return channelBatchSize;
+    }
+
+    /**
+     * Sets the value of the channelBatchSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setChannelBatchSize(String value) {
+        this.channelBatchSize = value;
+    }
+
+    /**
+     * Gets the value of the channelLinger property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getChannelLinger() {
+        return channelLinger;
+    }
+
+    /**
+     * Sets the value of the channelLinger property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setChannelLinger(String value) {
+        this.channelLinger = value;
+    }
+
+    /**
+     * Gets the value of the clientWorkerThreads property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getClientWorkerThreads() {
+        return clientWorkerThreads;
+    }
+
+    /**
+     * Sets the value of the clientWorkerThreads property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setClientWorkerThreads(String value) {
+        this.clientWorkerThreads = value;
+    }
+
     /**
      * Gets the value of the synchCommunication property.
      * 
@@ -69,6 +69,9 @@ public class ConfigReader {
 	final static String DB_DIRECTORY_DEFAULT = "DB";
 	final static String CONNECTOR_SLEEP_TIME_DEFAULT = "10";
 	final static String CHANNEL_CAPACITY_DEFAULT = Integer.MAX_VALUE+"";
+	final static String CHANNEL_BATCH_SIZE_DEFAULT = "65536";
+	final static String CHANNEL_LINGER_DEFAULT = "0";
+	final static String CLIENT_WORKER_THREADS_DEFAULT = "64";
 	final static boolean SYNCH_COMMUNICATION_DEFAULT = false;
 	final static String PROTOCOL_LOG_FILE_DEFAULT = "logs/protocol_log";
 	final static String PROTOCOL_LOG_LEVEL_DEFAULT = "severe";
@@ -122,6 +125,12 @@ public class ConfigReader {
 			cnf.setConnectorSleepTime(CONNECTOR_SLEEP_TIME_DEFAULT);
 		if (cnf.getChannelCapacity() == null)
 			cnf.setChannelCapacity(CHANNEL_CAPACITY_DEFAULT);
+		if (cnf.getChannelBatchSize() == null)
+			cnf.setChannelBatchSize(CHANNEL_BATCH_SIZE_DEFAULT);
+		if (cnf.getChannelLinger() == null)
+			cnf.setChannelLinger(CHANNEL_LINGER_DEFAULT);
+		if (cnf.getClientWorkerThreads() == null)
+			cnf.setClientWorkerThreads(CLIENT_WORKER_THREADS_DEFAULT);
 		if (cnf.isSynchCommunication() == null)
 			cnf.setSynchCommunication(SYNCH_COMMUNICATION_DEFAULT);
 		if (cnf.getFrameworkLogFile() == null)
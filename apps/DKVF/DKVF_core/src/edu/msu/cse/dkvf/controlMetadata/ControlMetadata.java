@@ -426,6 +426,30 @@ public final class ControlMetadata {
      * <code>int32 clients = 5;</code>
      */
     int getClients();
+
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> 
+        getChannelsList();
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getChannels(int index);
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    int getChannelsCount();
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    java.util.List<? extends edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder> 
+        getChannelsOrBuilderList();
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder getChannelsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code Metadata.StatusCheckReply}
@@ -444,6 +468,7 @@ public final class ControlMetadata {
       servers_ = 0;
       serversExpected_ = 0;
       clients_ = 0;
+      channels_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -495,6 +520,15 @@ public final class ControlMetadata {
               clients_ = input.readInt32();
               break;
             }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                channels_ = new java.util.ArrayList<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              channels_.add(
+                  input.readMessage(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.parser(), extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -503,6 +537,9 @@ public final class ControlMetadata {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          channels_ = java.util.Collections.unmodifiableList(channels_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -519,6 +556,7 @@ public final class ControlMetadata {
               edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply.Builder.class);
     }
 
+    private int bitField0_;
     public static final int ID_FIELD_NUMBER = 1;
     private volatile java.lang.Object id_;
     /**
@@ -580,6 +618,41 @@ public final class ControlMetadata {
       return clients_;
     }
 
+    public static final int CHANNELS_FIELD_NUMBER = 6;
+    private java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> channels_;
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    public java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> getChannelsList() {
+      return channels_;
+    }
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    public java.util.List<? extends edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder> 
+        getChannelsOrBuilderList() {
+      return channels_;
+    }
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    public int getChannelsCount() {
+      return channels_.size();
+    }
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getChannels(int index) {
+      return channels_.get(index);
+    }
+    /**
+     * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+     */
+    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder getChannelsOrBuilder(
+        int index) {
+      return channels_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -604,6 +677,9 @@ public final class ControlMetadata {
       if (clients_ != 0) {
         output.writeInt32(5, clients_);
       }
+      for (int i = 0; i < channels_.size(); i++) {
+        output.writeMessage(6, channels_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -627,6 +703,10 @@ public final class ControlMetadata {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(5, clients_);
       }
+      for (int i = 0; i < channels_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, channels_.get(i));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -651,6 +731,8 @@ public final class ControlMetadata {
           == other.getServersExpected());
       result = result && (getClients()
           == other.getClients());
+      result = result && getChannelsList()
+          .equals(other.getChannelsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -670,6 +752,10 @@ public final class ControlMetadata {
       hash = (53 * hash) + getServersExpected();
       hash = (37 * hash) + CLIENTS_FIELD_NUMBER;
       hash = (53 * hash) + getClients();
+      if (getChannelsCount() > 0) {
+        hash = (37 * hash) + CHANNELS_FIELD_NUMBER;
+        hash = (53 * hash) + getChannelsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -795,6 +881,7 @@ public final class ControlMetadata {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getChannelsFieldBuilder();
         }
       }
       public Builder clear() {
@@ -807,6 +894,12 @@ public final class ControlMetadata {
 
         clients_ = 0;
 
+        if (channelsBuilder_ == null) {
+          channels_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          channelsBuilder_.clear();
+        }
         return this;
       }
 
@@ -829,10 +922,22 @@ public final class ControlMetadata {
 
       public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply buildPartial() {
         edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.StatusCheckReply(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         result.id_ = id_;
         result.servers_ = servers_;
         result.serversExpected_ = serversExpected_;
         result.clients_ = clients_;
+        if (channelsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            channels_ = java.util.Collections.unmodifiableList(channels_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.channels_ = channels_;
+        } else {
+          result.channels_ = channelsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -887,6 +992,32 @@ public final class ControlMetadata {
         if (other.getClients() != 0) {
           setClients(other.getClients());
         }
+        if (channelsBuilder_ == null) {
+          if (!other.channels_.isEmpty()) {
+            if (channels_.isEmpty()) {
+              channels_ = other.channels_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureChannelsIsMutable();
+              channels_.addAll(other.channels_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.channels_.isEmpty()) {
+            if (channelsBuilder_.isEmpty()) {
+              channelsBuilder_.dispose();
+              channelsBuilder_ = null;
+              channels_ = other.channels_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              channelsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChannelsFieldBuilder() : null;
+            } else {
+              channelsBuilder_.addAllMessages(other.channels_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -913,6 +1044,7 @@ public final class ControlMetadata {
         }
         return this;
       }
+      private int bitField0_;
 
       private java.lang.Object id_ = "";
       /**
@@ -1060,6 +1192,246 @@ public final class ControlMetadata {
         onChanged();
         return this;
       }
+
+      private java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> channels_ =
+        java.util.Collections.emptyList();
+      private void ensureChannelsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          channels_ = new java.util.ArrayList<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats>(channels_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder> channelsBuilder_;
+
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> getChannelsList() {
+        if (channelsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(channels_);
+        } else {
+          return channelsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public int getChannelsCount() {
+        if (channelsBuilder_ == null) {
+          return channels_.size();
+        } else {
+          return channelsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getChannels(int index) {
+        if (channelsBuilder_ == null) {
+          return channels_.get(index);
+        } else {
+          return channelsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder setChannels(
+          int index, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats value) {
+        if (channelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChannelsIsMutable();
+          channels_.set(index, value);
+          onChanged();
+        } else {
+          channelsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder setChannels(
+          int index, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder builderForValue) {
+        if (channelsBuilder_ == null) {
+          ensureChannelsIsMutable();
+          channels_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          channelsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder addChannels(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats value) {
+        if (channelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChannelsIsMutable();
+          channels_.add(value);
+          onChanged();
+        } else {
+          channelsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder addChannels(
+          int index, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats value) {
+        if (channelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChannelsIsMutable();
+          channels_.add(index, value);
+          onChanged();
+        } else {
+          channelsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder addChannels(
+          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder builderForValue) {
+        if (channelsBuilder_ == null) {
+          ensureChannelsIsMutable();
+          channels_.add(builderForValue.build());
+          onChanged();
+        } else {
+          channelsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder addChannels(
+          int index, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder builderForValue) {
+        if (channelsBuilder_ == null) {
+          ensureChannelsIsMutable();
+          channels_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          channelsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder addAllChannels(
+          java.lang.Iterable<? extends edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats> values) {
+        if (channelsBuilder_ == null) {
+          ensureChannelsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, channels_);
+          onChanged();
+        } else {
+          channelsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder clearChannels() {
+        if (channelsBuilder_ == null) {
+          channels_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          channelsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public Builder removeChannels(int index) {
+        if (channelsBuilder_ == null) {
+          ensureChannelsIsMutable();
+          channels_.remove(index);
+          onChanged();
+        } else {
+          channelsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder getChannelsBuilder(
+          int index) {
+        return getChannelsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder getChannelsOrBuilder(
+          int index) {
+        if (channelsBuilder_ == null) {
+          return channels_.get(index);  } else {
+          return channelsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public java.util.List<? extends edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder> 
+           getChannelsOrBuilderList() {
+        if (channelsBuilder_ != null) {
+          return channelsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(channels_);
+        }
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder addChannelsBuilder() {
+        return getChannelsFieldBuilder().addBuilder(
+            edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder addChannelsBuilder(
+          int index) {
+        return getChannelsFieldBuilder().addBuilder(
+            index, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Metadata.ChannelStats channels = 6;</code>
+       */
+      public java.util.List<edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder> 
+           getChannelsBuilderList() {
+        return getChannelsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder> 
+          getChannelsFieldBuilder() {
+        if (channelsBuilder_ == null) {
+          channelsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder>(
+                  channels_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          channels_ = null;
+        }
+        return channelsBuilder_;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -3720,94 +4092,948 @@ public final class ControlMetadata {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_StatusCheck_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_StatusCheck_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_StatusCheckReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_StatusCheckReply_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_TurnoffReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_TurnoffReply_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_Turnoff_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_Turnoff_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_ControlMessage_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_ControlMessage_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_Metadata_ControlReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_Metadata_ControlReply_fieldAccessorTable;
+  public interface ChannelStatsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Metadata.ChannelStats)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>string server_id = 1;</code>
+     */
+    java.lang.String getServerId();
+    /**
+     * <code>string server_id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getServerIdBytes();
+
+    /**
+     * <code>int32 queue_depth = 2;</code>
+     */
+    int getQueueDepth();
+
+    /**
+     * <code>int64 batches = 3;</code>
+     */
+    long getBatches();
+
+    /**
+     * <code>int64 messages = 4;</code>
+     */
+    long getMessages();
+
+    /**
+     * <code>double avg_batch_size = 5;</code>
+     */
+    double getAvgBatchSize();
+
+    /**
+     * <code>double bytes_per_second = 6;</code>
+     */
+    double getBytesPerSecond();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\rControl.proto\022\010Metadata\"\r\n\013StatusCheck" +
-      "\"Z\n\020StatusCheckReply\022\n\n\002id\030\001 \001(\t\022\017\n\007serv" +
-      "ers\030\003 \001(\005\022\030\n\020servers_expected\030\004 \001(\005\022\017\n\007c" +
-      "lients\030\005 \001(\005\"\032\n\014TurnoffReply\022\n\n\002ok\030\001 \001(\010" +
-      "\"\t\n\007Turnoff\"u\n\016ControlMessage\022-\n\014status_" +
-      "check\030\001 \001(\0132\025.Metadata.StatusCheckH\000\022$\n\007" +
-      "turnoff\030\002 \001(\0132\021.Metadata.TurnoffH\000B\016\n\014me" +
-      "ssage_type\"\211\001\n\014ControlReply\0228\n\022status_ch" +
-      "eck_reply\030\001 \001(\0132\032.Metadata.StatusCheckRe" +
-      "plyH\000\022/\n\rtrunoff_reply\030\002 \001(\0132\026.Metadata.",
-      "TurnoffReplyH\000B\016\n\014message_typeB4\n!edu.ms" +
-      "u.cse.gdkvp.controlMetadataB\017ControlMeta" +
-      "datab\006proto3"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
-    internal_static_Metadata_StatusCheck_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_Metadata_StatusCheck_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_StatusCheck_descriptor,
-        new java.lang.String[] { });
-    internal_static_Metadata_StatusCheckReply_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_Metadata_StatusCheckReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_StatusCheckReply_descriptor,
-        new java.lang.String[] { "Id", "Servers", "ServersExpected", "Clients", });
-    internal_static_Metadata_TurnoffReply_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_Metadata_TurnoffReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_TurnoffReply_descriptor,
-        new java.lang.String[] { "Ok", });
-    internal_static_Metadata_Turnoff_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_Metadata_Turnoff_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_Metadata_Turnoff_descriptor,
+  /**
+   * Protobuf type {@code Metadata.ChannelStats}
+   */
+  public  static final class ChannelStats extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Metadata.ChannelStats)
+      ChannelStatsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChannelStats.newBuilder() to construct.
+    private ChannelStats(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChannelStats() {
+      serverId_ = "";
+      queueDepth_ = 0;
+      batches_ = 0L;
+      messages_ = 0L;
+      avgBatchSize_ = 0D;
+      bytesPerSecond_ = 0D;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChannelStats(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              serverId_ = s;
+              break;
+            }
+            case 16: {
+
+              queueDepth_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              batches_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              messages_ = input.readInt64();
+              break;
+            }
+            case 41: {
+
+              avgBatchSize_ = input.readDouble();
+              break;
+            }
+            case 49: {
+
+              bytesPerSecond_ = input.readDouble();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ChannelStats_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ChannelStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder.class);
+    }
+
+    public static final int SERVER_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object serverId_;
+    /**
+     * <code>string server_id = 1;</code>
+     */
+    public java.lang.String getServerId() {
+      java.lang.Object ref = serverId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        serverId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string server_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getServerIdBytes() {
+      java.lang.Object ref = serverId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serverId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int QUEUE_DEPTH_FIELD_NUMBER = 2;
+    private int queueDepth_;
+    /**
+     * <code>int32 queue_depth = 2;</code>
+     */
+    public int getQueueDepth() {
+      return queueDepth_;
+    }
+
+    public static final int BATCHES_FIELD_NUMBER = 3;
+    private long batches_;
+    /**
+     * <code>int64 batches = 3;</code>
+     */
+    public long getBatches() {
+      return batches_;
+    }
+
+    public static final int MESSAGES_FIELD_NUMBER = 4;
+    private long messages_;
+    /**
+     * <code>int64 messages = 4;</code>
+     */
+    public long getMessages() {
+      return messages_;
+    }
+
+    public static final int AVG_BATCH_SIZE_FIELD_NUMBER = 5;
+    private double avgBatchSize_;
+    /**
+     * <code>double avg_batch_size = 5;</code>
+     */
+    public double getAvgBatchSize() {
+      return avgBatchSize_;
+    }
+
+    public static final int BYTES_PER_SECOND_FIELD_NUMBER = 6;
+    private double bytesPerSecond_;
+    /**
+     * <code>double bytes_per_second = 6;</code>
+     */
+    public double getBytesPerSecond() {
+      return bytesPerSecond_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getServerIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, serverId_);
+      }
+      if (queueDepth_ != 0) {
+        output.writeInt32(2, queueDepth_);
+      }
+      if (batches_ != 0L) {
+        output.writeInt64(3, batches_);
+      }
+      if (messages_ != 0L) {
+        output.writeInt64(4, messages_);
+      }
+      if (avgBatchSize_ != 0D) {
+        output.writeDouble(5, avgBatchSize_);
+      }
+      if (bytesPerSecond_ != 0D) {
+        output.writeDouble(6, bytesPerSecond_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getServerIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, serverId_);
+      }
+      if (queueDepth_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, queueDepth_);
+      }
+      if (batches_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, batches_);
+      }
+      if (messages_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, messages_);
+      }
+      if (avgBatchSize_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, avgBatchSize_);
+      }
+      if (bytesPerSecond_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, bytesPerSecond_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats)) {
+        return super.equals(obj);
+      }
+      edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats other = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats) obj;
+
+      boolean result = true;
+      result = result && getServerId()
+          .equals(other.getServerId());
+      result = result && (getQueueDepth()
+          == other.getQueueDepth());
+      result = result && (getBatches()
+          == other.getBatches());
+      result = result && (getMessages()
+          == other.getMessages());
+      result = result && (
+          java.lang.Double.doubleToLongBits(getAvgBatchSize())
+          == java.lang.Double.doubleToLongBits(
+              other.getAvgBatchSize()));
+      result = result && (
+          java.lang.Double.doubleToLongBits(getBytesPerSecond())
+          == java.lang.Double.doubleToLongBits(
+              other.getBytesPerSecond()));
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SERVER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getServerId().hashCode();
+      hash = (37 * hash) + QUEUE_DEPTH_FIELD_NUMBER;
+      hash = (53 * hash) + getQueueDepth();
+      hash = (37 * hash) + BATCHES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBatches());
+      hash = (37 * hash) + MESSAGES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getMessages());
+      hash = (37 * hash) + AVG_BATCH_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAvgBatchSize()));
+      hash = (37 * hash) + BYTES_PER_SECOND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getBytesPerSecond()));
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Metadata.ChannelStats}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Metadata.ChannelStats)
+        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStatsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ChannelStats_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ChannelStats_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.class, edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.Builder.class);
+      }
+
+      // Construct using edu.msu.cse.gdkvp.controlMetadata.ControlMetadata.ChannelStats.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        serverId_ = "";
+
+        queueDepth_ = 0;
+
+        batches_ = 0L;
+
+        messages_ = 0L;
+
+        avgBatchSize_ = 0D;
+
+        bytesPerSecond_ = 0D;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.internal_static_Metadata_ChannelStats_descriptor;
+      }
+
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getDefaultInstanceForType() {
+        return edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.getDefaultInstance();
+      }
+
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats build() {
+        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats buildPartial() {
+        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats result = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats(this);
+        result.serverId_ = serverId_;
+        result.queueDepth_ = queueDepth_;
+        result.batches_ = batches_;
+        result.messages_ = messages_;
+        result.avgBatchSize_ = avgBatchSize_;
+        result.bytesPerSecond_ = bytesPerSecond_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats) {
+          return mergeFrom((edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats other) {
+        if (other == edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats.getDefaultInstance()) return this;
+        if (!other.getServerId().isEmpty()) {
+          serverId_ = other.serverId_;
+          onChanged();
+        }
+        if (other.getQueueDepth() != 0) {
+          setQueueDepth(other.getQueueDepth());
+        }
+        if (other.getBatches() != 0L) {
+          setBatches(other.getBatches());
+        }
+        if (other.getMessages() != 0L) {
+          setMessages(other.getMessages());
+        }
+        if (other.getAvgBatchSize() != 0D) {
+          setAvgBatchSize(other.getAvgBatchSize());
+        }
+        if (other.getBytesPerSecond() != 0D) {
+          setBytesPerSecond(other.getBytesPerSecond());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object serverId_ = "";
+      /**
+       * <code>string server_id = 1;</code>
+       */
+      public java.lang.String getServerId() {
+        java.lang.Object ref = serverId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          serverId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string server_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getServerIdBytes() {
+        java.lang.Object ref = serverId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serverId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string server_id = 1;</code>
+       */
+      public Builder setServerId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string server_id = 1;</code>
+       */
+      public Builder clearServerId() {
+        
+        serverId_ = getDefaultInstance().getServerId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string server_id = 1;</code>
+       */
+      public Builder setServerIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int queueDepth_ ;
+      /**
+       * <code>int32 queue_depth = 2;</code>
+       */
+      public int getQueueDepth() {
+        return queueDepth_;
+      }
+      /**
+       * <code>int32 queue_depth = 2;</code>
+       */
+      public Builder setQueueDepth(int value) {
+        
+        queueDepth_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 queue_depth = 2;</code>
+       */
+      public Builder clearQueueDepth() {
+        
+        queueDepth_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long batches_ ;
+      /**
+       * <code>int64 batches = 3;</code>
+       */
+      public long getBatches() {
+        return batches_;
+      }
+      /**
+       * <code>int64 batches = 3;</code>
+       */
+      public Builder setBatches(long value) {
+        
+        batches_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 batches = 3;</code>
+       */
+      public Builder clearBatches() {
+        
+        batches_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long messages_ ;
+      /**
+       * <code>int64 messages = 4;</code>
+       */
+      public long getMessages() {
+        return messages_;
+      }
+      /**
+       * <code>int64 messages = 4;</code>
+       */
+      public Builder setMessages(long value) {
+        
+        messages_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 messages = 4;</code>
+       */
+      public Builder clearMessages() {
+        
+        messages_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double avgBatchSize_ ;
+      /**
+       * <code>double avg_batch_size = 5;</code>
+       */
+      public double getAvgBatchSize() {
+        return avgBatchSize_;
+      }
+      /**
+       * <code>double avg_batch_size = 5;</code>
+       */
+      public Builder setAvgBatchSize(double value) {
+        
+        avgBatchSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double avg_batch_size = 5;</code>
+       */
+      public Builder clearAvgBatchSize() {
+        
+        avgBatchSize_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double bytesPerSecond_ ;
+      /**
+       * <code>double bytes_per_second = 6;</code>
+       */
+      public double getBytesPerSecond() {
+        return bytesPerSecond_;
+      }
+      /**
+       * <code>double bytes_per_second = 6;</code>
+       */
+      public Builder setBytesPerSecond(double value) {
+        
+        bytesPerSecond_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double bytes_per_second = 6;</code>
+       */
+      public Builder clearBytesPerSecond() {
+        
+        bytesPerSecond_ = 0D;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Metadata.ChannelStats)
+    }
+
+    // @@protoc_insertion_point(class_scope:Metadata.ChannelStats)
+    private static final edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats();
+    }
+
+    public static edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChannelStats>
+        PARSER = new com.google.protobuf.AbstractParser<ChannelStats>() {
+      public ChannelStats parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ChannelStats(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChannelStats> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChannelStats> getParserForType() {
+      return PARSER;
+    }
+
+    public edu.msu.cse.dkvf.controlMetadata.ControlMetadata.ChannelStats getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_StatusCheck_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_StatusCheck_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_StatusCheckReply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_StatusCheckReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_TurnoffReply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_TurnoffReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_Turnoff_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_Turnoff_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_ControlMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_ControlMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_ControlReply_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_ControlReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Metadata_ChannelStats_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Metadata_ChannelStats_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\rControl.proto\022\010Metadata\"\r\n\013StatusCheck" +
+      "\"\204\001\n\020StatusCheckReply\022\n\n\002id\030\001 \001(\t\022\017\n\007ser" +
+      "vers\030\003 \001(\005\022\030\n\020servers_expected\030\004 \001(\005\022\017\n\007" +
+      "clients\030\005 \001(\005\022(\n\010channels\030\006 \003(\0132\026.Metada" +
+      "ta.ChannelStats\"\032\n\014TurnoffReply\022\n\n\002ok\030\001 " +
+      "\001(\010\"\t\n\007Turnoff\"u\n\016ControlMessage\022-\n\014stat" +
+      "us_check\030\001 \001(\0132\025.Metadata.StatusCheckH\000\022" +
+      "$\n\007turnoff\030\002 \001(\0132\021.Metadata.TurnoffH\000B\016\n" +
+      "\014message_type\"\211\001\n\014ControlReply\0228\n\022status" +
+      "_check_reply\030\001 \001(\0132\032.Metadata.StatusChec",
+      "kReplyH\000\022/\n\rtrunoff_reply\030\002 \001(\0132\026.Metada" +
+      "ta.TurnoffReplyH\000B\016\n\014message_type\"\213\001\n\014Ch" +
+      "annelStats\022\021\n\tserver_id\030\001 \001(\t\022\023\n\013queue_d" +
+      "epth\030\002 \001(\005\022\017\n\007batches\030\003 \001(\003\022\020\n\010messages\030" +
+      "\004 \001(\003\022\026\n\016avg_batch_size\030\005 \001(\001\022\030\n\020bytes_p" +
+      "er_second\030\006 \001(\001B4\n!edu.msu.cse.gdkvp.con" +
+      "trolMetadataB\017ControlMetadatab\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_Metadata_StatusCheck_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_Metadata_StatusCheck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Metadata_StatusCheck_descriptor,
+        new java.lang.String[] { });
+    internal_static_Metadata_StatusCheckReply_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Metadata_StatusCheckReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Metadata_StatusCheckReply_descriptor,
+        new java.lang.String[] { "Id", "Servers", "ServersExpected", "Clients", "Channels", });
+    internal_static_Metadata_TurnoffReply_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Metadata_TurnoffReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Metadata_TurnoffReply_descriptor,
+        new java.lang.String[] { "Ok", });
+    internal_static_Metadata_Turnoff_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Metadata_Turnoff_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Metadata_Turnoff_descriptor,
         new java.lang.String[] { });
     internal_static_Metadata_ControlMessage_descriptor =
       getDescriptor().getMessageTypes().get(4);
@@ -3821,6 +5047,12 @@ public final class ControlMetadata {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ControlReply_descriptor,
         new java.lang.String[] { "StatusCheckReply", "TrunoffReply", "MessageType", });
+    internal_static_Metadata_ChannelStats_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_Metadata_ChannelStats_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Metadata_ChannelStats_descriptor,
+        new java.lang.String[] { "ServerId", "QueueDepth", "Batches", "Messages", "AvgBatchSize", "BytesPerSecond", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
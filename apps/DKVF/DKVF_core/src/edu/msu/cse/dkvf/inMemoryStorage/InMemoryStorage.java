@@ -0,0 +1,331 @@
+package edu.msu.cse.dkvf.inMemoryStorage;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import edu.msu.cse.dkvf.GroupCommitter;
+import edu.msu.cse.dkvf.Storage;
+import edu.msu.cse.dkvf.Utils;
+import edu.msu.cse.dkvf.inMemoryStorage.VersionChain.Version;
+import edu.msu.cse.dkvf.metadata.Metadata.Record;
+
+/**
+ * Multi-version storage that keeps the records in memory. The versions of a
+ * key are kept newest first, and reads neither parse records nor lock. The
+ * visibility checks of {@link edu.msu.cse.dkvf.RecordPredicate} run on the
+ * timestamps copied out of the records when they were inserted.
+ *
+ * Once the protocol sets the predicate of the stable versions, an insert also
+ * drops the versions of its key older than the newest stable one. Without it,
+ * multi_version keeps every version.
+ *
+ * If a log file is given, every insert is appended to it, and the log is
+ * replayed when the storage runs. With group_commit, inserts are only
+ * buffered, and the log is flushed, and synced if instant_stable is set, for
+ * a group of inserts at a time, as {@link edu.msu.cse.dkvf.bdbStorage.BDBStorage}
+ * does. {@link #durable()} completes once the inserts are in the log.
+ *
+ */
+public class InMemoryStorage extends Storage {
+
+	Logger logger;
+	String logFile;
+	boolean instantStable;
+	boolean multiVersion;
+	boolean groupCommit;
+	int groupCommitSize;
+	long groupCommitInterval; // microseconds
+
+	ConcurrentHashMap<String, VersionChain> data = new ConcurrentHashMap<>();
+	volatile Predicate<Record> stablePredicate;
+	final AtomicLong droppedVersions = new AtomicLong(0);
+
+	FileOutputStream logStream;
+	CodedOutputStream log;
+	volatile GroupCommitter committer;
+
+	final static String LOG_FILE_DEFAULT = "";
+	final static String INSTANT_STABLE_DEFAULT = "false";
+	final static String MULTI_VERSION = "true";
+	final static String GROUP_COMMIT_DEFAULT = "false";
+	final static String GROUP_COMMIT_SIZE_DEFAULT = "128";
+	final static String GROUP_COMMIT_INTERVAL_DEFAULT = "1000";
+
+	/**
+	 * Initializes the storage engine.
+	 * @param storageConfig The configuration for the storage engine
+	 * @param logger The logger
+	 * @return The result of the operation
+	 */
+	public StorageStatus init(HashMap<String, String> storageConfig, Logger logger) {
+		this.logger = logger;
+		this.logFile = setProperty(LOG_FILE_DEFAULT, storageConfig.get("log_file")).trim();
+		this.instantStable = Boolean.parseBoolean(setProperty(INSTANT_STABLE_DEFAULT, storageConfig.get("instant_stable")));
+		this.multiVersion = Boolean.parseBoolean(setProperty(MULTI_VERSION, storageConfig.get("multi_version")));
+		this.groupCommit = Boolean.parseBoolean(setProperty(GROUP_COMMIT_DEFAULT, storageConfig.get("group_commit")));
+		this.groupCommitSize = Integer.parseInt(setProperty(GROUP_COMMIT_SIZE_DEFAULT, storageConfig.get("group_commit_size")));
+		this.groupCommitInterval = Long.parseLong(setProperty(GROUP_COMMIT_INTERVAL_DEFAULT, storageConfig.get("group_commit_interval")));
+		return StorageStatus.SUCCESS;
+	}
+
+	/**
+	 * Inserts the given value for the given key. With group commit, the
+	 * insert gets into the log with the next commit, see {@link #durable()}.
+	 * @param key The key
+	 * @param value The value
+	 * @return The result of the operation
+	 */
+	public StorageStatus insert(String key, Record value) {
+		if (log != null) {
+			try {
+				GroupCommitter c = committer;
+				synchronized (log) {
+					log.writeStringNoTag(key);
+					log.writeUInt32NoTag(value.getSerializedSize());
+					value.writeTo(log);
+					if (c == null) {
+						log.flush();
+						if (instantStable)
+							logStream.getFD().sync();
+					}
+				}
+				if (c != null)
+					c.inserted();
+			} catch (Exception e) {
+				logger.severe("Problem in logging key= " + key + " " + e.toString() + " Message: " + e.getMessage());
+				return StorageStatus.FAILURE;
+			}
+		}
+		add(key, value);
+		return StorageStatus.SUCCESS;
+	}
+
+	private void add(String key, Record value) {
+		int dropped = data.computeIfAbsent(key, k -> new VersionChain()).add(new Version(value), multiVersion, stablePredicate);
+		if (dropped > 0)
+			droppedVersions.addAndGet(dropped);
+	}
+
+	/**
+	 * Sets the predicate of the stable versions. Each insert then drops the
+	 * versions of its key older than the newest stable one.
+	 * @param p The predicate of the stable versions
+	 */
+	@Override
+	public void setStablePredicate(Predicate<Record> p) {
+		this.stablePredicate = p;
+	}
+
+	/**
+	 * Gets a future that completes when all the inserts made so far are in
+	 * the log. Without group commit, insert itself writes them, so the future
+	 * is already completed.
+	 * @return The future of the result of making the inserts durable
+	 */
+	@Override
+	public CompletableFuture<StorageStatus> durable() {
+		GroupCommitter c = committer;
+		if (c == null)
+			return CompletableFuture.completedFuture(StorageStatus.SUCCESS);
+		return c.durable();
+	}
+
+	/**
+	 * Flushes the buffered inserts to the log, and syncs the log if
+	 * instant_stable is set. The sync runs outside of the lock of the log, so
+	 * inserts go on while it waits for the disk.
+	 * @return The result of the operation
+	 */
+	private StorageStatus flushLog() {
+		try {
+			FileOutputStream stream;
+			synchronized (log) {
+				log.flush();
+				stream = logStream;
+			}
+			if (instantStable)
+				stream.getFD().sync();
+			return StorageStatus.SUCCESS;
+		} catch (Exception e) {
+			logger.severe("Problem in flushing the storage log " + logFile + " : " + e.toString());
+			return StorageStatus.FAILURE;
+		}
+	}
+
+	/**
+	 * Reads the first version of the data item with the given key that satisfies the given predicate.
+	 * @param key The key of the data item to read.
+	 * @param p The predicate that need to be satisfied by the version.
+	 * @param result The list of containing the version that satisfies the given predicate. Note that although it is a list, only the first element should be used.
+	 * @return The result of the operation
+	 */
+	public StorageStatus read(String key, Predicate<Record> p, List<Record> result) {
+		VersionChain chain = data.get(key);
+		if (chain == null)
+			return StorageStatus.FAILURE;
+		Version v = chain.find(p);
+		if (v == null)
+			return StorageStatus.FAILURE;
+		result.add(v.record);
+		return StorageStatus.SUCCESS;
+	}
+
+	/**
+	 * Reads the all versions of the data item with the given key that satisfy the given predicate.
+	 * @param key The key of the data item to read.
+	 * @param p The predicate that need to be satisfied by the versions.
+	 * @param result The list of all versions that satisfy the given predicate.
+	 * @return The result of the operation
+	 */
+	public StorageStatus readAll(String key, Predicate<Record> p, List<Record> result) {
+		VersionChain chain = data.get(key);
+		if (chain == null)
+			return StorageStatus.FAILURE;
+		for (Version v = chain.head(); v != null; v = v.next) {
+			if (p.test(v.record))
+				result.add(v.record);
+		}
+		if (result.size() > 0)
+			return StorageStatus.SUCCESS;
+		else
+			return StorageStatus.FAILURE;
+	}
+
+	/**
+	 * Runs the storage engine. If there is a log file, it is replayed first.
+	 * @return The result of the operation
+	 */
+	public StorageStatus run() {
+		if (logFile.isEmpty())
+			return StorageStatus.SUCCESS;
+		try {
+			File file = new File(logFile);
+			if (file.getParentFile() != null)
+				Utils.checkAndCreateDir(file.getParent());
+			if (file.exists())
+				replay(file);
+			logStream = new FileOutputStream(file, true);
+			log = CodedOutputStream.newInstance(logStream);
+			if (groupCommit) {
+				committer = new GroupCommitter(file.getName(), this::flushLog, groupCommitSize, groupCommitInterval, logger);
+				committer.start();
+			}
+			return StorageStatus.SUCCESS;
+		} catch (Exception e) {
+			logger.severe(Utils.exceptionLogMessge("Problem in running in-memory storage", e));
+			return StorageStatus.FAILURE;
+		}
+	}
+
+	/**
+	 * Loads the records of the log. A record cut by a crash at the end of the
+	 * log is dropped, and the log is truncated before it.
+	 */
+	private void replay(File file) throws IOException {
+		long valid = 0;
+		int records = 0;
+		try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file))) {
+			CodedInputStream cin = CodedInputStream.newInstance(in);
+			try {
+				while (!cin.isAtEnd()) {
+					String key = cin.readString();
+					Record rec = Record.parseFrom(cin.readByteArray());
+					add(key, rec);
+					records++;
+					valid += cin.getTotalBytesRead();
+					cin.resetSizeCounter();
+				}
+			} catch (IOException e) {
+				logger.warning("Dropping incomplete record at the end of the storage log " + logFile + " : " + e.toString());
+			}
+		}
+		if (valid < file.length()) {
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+				raf.setLength(valid);
+			}
+		}
+		logger.info("Loaded " + records + " records from the storage log " + logFile);
+	}
+
+	/**
+	 * Closes the storage.
+	 * @return The result of the operation
+	 */
+	public StorageStatus close() {
+		try {
+			if (committer != null)
+				committer.stop();
+			if (log != null) {
+				synchronized (log) {
+					log.flush();
+					logStream.close();
+				}
+				log = null;
+				logStream = null;
+			}
+			return StorageStatus.SUCCESS;
+		} catch (Exception e) {
+			logger.severe("Problem in closing in-memory storage: " + e.toString());
+			return StorageStatus.FAILURE;
+		}
+	}
+
+	/**
+	 * Cleans the entire data of the storage, including the log.
+	 * @return The result of the operation
+	 */
+	public StorageStatus clean() {
+		try {
+			if (close() == StorageStatus.FAILURE)
+				return StorageStatus.FAILURE;
+			data.clear();
+			if (!logFile.isEmpty())
+				new File(logFile).delete();
+			if (run() == StorageStatus.FAILURE)
+				return StorageStatus.FAILURE;
+			return StorageStatus.SUCCESS;
+		} catch (Exception e) {
+			logger.severe("Problem in cleaning in-memory storage: " + e.toString() + "\n\tLog file= " + logFile);
+			return StorageStatus.FAILURE;
+		}
+	}
+
+	/**
+	 * Gets the number of versions dropped because they were older than the
+	 * newest stable version of their key.
+	 * @return The number of versions
+	 */
+	public long getDroppedVersions() {
+		return droppedVersions.get();
+	}
+
+	/**
+	 * Gets the number of group commits of the log.
+	 * @return The number of commits
+	 */
+	public long getCommits() {
+		GroupCommitter c = committer;
+		return c != null ? c.getCommits() : 0;
+	}
+
+	String setProperty(String defaultValue, String received) {
+		if (received != null)
+			return received;
+		else
+			return defaultValue;
+	}
+}
@@ -0,0 +1,210 @@
+package edu.msu.cse.dkvf.inMemoryStorage;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+import edu.msu.cse.dkvf.RecordPredicate;
+import edu.msu.cse.dkvf.metadata.Metadata.Record;
+
+/**
+ * The versions of one key, newest first. The versions are immutable, so
+ * readers walk the chain without locking. Writers are serialized by the chain
+ * and copy the versions in front of the new one. A writer given the predicate
+ * of the stable versions also drops the versions older than the newest stable
+ * one, which reads never return.
+ *
+ * Versions are ordered like the record comparators of the protocols: by update
+ * time, or by version for records without one, and then by source replica.
+ *
+ */
+class VersionChain {
+
+	// Fields of Record looked up once, as every protocol has its own Record.
+	static final FieldDescriptor UT_FIELD;
+	static final FieldDescriptor SR_FIELD;
+	static final FieldDescriptor DS_ITEM_FIELD;
+	static final FieldDescriptor DC_ID_FIELD;
+	static final FieldDescriptor TIME_FIELD;
+
+	static {
+		Descriptor d = Record.getDescriptor();
+		FieldDescriptor ut = d.findFieldByName("ut");
+		UT_FIELD = ut != null ? ut : d.findFieldByName("version");
+		SR_FIELD = d.findFieldByName("sr");
+		DS_ITEM_FIELD = d.findFieldByName("ds_item");
+		if (DS_ITEM_FIELD != null && DS_ITEM_FIELD.getType() == FieldDescriptor.Type.MESSAGE) {
+			DC_ID_FIELD = DS_ITEM_FIELD.getMessageType().findFieldByName("dc_id");
+			TIME_FIELD = DS_ITEM_FIELD.getMessageType().findFieldByName("time");
+		} else {
+			DC_ID_FIELD = null;
+			TIME_FIELD = null;
+		}
+	}
+
+	/**
+	 * A version of the key, with its timestamps copied out of the record.
+	 */
+	static final class Version {
+		final Record record;
+		final long ut;
+		final int sr;
+		final int[] dsDcIds;
+		final long[] dsTimes;
+		final Version next;
+
+		private Version(Record record, long ut, int sr, int[] dsDcIds, long[] dsTimes, Version next) {
+			this.record = record;
+			this.ut = ut;
+			this.sr = sr;
+			this.dsDcIds = dsDcIds;
+			this.dsTimes = dsTimes;
+			this.next = next;
+		}
+
+		Version(Record record) {
+			this.record = record;
+			this.ut = UT_FIELD != null ? ((Number) record.getField(UT_FIELD)).longValue() : 0;
+			this.sr = SR_FIELD != null ? ((Number) record.getField(SR_FIELD)).intValue() : 0;
+			if (DC_ID_FIELD != null && TIME_FIELD != null) {
+				List<?> items = (List<?>) record.getField(DS_ITEM_FIELD);
+				dsDcIds = new int[items.size()];
+				dsTimes = new long[items.size()];
+				for (int i = 0; i < items.size(); i++) {
+					Message item = (Message) items.get(i);
+					dsDcIds[i] = ((Number) item.getField(DC_ID_FIELD)).intValue();
+					dsTimes[i] = ((Number) item.getField(TIME_FIELD)).longValue();
+				}
+			} else {
+				dsDcIds = null;
+				dsTimes = null;
+			}
+			this.next = null;
+		}
+
+		Version withNext(Version next) {
+			return new Version(record, ut, sr, dsDcIds, dsTimes, next);
+		}
+
+		boolean isNewerThan(Version other) {
+			return ut > other.ut || (ut == other.ut && sr > other.sr);
+		}
+	}
+
+	private volatile Version head;
+
+	/**
+	 * Adds a version to the chain.
+	 * @param v The version to add
+	 * @param multiVersion If false, only the newest version is kept
+	 * @param stable The predicate of the stable versions, or null to keep all the versions
+	 * @return The number of versions dropped because they are older than the newest stable version
+	 */
+	synchronized int add(Version v, boolean multiVersion, Predicate<Record> stable) {
+		Version h = head;
+		if (h == null || v.isNewerThan(h)) {
+			head = v.withNext(multiVersion ? h : null);
+		} else if (!multiVersion) {
+			return 0;
+		} else {
+			// Copy the newer versions in front of the new one, keeping the older ones shared.
+			Version c = h;
+			while (c != null && !v.isNewerThan(c))
+				c = c.next;
+			head = copyBefore(h, c, v.withNext(c));
+		}
+		if (!multiVersion || stable == null)
+			return 0;
+		Version s = find(head, stable);
+		if (s == null || s.next == null)
+			return 0;
+		int dropped = 0;
+		for (Version c = s.next; c != null; c = c.next)
+			dropped++;
+		head = copyBefore(head, s, s.withNext(null));
+		return dropped;
+	}
+
+	/**
+	 * Copies the versions from the first one until the given one in front of
+	 * the given rest.
+	 * @param first The first version to copy
+	 * @param stop The version the copy stops at, which is not copied
+	 * @param rest The chain the copies are put in front of
+	 * @return The first copied version, or rest if there is none
+	 */
+	private static Version copyBefore(Version first, Version stop, Version rest) {
+		int n = 0;
+		for (Version c = first; c != stop; c = c.next)
+			n++;
+		Version[] prefix = new Version[n];
+		Version c = first;
+		for (int i = 0; i < n; i++, c = c.next)
+			prefix[i] = c;
+		for (int i = n - 1; i >= 0; i--)
+			rest = prefix[i].withNext(rest);
+		return rest;
+	}
+
+	/**
+	 * Gets the newest version.
+	 * @return The newest version, or null if the chain is empty
+	 */
+	Version head() {
+		return head;
+	}
+
+	/**
+	 * Finds the newest version that satisfies the predicate. The visibility
+	 * checks of {@link RecordPredicate} run on the copied timestamps.
+	 * @param p The predicate
+	 * @return The version, or null if no version satisfies the predicate
+	 */
+	Version find(Predicate<Record> p) {
+		return find(head, p);
+	}
+
+	private static Version find(Version v, Predicate<Record> p) {
+		if (!(p instanceof RecordPredicate)) {
+			while (v != null && !p.test(v.record))
+				v = v.next;
+			return v;
+		}
+		RecordPredicate rp = (RecordPredicate) p;
+		switch (rp.getKind()) {
+		case LATEST:
+			return v;
+		case UT_AT_MOST: {
+			int localDcId = rp.getLocalDcId();
+			long gst = rp.getGst();
+			while (v != null && v.sr != localDcId && v.ut > gst)
+				v = v.next;
+			return v;
+		}
+		case DS_COVERED: {
+			int localDcId = rp.getLocalDcId();
+			List<Long> dsv = rp.getDsv();
+			while (v != null && v.sr != localDcId && !isCovered(v, dsv))
+				v = v.next;
+			return v;
+		}
+		default:
+			while (v != null && !p.test(v.record))
+				v = v.next;
+			return v;
+		}
+	}
+
+	private static boolean isCovered(Version v, List<Long> dsv) {
+		if (v.dsDcIds == null)
+			return true;
+		for (int i = 0; i < v.dsDcIds.length; i++) {
+			if (dsv.get(v.dsDcIds[i]) < v.dsTimes[i])
+				return false;
+		}
+		return true;
+	}
+}
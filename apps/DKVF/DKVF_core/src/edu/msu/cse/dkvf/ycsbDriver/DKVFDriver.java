@@ -20,10 +20,21 @@ import edu.msu.cse.dkvf.config.ConfigReader;
 /**
  * The YCSB driver for DKVF. 
  *
+ * YCSB creates a driver for each of its threads. By default, each driver runs
+ * its own client. If the shareClient property is true, the drivers of all
+ * threads share one client, so the requests of the threads are pipelined on
+ * the same connections instead of opening connections for each thread.
+ *
  */
 public class DKVFDriver extends DB {
 	DKVFClient client;
 
+	/**
+	 * The client shared by the drivers of all threads if the shareClient
+	 * property is true. Guarded by the class.
+	 */
+	static DKVFClient sharedClient;
+
 	/**
 	 * Initializes the driver.
 	 * @throws DBException
@@ -44,22 +55,31 @@ public class DKVFDriver extends DB {
 		}
 		String clientClassName = (String) p.getProperty("clientClassName");
 		System.out.println(MessageFormat.format("Client class name: {0}", clientClassName));
-		runClient(cnfReader, clientClassName);
+		boolean shareClient = Boolean.parseBoolean(p.getProperty("shareClient", "false"));
+		if (shareClient) {
+			synchronized (DKVFDriver.class) {
+				if (sharedClient == null)
+					sharedClient = runClient(cnfReader, clientClassName);
+				client = sharedClient;
+			}
+		} else
+			client = runClient(cnfReader, clientClassName);
 	}
 
 	/**
 	 * Runs the YCSB client. 
 	 * @param cnfReader The configuration reader object. 
 	 * @param clientClassName The name of the client class. It is the client side of key-value written by DKVF.
+	 * @return The running client
 	 * @throws DBException
 	 */
-	private void runClient(ConfigReader cnfReader, String clientClassName) throws DBException {
+	private DKVFClient runClient(ConfigReader cnfReader, String clientClassName) throws DBException {
 		try {
 			Class<?> clazz = Class.forName(clientClassName);
 			Constructor<?> ctor = clazz.getConstructor(ConfigReader.class);
 			DKVFClient client = (DKVFClient) ctor.newInstance(new Object[] { cnfReader });
 			client.runAll();
-			this.client = client;
+			return client;
 		} catch (Exception e) {
 			e.printStackTrace();
 			throw new DBException("probelm in instantiating client object:");
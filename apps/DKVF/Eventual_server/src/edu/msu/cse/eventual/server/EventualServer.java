@@ -7,6 +7,8 @@ import java.util.List;
 
 import edu.msu.cse.dkvf.ClientMessageAgent;
 import edu.msu.cse.dkvf.DKVFServer;
+import edu.msu.cse.dkvf.HybridLogicalClock;
+import edu.msu.cse.dkvf.RecordPredicate;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
@@ -24,6 +26,8 @@ public class EventualServer extends DKVFServer {
 	int dcId;
 	int pId;
 
+	HybridLogicalClock clock = new HybridLogicalClock();
+
 	public EventualServer(ConfigReader cnfReader) {
 		super(cnfReader);
 		this.cnfReader = cnfReader;
@@ -44,9 +48,11 @@ public class EventualServer extends DKVFServer {
 	private void handlePutMessage(ClientMessageAgent cma) {
 		Record.Builder builder = Record.newBuilder();
 		builder.setValue(cma.getClientMessage().getPutMessage().getValue());
-		builder.setUt(System.currentTimeMillis());
+		builder.setUt(clock.tick());
 		Record rec = builder.build();
 		StorageStatus ss = insert(cma.getClientMessage().getPutMessage().getKey(), rec);
+		if (ss == StorageStatus.SUCCESS)
+			ss = waitForDurability();
 
 		ClientReply cr = null;
 
@@ -75,9 +81,7 @@ public class EventualServer extends DKVFServer {
 	private void handleGetMessage(ClientMessageAgent cma) {
 		GetMessage gm = cma.getClientMessage().getGetMessage();
 		List<Record> result = new ArrayList<>();
-		StorageStatus ss = read(gm.getKey(), p -> {
-			return true;
-		}, result);
+		StorageStatus ss = read(gm.getKey(), RecordPredicate.latest(), result);
 		ClientReply cr = null;
 		if (ss == StorageStatus.SUCCESS) {
 			Record rec = result.get(0);
@@ -90,6 +94,7 @@ public class EventualServer extends DKVFServer {
 
 	public void handleServerMessage(ServerMessage sm) {
 		Record newRecord = sm.getReplicateMessage().getRec();
+		clock.update(newRecord.getUt());
 		insert(sm.getReplicateMessage().getKey(), newRecord);
 	}
 }
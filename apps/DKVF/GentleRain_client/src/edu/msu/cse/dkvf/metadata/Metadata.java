@@ -2005,6 +2005,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutMessageOrBuilder getPutMessageOrBuilder();
 
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -2020,6 +2029,7 @@ public final class Metadata {
       super(builder);
     }
     private ClientMessage() {
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -2078,6 +2088,11 @@ public final class Metadata {
               messageTypeCase_ = 2;
               break;
             }
+            case 24: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2192,6 +2207,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutMessage.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     *set by pipelined clients to match the reply, 0 if not pipelined
+     * </pre>
+     *
+     * <code>int64 request_id = 3;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2210,6 +2238,9 @@ public final class Metadata {
       if (messageTypeCase_ == 2) {
         output.writeMessage(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(3, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2226,6 +2257,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, (edu.msu.cse.dkvf.metadata.Metadata.PutMessage) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2242,6 +2277,8 @@ public final class Metadata {
       edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other = (edu.msu.cse.dkvf.metadata.Metadata.ClientMessage) obj;
 
       boolean result = true;
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -2268,6 +2305,9 @@ public final class Metadata {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 1:
           hash = (37 * hash) + GET_MESSAGE_FIELD_NUMBER;
@@ -2409,6 +2449,8 @@ public final class Metadata {
       }
       public Builder clear() {
         super.clear();
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -2447,6 +2489,7 @@ public final class Metadata {
             result.messageType_ = putMessageBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -2489,6 +2532,9 @@ public final class Metadata {
 
       public Builder mergeFrom(edu.msu.cse.dkvf.metadata.Metadata.ClientMessage other) {
         if (other == edu.msu.cse.dkvf.metadata.Metadata.ClientMessage.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_MESSAGE: {
             mergeGetMessage(other.getGetMessage());
@@ -2815,6 +2861,44 @@ public final class Metadata {
         onChanged();;
         return putMessageBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *set by pipelined clients to match the reply, 0 if not pipelined
+       * </pre>
+       *
+       * <code>int64 request_id = 3;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -3935,6 +4019,15 @@ public final class Metadata {
      */
     edu.msu.cse.dkvf.metadata.Metadata.PutReplyOrBuilder getPutReplyOrBuilder();
 
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    long getRequestId();
+
     public edu.msu.cse.dkvf.metadata.Metadata.ClientReply.MessageTypeCase getMessageTypeCase();
   }
   /**
@@ -3951,6 +4044,7 @@ public final class Metadata {
     }
     private ClientReply() {
       status_ = false;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -4014,6 +4108,11 @@ public final class Metadata {
               messageTypeCase_ = 3;
               break;
             }
+            case 32: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4137,6 +4236,19 @@ public final class Metadata {
       return edu.msu.cse.dkvf.metadata.Metadata.PutReply.getDefaultInstance();
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     *the request_id of the client message
+     * </pre>
+     *
+     * <code>int64 request_id = 4;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4158,6 +4270,9 @@ public final class Metadata {
       if (messageTypeCase_ == 3) {
         output.writeMessage(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        output.writeInt64(4, requestId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -4178,6 +4293,10 @@ public final class Metadata {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, (edu.msu.cse.dkvf.metadata.Metadata.PutReply) messageType_);
       }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, requestId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -4196,6 +4315,8 @@ public final class Metadata {
       boolean result = true;
       result = result && (getStatus()
           == other.getStatus());
+      result = result && (getRequestId()
+          == other.getRequestId());
       result = result && getMessageTypeCase().equals(
           other.getMessageTypeCase());
       if (!result) return false;
@@ -4225,6 +4346,9 @@ public final class Metadata {
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getStatus());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
       switch (messageTypeCase_) {
         case 2:
           hash = (37 * hash) + GET_REPLY_FIELD_NUMBER;
@@ -4368,6 +4492,8 @@ public final class Metadata {
         super.clear();
         status_ = false;
 
+        requestId_ = 0L;
+
         messageTypeCase_ = 0;
         messageType_ = null;
         return this;
@@ -4407,6 +4533,7 @@ public final class Metadata {
             result.messageType_ = putReplyBuilder_.build();
           }
         }
+        result.requestId_ = requestId_;
         result.messageTypeCase_ = messageTypeCase_;
         onBuilt();
         return result;
@@ -4452,6 +4579,9 @@ public final class Metadata {
         if (other.getStatus() != false) {
           setStatus(other.getStatus());
         }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageTypeCase()) {
           case GET_REPLY: {
             mergeGetReply(other.getGetReply());
@@ -4804,6 +4934,44 @@ public final class Metadata {
         onChanged();;
         return putReplyBuilder_;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *the request_id of the client message
+       * </pre>
+       *
+       * <code>int64 request_id = 4;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -8550,28 +8718,29 @@ public final class Metadata {
       "ecord\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014\022\n\n\002ut\030" +
       "\003 \001(\003\022\n\n\002sr\030\004 \001(\005\"&\n\nGetMessage\022\013\n\003key\030\001" +
       " \001(\t\022\013\n\003gst\030\002 \001(\003\"4\n\nPutMessage\022\013\n\003key\030\001" +
-      " \001(\t\022\r\n\005value\030\002 \001(\014\022\n\n\002dt\030\003 \001(\003\"y\n\rClien" +
-      "tMessage\022+\n\013get_message\030\001 \001(\0132\024.Metadata" +
-      ".GetMessageH\000\022+\n\013put_message\030\002 \001(\0132\024.Met" +
-      "adata.PutMessageH\000B\016\n\014message_type\"2\n\010Ge" +
-      "tReply\022\r\n\005value\030\001 \001(\014\022\n\n\002ut\030\002 \001(\003\022\013\n\003gst" +
-      "\030\003 \001(\003\"\026\n\010PutReply\022\n\n\002ut\030\001 \001(\003\"\177\n\013Client",
-      "Reply\022\016\n\006status\030\001 \001(\010\022\'\n\tget_reply\030\002 \001(\013" +
-      "2\022.Metadata.GetReplyH\000\022\'\n\tput_reply\030\003 \001(" +
-      "\0132\022.Metadata.PutReplyH\000B\016\n\014message_type\"" +
-      "@\n\020ReplicateMessage\022\035\n\003rec\030\001 \001(\0132\020.Metad" +
-      "ata.Record\022\r\n\005dc_id\030\002 \001(\005\"/\n\020HeartbeatMe" +
-      "ssage\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n\tVV" +
-      "Message\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005\"\'\n" +
-      "\nGSTMessage\022\013\n\003gst\030\001 \001(\003\022\014\n\004p_id\030\002 \001(\005\"\351" +
-      "\001\n\rServerMessage\0227\n\021replicate_message\030\001 " +
-      "\001(\0132\032.Metadata.ReplicateMessageH\000\0227\n\021hea",
-      "rtbeat_message\030\002 \001(\0132\032.Metadata.Heartbea" +
-      "tMessageH\000\022)\n\nvv_message\030\003 \001(\0132\023.Metadat" +
-      "a.VVMessageH\000\022+\n\013gst_message\030\004 \001(\0132\024.Met" +
-      "adata.GSTMessageH\000B\016\n\014message_typeB%\n\031ed" +
-      "u.msu.cse.dkvf.metadataB\010Metadatab\006proto" +
-      "3"
+      " \001(\t\022\r\n\005value\030\002 \001(\014\022\n\n\002dt\030\003 \001(\003\"\215\001\n\rClie" +
+      "ntMessage\022+\n\013get_message\030\001 \001(\0132\024.Metadat" +
+      "a.GetMessageH\000\022+\n\013put_message\030\002 \001(\0132\024.Me" +
+      "tadata.PutMessageH\000\022\022\n\nrequest_id\030\003 \001(\003B" +
+      "\016\n\014message_type\"2\n\010GetReply\022\r\n\005value\030\001 \001" +
+      "(\014\022\n\n\002ut\030\002 \001(\003\022\013\n\003gst\030\003 \001(\003\"\026\n\010PutReply\022",
+      "\n\n\002ut\030\001 \001(\003\"\223\001\n\013ClientReply\022\016\n\006status\030\001 " +
+      "\001(\010\022\'\n\tget_reply\030\002 \001(\0132\022.Metadata.GetRep" +
+      "lyH\000\022\'\n\tput_reply\030\003 \001(\0132\022.Metadata.PutRe" +
+      "plyH\000\022\022\n\nrequest_id\030\004 \001(\003B\016\n\014message_typ" +
+      "e\"@\n\020ReplicateMessage\022\035\n\003rec\030\001 \001(\0132\020.Met" +
+      "adata.Record\022\r\n\005dc_id\030\002 \001(\005\"/\n\020Heartbeat" +
+      "Message\022\014\n\004time\030\001 \001(\003\022\r\n\005dc_id\030\002 \001(\005\")\n\t" +
+      "VVMessage\022\016\n\006vvItem\030\001 \003(\003\022\014\n\004p_id\030\002 \001(\005\"" +
+      "\'\n\nGSTMessage\022\013\n\003gst\030\001 \001(\003\022\014\n\004p_id\030\002 \001(\005" +
+      "\"\351\001\n\rServerMessage\0227\n\021replicate_message\030",
+      "\001 \001(\0132\032.Metadata.ReplicateMessageH\000\0227\n\021h" +
+      "eartbeat_message\030\002 \001(\0132\032.Metadata.Heartb" +
+      "eatMessageH\000\022)\n\nvv_message\030\003 \001(\0132\023.Metad" +
+      "ata.VVMessageH\000\022+\n\013gst_message\030\004 \001(\0132\024.M" +
+      "etadata.GSTMessageH\000B\016\n\014message_typeB%\n\031" +
+      "edu.msu.cse.dkvf.metadataB\010Metadatab\006pro" +
+      "to3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -8608,7 +8777,7 @@ public final class Metadata {
     internal_static_Metadata_ClientMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientMessage_descriptor,
-        new java.lang.String[] { "GetMessage", "PutMessage", "MessageType", });
+        new java.lang.String[] { "GetMessage", "PutMessage", "RequestId", "MessageType", });
     internal_static_Metadata_GetReply_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_Metadata_GetReply_fieldAccessorTable = new
@@ -8626,7 +8795,7 @@ public final class Metadata {
     internal_static_Metadata_ClientReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Metadata_ClientReply_descriptor,
-        new java.lang.String[] { "Status", "GetReply", "PutReply", "MessageType", });
+        new java.lang.String[] { "Status", "GetReply", "PutReply", "RequestId", "MessageType", });
     internal_static_Metadata_ReplicateMessage_descriptor =
       getDescriptor().getMessageTypes().get(7);
     internal_static_Metadata_ReplicateMessage_fieldAccessorTable = new
@@ -3,23 +3,23 @@ package edu.msu.cse.gentleRain.client;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.protobuf.ByteString;
 
 import edu.msu.cse.dkvf.DKVFClient;
 import edu.msu.cse.dkvf.Utils;
-import edu.msu.cse.dkvf.ServerConnector.NetworkStatus;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientMessage;
-import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
 import edu.msu.cse.dkvf.metadata.Metadata.GetMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.PutMessage;
 
 
 public class GentleRainClient extends DKVFClient {
 
-	Long gst = new Long(0);
-	Long dt = new Long(0);
+	AtomicLong gst = new AtomicLong(0);
+	AtomicLong dt = new AtomicLong(0);
 	int dcId; 
 	
 	int numOfPartitions;
@@ -37,48 +37,56 @@ public class GentleRainClient extends DKVFClient {
 
 	@Override
 	public boolean put(String key, byte[] value) {
+		return putAsync(key, value).join();
+	}
+
+	@Override
+	public byte[] get(String key) {
+		return getAsync(key).join();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> putAsync(String key, byte[] value) {
 		try {
-			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(PutMessage.newBuilder().setDt(dt).setKey(key).setValue(ByteString.copyFrom(value))).build();
+			ClientMessage cm = ClientMessage.newBuilder().setPutMessage(PutMessage.newBuilder().setDt(dt.get()).setKey(key).setValue(ByteString.copyFrom(value))).build();
 			
 			int partition = findPartition(key);
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return false;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()) {
-				dt = Math.max(dt, cr.getPutReply().getUt());
-				return true;
-			} else {
-				protocolLOGGER.severe("Server could not put the key= " + key);
-				return false;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()) {
+					dt.accumulateAndGet(cr.getPutReply().getUt(), Math::max);
+					return true;
+				} else {
+					protocolLOGGER.severe("Server could not put the key= " + key);
+					return false;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe (Utils.exceptionLogMessge("Failed to put due to exception", e));
-			return false;
+			return CompletableFuture.completedFuture(false);
 		}
 	}
 
 	@Override
-	public byte[] get(String key) {
+	public CompletableFuture<byte[]> getAsync(String key) {
 		try {
-			GetMessage gm = GetMessage.newBuilder().setGst(gst).setKey(key).build();
+			GetMessage gm = GetMessage.newBuilder().setGst(gst.get()).setKey(key).build();
 			ClientMessage cm = ClientMessage.newBuilder().setGetMessage(gm).build();
 			String partition = findPartition(key) + "";
 			String serverId = dcId + "_" + partition;
-			if (sendToServer(serverId, cm) == NetworkStatus.FAILURE)
-				return null;
-			ClientReply cr = readFromServer(serverId);
-			if (cr != null && cr.getStatus()){
-				dt = Math.max(dt, cr.getPutReply().getUt());
-				gst = Math.max(gst, cr.getGetReply().getGst());
-				return cr.getGetReply().getValue().toByteArray();
-			} else {
-				protocolLOGGER.severe("Server could not get the key= " + key);
-				return null;
-			}
+			return sendToServerAsync(serverId, cm).thenApply(cr -> {
+				if (cr != null && cr.getStatus()){
+					dt.accumulateAndGet(cr.getPutReply().getUt(), Math::max);
+					gst.accumulateAndGet(cr.getGetReply().getGst(), Math::max);
+					return cr.getGetReply().getValue().toByteArray();
+				} else {
+					protocolLOGGER.severe("Server could not get the key= " + key);
+					return null;
+				}
+			});
 		} catch (Exception e) {
 			protocolLOGGER.severe (Utils.exceptionLogMessge("Failed to get due to exception", e));
-			return null;
+			return CompletableFuture.completedFuture(null);
 		}
 	}
 
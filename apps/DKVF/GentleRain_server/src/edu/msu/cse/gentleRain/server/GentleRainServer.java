@@ -4,15 +4,16 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import edu.msu.cse.dkvf.ClientMessageAgent;
 import edu.msu.cse.dkvf.DKVFServer;
+import edu.msu.cse.dkvf.RecordPredicate;
+import edu.msu.cse.dkvf.Stabilizer;
 import edu.msu.cse.dkvf.Storage.StorageStatus;
 import edu.msu.cse.dkvf.config.ConfigReader;
 import edu.msu.cse.dkvf.metadata.Metadata.ClientReply;
@@ -33,8 +34,8 @@ public class GentleRainServer extends DKVFServer {
 	int numOfPartitions;
 
 	// GST computation
-	ArrayList<AtomicLong> vv;
-	HashMap<Integer, List<Long>> childrenVvs;
+	AtomicLongArray vv;
+	Stabilizer stabilizer;
 
 	// Tree structure
 	int parentPId;
@@ -43,6 +44,7 @@ public class GentleRainServer extends DKVFServer {
 	// intervals
 	int heartbeatInterval;
 	int gstComutationInterval;
+	long minPropagationInterval;
 
 	// Heartbeat
 	long timeOfLastRepOrHeartbeat;
@@ -71,26 +73,28 @@ public class GentleRainServer extends DKVFServer {
 
 		heartbeatInterval = new Integer(protocolProperties.get("heartbeat_interval").get(0));
 		gstComutationInterval = new Integer(protocolProperties.get("gst_comutation_interval").get(0));
-
-		vv = new ArrayList<>();
-		ArrayList<Long> allZero = new ArrayList<>();
-		for (int i = 0; i < numOfDatacenters; i++) {
-			vv.add(i, new AtomicLong(0));
-			allZero.add(new Long(0));
-		}
-		
-		
-		childrenVvs = new HashMap<>();
-		for (int cpId: childrenPIds){
-			childrenVvs.put(cpId, allZero);
-		}
+		if (protocolProperties.get("min_propagation_interval") != null)
+			minPropagationInterval = new Long(protocolProperties.get("min_propagation_interval").get(0));
+		else
+			minPropagationInterval = Stabilizer.DEFAULT_MIN_PROPAGATION_INTERVAL;
+
+		isVisible = RecordPredicate.utAtMost(dcId, gst::get, (Record r) -> {
+			protocolLOGGER.finer(MessageFormat.format("record ut= {0}, Current GST={1}", r.getUt(), gst.get()));
+			if (dcId == r.getSr() || r.getUt() <= gst.get())
+				return true;
+			return false;
+		});
+		getStorage().setStablePredicate(isVisible);
+
+		// vv holds physical times, so the staleness is measured against them directly
+		stabilizer = new Stabilizer(numOfDatacenters, childrenPIds, parentPId == pId, new GstComputation(this), (long t) -> t, protocolLOGGER);
+		vv = stabilizer.getVv();
 
 		// Scheduling periodic operations
 		ScheduledExecutorService heartbeatTimer = Executors.newScheduledThreadPool(1);
-		ScheduledExecutorService gstComputationTimer = Executors.newScheduledThreadPool(1);
 
 		heartbeatTimer.scheduleAtFixedRate(new HeartbeatSender(this), 0, heartbeatInterval, TimeUnit.MILLISECONDS);
-		gstComputationTimer.scheduleAtFixedRate(new GstComputation(this), 0, gstComutationInterval, TimeUnit.MILLISECONDS);
+		stabilizer.start(gstComutationInterval, minPropagationInterval);
 	}
 
 	@Override
@@ -132,12 +136,7 @@ public class GentleRainServer extends DKVFServer {
 		cma.sendReply(cr);
 	}
 
-	Predicate<Record> isVisible = (Record r) -> {
-		protocolLOGGER.finer(MessageFormat.format("record ut= {0}, Current GST={1}", r.getUt(), gst.get()));
-		if (dcId == r.getSr() || r.getUt() <= gst.get())
-			return true;
-		return false;
-	};
+	RecordPredicate isVisible;
 
 	private void updateGst(long sample) {
 		while (true) {
@@ -163,11 +162,11 @@ public class GentleRainServer extends DKVFServer {
 		} catch (InterruptedException e) {
 			protocolLOGGER.severe("Failed to delay write operation.");
 		}
-		vv.get(dcId).set(System.currentTimeMillis());
+		stabilizer.updateVv(dcId, System.currentTimeMillis());
 		Record rec = null; 
 		
 		synchronized (putLock) {
-			rec = Record.newBuilder().setValue(pm.getValue()).setUt(vv.get(dcId).get()).setSr(dcId).build();
+			rec = Record.newBuilder().setValue(pm.getValue()).setUt(vv.get(dcId)).setSr(dcId).build();
 			sendReplicateMessages(pm.getKey(),rec); // The order is different than the paper
 										// algorithm. We first send replicate to
 										// insure a version with smaller
@@ -175,6 +174,8 @@ public class GentleRainServer extends DKVFServer {
 		}
 		
 		StorageStatus ss = insert(pm.getKey(), rec);
+		if (ss == StorageStatus.SUCCESS)
+			ss = waitForDurability();
 		ClientReply cr = null;
 		if (ss == StorageStatus.SUCCESS) {
 			cr = ClientReply.newBuilder().setStatus(true).setPutReply(PutReply.newBuilder().setUt(rec.getUt())).build();
@@ -202,30 +203,30 @@ public class GentleRainServer extends DKVFServer {
 		int senderDcId = sm.getReplicateMessage().getDcId();
 		Record d = sm.getReplicateMessage().getRec();
 		insert(sm.getReplicateMessage().getKey(), d);
-		vv.get(senderDcId).set(d.getUt());
+		stabilizer.updateVv(senderDcId, d.getUt());
 	}
 
 	void handleHearbeatMessage(ServerMessage sm) {
 		int senderDcId = sm.getHeartbeatMessage().getDcId();
-		vv.get(senderDcId).set(sm.getHeartbeatMessage().getTime());
+		stabilizer.updateVv(senderDcId, sm.getHeartbeatMessage().getTime());
 	}
 
 	void handleVvMessage(ServerMessage sm) {
 		int senderPId = sm.getVvMessage().getPId();
 		List<Long> receivedVv = sm.getVvMessage().getVvItemList();
-		childrenVvs.put(senderPId, receivedVv);
+		stabilizer.setChildVv(senderPId, receivedVv);
 	}
 
 	void handleGstMessage(ServerMessage sm) {
 		Long receivedGst = sm.getGstMessage().getGst();
 		gst.set(receivedGst);
+		stabilizer.recordStable(receivedGst);
 		sm = ServerMessage.newBuilder().setGstMessage(GSTMessage.newBuilder().setGst(gst.get())).build();
 		sendToAllChildren(sm);
 	}
 
 	void sendToAllChildren(ServerMessage sm) {
-		for (Map.Entry<Integer, List<Long>> child : childrenVvs.entrySet()) {
-			int childId = child.getKey();
+		for (int childId : childrenPIds) {
 			sendToServerViaChannel(dcId + "_" + childId, sm);
 		}
 	}
@@ -1,15 +1,11 @@
 package edu.msu.cse.gentleRain.server;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
-
+import edu.msu.cse.dkvf.Stabilizer;
 import edu.msu.cse.dkvf.metadata.Metadata.GSTMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.ServerMessage;
 import edu.msu.cse.dkvf.metadata.Metadata.VVMessage;
 
-public class GstComputation implements Runnable {
+public class GstComputation implements Stabilizer.Propagation {
 
 	GentleRainServer server;
 
@@ -17,38 +13,27 @@ public class GstComputation implements Runnable {
 		this.server = server;
 	}
 
+	//if the node is not root, it send vvMessage to its parent.
 	@Override
-	public void run() {
-		//take minimum of all childrens 
-		List<Long> minVv = new ArrayList<Long>();
-		for (AtomicLong v : server.vv) {
-			minVv.add(v.get());
-		}
-		for (Map.Entry<Integer, List<Long>> childVv : server.childrenVvs.entrySet()) {
-			for (int i = 0; i < childVv.getValue().size(); i++) {
-				if (minVv.get(i) > childVv.getValue().get(i))
-					minVv.set(i, childVv.getValue().get(i));
-			}
-		}
+	public void sendToParent(long[] minVv) {
+		VVMessage.Builder vvM = VVMessage.newBuilder().setPId(server.pId);
+		for (long v : minVv)
+			vvM.addVvItem(v);
+		ServerMessage sm = ServerMessage.newBuilder().setVvMessage(vvM).build();
+		server.sendToServerViaChannel(server.dcId + "_" + server.parentPId, sm);
+	}
 
-		//if the node is parent it send Gstmessage to its children
-		ServerMessage sm = null;
-		if (server.parentPId == server.pId) {
-			Long newGst = Long.MAX_VALUE;
-			for (Long l : minVv) {
-				newGst = Math.min(l, newGst);
-			}
-			server.gst.set(newGst);
-			sm = ServerMessage.newBuilder().setGstMessage(GSTMessage.newBuilder().setGst(server.gst.get())).build();
-			server.sendToAllChildren(sm);
-		}
-		//if the node is not root, it send vvMessage to its parent.
-		else {
-			VVMessage vvM = VVMessage.newBuilder().setPId(server.pId).addAllVvItem(minVv).build();
-			sm = ServerMessage.newBuilder().setVvMessage(vvM).build();
-			server.sendToServerViaChannel(server.dcId + "_" + server.parentPId, sm);
+	//if the node is parent it send Gstmessage to its children
+	@Override
+	public void stabilize(long[] minVv) {
+		long newGst = Long.MAX_VALUE;
+		for (long l : minVv) {
+			newGst = Math.min(l, newGst);
 		}
-
+		server.gst.set(newGst);
+		server.stabilizer.recordStable(newGst);
+		ServerMessage sm = ServerMessage.newBuilder().setGstMessage(GSTMessage.newBuilder().setGst(newGst)).build();
+		server.sendToAllChildren(sm);
 	}
 
 }
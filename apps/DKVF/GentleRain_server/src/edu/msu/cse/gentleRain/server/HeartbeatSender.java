@@ -12,7 +12,7 @@ public class HeartbeatSender implements Runnable {
 	public void run() {
 		long ct = System.currentTimeMillis(); 
 		if (ct > server.timeOfLastRepOrHeartbeat + server.heartbeatInterval){
-			server.vv.get(server.dcId).set(ct);
+			server.stabilizer.updateVv(server.dcId, ct);
 			ServerMessage sm = ServerMessage.newBuilder().setHeartbeatMessage(HeartbeatMessage.newBuilder().setDcId(server.dcId).setTime(ct)).build();
 			for (int i = 0; i < server.numOfDatacenters; i++) {
 				if (i == server.dcId)
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2008-2009 LinkedIn, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package voldemort.store.readonly.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import voldemort.client.RoutingTier;
+import voldemort.consistency.cluster.Cluster;
+import voldemort.consistency.cluster.Node;
+import voldemort.routing.RoutingStrategyFactory;
+import voldemort.routing.RoutingStrategyType;
+import voldemort.serialization.SerializerDefinition;
+import voldemort.serialization.json.JsonReader;
+import voldemort.store.StoreDefinition;
+import voldemort.store.StoreDefinitionBuilder;
+import voldemort.store.readonly.JsonStoreBuilder;
+import voldemort.store.readonly.ReadOnlyStorageConfiguration;
+import voldemort.store.readonly.ReadOnlyStorageFormat;
+import voldemort.utils.Utils;
+
+/**
+ * JMH benchmark of how the build time of {@link JsonStoreBuilder} scales with
+ * its number of threads. Every invocation builds the same generated input of
+ * numRecords string keys and random string values of valueSize characters,
+ * for a store with 'string' key and value serializers on a local cluster of
+ * numNodes nodes, e.g.
+ * <pre>
+ * java -cp ... org.openjdk.jmh.Main JsonStoreBuilderBenchmark -p numThreads=1,8
+ * </pre>
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonStoreBuilderBenchmark {
+
+    @Param({ "1", "2", "4", "8" })
+    int numThreads;
+
+    @Param({ "1000000" })
+    int numRecords;
+
+    @Param({ "1024" })
+    int valueSize;
+
+    @Param({ "100000" })
+    int sortBufferSize;
+
+    @Param({ "false" })
+    boolean gzipIntermediate;
+
+    @Param({ "3" })
+    int numNodes;
+
+    private static final int PARTITIONS_PER_NODE = 4;
+    private static final int NUM_CHUNKS = 2;
+    private static final int IO_BUFFER_SIZE = 1000000;
+
+    File tempDir;
+    File input;
+    File outputDir;
+    Cluster cluster;
+    StoreDefinition storeDef;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("store-builder-benchmark").toFile();
+        input = new File(tempDir, "input.json");
+        generateInput(input, numRecords, valueSize);
+
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < numNodes; i++) {
+            List<Integer> partitions = new ArrayList<Integer>();
+            for(int p = 0; p < PARTITIONS_PER_NODE; p++)
+                partitions.add(p * numNodes + i);
+            nodes.add(new Node(i, "localhost", 8080 + i, 6666 + i, 7777 + i, partitions));
+        }
+        cluster = new Cluster("store-builder-benchmark", nodes);
+        SerializerDefinition serDef = new SerializerDefinition("string");
+        storeDef = new StoreDefinitionBuilder().setName("test")
+                                               .setType(ReadOnlyStorageConfiguration.TYPE_NAME)
+                                               .setKeySerializer(serDef)
+                                               .setValueSerializer(serDef)
+                                               .setRoutingPolicy(RoutingTier.CLIENT)
+                                               .setRoutingStrategyType(RoutingStrategyType.CONSISTENT_STRATEGY)
+                                               .setReplicationFactor(Math.min(2, numNodes))
+                                               .setPreferredReads(1)
+                                               .setRequiredReads(1)
+                                               .setPreferredWrites(1)
+                                               .setRequiredWrites(1)
+                                               .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void createOutputDir() {
+        outputDir = new File(tempDir, "output");
+        Utils.mkdirs(outputDir);
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeOutputDir() {
+        Utils.rm(outputDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Utils.rm(tempDir);
+    }
+
+    @Benchmark
+    public void build() throws IOException {
+        JsonReader reader = new JsonReader(new BufferedReader(new FileReader(input),
+                                                              IO_BUFFER_SIZE));
+        new JsonStoreBuilder(reader,
+                             cluster,
+                             storeDef,
+                             new RoutingStrategyFactory().updateRoutingStrategy(storeDef, cluster),
+                             outputDir,
+                             tempDir,
+                             sortBufferSize,
+                             numThreads,
+                             NUM_CHUNKS,
+                             IO_BUFFER_SIZE,
+                             gzipIntermediate).build(ReadOnlyStorageFormat.READONLY_V2);
+    }
+
+    private static void generateInput(File input, int numRecords, int valueSize)
+            throws IOException {
+        Random random = new Random();
+        char[] value = new char[valueSize];
+        BufferedWriter writer = new BufferedWriter(new FileWriter(input), 10 * 1024 * 1024);
+        try {
+            for(int i = 0; i < numRecords; i++) {
+                for(int j = 0; j < valueSize; j++)
+                    value[j] = (char) ('a' + random.nextInt(26));
+                writer.write("\"");
+                writer.write(Integer.toString(i));
+                writer.write("\" \"");
+                writer.write(value);
+                writer.write("\"\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.avro.io.JsonDecoder;
 import org.apache.commons.lang.mutable.MutableInt;
 
 import voldemort.client.ClientConfig;
+import voldemort.client.DefaultStoreClient;
 import voldemort.client.SocketStoreClientFactory;
 import voldemort.client.StoreClient;
 import voldemort.client.protocol.RequestFormatType;
@@ -139,6 +140,8 @@ public class VoldemortClientShell {
     }
 
     protected void safeClose() {
+        if(client instanceof DefaultStoreClient)
+            ((DefaultStoreClient<?, ?>) client).close();
         if(adminClient != null)
             adminClient.close();
         if(factory != null)
@@ -282,6 +285,13 @@ public class VoldemortClientShell {
 	return keySerializer.toBytes(key);
     }
 
+    public static Object deserializeValue(byte[] value) {
+	SerializerFactory serializerFactory = factory.getSerializerFactory();
+	SerializerDefinition serializerDef = storeDef.getValueSerializer();
+	Serializer<Object> valueSerializer = (Serializer<Object>) serializerFactory.getSerializer(serializerDef);
+	return valueSerializer.toObject(value);
+    }
+
     protected void processPut(String putArgStr) {
         MutableInt parsePos = new MutableInt(0);
         Object key = parseKey(putArgStr, parsePos);
@@ -646,6 +646,8 @@ public abstract class AbstractStoreClientFactory implements StoreClientFactory {
     }
 
     public void close() {
+        for(DefaultStoreClient<?, ?> client: storeClientCache.values())
+            client.close();
         this.threadPool.shutdown();
 
         try {
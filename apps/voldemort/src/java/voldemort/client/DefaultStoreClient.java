@@ -37,10 +37,12 @@ import voldemort.store.StoreCapabilityType;
 import voldemort.utils.JmxUtils;
 import voldemort.utils.Utils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The default {@link voldemort.client.StoreClient StoreClient} implementation
@@ -91,6 +93,14 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
     // Default constructor invoked from child class
     public DefaultStoreClient() {}
 
+    /**
+     * Releases the threads held by the consistency framework of this client
+     */
+    public void close() {
+        if(framework != null)
+            framework.close();
+    }
+
     @JmxOperation(description = "bootstrap metadata from the cluster.")
     public void bootStrap() {
         if(beforeRebootstrapCallback != null) {
@@ -110,7 +120,7 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
         Content<K, V> content = new Content<>(key);
         MetaData metaData = new MetaData();
         framework.newMessage(new Message<K, V>(Message.Type.DELETE, content, metaData));
-        return metaData != null;
+        return metaData.getDeleteSuccesses() >= Constants.getRequiredWrites();
     }
 
     public boolean delete(K key, Version version) {
@@ -210,18 +220,24 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
         Content<K, V> content = new Content<K,V>(key);
         MetaData metaData = new MetaData();
         framework.newMessage(new Message<K, V>(Message.Type.GET, content, metaData));
-        return (Versioned<V>) metaData.getVersioned();
+        return resolve(key, metaData);
         //return get(key, null);
     }
 
     public Map<K, Versioned<V>> getAll(Iterable<K> keys) {
-        Map<K, List<Versioned<V>>> items = null;
+        if(framework == null)
+            framework = new Framework<>();
+        Map<K, V> entries = new LinkedHashMap<K, V>();
+        for(K key: keys)
+            entries.put(key, null);
+        Message<K, V> message = null;
         for(int attempts = 0;; attempts++) {
             if(attempts >= this.metadataRefreshAttempts)
                 throw new VoldemortException(this.metadataRefreshAttempts
                                              + " metadata refresh attempts failed.");
             try {
-                items = store.getAll(keys, null);
+                message = new Message<K, V>(Message.Type.GET_ALL, new Content<K, V>(entries), new MetaData());
+                framework.newMessage(message);
                 break;
             } catch(InvalidMetadataException e) {
                 logger.info("Received invalid metadata exception during getAll [  "
@@ -229,15 +245,30 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
                 bootStrap();
             }
         }
-        Map<K, Versioned<V>> result = Maps.newHashMapWithExpectedSize(items.size());
-
-        for(Entry<K, List<Versioned<V>>> mapEntry: items.entrySet()) {
-            Versioned<V> value = getItemOrThrow(mapEntry.getKey(), null, mapEntry.getValue());
-            result.put(mapEntry.getKey(), value);
+        Map<K, Versioned<V>> result = Maps.newHashMapWithExpectedSize(entries.size());
+        for(Entry<Object, MetaData> keyMetaData: message.getMetaData().getKeyMetaData().entrySet()) {
+            K key = Utils.uncheckedCast(keyMetaData.getKey());
+            Versioned<V> value = resolve(key, keyMetaData.getValue());
+            if(value != null)
+                result.put(key, value);
         }
         return result;
     }
 
+    /**
+     * @return the value the GET of the key read, after the resolver of the
+     *         store settled the versions the vector clocks could not order
+     * @throws InconsistentDataException if more than one version is left
+     */
+    protected Versioned<V> resolve(K key, MetaData metaData) {
+        if(metaData.getConcurrentVersions().isEmpty())
+            return Utils.uncheckedCast(metaData.getVersioned());
+        List<Versioned<V>> items = Utils.uncheckedCast(metaData.getConcurrentVersions());
+        if(resolver != null)
+            items = resolver.resolveConflicts(items);
+        return getItemOrThrow(key, null, items);
+    }
+
     public Version put(K key, V value) {
         if(framework == null)
             framework = new Framework<>();
@@ -247,6 +278,70 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
         return metaData.getVersion();
     }
 
+    /**
+     * Puts all the entries in one PUT_ALL message, the replication of the
+     * keys overlaps instead of running one key after the other.
+     *
+     * @return the new version of every key that was written
+     */
+    public Map<K, Version> putAll(Map<K, V> entries) {
+        if(framework == null)
+            framework = new Framework<>();
+        Message<K, V> message = new Message<K, V>(Message.Type.PUT_ALL, new Content<K, V>(entries), new MetaData());
+        framework.newMessage(message);
+        Map<K, Version> result = Maps.newHashMapWithExpectedSize(entries.size());
+        for(Entry<Object, MetaData> keyMetaData: message.getMetaData().getKeyMetaData().entrySet()) {
+            K key = Utils.uncheckedCast(keyMetaData.getKey());
+            result.put(key, keyMetaData.getValue().getVersion());
+        }
+        return result;
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(Object)}, the returned future is
+     * completed by the nonblocking store callbacks. It fails with
+     * {@link voldemort.store.InsufficientOperationalNodesException} if fewer
+     * replicas than required answered in time, the same for the futures of
+     * {@link #putAsync} and {@link #deleteAsync}.
+     */
+    public CompletableFuture<Versioned<V>> getAsync(K key) {
+        if(framework == null)
+            framework = new Framework<>();
+        Content<K, V> content = new Content<K,V>(key);
+        return framework.newMessageAsync(new Message<K, V>(Message.Type.GET, content, new MetaData()))
+                        .thenApply(message -> {
+                            Versioned<V> versioned = Utils.uncheckedCast(message.getMetaData().getVersioned());
+                            return versioned;
+                        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #put(Object, Object)}. Only the read of
+     * the current version happens on the caller thread, the master and
+     * replica writes do not.
+     */
+    public CompletableFuture<Version> putAsync(K key, V value) {
+        if(framework == null)
+            framework = new Framework<>();
+        Content<K, V> content = new Content<K,V>(key, value);
+        return framework.newMessageAsync(new Message<K, V>(Message.Type.PUT, content, new MetaData()))
+                        .thenApply(message -> message.getMetaData().getVersion());
+    }
+
+    /**
+     * Non-blocking variant of {@link #delete(Object)}.
+     *
+     * @return whether the required number of replicas deleted the key, false
+     *         if there was nothing to delete
+     */
+    public CompletableFuture<Boolean> deleteAsync(K key) {
+        if(framework == null)
+            framework = new Framework<>();
+        Content<K, V> content = new Content<>(key);
+        return framework.newMessageAsync(new Message<K, V>(Message.Type.DELETE, content, new MetaData()))
+                        .thenApply(message -> message.getMetaData().getDeleteSuccesses() >= Constants.getRequiredWrites());
+    }
+
     public Version put(K key, Versioned<V> versioned, Object transform)
             throws ObsoleteVersionException {
         for(int attempts = 0; attempts < this.metadataRefreshAttempts; attempts++) {
@@ -378,15 +473,8 @@ public class DefaultStoreClient<K, V> implements StoreClient<K, V> {
 
     public Version getVersionForPut(K key) {
         Version version = getVersionWithResolution(key);
-        if(version == null) {
-            try {
-                version = (Version) Constants.getVersionType().newInstance();
-            } catch (InstantiationException e) {
-                e.printStackTrace();
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            }
-        }
+        if(version == null)
+            version = Constants.getVersionObject();
         return version;
     }
 
@@ -101,4 +101,29 @@ public interface RequestFormat {
     public boolean isCompleteDeleteResponse(ByteBuffer buffer);
 
     public boolean readDeleteResponse(DataInputStream input) throws IOException;
+
+    /**
+     * @return whether the protocol carries the NEW_MESSAGE requests
+     */
+    public boolean supportsNewMessage();
+
+    /**
+     * Writes a PUT for the owner of the key to version. The version is the
+     * causal context of the client, which the owner merges into the one it
+     * assigns.
+     */
+    public void writeNewMessageRequest(DataOutputStream output,
+                                       String storeName,
+                                       ByteArray key,
+                                       byte[] value,
+                                       byte[] transforms,
+                                       Version version,
+                                       RequestRoutingType routingType) throws IOException;
+
+    public boolean isCompleteNewMessageResponse(ByteBuffer buffer);
+
+    /**
+     * @return the version the owner assigned to the value
+     */
+    public Version readNewMessageResponse(DataInputStream input) throws IOException;
 }
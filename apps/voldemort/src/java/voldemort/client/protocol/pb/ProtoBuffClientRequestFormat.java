@@ -240,6 +240,35 @@ public class ProtoBuffClientRequestFormat implements RequestFormat {
                                                        .build());
     }
 
+    /*
+     * The protocol buffers format has no message for a forwarded PUT, only
+     * the native format carries it
+     */
+    /**
+     * The protocol buffers messages have no NEW_MESSAGE request
+     */
+    public boolean supportsNewMessage() {
+        return false;
+    }
+
+    public void writeNewMessageRequest(DataOutputStream output,
+                                       String storeName,
+                                       ByteArray key,
+                                       byte[] value,
+                                       byte[] transforms,
+                                       Version version,
+                                       RequestRoutingType routingType) throws IOException {
+        throw new UnsupportedOperationException("Forwarded PUTs need the voldemort native protocol");
+    }
+
+    public boolean isCompleteNewMessageResponse(ByteBuffer buffer) {
+        throw new UnsupportedOperationException("Forwarded PUTs need the voldemort native protocol");
+    }
+
+    public Version readNewMessageResponse(DataInputStream input) throws IOException {
+        throw new UnsupportedOperationException("Forwarded PUTs need the voldemort native protocol");
+    }
+
     private boolean isCompleteResponse(ByteBuffer buffer) {
         if((buffer.limit() - buffer.position()) < 4) {
             // Does not contain the integer ( 4 bytes)
@@ -21,6 +21,7 @@ import voldemort.VoldemortException;
 import voldemort.client.protocol.RequestFormat;
 import voldemort.common.VoldemortOpCode;
 import voldemort.common.nio.ByteBufferBackedInputStream;
+import voldemort.consistency.ComponentRegistry;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.consistency.versioning.VectorClock;
@@ -257,8 +258,50 @@ public class VoldemortNativeClientRequestFormat implements RequestFormat {
                                 byte[] transforms,
                                 Version version,
                                 RequestRoutingType routingType) throws IOException {
+        writePutRequest(outputStream,
+                        VoldemortOpCode.PUT_OP_CODE,
+                        storeName,
+                        key,
+                        value,
+                        transforms,
+                        version,
+                        routingType);
+    }
+
+    public boolean supportsNewMessage() {
+        return true;
+    }
+
+    /*
+     * A forwarded PUT has the format of a PUT
+     */
+    public void writeNewMessageRequest(DataOutputStream outputStream,
+                                       String storeName,
+                                       ByteArray key,
+                                       byte[] value,
+                                       byte[] transforms,
+                                       Version version,
+                                       RequestRoutingType routingType) throws IOException {
+        writePutRequest(outputStream,
+                        VoldemortOpCode.NEW_MESSAGE_OP_CODE,
+                        storeName,
+                        key,
+                        value,
+                        transforms,
+                        version,
+                        routingType);
+    }
+
+    private void writePutRequest(DataOutputStream outputStream,
+                                 byte opCode,
+                                 String storeName,
+                                 ByteArray key,
+                                 byte[] value,
+                                 byte[] transforms,
+                                 Version version,
+                                 RequestRoutingType routingType) throws IOException {
         StoreUtils.assertValidKey(key);
-        outputStream.writeByte(VoldemortOpCode.PUT_OP_CODE);
+        outputStream.writeByte(opCode);
         outputStream.writeUTF(storeName);
         outputStream.writeBoolean(routingType.equals(RequestRoutingType.ROUTED));
         if(protocolVersion > 1) {
@@ -287,6 +330,18 @@ public class VoldemortNativeClientRequestFormat implements RequestFormat {
         checkException(inputStream);
     }
 
+    public boolean isCompleteNewMessageResponse(ByteBuffer buffer) {
+        return isCompleteResponse(buffer, VoldemortOpCode.NEW_MESSAGE_OP_CODE);
+    }
+
+    public Version readNewMessageResponse(DataInputStream inputStream) throws IOException {
+        checkException(inputStream);
+        int versionSize = inputStream.readInt();
+        byte[] bytes = new byte[versionSize];
+        ByteUtils.read(inputStream, bytes);
+        return ComponentRegistry.readVersion(bytes, 0);
+    }
+
     /*
      * If there is an exception, throw it
      */
@@ -348,6 +403,10 @@ public class VoldemortNativeClientRequestFormat implements RequestFormat {
                     case VoldemortOpCode.PUT_OP_CODE:
                         readPutResponse(inputStream);
                         break;
+
+                    case VoldemortOpCode.NEW_MESSAGE_OP_CODE:
+                        readNewMessageResponse(inputStream);
+                        break;
                     default:
                         throw new VoldemortException("Unrecognized OpCode is inCompleteResponse "
                                                      + opCode);
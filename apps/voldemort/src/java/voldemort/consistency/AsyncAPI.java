@@ -0,0 +1,16 @@
+package voldemort.consistency;
+
+import voldemort.consistency.types.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncAPI<K,V> {
+    /**
+     * Submits the message without blocking the caller. The returned future is
+     * completed from the {@link voldemort.store.nonblockingstore.NonblockingStore}
+     * callbacks once enough responses arrived, or when the operation timeout
+     * expires, with the message metadata holding the outcome.
+     */
+    CompletableFuture<Message<K, V>> newMessageAsync(Message<K, V> incomingMessage);
+    CompletableFuture<Message<K, V>> replicateMessageAsync(Message<K, V> replicateMessage);
+}
@@ -4,14 +4,30 @@ import voldemort.consistency.cluster.Node;
 import voldemort.consistency.types.Content;
 import voldemort.consistency.types.Message;
 import voldemort.consistency.types.MetaData;
+import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.versioning.Version;
 
+import java.util.List;
+
 public interface CommunicationInterface<K,V> {
     interface internal<K,V>{
         void get(Node node, Content<K,V> content, MetaData metaData, Callback callback);
+        void getAll(Node node, List<ByteArray> keys, MetaData metaData, Callback callback);
         void put(Node node, Content<K,V> content, MetaData metaData, Callback callback);
         void delete(Node node, Content<K,V> content, MetaData metaData, Callback callback);
 
+        /**
+         * PUT to the owner of the key, which versions it. The callback gets
+         * the assigned version.
+         */
+        void newMessage(Node node, Content<K,V> content, MetaData metaData, Callback callback);
+
+        /**
+         * @return whether the store of the node carries
+         *         {@link #newMessage(Node, Content, MetaData, Callback)}
+         */
+        boolean supportsNewMessage(Node node);
+
         Version getActualVersion(Content<K, V> content, MetaData metaData);
 
     }
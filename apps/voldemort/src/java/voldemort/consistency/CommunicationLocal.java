@@ -33,6 +33,12 @@ public class CommunicationLocal<K,V> implements CommunicationInterface.internal<
        */
     }
 
+    @Override
+    public void getAll(Node node, List<ByteArray> keys, MetaData metaData, Callback callback) {
+        NonblockingStore store = (NonblockingStore) groupMembership.getReplicationTargets(true).get(node.getId());
+        store.submitGetAllRequest(keys, null, callback, Constants.getOpTimeoutInMs);
+    }
+
     @Override
     public void delete(Node node, Content<K, V> content, MetaData metaData, Callback callback) {
         NonblockingStore store = (NonblockingStore) groupMembership.getReplicationTargets(true).get(node.getId());
@@ -51,6 +57,18 @@ public class CommunicationLocal<K,V> implements CommunicationInterface.internal<
         stores.get(node.getId()).put(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())), (Versioned<byte[]>) metaData.getVersioned(), null);
     }
 
+    @Override
+    public void newMessage(Node node, Content<K, V> content, MetaData metaData, Callback callback) {
+        NonblockingStore store = (NonblockingStore) groupMembership.getReplicationTargets(true).get(node.getId());
+        store.submitNewMessageRequest(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())), (Versioned<byte[]>) metaData.getVersioned(), null, callback, Constants.putOpTimeoutInMs);
+    }
+
+    @Override
+    public boolean supportsNewMessage(Node node) {
+        NonblockingStore store = (NonblockingStore) groupMembership.getReplicationTargets(true).get(node.getId());
+        return store.supportsNewMessageRequest();
+    }
+
     @Override
     public Version getActualVersion(Content<K, V> content, MetaData metaData) {
         return defaultStore.getVersionForPut(content.getKey());
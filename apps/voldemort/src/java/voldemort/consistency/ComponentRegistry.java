@@ -0,0 +1,184 @@
+package voldemort.consistency;
+
+import voldemort.consistency.exception.ConsistencyException;
+import voldemort.consistency.versioning.Version;
+
+import java.io.DataInputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the classes configured in {@link Constants} once and keeps their
+ * constructors as {@link MethodHandle}s, so creating a component or a
+ * {@link Version} on the request path does not go through Class.forName and
+ * reflective lookups every time.
+ *
+ * The Version factory is re-resolved if {@link Constants#versioning} is
+ * pointed to another class.
+ */
+public final class ComponentRegistry {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+    private static final ConcurrentHashMap<Key, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    private static volatile VersionFactory versionFactory;
+
+    private ComponentRegistry() {
+    }
+
+    /**
+     * @return a new, empty instance of the configured Version class
+     */
+    public static Version newVersion() {
+        try {
+            return (Version) versionFactory().constructor.invokeExact();
+        } catch(Throwable t) {
+            throw new ConsistencyException("Could not create version " + Constants.versioning, t);
+        }
+    }
+
+    /**
+     * Reads a version of the configured class from the stream through its
+     * static createNew(DataInputStream) method.
+     */
+    public static Version readVersion(DataInputStream inputStream) {
+        VersionFactory factory = versionFactory();
+        if(factory.createNew == null)
+            throw new ConsistencyException(Constants.versioning
+                                           + " does not define createNew(DataInputStream)");
+        try {
+            return (Version) factory.createNew.invokeExact(inputStream);
+        } catch(Throwable t) {
+            throw new ConsistencyException("Could not read version " + Constants.versioning, t);
+        }
+    }
+
+    /**
+     * Reads a version of the configured class from bytes starting at the
+     * given offset.
+     */
+    public static Version readVersion(byte[] bytes, int offset) {
+        VersionFactory factory = versionFactory();
+        if(factory.fromBytes == null)
+            throw new ConsistencyException(Constants.versioning
+                                           + " does not define a (byte[], int) constructor");
+        try {
+            return (Version) factory.fromBytes.invokeExact(bytes, offset);
+        } catch(Throwable t) {
+            throw new ConsistencyException("Could not read version " + Constants.versioning, t);
+        }
+    }
+
+    public static Class<?> versionType() {
+        return versionFactory().type;
+    }
+
+    /**
+     * Creates a component of the given class through its public constructor
+     * with the given parameter types. The constructor handle is looked up once
+     * per class and signature.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T newComponent(String className, Class<?>[] parameterTypes, Object... args) {
+        Key key = new Key(className, parameterTypes);
+        MethodHandle constructor = constructors.get(key);
+        if(constructor == null) {
+            try {
+                Class<?> clazz = Class.forName(className);
+                constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class, parameterTypes))
+                                    .asType(MethodType.methodType(Object.class, parameterTypes));
+            } catch(ReflectiveOperationException e) {
+                throw new ConsistencyException("Could not resolve component " + className, e);
+            }
+            constructors.putIfAbsent(key, constructor);
+        }
+        try {
+            return (T) constructor.invokeWithArguments(args);
+        } catch(Throwable t) {
+            throw new ConsistencyException("Could not create component " + className, t);
+        }
+    }
+
+    private static VersionFactory versionFactory() {
+        VersionFactory factory = versionFactory;
+        String className = Constants.versioning;
+        if(factory == null || !factory.className.equals(className)) {
+            factory = new VersionFactory(className);
+            versionFactory = factory;
+        }
+        return factory;
+    }
+
+    private static final class VersionFactory {
+
+        final String className;
+        final Class<?> type;
+        final MethodHandle constructor;
+        final MethodHandle createNew;
+        final MethodHandle fromBytes;
+
+        VersionFactory(String className) {
+            this.className = className;
+            try {
+                this.type = Class.forName(className);
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                                         .asType(MethodType.methodType(Version.class));
+            } catch(ReflectiveOperationException e) {
+                throw new ConsistencyException("Could not resolve version " + className, e);
+            }
+            this.createNew = findCreateNew(type);
+            this.fromBytes = findFromBytes(type);
+        }
+
+        private static MethodHandle findCreateNew(Class<?> type) {
+            try {
+                return lookup.findStatic(type,
+                                         "createNew",
+                                         MethodType.methodType(Version.class, DataInputStream.class));
+            } catch(ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle findFromBytes(Class<?> type) {
+            try {
+                return lookup.findConstructor(type,
+                                              MethodType.methodType(void.class, byte[].class, int.class))
+                             .asType(MethodType.methodType(Version.class, byte[].class, int.class));
+            } catch(ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final String className;
+        private final Class<?>[] parameterTypes;
+
+        Key(String className, Class<?>[] parameterTypes) {
+            this.className = className;
+            this.parameterTypes = parameterTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o)
+                return true;
+            if(!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return className.equals(other.className)
+                   && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * className.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+    }
+}
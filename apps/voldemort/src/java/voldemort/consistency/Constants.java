@@ -4,8 +4,6 @@ package voldemort.consistency;
 import voldemort.consistency.cluster.Node;
 import voldemort.consistency.versioning.Version;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 
 public class Constants {
@@ -19,12 +17,17 @@ public class Constants {
     static int requiredReads = 1;
     static int preferedReads = 1;
     static boolean repairReads = true;
+    static boolean hedgedReads = false; //send one more GET to the next node when a replica is slow
+    static double hedgePercentile = 95.0; //percentile of the recent node latency after which a GET is hedged
+    static long hedgeMinDelayUs = 1000; //a GET is never hedged earlier than this
+    static double hedgeMaxRate = 0.05; //fraction of the GETs that can be hedged at most
     public static String versioning = "voldemort.consistency.versioning.VectorClock";
     public static String key = "java.lang.String";
     private static String value = "java.lang.String";
     static HashMap<Integer, Boolean> permissions = new HashMap<Integer, Boolean>(){{ //pair Node/timestamper
         put(0,true);
     }};
+    public static int localNodeId = -1; //node whose partitions this client timestamps (PartitionedOrder)
 
     public static String communicationlocal = "voldemort.consistency.CommunicationLocal";
     public static String communicationremote = "voldemort.consistency.CommunicationRemote";
@@ -36,112 +39,50 @@ public class Constants {
 
 
     //nao modificar
-    private static Class<?> versionType = null;
     private static Class<?> keyType = null;
     private static Class<?> valueType = null;
 
     public static <K,V> ReplicateInterface<K,V> getReplicateClass(GroupMembershipInterface groupMembership, QuorumInterface<K,V> quorum, CommunicationInterface.internal<K,V> internal, CommunicationInterface.external<K,V> external, DeliveryConditionInterface<K,V> deliveryCondition) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(replicate);
-            Class[] params = new Class[] {  GroupMembershipInterface.class, QuorumInterface.class, CommunicationInterface.internal.class, CommunicationInterface.external.class, DeliveryConditionInterface.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (ReplicateInterface <K,V>) constr.newInstance(groupMembership, quorum, internal, external, deliveryCondition);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] {  GroupMembershipInterface.class, QuorumInterface.class, CommunicationInterface.internal.class, CommunicationInterface.external.class, DeliveryConditionInterface.class};
+        return ComponentRegistry.newComponent(replicate, params, groupMembership, quorum, internal, external, deliveryCondition);
     }
 
     public static <K,V> DeliveryConditionInterface<K,V> getDeliveryConditionClass(OrderInterface<K,V> orderInterface, CommunicationInterface.internal<K,V> internal, CommunicationInterface.external<K,V> external, GroupMembershipInterface groupMembership) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(deliverycondition);
-            Class[] params = new Class[] { OrderInterface.class, CommunicationInterface.internal.class, CommunicationInterface.external.class, GroupMembershipInterface.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (DeliveryConditionInterface <K,V>) constr.newInstance(orderInterface, internal, external, groupMembership);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] { OrderInterface.class, CommunicationInterface.internal.class, CommunicationInterface.external.class, GroupMembershipInterface.class};
+        return ComponentRegistry.newComponent(deliverycondition, params, orderInterface, internal, external, groupMembership);
     }
 
     public static <K,V> OrderInterface<K,V> getOrderClass(int max, GroupMembershipInterface groupMembership, CommunicationInterface.internal<K,V> internal) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(order);
-            Class[] params = new Class[] { int.class, GroupMembershipInterface.class, CommunicationInterface.internal.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (OrderInterface <K,V>) constr.newInstance(max, groupMembership, internal);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] { int.class, GroupMembershipInterface.class, CommunicationInterface.internal.class};
+        return ComponentRegistry.newComponent(order, params, max, groupMembership, internal);
     }
 
 
     public static <K,V> GroupMembershipInterface getGroupMembershipClass(Node classArg) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(groupMembership);
-            Class[] params = new Class[] { Node.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (GroupMembershipInterface) constr.newInstance(classArg);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] { Node.class};
+        return ComponentRegistry.newComponent(groupMembership, params, classArg);
     }
 
     public static <K,V> QuorumInterface<K,V> getQuorumClass() {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(quorum);
-            Class[] params = new Class[] {};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (QuorumInterface<K,V>) constr.newInstance();
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        return ComponentRegistry.newComponent(quorum, new Class[] {});
     }
 
     public static <K,V> CommunicationInterface.external<K,V> getCommunicationRemoteClass(GroupMembershipInterface classArg) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(communicationremote);
-            Class[] params = new Class[] { GroupMembershipInterface.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (CommunicationInterface.external<K,V>) constr.newInstance(classArg);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] { GroupMembershipInterface.class};
+        return ComponentRegistry.newComponent(communicationremote, params, classArg);
     }
 
     public static <K,V> CommunicationInterface.internal<K,V> getCommunicationLocalClass(GroupMembershipInterface classArg) {
-        Class<?> clazz = null;
-        try {
-            clazz = Class.forName(communicationlocal);
-            Class[] params = new Class[] { GroupMembershipInterface.class};
-            Constructor<?> constr = clazz.getConstructor(params);
-            return (CommunicationInterface.internal<K,V>) constr.newInstance(classArg);
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return null;
+        Class[] params = new Class[] { GroupMembershipInterface.class};
+        return ComponentRegistry.newComponent(communicationlocal, params, classArg);
+    }
+
+    public static int getRequiredWrites() {
+        return requiredWrites;
     }
 
     public static Class<?> getVersionType() {
-        try {
-            if (versionType == null){
-                ClassLoader classLoader = Constants.class.getClassLoader();
-                versionType = classLoader.loadClass(versioning);
-            }
-        } catch (ClassNotFoundException e) {
-            e.printStackTrace();
-        }
-        return versionType;
+        return ComponentRegistry.versionType();
     }
 
     public static Class<?> getKeyType() {
@@ -169,14 +110,6 @@ public class Constants {
     }
 
     public static Version getVersionObject(){
-        Class<? extends Version> classDefinition = null;
-        try {
-            classDefinition = (Class<? extends Version>) Class.forName(Constants.versioning);
-            Constructor<? extends Version> cons = classDefinition .getConstructor();
-            return cons.newInstance();
-        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-            return null;
-        }
+        return ComponentRegistry.newVersion();
     }
 }
@@ -1,27 +1,44 @@
 package voldemort.consistency;
 
+import org.apache.log4j.Logger;
 import voldemort.VoldemortClientShell;
 import voldemort.cluster.failuredetector.FailureDetector;
 import voldemort.consistency.cluster.Node;
+import voldemort.consistency.exception.ConsistencyException;
+import voldemort.consistency.stats.ConsistencyStats;
+import voldemort.consistency.stats.ConsistencyStats.Stage;
+import voldemort.consistency.stats.ConsistencyStatsJmx;
+import voldemort.consistency.types.Content;
 import voldemort.consistency.types.Message;
 import voldemort.consistency.types.MetaData;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.pipeline.Response;
 import voldemort.consistency.utils.serialization.StringSerializer;
+import voldemort.consistency.versioning.VectorClockInconsistencyResolver;
 import voldemort.consistency.versioning.Versioned;
+import voldemort.store.InsufficientOperationalNodesException;
+import voldemort.store.InvalidMetadataException;
+import voldemort.utils.JmxUtils;
 import voldemort.utils.SystemTime;
 import voldemort.utils.Time;
 import voldemort.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Framework<K,V> implements API<K,V>, AsyncAPI<K,V> {
+    private static final Logger logger = Logger.getLogger(Framework.class);
 
-public class Framework<K,V> implements API<K,V> {
     protected final Time time;
     OrderInterface<K, V> order;
     GroupMembershipInterface groupMembership;
@@ -31,6 +48,8 @@ public class Framework<K,V> implements API<K,V> {
     ReplicateInterface<K,V> replicate;
     DeliveryConditionInterface<K,V> deliveryCondition;
     FailureDetector failureDetector;
+    private final HedgeBudget hedgeBudget = new HedgeBudget(Constants.hedgeMaxRate);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     public Framework() {
         this.time = Utils.notNull(SystemTime.INSTANCE);
@@ -42,6 +61,39 @@ public class Framework<K,V> implements API<K,V> {
         this.deliveryCondition = Constants.getDeliveryConditionClass(order, communicationLocal, communicationRemote, groupMembership);
         this.replicate = Constants.getReplicateClass(groupMembership, quorum, communicationLocal, communicationRemote, deliveryCondition);
         this.failureDetector = VoldemortClientShell.factory.getFailureDetector();
+        JmxUtils.registerMbean(new ConsistencyStatsJmx(ConsistencyStats.INSTANCE),
+                               JmxUtils.createObjectName(JmxUtils.getPackageName(ConsistencyStats.class),
+                                                         "consistency-stats"));
+        Timeouts.acquire();
+    }
+
+    /**
+     * Builds the framework from the given stages rather than the ones
+     * configured in {@link Constants}, without registering its MBean
+     */
+    Framework(GroupMembershipInterface groupMembership,
+              CommunicationInterface.internal<K, V> communicationLocal,
+              OrderInterface<K, V> order,
+              QuorumInterface<K, V> quorum,
+              ReplicateInterface<K, V> replicate,
+              FailureDetector failureDetector) {
+        this.time = Utils.notNull(SystemTime.INSTANCE);
+        this.groupMembership = groupMembership;
+        this.communicationLocal = communicationLocal;
+        this.order = order;
+        this.quorum = quorum;
+        this.replicate = replicate;
+        this.failureDetector = failureDetector;
+        Timeouts.acquire();
+    }
+
+    /**
+     * Releases the timeout threads held by this framework. The operations
+     * still pending are left to the timeouts of their replica requests.
+     */
+    public void close() {
+        if(closed.compareAndSet(false, true))
+            Timeouts.release();
     }
 
     @Override
@@ -49,270 +101,508 @@ public class Framework<K,V> implements API<K,V> {
         long startTime = time.getNanoseconds();
         switch (message.getType()){
             case PUT:{
-                if(isTimestamper()){
+                if(order.isTimestamper(message.getContent())){
                     orderMessage(message, startTime);
                     replicate.replicate(message);
                 }else{
-                    int timestamper = groupMembership.getTimestamper();
-                    //TODO o que fazer em caso de nao ser timestamper
+                    await(forwardMessage(message, startTime));
                 }
-
+                break;
             }
-            case GET:{
-                List<Node> nodes = groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey())),
-                        Constants.requiredReads);
-                int attempts = Math.min(Constants.preferedReads, nodes.size());
-                final Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<>();
-                final CountDownLatch latch = new CountDownLatch(attempts);
-
-                System.out.println("Attempting " + attempts + " " + "Get"
-                        + " operations in parallel for key " + message.getContent().getKey());
-
-                final AtomicBoolean isResponseProcessed = new AtomicBoolean(false);
-
-                for (int i = 0; i < attempts; i++) {
-                    final Node node = nodes.get(i);
+            case GET:
+            case GET_ALL:
+            case PUT_ALL:
+            case DELETE:
+                await(newMessageAsync(message));
+                break;
+            case DEPENDENCY_REQUEST:
+            case DEPENDENCY_RESPONSE:
+                break;
+        }
+    }
 
-                    final long startMs = System.currentTimeMillis();
+    /**
+     * Waits for the future, throwing the exception it failed with rather than
+     * the CompletionException wrapping it
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if(e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
 
-                    Callback callback = (result, requestTime) -> {
-                        System.out.println("Get"
-                                + " response received (" + requestTime + " ms.) from node "
-                                + node.getId() + "for key " + message.getContent().getKey());
-
-                        Response<ByteArray, Object> response = new Response<>(node,
-                                new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey())),
-                                result,
-                                requestTime);
-                        System.out.println("Finished Get"
-                                + " for key " + message.getContent().getKey()
-                                + " (keyRef: " + System.identityHashCode(message.getContent().getKey())
-                                + "); started at " + startMs + " took " + requestTime
-                                + " ms on node " + node.getId() + "(" + node.getHost() + ")");
-
-                        responses.put(node.getId(), response);
-                        latch.countDown();
-
-                        // TODO: There is inconsistency between the exceptions are treated here in the
-                        // completion callback and in the application thread.
-                        // They need a cleanup to make them consistent. Thought about handling
-                        // them here, but it is the selector thread that is calling this completion method,
-                        // handleResponseError has some synchronization, not sure about the effect, so reserving
-                        // it for later.
-
-                        // isResponseProcessed just reduces the time window during
-                        // which a exception can go uncounted. When the parallel
-                        // requests timeout and it is trying Serial timeout
-                        // exceptions are lost and the node is never marked down.
-                        // This reduces the window where an exception is lost
-                        if (isResponseProcessed.get() && response.getValue() instanceof Exception) {
-                            System.out.println("ERROR");
-                        }
-                    };
+    /**
+     * Waits for the future of a blocking call. The blocking API reports a
+     * missed quorum in the message metadata only, the futures of the
+     * asynchronous API fail with it.
+     */
+    private static void await(CompletableFuture<?> future) {
+        try {
+            join(future);
+        } catch(InsufficientOperationalNodesException e) {
+            // already logged and counted where the quorum was checked
+        }
+    }
 
-                    System.out.println("Submitting Get"
-                            + " request on node " + node.getId() + " for key " + message.getContent().getKey());
-                    communicationLocal.get(node, message.getContent(), message.getMetaData(), callback);
-                }
+    @Override
+    public CompletableFuture<Message<K, V>> newMessageAsync(Message<K, V> message) {
+        long startTime = time.getNanoseconds();
+        switch (message.getType()){
+            case PUT:{
+                if(!order.isTimestamper(message.getContent()))
+                    return forwardMessage(message, startTime);
+                return orderMessageAsync(message, startTime);
+            }
+            case GET:
+                return getAsync(message);
+            case GET_ALL:
+                return getAllAsync(message);
+            case PUT_ALL:
+                return putAllAsync(message);
+            case DELETE:
+                return deleteAsync(message);
+            default:
+                return CompletableFuture.completedFuture(message);
+        }
+    }
 
+    private CompletableFuture<Message<K, V>> getAsync(final Message<K, V> message) {
+        final long startNs = System.nanoTime();
+        final ByteArray key = new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey()));
+        List<Node> nodes = groupMembership.getNodes(key, Constants.requiredReads);
+        final int attempts = Math.min(Constants.preferedReads, nodes.size());
+        final Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<>();
+        final AtomicInteger pending = new AtomicInteger(attempts);
+        final AtomicInteger successes = new AtomicInteger(0);
+        final CompletableFuture<Message<K, V>> future = new CompletableFuture<>();
+
+        // isResponseProcessed makes sure the responses are handled exactly once,
+        // either by the last callback or by the timeout, whichever comes first
+        final AtomicBoolean isResponseProcessed = new AtomicBoolean(false);
+        final Runnable completion = () -> {
+            if(isResponseProcessed.compareAndSet(false, true)) {
                 try {
-                    latch.await(Constants.getOpTimeoutInMs, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    System.out.println("ERROR");
+                    processGetResponses(message, responses, failureDetector);
+                    ConsistencyStats.INSTANCE.recordStage(Stage.GET, startNs);
+                    if(message.getMetaData().getGetSuccesses() < Constants.requiredReads)
+                        future.completeExceptionally(new InsufficientOperationalNodesException("GET {key:"
+                                + message.getContent().getKey() + "} failed, required " + Constants.requiredReads
+                                + " successes, obtained " + message.getMetaData().getGetSuccesses()));
+                    else
+                        future.complete(message);
+                } catch(RuntimeException e) {
+                    future.completeExceptionally(e);
                 }
+            }
+        };
+
+        if(logger.isDebugEnabled())
+            logger.debug("Attempting " + attempts + " " + "Get"
+                    + " operations in parallel for key " + message.getContent().getKey());
+
+        // send time of the requests still waiting for their node. The latency
+        // of a node is recorded for every request, failed or timed out too,
+        // so that the hedge delay is not learnt from the fast requests only
+        final Map<Integer, Long> inFlight = new ConcurrentHashMap<>();
+
+        // the first preferedReads successful responses win, which can include
+        // the hedged request sent to the next node
+        final AtomicInteger originalPending = new AtomicInteger(attempts);
+        for (int i = 0; i < attempts; i++) {
+            final Node node = nodes.get(i);
+
+            Callback callback = (result, requestTime) -> {
+                originalPending.decrementAndGet();
+                recordLatency(node.getId(), inFlight);
+                onGetResponse(node, key, result, requestTime, attempts, responses, pending, successes,
+                              isResponseProcessed, completion);
+            };
+
+            inFlight.put(node.getId(), System.nanoTime());
+            communicationLocal.get(node, message.getContent(), message.getMetaData(), callback);
+        }
 
-                for (Response<ByteArray, Object> response: responses.values()) {
-                    if (response.getValue() instanceof Exception) {
-                        System.out.println("ERROR");
+        if(attempts == 0)
+            completion.run();
+        else if(Constants.hedgedReads && nodes.size() > attempts) {
+            hedgeBudget.onGet();
+            final long hedgeDelayUs = getHedgeDelayUs(ConsistencyStats.INSTANCE, nodes.subList(0, attempts));
+            if(hedgeDelayUs >= 0) {
+                final Node hedgeNode = nodes.get(attempts);
+                Timeouts.bind(future, () -> {
+                    if(isResponseProcessed.get() || !hedgeBudget.tryHedge())
                         return;
-                    } else {
-                        message.getMetaData().incrementGetSuccesses();
-                        Response<ByteArray, V> rCast = Utils.uncheckedCast(response);
-                        message.getMetaData().getResponses().add((Response<ByteArray, Object>) rCast);
-                        failureDetector.recordSuccess(response.getNode(), response.getRequestTime());
-                        message.getMetaData().getZoneResponses().add(response.getNode().getZoneId());
-                    }
-                }
-                isResponseProcessed.set(true);
-
-                System.out.println("GET for key " + message.getContent().getKey() + " (keyRef: "
-                        + System.identityHashCode(message.getContent().getKey()) + "); successes: "
-                        + message.getMetaData().getGetSuccesses() + " preferred: " + Constants.preferedReads + " required: "
-                        + Constants.requiredReads);
+                    ConsistencyStats.INSTANCE.recordHedge();
+                    if(logger.isDebugEnabled())
+                        logger.debug("GET {key:" + message.getContent().getKey() + "} hedged to node "
+                                + hedgeNode.getId() + " after " + hedgeDelayUs + " us");
+                    pending.incrementAndGet();
+                    Callback callback = (result, requestTime) -> {
+                        if(!(result instanceof Exception) && originalPending.get() > 0
+                                && !isResponseProcessed.get())
+                            ConsistencyStats.INSTANCE.recordHedgeWon();
+                        recordLatency(hedgeNode.getId(), inFlight);
+                        onGetResponse(hedgeNode, key, result, requestTime, attempts, responses, pending,
+                                      successes, isResponseProcessed, completion);
+                    };
+                    inFlight.put(hedgeNode.getId(), System.nanoTime());
+                    communicationLocal.get(hedgeNode, message.getContent(), message.getMetaData(), callback);
+                }, hedgeDelayUs, TimeUnit.MICROSECONDS);
+            }
+        }
+        Timeouts.bind(future, () -> {
+            // the requests still waiting took at least this long
+            for(Integer nodeId: inFlight.keySet())
+                recordLatency(nodeId, inFlight);
+            completion.run();
+        }, Constants.getOpTimeoutInMs);
+        return future;
+    }
 
-                if (message.getMetaData().getGetSuccesses() < Constants.requiredReads) {
-                    //ADD INSUFFICIENT SUCCESSES EVENT
-                    System.out.println("Insufficient Successes");
+    /**
+     * Records the latency of the request sent to the node, unless it is
+     * already recorded
+     */
+    private static void recordLatency(int nodeId, Map<Integer, Long> inFlight) {
+        Long sentNs = inFlight.remove(nodeId);
+        if(sentNs != null)
+            ConsistencyStats.INSTANCE.recordNodeLatency(nodeId,
+                                                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentNs));
+    }
 
-                } else {
+    private void onGetResponse(Node node,
+                               ByteArray key,
+                               Object result,
+                               long requestTime,
+                               int attempts,
+                               Map<Integer, Response<ByteArray, Object>> responses,
+                               AtomicInteger pending,
+                               AtomicInteger successes,
+                               AtomicBoolean isResponseProcessed,
+                               Runnable completion) {
+        if(isResponseProcessed.get()) {
+            // late response after the timeout fired, it is not counted
+            if(result instanceof Exception)
+                logger.warn("GET {key:" + key + "} failed on node " + node.getId()
+                        + " after the operation completed: " + result);
+            return;
+        }
+        responses.put(node.getId(), new Response<>(node, key, result, requestTime));
+        int got = result instanceof Exception ? successes.get() : successes.incrementAndGet();
+        if(pending.decrementAndGet() == 0 || got >= attempts)
+            completion.run();
+    }
 
-                    if (Constants.requiredZones != 0) {
+    /**
+     * @return how long to wait in us before hedging a GET to the given nodes,
+     *         the configured percentile of the slowest node's recent latency
+     *         but no less than hedgeMinDelayUs, or -1 if there is no latency
+     *         recorded yet
+     */
+    static long getHedgeDelayUs(ConsistencyStats stats, List<Node> nodes) {
+        long delayUs = -1;
+        for(Node node: nodes) {
+            long nodeUs = stats.getNodeQuantileInUs(node.getId(), Constants.hedgePercentile);
+            if(nodeUs < 0)
+                return -1;
+            delayUs = Math.max(delayUs, nodeUs);
+        }
+        return delayUs < 0 ? -1 : Math.max(delayUs, Constants.hedgeMinDelayUs);
+    }
 
-                        int zonesSatisfied = message.getMetaData().getZoneResponses().size();
-                        if (zonesSatisfied >= (Constants.requiredZones + 1)) {
-                            //ADD INSUFFICIENT ZONES EVENT
-                            return;
-                        } else {
-                            System.out.println("Operation Get"
-                                    + "failed due to insufficient zone responses, required "
-                                    + Constants.requiredZones + " obtained "
-                                    + zonesSatisfied + " " + message.getMetaData().getZoneResponses()
-                                    + " for key " + message.getContent().getKey());
-                        }
+    /**
+     * Sends one getAll request per replica, carrying every key that replica
+     * has to answer for, and then resolves each key on its own with the same
+     * rules as a single GET. The outcome of each key is left in
+     * {@link MetaData#getKeyMetaData()}.
+     */
+    private CompletableFuture<Message<K, V>> getAllAsync(final Message<K, V> message) {
+        final Map<ByteArray, K> keys = new HashMap<>();
+        final Map<Node, List<ByteArray>> nodeToKeys = new HashMap<>();
+        for(K key: message.getContent().getKeys()) {
+            ByteArray serializedKey = new ByteArray(VoldemortClientShell.serializeKey(key));
+            keys.put(serializedKey, key);
+            List<Node> nodes = groupMembership.getNodes(serializedKey, Constants.requiredReads);
+            int attempts = Math.min(Constants.preferedReads, nodes.size());
+            for(int i = 0; i < attempts; i++) {
+                List<ByteArray> nodeKeys = nodeToKeys.get(nodes.get(i));
+                if(nodeKeys == null) {
+                    nodeKeys = new ArrayList<>();
+                    nodeToKeys.put(nodes.get(i), nodeKeys);
+                }
+                nodeKeys.add(serializedKey);
+            }
+        }
 
+        final Map<ByteArray, Map<Integer, Response<ByteArray, Object>>> responses = new ConcurrentHashMap<>();
+        for(ByteArray serializedKey: keys.keySet())
+            responses.put(serializedKey, new ConcurrentHashMap<>());
+        final AtomicInteger pending = new AtomicInteger(nodeToKeys.size());
+        final CompletableFuture<Message<K, V>> future = new CompletableFuture<>();
+
+        final AtomicBoolean isResponseProcessed = new AtomicBoolean(false);
+        // a node with newer metadata than ours, the routing of the keys is stale
+        final AtomicReference<InvalidMetadataException> invalidMetadata = new AtomicReference<>();
+        final Runnable completion = () -> {
+            if(isResponseProcessed.compareAndSet(false, true)) {
+                if(invalidMetadata.get() != null) {
+                    future.completeExceptionally(invalidMetadata.get());
+                    return;
+                }
+                try {
+                    for(Map.Entry<ByteArray, K> key: keys.entrySet()) {
+                        Message<K, V> keyMessage = new Message<>(Message.Type.GET,
+                                                                 new Content<K, V>(key.getValue()),
+                                                                 new MetaData());
+                        processGetResponses(keyMessage, responses.get(key.getKey()), failureDetector);
+                        message.getMetaData().getKeyMetaData().put(key.getValue(), keyMessage.getMetaData());
                     }
+                    future.complete(message);
+                } catch(RuntimeException e) {
+                    future.completeExceptionally(e);
                 }
-                List<Versioned<byte[]>> results = new ArrayList<>();
+            }
+        };
+
+        if(logger.isDebugEnabled())
+            logger.debug("Attempting " + nodeToKeys.size() + " " + "GetAll"
+                    + " operations in parallel for " + keys.size() + " keys");
 
-                for(Response<?, ?> response: message.getMetaData().getResponses()) {
-                    List<Versioned<byte[]>> value = (List<Versioned<byte[]>>) response.getValue();
+        for(Map.Entry<Node, List<ByteArray>> entry: nodeToKeys.entrySet()) {
+            final Node node = entry.getKey();
+            final List<ByteArray> nodeKeys = entry.getValue();
 
-                    if(value != null)
-                        results.addAll(value);
+            Callback callback = (result, requestTime) -> {
+                if(isResponseProcessed.get()) {
+                    if(result instanceof Exception)
+                        logger.warn("GET_ALL of " + nodeKeys.size() + " keys failed on node "
+                                + node.getId() + " after the operation completed: " + result);
+                    return;
                 }
-                if(results.size() == 0){
-                    if (Constants.getValueType().getSimpleName().equals("String") ) {
-                        message.getMetaData().setVersioned(null);
-                    }
-                } else if(results.size() == 1){
-                    if (Constants.getValueType().getSimpleName().equals("String") ){
-                        StringSerializer StringSer = new StringSerializer();
-                        Versioned<String> result = new Versioned<>(StringSer.toObject(results.get(0).getValue()), results.get(0).getVersion());
-                        message.getMetaData().setVersioned(result);
+                if(result instanceof InvalidMetadataException)
+                    invalidMetadata.compareAndSet(null, (InvalidMetadataException) result);
+                // split the reply per key, so every key goes through the
+                // single key quorum rules; a failed request fails all its keys
+                Map<ByteArray, List<Versioned<byte[]>>> retrievedByKey = result instanceof Exception ? null
+                        : Utils.<Map<ByteArray, List<Versioned<byte[]>>>, Object> uncheckedCast(result);
+                for(ByteArray serializedKey: nodeKeys) {
+                    Object value = result;
+                    if(retrievedByKey != null) {
+                        List<Versioned<byte[]>> retrieved = retrievedByKey.get(serializedKey);
+                        value = retrieved == null ? new ArrayList<Versioned<byte[]>>() : retrieved;
                     }
+                    responses.get(serializedKey).put(node.getId(),
+                                                     new Response<>(node, serializedKey, value, requestTime));
                 }
-                else
-                    System.out.println("Unresolved versions returned from get(" + message.getContent().getKey()
-                            + ") = " + results);
-                break;
-            }
-            case DELETE:{
-                message.getMetaData().setVersion(communicationLocal.getActualVersion(message.getContent(), message.getMetaData()));
-                if(message.getMetaData().getVersion() == null)
-                    return;
-                List<Node> nodes = groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey())),
-                        Constants.requiredWrites);
-                AtomicBoolean isOperationCompleted = new AtomicBoolean(false);
-                final Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<>();
-                int attempts = nodes.size();
-                int blocks = Math.min(Constants.preferredWrites, attempts);
-                final CountDownLatch attemptsLatch = new CountDownLatch(attempts);
-                final CountDownLatch blocksLatch = new CountDownLatch(blocks);
+                if(pending.decrementAndGet() == 0)
+                    completion.run();
+            };
 
-                System.out.println("Attempting " + attempts + " Delete" + " operations in parallel");
+            communicationLocal.getAll(node, nodeKeys, message.getMetaData(), callback);
+        }
 
-                long beginTime = System.nanoTime();
+        if(nodeToKeys.isEmpty())
+            completion.run();
+        Timeouts.bind(future, completion, Constants.getOpTimeoutInMs);
+        return future;
+    }
 
-                for(int i = 0; i < attempts; i++) {
-                    final Node node = nodes.get(i);
+    /**
+     * The nonblocking protocol has no multi-key put, so each key is ordered
+     * and replicated as its own PUT. The replication of all keys is in flight
+     * at the same time instead of one key after the other.
+     */
+    private CompletableFuture<Message<K, V>> putAllAsync(final Message<K, V> message) {
+        final Map<K, Message<K, V>> keyMessages = new HashMap<>();
+        List<CompletableFuture<Message<K, V>>> futures = new ArrayList<>();
+        for(Map.Entry<K, V> entry: message.getContent().getEntries().entrySet()) {
+            Message<K, V> keyMessage = new Message<>(Message.Type.PUT,
+                                                     new Content<>(entry.getKey(), entry.getValue()),
+                                                     new MetaData());
+            keyMessages.put(entry.getKey(), keyMessage);
+            futures.add(newMessageAsync(keyMessage).handle((result, e) -> {
+                if(e != null)
+                    logger.warn("PUT {key:" + entry.getKey() + "} failed: " + e);
+                return result;
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            for(Map.Entry<K, Message<K, V>> keyMessage: keyMessages.entrySet()) {
+                if(keyMessage.getValue().getMetaData() != null)
+                    message.getMetaData().getKeyMetaData().put(keyMessage.getKey(),
+                                                               keyMessage.getValue().getMetaData());
+            }
+            return message;
+        });
+    }
 
-                    Callback callback = (result, requestTime) -> {
-                        System.out.println("Delete response received (" + requestTime + " ms.) from node "
-                                + node.getId());
+    /**
+     * Resolves a GET from the responses of its replicas. A failed replica
+     * only costs its response, the GET succeeds as long as enough of the
+     * others answered.
+     */
+    static <K, V> void processGetResponses(Message<K, V> message,
+                                           Map<Integer, Response<ByteArray, Object>> responses,
+                                           FailureDetector failureDetector) {
+        for (Response<ByteArray, Object> response: responses.values()) {
+            if (response.getValue() instanceof Exception) {
+                logger.warn("GET {key:" + message.getContent().getKey() + "} failed on node "
+                        + response.getNode().getId() + ": " + response.getValue());
+            } else {
+                message.getMetaData().incrementGetSuccesses();
+                Response<ByteArray, V> rCast = Utils.uncheckedCast(response);
+                message.getMetaData().getResponses().add((Response<ByteArray, Object>) rCast);
+                failureDetector.recordSuccess(response.getNode(), response.getRequestTime());
+                message.getMetaData().getZoneResponses().add(response.getNode().getZoneId());
+            }
+        }
 
-                        Response<ByteArray, Object> response = new Response<ByteArray, Object>(node,
-                                new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey())),
-                                result,
-                                requestTime);
+        if(logger.isDebugEnabled())
+            logger.debug("GET for key " + message.getContent().getKey() + " (keyRef: "
+                    + System.identityHashCode(message.getContent().getKey()) + "); successes: "
+                    + message.getMetaData().getGetSuccesses() + " preferred: " + Constants.preferedReads + " required: "
+                    + Constants.requiredReads);
 
-                        System.out.println(attemptsLatch.getCount() + " attempts remaining. Will block "
-                                + " for " + blocksLatch.getCount() + " more ");
+        if (message.getMetaData().getGetSuccesses() < Constants.requiredReads) {
+            ConsistencyStats.INSTANCE.recordQuorumFailure();
+            logger.warn("Insufficient Successes");
 
-                        responses.put(node.getId(), response);
+        } else {
 
-                        if(response.getValue() instanceof Exception && isOperationCompleted.get()) {
-                            System.out.println("ERROR");
-                        }
+            if (Constants.requiredZones != 0) {
 
-                        attemptsLatch.countDown();
-                        blocksLatch.countDown();
+                int zonesSatisfied = message.getMetaData().getZoneResponses().size();
+                if (zonesSatisfied >= (Constants.requiredZones + 1)) {
+                    //ADD INSUFFICIENT ZONES EVENT
+                    return;
+                } else {
+                    ConsistencyStats.INSTANCE.recordZoneShortfall();
+                    logger.warn("Operation Get"
+                            + "failed due to insufficient zone responses, required "
+                            + Constants.requiredZones + " obtained "
+                            + zonesSatisfied + " " + message.getMetaData().getZoneResponses()
+                            + " for key " + message.getContent().getKey());
+                }
 
-                    };
+            }
+        }
+        List<Versioned<byte[]>> results = new ArrayList<>();
 
-                    System.out.println("Submitting delete request on node " + node.getId());
+        for(Response<?, ?> response: message.getMetaData().getResponses()) {
+            List<Versioned<byte[]>> value = (List<Versioned<byte[]>>) response.getValue();
 
-                    communicationLocal.delete(node, message.getContent(), message.getMetaData(), callback);
-                }
+            if(value != null)
+                results.addAll(value);
+        }
+        // the replicas that are behind return versions the others overwrote
+        results = new VectorClockInconsistencyResolver<byte[]>().resolveConflicts(results);
+        if(results.size() == 0){
+            message.getMetaData().setVersioned(null);
+        } else if(results.size() == 1){
+            message.getMetaData().setVersioned(deserialize(results.get(0)));
+        }
+        else {
+            List<Versioned<?>> concurrent = new ArrayList<>();
+            for(Versioned<byte[]> result: results)
+                concurrent.add(deserialize(result));
+            message.getMetaData().setVersioned(null);
+            message.getMetaData().setConcurrentVersions(concurrent);
+            logger.warn("Unresolved versions returned from get(" + message.getContent().getKey()
+                    + ") = " + results);
+        }
+    }
 
-                try {
-                    long ellapsedNs = System.nanoTime() - beginTime;
-                    long remainingNs = (Constants.deleteOpTimeoutInMs * Time.NS_PER_MS) - ellapsedNs;
-                    if(remainingNs > 0) {
-                        blocksLatch.await(remainingNs, TimeUnit.NANOSECONDS);
-                    }
-                } catch(InterruptedException e) {
-                    System.out.println("ERROR");
-                }
+    /**
+     * Strings are written with the serializer of the framework, any other
+     * value with the value serializer of the store.
+     */
+    private static Versioned<Object> deserialize(Versioned<byte[]> versioned) {
+        Object value;
+        if(Constants.getValueType().getSimpleName().equals("String"))
+            value = new StringSerializer().toObject(versioned.getValue());
+        else
+            value = VoldemortClientShell.deserializeValue(versioned.getValue());
+        return new Versioned<>(value, versioned.getVersion());
+    }
 
-                if(processDeleteResponses(responses, message.getMetaData()) == 0){
-                    isOperationCompleted.set(true);
+    private CompletableFuture<Message<K, V>> deleteAsync(final Message<K, V> message) {
+        final long startNs = System.nanoTime();
+        message.getMetaData().setVersion(communicationLocal.getActualVersion(message.getContent(), message.getMetaData()));
+        if(message.getMetaData().getVersion() == null)
+            return CompletableFuture.completedFuture(message);
+        final ByteArray key = new ByteArray(VoldemortClientShell.serializeKey(message.getContent().getKey()));
+        List<Node> nodes = groupMembership.getNodes(key, Constants.requiredWrites);
+        final Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<>();
+        int attempts = nodes.size();
+        final int blocks = Math.max(Math.min(Constants.preferredWrites, attempts), Constants.requiredWrites);
+        final AtomicInteger pending = new AtomicInteger(attempts);
+        final AtomicInteger successes = new AtomicInteger(0);
+        final Set<Integer> zones = ConcurrentHashMap.newKeySet();
+        final CompletableFuture<Message<K, V>> future = new CompletableFuture<>();
+
+        final AtomicBoolean isOperationCompleted = new AtomicBoolean(false);
+        final Runnable completion = () -> {
+            if(isOperationCompleted.compareAndSet(false, true)) {
+                processDeleteResponses(responses, message.getMetaData());
+                ConsistencyStats.INSTANCE.recordStage(Stage.DELETE, startNs);
+                if(message.getMetaData().getDeleteSuccesses() < Constants.requiredWrites) {
+                    ConsistencyStats.INSTANCE.recordQuorumFailure();
+                    String failure = "DELETE {key:" + message.getContent().getKey() + "} failed, required "
+                            + Constants.requiredWrites + " successes, obtained "
+                            + message.getMetaData().getDeleteSuccesses();
+                    logger.warn(failure);
+                    future.completeExceptionally(new InsufficientOperationalNodesException(failure));
                     return;
+                } else if(Constants.requiredZones != 0
+                        && message.getMetaData().getZoneResponses().size() < (Constants.requiredZones + 1)) {
+                    ConsistencyStats.INSTANCE.recordZoneShortfall();
+                    logger.warn("DELETE {key:" + message.getContent().getKey()
+                            + "} failed due to insufficient zone responses, required "
+                            + Constants.requiredZones + " obtained "
+                            + message.getMetaData().getZoneResponses().size());
                 }
+                future.complete(message);
+            }
+        };
 
-                // wait for more responses in case we did not have enough successful
-                // response to achieve the required count
-                boolean quorumSatisfied = true;
-                if(message.getMetaData().getGetSuccesses() < Constants.requiredWrites) {
-                    long ellapsedNs = System.nanoTime() - beginTime;
-                    long remainingNs = (Constants.deleteOpTimeoutInMs * Time.NS_PER_MS) - ellapsedNs;
-                    if(remainingNs > 0) {
-                        try {
-                            attemptsLatch.await(remainingNs, TimeUnit.NANOSECONDS);
-                        } catch(InterruptedException e) {
-
-                        }
-
-                        if(processDeleteResponses(responses, message.getMetaData()) == 0){
-                            isOperationCompleted.set(true);
-                            return;
-                        }
-                    }
+        if(logger.isDebugEnabled())
+            logger.debug("Attempting " + attempts + " Delete" + " operations in parallel");
 
-                    if(message.getMetaData().getGetSuccesses() < Constants.requiredWrites) {
-                        quorumSatisfied = false;
-                    }
-                }
+        for(int i = 0; i < attempts; i++) {
+            final Node node = nodes.get(i);
 
-                if(quorumSatisfied) {
-                    if(Constants.requiredZones != 0) {
-                        int zonesSatisfied = message.getMetaData().getZoneResponses().size();
-                        if(zonesSatisfied >= (Constants.requiredZones + 1)) {
-                            return;
-                        } else {
-                            long timeMs = (System.nanoTime() - beginTime) / Time.NS_PER_MS;
-
-                            if((Constants.deleteOpTimeoutInMs - timeMs) > 0) {
-                                try {
-                                    attemptsLatch.await(Constants.deleteOpTimeoutInMs - timeMs, TimeUnit.MILLISECONDS);
-                                } catch(InterruptedException e) {
-
-                                }
-
-                                if(processDeleteResponses(responses, message.getMetaData()) == 0){
-                                    isOperationCompleted.set(true);
-                                    return;
-                                }
-                            }
-
-                            if(message.getMetaData().getZoneResponses().size() >= (Constants.requiredZones + 1)) {
-                                return;
-                            } else {
-                                System.out.println("ERROR");
-                            }
-                        }
-                    } else {
-                        {
-                            isOperationCompleted.set(true);
-                            return;
-                        }
-                    }
+            Callback callback = (result, requestTime) -> {
+                if(isOperationCompleted.get()) {
+                    if(result instanceof Exception)
+                        logger.warn("DELETE {key:" + message.getContent().getKey() + "} failed on node "
+                                + node.getId() + " after the operation completed: " + result);
+                    return;
                 }
-                break;
-            }
-            case DEPENDENCY_REQUEST:
-            case DEPENDENCY_RESPONSE:
-                break;
+                responses.put(node.getId(), new Response<ByteArray, Object>(node, key, result, requestTime));
+                if(!(result instanceof Exception)) {
+                    successes.incrementAndGet();
+                    zones.add(node.getZoneId());
+                }
+                // complete as soon as the preferred writes answered and the
+                // zone requirement holds, otherwise wait for every node
+                boolean zonesSatisfied = Constants.requiredZones == 0 || zones.size() >= (Constants.requiredZones + 1);
+                if(pending.decrementAndGet() == 0 || (successes.get() >= blocks && zonesSatisfied))
+                    completion.run();
+            };
+
+            communicationLocal.delete(node, message.getContent(), message.getMetaData(), callback);
         }
+
+        if(attempts == 0)
+            completion.run();
+        Timeouts.bind(future, completion, Constants.deleteOpTimeoutInMs);
+        return future;
     }
 
     @Override
@@ -320,23 +610,63 @@ public class Framework<K,V> implements API<K,V> {
 
     }
 
+    @Override
+    public CompletableFuture<Message<K, V>> replicateMessageAsync(Message<K, V> replicateMessage) {
+        return CompletableFuture.completedFuture(replicateMessage);
+    }
+
     @Override
     public void getReplicateState() {
 
     }
 
-    private boolean isTimestamper(){
-        return groupMembership.getRole(0); //TODO: Adaptar para n nodes
+    /**
+     * PUT of a key this client does not timestamp: the owner applies it as
+     * master and the rest of the replicas are written as usual.
+     */
+    private CompletableFuture<Message<K, V>> forwardMessage(final Message<K, V> message, long startTime) {
+        final long orderStartNs = System.nanoTime();
+        return order.forward(message.getContent(), startTime).thenCompose(metaData -> {
+            ConsistencyStats.INSTANCE.recordStage(Stage.ORDER, orderStartNs);
+            message.setMetaData(metaData);
+            return replicateOrdered(message);
+        });
+    }
+
+    /**
+     * PUT of a key this client timestamps: the master write and then the
+     * replica writes, neither holding the caller thread.
+     */
+    private CompletableFuture<Message<K, V>> orderMessageAsync(final Message<K, V> message, long startTime) {
+        final long orderStartNs = System.nanoTime();
+        return order.timeStampingAsync(message.getContent(), startTime).thenCompose(metaData -> {
+            ConsistencyStats.INSTANCE.recordStage(Stage.ORDER, orderStartNs);
+            message.setMetaData(metaData);
+            return replicateOrdered(message);
+        });
+    }
+
+    private CompletableFuture<Message<K, V>> replicateOrdered(Message<K, V> message) {
+        if(message.getMetaData() == null){
+            CompletableFuture<Message<K, V>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new ConsistencyException("No master node succeeded for key "
+                    + message.getContent().getKey()));
+            return failed;
+        }
+        return replicate.replicateAsync(message);
     }
 
     private void orderMessage(Message<K,V> message, long startTime){
+        long orderStartNs = System.nanoTime();
         message.setMetaData(order.timeStamping(message.getContent(), startTime));
+        ConsistencyStats.INSTANCE.recordStage(Stage.ORDER, orderStartNs);
     }
 
     private int processDeleteResponses(Map<Integer, Response<ByteArray, Object>> responses, MetaData metaData){
         for(Map.Entry<Integer, Response<ByteArray, Object>> responseEntry: responses.entrySet()) {
             if(responseEntry.getValue().getValue() instanceof Exception) {
-                System.out.println("ERROR");
+                logger.warn("DELETE {key:" + responseEntry.getValue().getKey() + "} failed on node "
+                        + responseEntry.getKey() + ": " + responseEntry.getValue().getValue());
             } else {
                 metaData.incrementDeleteSuccesses();
                 VoldemortClientShell.factory.getFailureDetector().recordSuccess(responseEntry.getValue().getNode(), responseEntry.getValue().getRequestTime());
@@ -1,5 +1,6 @@
 package voldemort.consistency;
 
+import org.apache.log4j.Logger;
 import voldemort.VoldemortClientShell;
 import voldemort.consistency.cluster.Node;
 import voldemort.cluster.failuredetector.FailureDetector;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 public class GroupMembership implements GroupMembershipInterface{
+    private static final Logger logger = Logger.getLogger(GroupMembership.class);
 
     public GroupMembership(Node node) {
 
@@ -36,8 +38,9 @@ public class GroupMembership implements GroupMembershipInterface{
                 nodes.add(node);
             else {
                 failedReplicationSet.add(node);
-                System.out.println("Key " + ByteUtils.toHexString(key.get()) + " Node "
-                            + node.getId() + " down");
+                if(logger.isDebugEnabled())
+                    logger.debug("Key " + ByteUtils.toHexString(key.get()) + " Node "
+                                + node.getId() + " down");
                 }
             }
 
@@ -53,7 +56,8 @@ public class GroupMembership implements GroupMembershipInterface{
             String errorMessage = "Only " + nodes.size() + " nodes up in preference list"
                     + ", but " + required + " required. Replication set: " + allNodes
                     + "Nodes down: " + failedNodes;
-            System.out.println(errorMessage);
+            if(logger.isDebugEnabled())
+                logger.debug(errorMessage);
             throw new InsufficientOperationalNodesException(errorMessage);
         }
         return nodes;
@@ -0,0 +1,47 @@
+package voldemort.consistency;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the fraction of the GETs that are hedged, so that a latency spike of
+ * every replica does not turn into twice the read load. Every GET earns a
+ * fraction of a hedge, up to a small burst, and every hedge spends a whole
+ * one.
+ */
+final class HedgeBudget {
+
+    private static final long UNIT = 1000;
+    static final int BURST = 10;
+
+    private final long earnedPerGet;
+    private final AtomicLong balance = new AtomicLong(0);
+
+    HedgeBudget(double maxRate) {
+        this.earnedPerGet = Math.round(maxRate * UNIT);
+    }
+
+    /**
+     * A GET that could be hedged was sent
+     */
+    void onGet() {
+        long current;
+        do {
+            current = balance.get();
+            if(current >= BURST * UNIT)
+                return;
+        } while(!balance.compareAndSet(current, Math.min(BURST * UNIT, current + earnedPerGet)));
+    }
+
+    /**
+     * @return whether a hedge is in the budget, which it is then charged for
+     */
+    boolean tryHedge() {
+        long current;
+        do {
+            current = balance.get();
+            if(current < UNIT)
+                return false;
+        } while(!balance.compareAndSet(current, current - UNIT));
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package voldemort.consistency;
 
+import org.apache.log4j.Logger;
 import voldemort.VoldemortClientShell;
 import voldemort.cluster.failuredetector.FailureDetector;
 import voldemort.consistency.cluster.Node;
@@ -16,8 +17,10 @@ import voldemort.utils.Utils;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class Order<K,V> implements OrderInterface<K,V>{
+    private static final Logger logger = Logger.getLogger(Order.class);
 
     GroupMembershipInterface groupMembership;
     protected final Time time;
@@ -38,73 +41,118 @@ public class Order<K,V> implements OrderInterface<K,V>{
         MetaData metadata = new MetaData(communicationLocal.getActualVersion(content, null));
         metadata.setStartTimeNs(startTime);
         int currentNode = 0;
-        int nodeIndex = 0;
         metadata.clearZoneResponses();
         List<Node> nodes = groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())),
                 Constants.requiredWrites); //TODO: Adaptar para K
 
-        long startMasterMs = -1;
-        long startMasterNs = -1;
-
         Node node = null;
         for(; currentNode < nodes.size(); currentNode++) {
             node = nodes.get(currentNode);
-            nodeIndex++;
-            Version versionedClock = null;
-            try {
-                versionedClock = (Version) Constants.getVersionType().newInstance();
-                versionedClock = metadata.getVersion();
-                versionedClock = versionedClock.incremented(node.getId(), time.getMilliseconds());
-            } catch (InstantiationException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
-            byte[] aux = null;
-            if(content.getValue() instanceof String){
-                aux = new StringSerializer().toBytes((String)content.getValue());
-            }
-            final Versioned<byte[]> versionedCopy = new Versioned<byte[]>(aux,
-                    versionedClock);
-
-            System.out.println("Attempt #" + (currentNode + 1) + " to perform put (node "
-                    + node.getId() + ")");
-            metadata.setVersioned(versionedCopy);
+            setMasterValue(content, metadata, node, currentNode);
 
             long start = System.nanoTime();
             try {
                 communicationLocal.put(node, content, metadata, null);
                 long requestTime = (System.nanoTime() - start) / Time.NS_PER_MS;
-                metadata.incrementPutSuccesses();
-                failureDetector.recordSuccess(node, requestTime);
-
-                System.out.println("Put on node " + node.getId() + " succeeded, using as master");
-
-                metadata.setMaster(node);
-                metadata.addZoneResponses(node.getZoneId());
+                masterSucceeded(metadata, node, requestTime);
                 currentNode++;
                 break;
             } catch(Exception e) {
-                long requestTime = (System.nanoTime() - start) / Time.NS_PER_MS;
-
-                System.out.println("Master PUT at node " + currentNode + "(" + node.getHost() + ")"
+                logger.warn("Master PUT at node " + currentNode + "(" + node.getHost() + ")"
                         + " failed (" + e.getMessage() + ") in "
                         + (System.nanoTime() - start) + " ns" + " (keyRef: "
                         + System.identityHashCode(content.getKey()) + ")");
                 System.exit(-1);
             }
         }
+        return masterResult(content, metadata, currentNode, nodes.size());
+    }
 
-        System.out.println("PUT {key:" + content.getKey() + "} currentNode=" + currentNode + " nodes.size()="
-                + nodes.size());
+    /**
+     * Same as {@link #timeStamping} without blocking: the master PUT is sent
+     * with a callback, and a master that fails hands over to the next node of
+     * the preference list instead of stopping the client.
+     */
+    @Override
+    public CompletableFuture<MetaData> timeStampingAsync(Content<K, V> content, long startTime) {
+        MetaData metadata = new MetaData(communicationLocal.getActualVersion(content, null));
+        metadata.setStartTimeNs(startTime);
+        metadata.clearZoneResponses();
+        List<Node> nodes = groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())),
+                Constants.requiredWrites);
+        CompletableFuture<MetaData> future = new CompletableFuture<>();
+        putOnMaster(content, metadata, nodes, 0, future);
+        Timeouts.bind(future, () -> future.complete(null), Constants.putOpTimeoutInMs);
+        return future;
+    }
+
+    private void putOnMaster(final Content<K, V> content,
+                             final MetaData metadata,
+                             final List<Node> nodes,
+                             final int currentNode,
+                             final CompletableFuture<MetaData> future) {
+        if(currentNode == nodes.size()) {
+            future.complete(masterResult(content, metadata, currentNode, nodes.size()));
+            return;
+        }
+        final Node node = nodes.get(currentNode);
+        setMasterValue(content, metadata, node, currentNode);
+        Callback callback = (result, requestTime) -> {
+            if(future.isDone())
+                return;
+            if(result instanceof Exception) {
+                logger.warn("Master PUT at node " + currentNode + "(" + node.getHost() + ")"
+                        + " failed (" + ((Exception) result).getMessage() + ") in " + requestTime
+                        + " ms (keyRef: " + System.identityHashCode(content.getKey()) + ")");
+                putOnMaster(content, metadata, nodes, currentNode + 1, future);
+                return;
+            }
+            masterSucceeded(metadata, node, requestTime);
+            future.complete(masterResult(content, metadata, currentNode + 1, nodes.size()));
+        };
+        communicationLocal.put(node, content, metadata, callback);
+    }
+
+    private void setMasterValue(Content<K, V> content, MetaData metadata, Node node, int currentNode) {
+        Version versionedClock = metadata.getVersion().incremented(node.getId(), time.getMilliseconds());
+        metadata.setVersioned(new Versioned<byte[]>(serializeValue(content), versionedClock));
+        if(logger.isDebugEnabled())
+            logger.debug("Attempt #" + (currentNode + 1) + " to perform put (node "
+                    + node.getId() + ")");
+    }
+
+    private void masterSucceeded(MetaData metadata, Node node, long requestTime) {
+        metadata.incrementPutSuccesses();
+        failureDetector.recordSuccess(node, requestTime);
+        if(logger.isDebugEnabled())
+            logger.debug("Put on node " + node.getId() + " succeeded, using as master");
+        metadata.setMaster(node);
+        metadata.addZoneResponses(node.getZoneId());
+    }
+
+    /**
+     * @param nodesTried How many nodes of the preference list were tried,
+     *        the master included
+     * @return the metadata of the master PUT, or null if it cannot be
+     *         replicated
+     */
+    private MetaData masterResult(Content<K, V> content, MetaData metadata, int nodesTried, int nodeCount) {
+        Node node = metadata.getMaster();
+        if(logger.isDebugEnabled())
+            logger.debug("PUT {key:" + content.getKey() + "} currentNode=" + nodesTried + " nodes.size()="
+                    + nodeCount);
 
         if(metadata.getPutSuccesses() < 1) {
-            System.out.println("No master node succeeded!");
+            logger.warn("No master node succeeded!");
             return null;
         }
 
         // There aren't any more requests to make...
-        if(currentNode == nodes.size()) {
+        if(nodesTried == nodeCount) {
             if(metadata.getPutSuccesses() < Constants.preferredWrites) {
-                System.out.println("ERROR");
+                logger.warn("PUT {key:" + content.getKey() + "} failed, preferred "
+                        + Constants.preferredWrites + " successes, obtained "
+                        + metadata.getPutSuccesses());
                 return null;
             } else {
                 if(Constants.requiredZones != 0) {
@@ -113,31 +161,110 @@ public class Order<K,V> implements OrderInterface<K,V>{
                     if(zonesSatisfied >= (Constants.requiredZones + 1)) {
                         return null;
                     } else {
-                        System.out.println("ERROR");
+                        logger.warn("PUT {key:" + content.getKey()
+                                + "} failed due to insufficient zone responses, required "
+                                + Constants.requiredZones + " obtained " + zonesSatisfied);
                         return null;
                     }
 
                 } else {
-                    System.out.println("Finished master PUT for key "
-                            + content.getKey() + " (keyRef: "
-                            + System.identityHashCode(content.getKey()) + "); started at "
-                            + startMasterMs + " took "
-                            + (System.nanoTime() - startMasterNs) + " ns on node "
-                            + (node == null ? "NULL" : node.getId()) + "("
-                            + (node == null ? "NULL" : node.getHost()) + "); now complete");
+                    if(logger.isDebugEnabled())
+                        logger.debug("Finished master PUT for key "
+                                + content.getKey() + " (keyRef: "
+                                + System.identityHashCode(content.getKey()) + ") on node "
+                                + (node == null ? "NULL" : node.getId()) + "("
+                                + (node == null ? "NULL" : node.getHost()) + "); now complete");
                     return metadata;
                 }
             }
         } else {
-            System.out.println("Finished master PUT for key " + content.getKey()
-                    + " (keyRef: " + System.identityHashCode(content.getKey()) + "); started at "
-                    + startMasterMs + " took " + (System.nanoTime() - startMasterNs)
-                    + " ns on node " + (node == null ? "NULL" : node.getId()) + "("
-                    + (node == null ? "NULL" : node.getHost()) + ")");
+            if(logger.isDebugEnabled())
+                logger.debug("Finished master PUT for key " + content.getKey()
+                        + " (keyRef: " + System.identityHashCode(content.getKey()) + ") on node "
+                        + (node == null ? "NULL" : node.getId()) + "("
+                        + (node == null ? "NULL" : node.getHost()) + ")");
             return metadata;
         }
     }
 
+    /**
+     * A client timestamps when the node it runs for, {@link Constants#localNodeId},
+     * has the timestamper role. A client that runs for no node in particular
+     * timestamps as long as some node has the role.
+     */
+    @Override
+    public boolean isTimestamper(Content<K, V> content) {
+        if(Constants.localNodeId < 0)
+            return groupMembership.getTimestamper() >= 0;
+        return Boolean.TRUE.equals(groupMembership.getRole(Constants.localNodeId));
+    }
+
+    /**
+     * Sends the value to the owner with an empty version: the owner versions
+     * it against what it stores when it receives it, so concurrent writers of
+     * a key cannot build the same version, and the client does not have to
+     * read the current version first.
+     *
+     * The protocol buffers protocol and the thread pool based stores cannot
+     * carry that request. To those owners the client sends a plain PUT of the
+     * current version incremented for the owner, as before.
+     */
+    @Override
+    public CompletableFuture<MetaData> forward(Content<K, V> content, long startTime) {
+        final Node owner = getOwner(content);
+        final boolean ownerVersions = communicationLocal.supportsNewMessage(owner);
+        final MetaData metadata = new MetaData(ownerVersions ? ComponentRegistry.newVersion()
+                : communicationLocal.getActualVersion(content, null));
+        metadata.setStartTimeNs(startTime);
+        final byte[] value = serializeValue(content);
+        if(ownerVersions)
+            metadata.setVersioned(new Versioned<byte[]>(value, metadata.getVersion()));
+        else
+            metadata.setVersioned(new Versioned<byte[]>(value,
+                    metadata.getVersion().incremented(owner.getId(), time.getMilliseconds())));
+
+        final CompletableFuture<MetaData> future = new CompletableFuture<>();
+        if(logger.isDebugEnabled())
+            logger.debug("PUT {key:" + content.getKey() + "} forwarded to node " + owner.getId());
+        Callback callback = (result, requestTime) -> {
+            if(result instanceof Exception) {
+                logger.warn("Forwarded PUT {key:" + content.getKey() + "} failed on node "
+                        + owner.getId() + " (" + ((Exception) result).getMessage() + ")");
+                future.complete(null);
+                return;
+            }
+            Version assigned = ownerVersions ? (Version) result : metadata.getVersioned().getVersion();
+            metadata.setVersion(assigned);
+            metadata.setVersioned(new Versioned<byte[]>(value, assigned));
+            metadata.incrementPutSuccesses();
+            failureDetector.recordSuccess(owner, requestTime);
+            metadata.setMaster(owner);
+            metadata.addZoneResponses(owner.getZoneId());
+            future.complete(metadata);
+        };
+        if(ownerVersions)
+            communicationLocal.newMessage(owner, content, metadata, callback);
+        else
+            communicationLocal.put(owner, content, metadata, callback);
+        Timeouts.bind(future, () -> future.complete(null), Constants.putOpTimeoutInMs);
+        return future;
+    }
+
+    /**
+     * @return the node that timestamps the key of the content, the first
+     *         available node of its preference list
+     */
+    protected Node getOwner(Content<K, V> content) {
+        return groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())),
+                Constants.requiredWrites).get(0);
+    }
+
+    private byte[] serializeValue(Content<K, V> content) {
+        if(content.getValue() instanceof String)
+            return new StringSerializer().toBytes((String) content.getValue());
+        return null;
+    }
+
     @Override
     public Occurred compareMessages(Version ver1, Version ver2) {
         return null;
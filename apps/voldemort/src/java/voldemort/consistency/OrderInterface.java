@@ -6,9 +6,28 @@ import voldemort.consistency.versioning.Occurred;
 import voldemort.consistency.versioning.Version;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface OrderInterface<K,V> {
     MetaData timeStamping(Content<K,V> content, long startTime);
+
+    /**
+     * Writes the value on the master without blocking. The future holds null
+     * if no master accepted it.
+     */
+    CompletableFuture<MetaData> timeStampingAsync(Content<K,V> content, long startTime);
+
+    /**
+     * @return true if this client is allowed to timestamp the content itself,
+     *         otherwise the PUT is forwarded with {@link #forward}
+     */
+    boolean isTimestamper(Content<K,V> content);
+
+    /**
+     * Hands the PUT over to the node that timestamps its key, without
+     * blocking. The future holds null if the owner did not accept it.
+     */
+    CompletableFuture<MetaData> forward(Content<K,V> content, long startTime);
     Occurred compareMessages(Version ver1, Version ver2);
     void updateClock();
     void updateClock(Map<String,Long> newVersion);
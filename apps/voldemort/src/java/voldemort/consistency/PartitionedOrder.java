@@ -0,0 +1,43 @@
+package voldemort.consistency;
+
+import voldemort.VoldemortClientShell;
+import voldemort.consistency.cluster.Node;
+import voldemort.consistency.types.Content;
+import voldemort.routing.RoutingStrategy;
+
+/**
+ * Order that splits the timestamping authority by key partition instead of
+ * giving it to a single timestamper. The node holding the master partition
+ * of a key, as given by the {@link RoutingStrategy}, sequences that key, so
+ * every node sequences its own partitions.
+ *
+ * A client timestamps the keys owned by {@link Constants#localNodeId} and
+ * forwards the PUTs of every other key to its owner asynchronously. Select it
+ * by pointing {@link Constants#order} to this class.
+ */
+public class PartitionedOrder<K,V> extends Order<K,V> {
+
+    public PartitionedOrder(int maxMetadataRefreshAttempts, GroupMembershipInterface groupMembership, CommunicationInterface.internal<K,V> communicationLocal) {
+        super(maxMetadataRefreshAttempts, groupMembership, communicationLocal);
+    }
+
+    @Override
+    public boolean isTimestamper(Content<K, V> content) {
+        return Constants.localNodeId >= 0 && getOwner(content).getId() == Constants.localNodeId;
+    }
+
+    /**
+     * The owner is the node of the master partition of the key. If it is
+     * down the next available node of the preference list takes over, which
+     * is the same node {@link Order#timeStamping} would use as master.
+     */
+    @Override
+    protected Node getOwner(Content<K, V> content) {
+        byte[] key = VoldemortClientShell.serializeKey(content.getKey());
+        RoutingStrategy routingStrategy = VoldemortClientShell.routingStrategy;
+        Node master = routingStrategy.routeRequest(key).get(0);
+        if(failureDetector.isAvailable(master))
+            return master;
+        return super.getOwner(content);
+    }
+}
@@ -1,7 +1,10 @@
 package voldemort.consistency;
 
+import org.apache.log4j.Logger;
 import voldemort.VoldemortClientShell;
 import voldemort.consistency.cluster.Node;
+import voldemort.consistency.stats.ConsistencyStats;
+import voldemort.consistency.stats.ConsistencyStats.Stage;
 import voldemort.consistency.types.Content;
 import voldemort.consistency.types.Message;
 import voldemort.consistency.types.Message.Type;
@@ -9,25 +12,26 @@ import voldemort.consistency.types.MetaData;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.pipeline.Response;
 import voldemort.consistency.versioning.ObsoleteVersionException;
+import voldemort.store.InsufficientOperationalNodesException;
 import voldemort.store.InvalidMetadataException;
 import voldemort.store.quota.QuotaExceededException;
 import voldemort.utils.Time;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 public class Replicate<K,V> implements ReplicateInterface<K,V> {
+    private static final Logger logger = Logger.getLogger(Replicate.class);
+
     GroupMembershipInterface groupMembership;
     QuorumInterface<K,V> quorum;
     CommunicationInterface.internal<K,V> communicationLocal;
-    private Integer numNodesPendingResponse = 0;
-    boolean quorumSatisfied = false;
-    boolean zonesSatisfied = false;
-    int numResponsesGot = 0;
-    boolean responseHandlingCutoff = false;
 
     public Replicate(GroupMembershipInterface groupMembership, QuorumInterface<K,V> quorum, CommunicationInterface.internal<K,V> communicationLocal, CommunicationInterface.external<K,V> communicationRemote, DeliveryConditionInterface<K,V> deliveryCondition) {
         this.groupMembership = groupMembership;
@@ -37,18 +41,20 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
 
     @Override
     public void replicate(Message<K, V> message) {
+        long startNs = System.nanoTime();
         Content<K,V> content = message.getContent();
         MetaData metaData = message.getMetaData();
 
-        final Queue<Response<ByteArray, Object>> responseQueue = new LinkedList<>();
         final Node masterNode = metaData.getMaster();
         final List<Node> nodes = groupMembership.getNodes(new ByteArray(VoldemortClientShell.serializeKey(content.getKey())),
                 Constants.requiredWrites);
         final int numNodesTouchedInSerialPut = nodes.indexOf(masterNode) + 1;
-        numNodesPendingResponse = nodes.size() - numNodesTouchedInSerialPut;
+        final PutContext context = new PutContext(nodes.size() - numNodesTouchedInSerialPut,
+                                                  Thread.currentThread());
 
-        System.out.println("PUT {key:" + content.getKey() + "} MasterNode={id:" + masterNode.getId()
-                    + "} totalNodesToAsyncPut=" + numNodesPendingResponse);
+        if(logger.isDebugEnabled())
+            logger.debug("PUT {key:" + content.getKey() + "} MasterNode={id:" + masterNode.getId()
+                        + "} totalNodesToAsyncPut=" + context.numNodesPendingResponse);
 
         // initiate parallel puts
         for(int i = numNodesTouchedInSerialPut; i < nodes.size(); i++) {
@@ -58,34 +64,34 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                 @Override
                 public void requestComplete(Object result, long requestTime) {
                     boolean responseHandledByMaster = false;
-                    System.out.println("PUT {key:" + content.getKey() + "} response received from node={id:"
-                                + node.getId() + "} in " + requestTime + " ms)");
+                    if(logger.isDebugEnabled())
+                        logger.debug("PUT {key:" + content.getKey() + "} response received from node={id:"
+                                    + node.getId() + "} in " + requestTime + " ms)");
 
                     Response<ByteArray, Object> response;
                     response = new Response<>(node, new ByteArray(VoldemortClientShell.serializeKey(content.getKey())), result, requestTime);
 
-                    System.out.println("PUT {key:"
-                                + content.getKey()
-                                + "} Parallel put thread trying to return result to main thread");
+                    if(logger.isDebugEnabled())
+                        logger.debug("PUT {key:"
+                                    + content.getKey()
+                                    + "} Parallel put thread trying to return result to main thread");
 
-                    if(!responseHandlingCutoff) {
-                        responseQueue.offer(response);
-                        this.notifyAll();
-                        responseHandledByMaster = true;
-                    }
+                    responseHandledByMaster = context.offer(response);
 
-                    System.out.println("PUT {key:" + content.getKey() + "} Master thread accepted the response: "+ responseHandledByMaster);
+                    if(logger.isDebugEnabled())
+                        logger.debug("PUT {key:" + content.getKey() + "} Master thread accepted the response: "+ responseHandledByMaster);
 
 
                     if(!responseHandledByMaster) {
-                        System.out.println("PUT {key:"
-                                    + content.getKey()
-                                    + "} Master thread did not accept the response: will handle in worker thread");
+                        if(logger.isDebugEnabled())
+                            logger.debug("PUT {key:"
+                                        + content.getKey()
+                                        + "} Master thread did not accept the response: will handle in worker thread");
                         }
                         if(response.getValue() instanceof QuotaExceededException) {
 
 
-                            System.out.println("PUT {key:" + content.getKey() + "} failed on node={id:"
+                            logger.warn("PUT {key:" + content.getKey() + "} failed on node={id:"
                                         + node.getId() + ",host:" + node.getHost() + "}");
 /*
                             if(isHintedHandoffEnabled()) {
@@ -124,13 +130,15 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                             // the exception is ignorable
                             //if(logger.isDebugEnabled()) {
                                 if(result instanceof Exception) {
-                                    System.out.println("PUT {key:"
-                                            + content.getKey()
-                                            + "} will not send hint. Response is ignorable exception: "
-                                            + result.getClass().toString());
+                                    if(logger.isDebugEnabled())
+                                        logger.debug("PUT {key:"
+                                                + content.getKey()
+                                                + "} will not send hint. Response is ignorable exception: "
+                                                + result.getClass().toString());
                                 } else {
-                                    System.out.println("PUT {key:" + content.getKey()
-                                            + "} will not send hint. Response is success");
+                                    if(logger.isDebugEnabled())
+                                        logger.debug("PUT {key:" + content.getKey()
+                                                + "} will not send hint. Response is success");
                                 }
                             //}
                         }
@@ -138,7 +146,7 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                         if(result instanceof Exception
                                 && !(result instanceof ObsoleteVersionException)) {
                             if(response.getValue() instanceof InvalidMetadataException) {
-                                System.out.println("Received invalid metadata problem after a successful "
+                                logger.warn("Received invalid metadata problem after a successful "
                                         + " call on node " + node.getId() + ", store '"
                                         +"'");
                             } else if(response.getValue() instanceof QuotaExceededException) {
@@ -154,14 +162,16 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                                  * writes fail on exceeding Quota?
                                  *
                                  */
-                                System.out.println("ERROR");
+                                logger.warn("PUT {key:" + content.getKey() + "} exceeded the quota on node "
+                                        + node.getId() + ": " + result);
                                //logger.warn("Received QuotaExceededException after a successful "
                                         //+ pipeline.getOperation().getSimpleName()
                                         //+ " call on node " + node.getId() + ", store '"
                                         //+ pipelineData.getStoreName() + "', master-node '"
                                         //+ masterNode.getId() + "'");
                             } else {
-                                System.out.println("ERROR");
+                                logger.warn("PUT {key:" + content.getKey() + "} failed on node "
+                                        + node.getId() + ": " + result);
                                 return;
                                 //handleResponseError(response, pipeline, failureDetector);
                             }
@@ -169,10 +179,12 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                     }
             };
 
-            System.out.println("Submitting" + " request on node " + node.getId() + " for key " + content.getKey());
+            if(logger.isDebugEnabled())
+                logger.debug("Submitting" + " request on node " + node.getId() + " for key " + content.getKey());
             communicationLocal.put(node, content, metaData, callback);
             }
 
+        long quorumStartNs = System.nanoTime();
         try {
             boolean preferredSatisfied = false;
             while(true) {
@@ -180,34 +192,31 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
                 long remainingNs = (Constants.putOpTimeoutInMs * Time.NS_PER_MS) - elapsedNs;
                 remainingNs = Math.max(0, remainingNs);
                 // preferred check
-                if(numResponsesGot >= Constants.preferredWrites - 1) {
+                if(context.numResponsesGot >= Constants.preferredWrites - 1) {
                     preferredSatisfied = true;
                 }
 
-                quorumSatisfied = quorum.isZonesSatisfied(message);
-                zonesSatisfied = quorum.isQuorumSatisfied(message);
+                context.quorumSatisfied = quorum.isQuorumSatisfied(message);
+                context.zonesSatisfied = quorum.isZonesSatisfied(message);
 
-                if(quorumSatisfied && zonesSatisfied && preferredSatisfied || remainingNs <= 0
-                        || numNodesPendingResponse <= 0) {
-                    responseHandlingCutoff = true;
+                if(context.quorumSatisfied && context.zonesSatisfied && preferredSatisfied || remainingNs <= 0
+                        || context.numNodesPendingResponse <= 0) {
+                    context.responseHandlingCutoff.set(true);
+                    ConsistencyStats.INSTANCE.recordStage(Stage.QUORUM, quorumStartNs);
                     break;
                 } else {
-                    System.out.println("PUT {key:" + content.getKey() + "} trying to poll from queue");
-
-                    Response<ByteArray, Object> response;
-                    try {
-                        response = responseQueuePoll(responseQueue, remainingNs,
-                                        TimeUnit.NANOSECONDS);
-                        processResponse(Type.PUT, response, metaData);
-                        System.out.println("PUT {key:" + content.getKey() + "} tried to poll from queue. Null?: "
-                                + (response == null) + " numResponsesGot:" + numResponsesGot
-                                + " parallelResponseToWait: " + numNodesPendingResponse
+                    if(logger.isDebugEnabled())
+                        logger.debug("PUT {key:" + content.getKey() + "} trying to poll from queue");
+
+                    Response<ByteArray, Object> response = context.poll(remainingNs);
+                    processResponse(Type.PUT, context, response, metaData);
+                    if(logger.isDebugEnabled())
+                        logger.debug("PUT {key:" + content.getKey() + "} tried to poll from queue. Null?: "
+                                + (response == null) + " numResponsesGot:" + context.numResponsesGot
+                                + " parallelResponseToWait: " + context.numNodesPendingResponse
                                 + "; preferred-1: " + (Constants.preferredWrites - 1) + "; preferredOK: "
-                                + preferredSatisfied + " quorumOK: " + quorumSatisfied
-                                + "; zoneOK: " + zonesSatisfied);
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
-                    }
+                                + preferredSatisfied + " quorumOK: " + context.quorumSatisfied
+                                + "; zoneOK: " + context.zonesSatisfied);
                 }
             }
 
@@ -219,32 +228,28 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
 
             // An async callback can be invoked between a and b (this is the
             // leftover)
-            while(!responseQueue.isEmpty()) {
-                Response<ByteArray, Object> response;
-                try {
-                    response = responseQueuePoll(responseQueue,0,
-                                    TimeUnit.NANOSECONDS);
-                    processResponse(Type.PUT, response, metaData);
-                } catch (InterruptedException ex) {
-                    ex.printStackTrace();
-                }
-
+            Response<ByteArray, Object> leftover;
+            while((leftover = context.responseQueue.poll()) != null) {
+                processResponse(Type.PUT, context, leftover, metaData);
             }
 
-            quorumSatisfied = quorum.isQuorumSatisfied(message);
-            zonesSatisfied = quorum.isZonesSatisfied(message);
+            context.quorumSatisfied = quorum.isQuorumSatisfied(message);
+            context.zonesSatisfied = quorum.isZonesSatisfied(message);
 
-            if(quorumSatisfied && zonesSatisfied) {
-                System.out.println("PUT {key:" + content.getKey() + "} succeeded at parallel put stage");
+            if(context.quorumSatisfied && context.zonesSatisfied) {
+                if(logger.isDebugEnabled())
+                    logger.debug("PUT {key:" + content.getKey() + "} succeeded at parallel put stage");
 
                 return;
             } else {
-                if(!quorumSatisfied) {
-                    System.out.println("PUT {key:" + content.getKey()
+                if(!context.quorumSatisfied) {
+                    ConsistencyStats.INSTANCE.recordQuorumFailure();
+                    logger.warn("PUT {key:" + content.getKey()
                                 + "} failed due to insufficient nodes. required=" + Constants.requiredWrites
-                                + " success=" + numResponsesGot);
-                } else if(!zonesSatisfied) {
-                    System.out.println("PUT {key:" + content.getKey()
+                                + " success=" + context.numResponsesGot);
+                } else if(!context.zonesSatisfied) {
+                    ConsistencyStats.INSTANCE.recordZoneShortfall();
+                    logger.warn("PUT {key:" + content.getKey()
                                 + "} failed due to insufficient zones. required="
                                 + Constants.requiredZones + 1 + " success="
                                 + metaData.getZoneResponses().size());
@@ -253,25 +258,92 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
 
             }
         } catch(NoSuchElementException e) {
-                System.out.println("Response Queue is empty. There may be a bug in PerformParallelPutRequest");
-                System.out.println(e);
+                logger.warn("Response Queue is empty. There may be a bug in PerformParallelPutRequest", e);
         } finally {
-            System.out.println("PUT {key:" + content.getKey() + "} marking parallel put stage finished");
+            ConsistencyStats.INSTANCE.recordStage(Stage.REPLICATE, startNs);
+            if(logger.isDebugEnabled())
+                logger.debug("PUT {key:" + content.getKey() + "} marking parallel put stage finished");
         }
     }
 
-    private synchronized Response<ByteArray, Object> responseQueuePoll(Queue<Response<ByteArray, Object>> responseQueue, long timeout,
-                                                                      TimeUnit timeUnit)
-            throws InterruptedException {
-        long timeoutMs = timeUnit.toMillis(timeout);
-        long timeoutWallClockMs = System.currentTimeMillis() + timeoutMs;
-        while(responseQueue.isEmpty() && System.currentTimeMillis() < timeoutWallClockMs) {
-            long remainingMs = Math.max(0, timeoutWallClockMs - System.currentTimeMillis());
+    @Override
+    public CompletableFuture<Message<K, V>> replicateAsync(final Message<K, V> message) {
+        final long startNs = System.nanoTime();
+        final Content<K,V> content = message.getContent();
+        final MetaData metaData = message.getMetaData();
+        final CompletableFuture<Message<K, V>> future = new CompletableFuture<>();
 
-            this.wait(remainingMs);
+        final Node masterNode = metaData.getMaster();
+        final ByteArray key = new ByteArray(VoldemortClientShell.serializeKey(content.getKey()));
+        final List<Node> nodes = groupMembership.getNodes(key, Constants.requiredWrites);
+        final int numNodesTouchedInSerialPut = nodes.indexOf(masterNode) + 1;
+        final PutContext context = new PutContext(nodes.size() - numNodesTouchedInSerialPut, null);
+        context.startNs = startNs;
+        context.quorumStartNs = startNs;
 
+        for(int i = numNodesTouchedInSerialPut; i < nodes.size(); i++) {
+            final Node node = nodes.get(i);
+            Callback callback = (result, requestTime) -> {
+                if(context.offer(new Response<>(node, key, result, requestTime)))
+                    drainAsync(context, message, future);
+            };
+            communicationLocal.put(node, content, metaData, callback);
         }
-        return responseQueue.poll();
+
+        drainAsync(context, message, future);
+        long elapsedMs = (System.nanoTime() - metaData.getStartTimeNs()) / Time.NS_PER_MS;
+        Timeouts.bind(future, () -> {
+            context.timedOut = true;
+            drainAsync(context, message, future);
+        }, Constants.putOpTimeoutInMs - elapsedMs);
+        return future;
+    }
+
+    /**
+     * Applies the queued responses of an asynchronous PUT. Whichever thread
+     * moves the work counter off zero does the draining, so the metadata is
+     * only ever touched by one thread at a time without taking a lock.
+     */
+    private void drainAsync(PutContext context, Message<K, V> message, CompletableFuture<Message<K, V>> future) {
+        if(context.wip.getAndIncrement() != 0)
+            return;
+        MetaData metaData = message.getMetaData();
+        do {
+            if(future.isDone()) {
+                context.responseQueue.clear();
+                continue;
+            }
+            Response<ByteArray, Object> response;
+            while((response = context.responseQueue.poll()) != null) {
+                processResponse(Type.PUT, context, response, metaData);
+            }
+            boolean preferredSatisfied = context.numResponsesGot >= Constants.preferredWrites - 1;
+            context.quorumSatisfied = quorum.isQuorumSatisfied(message);
+            context.zonesSatisfied = quorum.isZonesSatisfied(message);
+            if(context.quorumSatisfied && context.zonesSatisfied && preferredSatisfied
+                    || context.numNodesPendingResponse <= 0 || context.timedOut) {
+                context.responseHandlingCutoff.set(true);
+                ConsistencyStats.INSTANCE.recordStage(Stage.QUORUM, context.quorumStartNs);
+                ConsistencyStats.INSTANCE.recordStage(Stage.REPLICATE, context.startNs);
+                if(!context.quorumSatisfied) {
+                    ConsistencyStats.INSTANCE.recordQuorumFailure();
+                    String failure = "PUT {key:" + message.getContent().getKey()
+                            + "} failed due to insufficient nodes. required=" + Constants.requiredWrites
+                            + " success=" + metaData.getPutSuccesses();
+                    logger.warn(failure);
+                    future.completeExceptionally(new InsufficientOperationalNodesException(failure));
+                } else {
+                    if(!context.zonesSatisfied) {
+                        ConsistencyStats.INSTANCE.recordZoneShortfall();
+                        logger.warn("PUT {key:" + message.getContent().getKey()
+                                + "} failed due to insufficient zones. required="
+                                + Constants.requiredZones + 1 + " success="
+                                + metaData.getZoneResponses().size());
+                    }
+                    future.complete(message);
+                }
+            }
+        } while(context.wip.decrementAndGet() != 0);
     }
 
     @Override
@@ -294,50 +366,102 @@ public class Replicate<K,V> implements ReplicateInterface<K,V> {
 
     }
 
-    private boolean processResponse(Type type, Response<ByteArray, Object> response, MetaData metaData) {
+    private boolean processResponse(Type type, PutContext context, Response<ByteArray, Object> response, MetaData metaData) {
         if (type == Type.PUT) {
             if (response == null) {
-                System.out.println("RoutingTimedout on waiting for async ops; parallelResponseToWait: "
-                        + numNodesPendingResponse + "; preferred-1: " + (Constants.preferredWrites - 1)
-                        + "; quorumOK: " + quorumSatisfied + "; zoneOK: " + zonesSatisfied);
+                logger.warn("RoutingTimedout on waiting for async ops; parallelResponseToWait: "
+                        + context.numNodesPendingResponse + "; preferred-1: " + (Constants.preferredWrites - 1)
+                        + "; quorumOK: " + context.quorumSatisfied + "; zoneOK: " + context.zonesSatisfied);
             } else {
-                numNodesPendingResponse = numNodesPendingResponse - 1;
-                numResponsesGot = numResponsesGot + 1;
-                if (response.getValue() instanceof Exception
-                        && !(response.getValue() instanceof ObsoleteVersionException)) {
-                    System.out.println("PUT handling async put error");
-
-
-                    if (response.getValue() instanceof QuotaExceededException) {
-                        /**
-                         * We want to slop ParallelPuts which fail due to
-                         * QuotaExceededException.
-                         *
-                         * TODO Though this is not the right way of doing things, in
-                         * order to avoid inconsistencies and data loss, we chose to
-                         * slop the quota failed parallel puts.
-                         *
-                         * As a long term solution - 1) either Quota management
-                         * should be hidden completely in a routing layer like
-                         * Coordinator or 2) the Server should be able to
-                         * distinguish between serial and parallel puts and should
-                         * only quota for serial puts
-                         *
-                         */
-                        //pipelineData.getSynchronizer().tryDelegateSlop(response.getNode());
-                    }
+                context.numNodesPendingResponse = context.numNodesPendingResponse - 1;
+                context.numResponsesGot = context.numResponsesGot + 1;
+                applyPutResponse(response, metaData);
+            }
+            return false;
+        }
+        return true;
+    }
 
-                    System.out.println("PUT {key} handled async put error");
+    private void applyPutResponse(Response<ByteArray, Object> response, MetaData metaData) {
+        if (response.getValue() instanceof Exception
+                && !(response.getValue() instanceof ObsoleteVersionException)) {
+            logger.warn("PUT handling async put error");
+
+
+            if (response.getValue() instanceof QuotaExceededException) {
+                /**
+                 * We want to slop ParallelPuts which fail due to
+                 * QuotaExceededException.
+                 *
+                 * TODO Though this is not the right way of doing things, in
+                 * order to avoid inconsistencies and data loss, we chose to
+                 * slop the quota failed parallel puts.
+                 *
+                 * As a long term solution - 1) either Quota management
+                 * should be hidden completely in a routing layer like
+                 * Coordinator or 2) the Server should be able to
+                 * distinguish between serial and parallel puts and should
+                 * only quota for serial puts
+                 *
+                 */
+                //pipelineData.getSynchronizer().tryDelegateSlop(response.getNode());
+            }
 
+            if(logger.isDebugEnabled())
+                logger.debug("PUT {key} handled async put error");
 
-                } else {
-                    metaData.getZoneResponses().add(response.getNode().getZoneId());
-                    metaData.incrementPutSuccesses();
-                    VoldemortClientShell.factory.getFailureDetector().recordSuccess(response.getNode(), response.getRequestTime());
-                }
+
+        } else {
+            metaData.getZoneResponses().add(response.getNode().getZoneId());
+            metaData.incrementPutSuccesses();
+            VoldemortClientShell.factory.getFailureDetector().recordSuccess(response.getNode(), response.getRequestTime());
+        }
+    }
+
+    /**
+     * Replication state of a single PUT. Callbacks running on the selector
+     * threads only hand their response over through the lock-free queue;
+     * the counters below are owned by the single thread consuming it, so
+     * concurrent PUTs through the same Replicate never share state.
+     */
+    private static final class PutContext {
+
+        final Queue<Response<ByteArray, Object>> responseQueue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean responseHandlingCutoff = new AtomicBoolean(false);
+        final AtomicInteger wip = new AtomicInteger(0);
+        final Thread waiter;
+        volatile boolean timedOut = false;
+        long startNs;
+        long quorumStartNs;
+        int numNodesPendingResponse;
+        int numResponsesGot = 0;
+        boolean quorumSatisfied = false;
+        boolean zonesSatisfied = false;
+
+        PutContext(int numNodesPendingResponse, Thread waiter) {
+            this.numNodesPendingResponse = numNodesPendingResponse;
+            this.waiter = waiter;
+        }
+
+        boolean offer(Response<ByteArray, Object> response) {
+            if(responseHandlingCutoff.get())
+                return false;
+            responseQueue.offer(response);
+            if(waiter != null)
+                LockSupport.unpark(waiter);
+            return true;
+        }
+
+        Response<ByteArray, Object> poll(long timeoutNs) {
+            long deadlineNs = System.nanoTime() + timeoutNs;
+            Response<ByteArray, Object> response;
+            while((response = responseQueue.poll()) == null) {
+                long remainingNs = deadlineNs - System.nanoTime();
+                if(remainingNs <= 0)
+                    return null;
+                LockSupport.parkNanos(this, remainingNs);
             }
-            return false;
+            return response;
         }
-        return true;
     }
 }
@@ -4,7 +4,10 @@ import voldemort.consistency.types.Content;
 import voldemort.consistency.types.Message;
 import voldemort.consistency.types.MetaData;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ReplicateInterface<K,V> {
     void replicate(Message<K, V> message);
+    CompletableFuture<Message<K, V>> replicateAsync(Message<K, V> message);
     boolean apply(Message<K, V> message);
 }
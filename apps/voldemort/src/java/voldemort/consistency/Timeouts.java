@@ -0,0 +1,102 @@
+package voldemort.consistency;
+
+import voldemort.utils.DaemonThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared timer used by the asynchronous message paths to complete a pending
+ * operation once its timeout expires, so that no caller thread has to park on
+ * a latch waiting for slow replicas. The timeouts run on a separate pool, so
+ * the callbacks of the futures they complete never hold up the timer thread.
+ *
+ * Every {@link Framework} holds the timer from its construction until it is
+ * closed, and the threads stop once the last one is closed.
+ */
+final class Timeouts {
+
+    private static final int COMPLETION_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int COMPLETION_QUEUE_SIZE = 1024;
+
+    private static ScheduledExecutorService scheduler;
+
+    private static ThreadPoolExecutor completions;
+
+    private static int users = 0;
+
+    private Timeouts() {
+    }
+
+    /**
+     * Starts the timer threads for one more user, unless they are running
+     */
+    static synchronized void acquire() {
+        users++;
+        start();
+    }
+
+    /**
+     * Stops the timer threads once the last user released them. The pending
+     * timeouts are dropped, their operations are left to the replica timeouts.
+     */
+    static synchronized void release() {
+        if(users == 0)
+            return;
+        if(--users == 0 && scheduler != null) {
+            scheduler.shutdownNow();
+            completions.shutdownNow();
+            scheduler = null;
+            completions = null;
+        }
+    }
+
+    private static synchronized void start() {
+        if(scheduler != null)
+            return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("vcml-timeouts"));
+        // once the queue is full the timer thread runs the timeouts itself,
+        // slower but no timeout is lost
+        completions = new ThreadPoolExecutor(COMPLETION_THREADS,
+                                             COMPLETION_THREADS,
+                                             60,
+                                             TimeUnit.SECONDS,
+                                             new ArrayBlockingQueue<Runnable>(COMPLETION_QUEUE_SIZE),
+                                             new DaemonThreadFactory("vcml-completions"),
+                                             new ThreadPoolExecutor.CallerRunsPolicy());
+        completions.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs onTimeout after timeoutMs unless the future completes first.
+     */
+    static void bind(CompletableFuture<?> future, Runnable onTimeout, long timeoutMs) {
+        bind(future, onTimeout, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs onTimeout after the timeout unless the future completes first.
+     */
+    static void bind(CompletableFuture<?> future, Runnable onTimeout, long timeout, TimeUnit unit) {
+        if(future.isDone())
+            return;
+        final ScheduledFuture<?> scheduled;
+        synchronized(Timeouts.class) {
+            // the pipeline stages used on their own, without a Framework
+            start();
+            final ThreadPoolExecutor executor = completions;
+            scheduled = scheduler.schedule(() -> executor.execute(onTimeout), Math.max(0, timeout), unit);
+        }
+        future.whenComplete((result, error) -> scheduled.cancel(false));
+    }
+
+    static synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
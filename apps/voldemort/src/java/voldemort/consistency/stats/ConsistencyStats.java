@@ -0,0 +1,218 @@
+package voldemort.consistency.stats;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import voldemort.annotations.concurrency.Threadsafe;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of the stages a message goes through in the consistency pipeline,
+ * latency of the GET requests per node in microseconds, and counters of the
+ * operations that missed their quorum or zone requirement.
+ *
+ * The GET latency of a node is kept per interval, so a node that recovers
+ * from a slow period is no longer judged by it once the interval rolls.
+ *
+ * Recording is lock-free, so it is safe to call from the selector threads
+ * running the NonblockingStore callbacks.
+ */
+@Threadsafe
+public class ConsistencyStats {
+
+    public static final ConsistencyStats INSTANCE = new ConsistencyStats();
+
+    public enum Stage {
+        ORDER,
+        REPLICATE,
+        QUORUM,
+        GET,
+        DELETE
+    }
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final long DEFAULT_NODE_INTERVAL_MS = 10000;
+
+    private final Map<Stage, Histogram> stages;
+    private final ConcurrentHashMap<Integer, NodeLatency> nodes;
+    private final long nodeIntervalMs;
+    private final AtomicLong quorumFailures;
+    private final AtomicLong zoneShortfalls;
+    private final AtomicLong hedges;
+    private final AtomicLong hedgesWon;
+
+    public ConsistencyStats() {
+        this(DEFAULT_NODE_INTERVAL_MS);
+    }
+
+    /**
+     * @param nodeIntervalMs How long the GET latency of a node is collected
+     *        before it replaces the interval the percentiles are read from
+     */
+    public ConsistencyStats(long nodeIntervalMs) {
+        this.nodeIntervalMs = nodeIntervalMs;
+        this.stages = new EnumMap<Stage, Histogram>(Stage.class);
+        for(Stage stage: Stage.values())
+            stages.put(stage, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+        this.nodes = new ConcurrentHashMap<Integer, NodeLatency>();
+        this.quorumFailures = new AtomicLong(0);
+        this.zoneShortfalls = new AtomicLong(0);
+        this.hedges = new AtomicLong(0);
+        this.hedgesWon = new AtomicLong(0);
+    }
+
+    /**
+     * @param stage The stage that finished
+     * @param startNs When the stage started, from System.nanoTime()
+     */
+    public void recordStage(Stage stage, long startNs) {
+        stages.get(stage).recordValue(Math.max(0, System.nanoTime() - startNs));
+    }
+
+    /**
+     * @param nodeId The node the GET was sent to
+     * @param latencyUs How long the GET took, or has been waiting if it timed
+     *        out
+     */
+    public void recordNodeLatency(int nodeId, long latencyUs) {
+        NodeLatency latency = nodes.get(nodeId);
+        if(latency == null) {
+            latency = new NodeLatency();
+            NodeLatency existing = nodes.putIfAbsent(nodeId, latency);
+            if(existing != null)
+                latency = existing;
+        }
+        latency.recorder.recordValue(Math.max(0, latencyUs));
+    }
+
+    public void recordQuorumFailure() {
+        quorumFailures.incrementAndGet();
+    }
+
+    public void recordZoneShortfall() {
+        zoneShortfalls.incrementAndGet();
+    }
+
+    /**
+     * An extra GET was sent because a replica was slower than usual
+     */
+    public void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    /**
+     * The hedged GET answered before one of the replicas it was racing
+     */
+    public void recordHedgeWon() {
+        hedgesWon.incrementAndGet();
+    }
+
+    public long getCount(Stage stage) {
+        return stages.get(stage).getTotalCount();
+    }
+
+    public double getAvgTimeInMs(Stage stage) {
+        return stages.get(stage).getMean() / 1000000.0;
+    }
+
+    public double getQuantileInMs(Stage stage, double percentile) {
+        return stages.get(stage).getValueAtPercentile(percentile) / 1000000.0;
+    }
+
+    public double getMaxTimeInMs(Stage stage) {
+        return stages.get(stage).getMaxValue() / 1000000.0;
+    }
+
+    /**
+     * @return the given percentile of the GET latency of the node in the
+     *         current interval in ms, or -1 if the node did not answer yet
+     */
+    public long getNodeQuantileInMs(int nodeId, double percentile) {
+        long us = getNodeQuantileInUs(nodeId, percentile);
+        return us < 0 ? -1 : TimeUnit.MICROSECONDS.toMillis(us);
+    }
+
+    /**
+     * @return the given percentile of the GET latency of the node in the
+     *         current interval in us, or -1 if the node did not answer yet
+     */
+    public long getNodeQuantileInUs(int nodeId, double percentile) {
+        NodeLatency latency = nodes.get(nodeId);
+        if(latency == null)
+            return -1;
+        Histogram interval = latency.getInterval(nodeIntervalMs);
+        if(interval == null)
+            return -1;
+        return interval.getValueAtPercentile(percentile);
+    }
+
+    public Iterable<Integer> getNodeIds() {
+        return nodes.keySet();
+    }
+
+    public long getQuorumFailures() {
+        return quorumFailures.get();
+    }
+
+    public long getZoneShortfalls() {
+        return zoneShortfalls.get();
+    }
+
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    public long getHedgesWon() {
+        return hedgesWon.get();
+    }
+
+    public void reset() {
+        for(Histogram histogram: stages.values())
+            histogram.reset();
+        nodes.clear();
+        quorumFailures.set(0);
+        zoneShortfalls.set(0);
+        hedges.set(0);
+        hedgesWon.set(0);
+    }
+
+    /**
+     * The GET latency of one node. Any thread records into the recorder, the
+     * readers share the last interval taken from it, which is never written
+     * once published.
+     */
+    private static class NodeLatency {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private volatile Histogram interval;
+        private volatile long intervalStartMs;
+
+        /**
+         * @return the latency of the last interval, rolled first if it is
+         *         older than intervalMs, or null if there is none yet
+         */
+        Histogram getInterval(long intervalMs) {
+            long nowMs = System.currentTimeMillis();
+            if(interval == null || nowMs - intervalStartMs >= intervalMs) {
+                synchronized(this) {
+                    if(interval == null || nowMs - intervalStartMs >= intervalMs) {
+                        Histogram next = recorder.getIntervalHistogram();
+                        // an idle node keeps the latency it last had
+                        if(next.getTotalCount() > 0 || interval == null)
+                            interval = next;
+                        intervalStartMs = nowMs;
+                    }
+                }
+            }
+            Histogram current = interval;
+            return current.getTotalCount() > 0 ? current : null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package voldemort.consistency.stats;
+
+import voldemort.annotations.jmx.JmxGetter;
+import voldemort.annotations.jmx.JmxManaged;
+import voldemort.annotations.jmx.JmxOperation;
+import voldemort.consistency.stats.ConsistencyStats.Stage;
+
+/**
+ * A wrapper class to expose the consistency pipeline stats via JMX
+ */
+@JmxManaged(description = "Consistency pipeline stages.")
+public class ConsistencyStatsJmx {
+
+    private final ConsistencyStats stats;
+
+    public ConsistencyStatsJmx(ConsistencyStats stats) {
+        this.stats = stats;
+    }
+
+    @JmxGetter(name = "orderCount", description = "Number of messages timestamped by the Order stage.")
+    public long getOrderCount() {
+        return stats.getCount(Stage.ORDER);
+    }
+
+    @JmxGetter(name = "orderMsAverage", description = "The avg. time in ms of the Order stage.")
+    public double getOrderMsAverage() {
+        return stats.getAvgTimeInMs(Stage.ORDER);
+    }
+
+    @JmxGetter(name = "orderMsQ99th", description = "99th percentile time in ms of the Order stage.")
+    public double getOrderMsQ99th() {
+        return stats.getQuantileInMs(Stage.ORDER, 99.0);
+    }
+
+    @JmxGetter(name = "replicateCount", description = "Number of messages replicated.")
+    public long getReplicateCount() {
+        return stats.getCount(Stage.REPLICATE);
+    }
+
+    @JmxGetter(name = "replicateMsAverage", description = "The avg. time in ms of the Replicate stage.")
+    public double getReplicateMsAverage() {
+        return stats.getAvgTimeInMs(Stage.REPLICATE);
+    }
+
+    @JmxGetter(name = "replicateMsQ99th", description = "99th percentile time in ms of the Replicate stage.")
+    public double getReplicateMsQ99th() {
+        return stats.getQuantileInMs(Stage.REPLICATE, 99.0);
+    }
+
+    @JmxGetter(name = "quorumMsAverage", description = "The avg. time in ms waiting for the quorum of a replicated message.")
+    public double getQuorumMsAverage() {
+        return stats.getAvgTimeInMs(Stage.QUORUM);
+    }
+
+    @JmxGetter(name = "quorumMsQ99th", description = "99th percentile time in ms waiting for the quorum of a replicated message.")
+    public double getQuorumMsQ99th() {
+        return stats.getQuantileInMs(Stage.QUORUM, 99.0);
+    }
+
+    @JmxGetter(name = "getMsAverage", description = "The avg. time in ms for GET messages to complete.")
+    public double getGetMsAverage() {
+        return stats.getAvgTimeInMs(Stage.GET);
+    }
+
+    @JmxGetter(name = "getMsQ99th", description = "99th percentile time in ms for GET messages to complete.")
+    public double getGetMsQ99th() {
+        return stats.getQuantileInMs(Stage.GET, 99.0);
+    }
+
+    @JmxGetter(name = "deleteMsAverage", description = "The avg. time in ms for DELETE messages to complete.")
+    public double getDeleteMsAverage() {
+        return stats.getAvgTimeInMs(Stage.DELETE);
+    }
+
+    @JmxGetter(name = "quorumFailures", description = "Number of operations that did not reach the required successes.")
+    public long getQuorumFailures() {
+        return stats.getQuorumFailures();
+    }
+
+    @JmxGetter(name = "zoneShortfalls", description = "Number of operations that did not reach the required zones.")
+    public long getZoneShortfalls() {
+        return stats.getZoneShortfalls();
+    }
+
+    @JmxGetter(name = "hedgedGets", description = "Number of GETs sent to one more node because a replica was slow.")
+    public long getHedgedGets() {
+        return stats.getHedges();
+    }
+
+    @JmxGetter(name = "hedgedGetsWon", description = "Number of hedged GETs that answered before the replica they raced.")
+    public long getHedgedGetsWon() {
+        return stats.getHedgesWon();
+    }
+
+    @JmxGetter(name = "nodeResponseMsQ99th", description = "99th percentile GET latency in ms of every node in the current interval.")
+    public String getNodeResponseMsQ99th() {
+        StringBuilder builder = new StringBuilder();
+        for(Integer nodeId: stats.getNodeIds()) {
+            if(builder.length() > 0)
+                builder.append(", ");
+            builder.append(nodeId).append('=').append(stats.getNodeQuantileInMs(nodeId, 99.0));
+        }
+        return builder.toString();
+    }
+
+    @JmxOperation(description = "GET latency in ms of the node at the given percentile in the current interval.")
+    public long getNodeResponseMs(int nodeId, double percentile) {
+        return stats.getNodeQuantileInMs(nodeId, percentile);
+    }
+
+    @JmxOperation(description = "Reset all the consistency pipeline stats.")
+    public void reset() {
+        stats.reset();
+    }
+}
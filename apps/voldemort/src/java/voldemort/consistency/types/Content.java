@@ -2,9 +2,13 @@ package voldemort.consistency.types;
 
 import voldemort.consistency.types.Message.Type;
 
+import java.util.Map;
+import java.util.Set;
+
 public class Content<K, V> {
     private K key;
     private V value;
+    private Map<K, V> entries;
 
     public Content(K key, V value) {
         this.key = key;
@@ -15,6 +19,14 @@ public class Content<K, V> {
         this.key = key;
     }
 
+    /**
+     * Content of a GET_ALL or PUT_ALL message. For GET_ALL the values are
+     * null.
+     */
+    public Content(Map<K, V> entries) {
+        this.entries = entries;
+    }
+
     public K getKey() {
         return key;
     }
@@ -23,6 +35,14 @@ public class Content<K, V> {
         return value;
     }
 
+    public Map<K, V> getEntries() {
+        return entries;
+    }
+
+    public Set<K> getKeys() {
+        return entries.keySet();
+    }
+
 
     public void setValue(V value) {
         this.value = value;
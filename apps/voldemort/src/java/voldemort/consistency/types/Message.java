@@ -4,6 +4,8 @@ public class Message<K,V> {
     public enum Type {
         PUT,
         GET,
+        GET_ALL,
+        PUT_ALL,
         GET_VERSIONS,
         DELETE,
         REPLICATE,
@@ -16,6 +16,7 @@ import java.util.List;
 public class MetaData {
     private Version version;
     private Versioned<?> versioned;
+    private List<Versioned<?>> concurrentVersions;
     private Node master;
     HashSet<Integer> zoneResponses;
     List<Response<ByteArray, Object>> responses;
@@ -28,19 +29,18 @@ public class MetaData {
     HashMap<String, Version> dependencies;
     HashMap<String, Version> remainingDependencies;
 
+    HashMap<Object, MetaData> keyMetaData;
+
     Object clientMessageAgent;
     Node nodeToSendResponse;
 
     public MetaData() {
-        try {
-            this.version = (Version) Constants.getVersionType().newInstance();
-            this.getSuccesses = 0;
-            this.responses = new ArrayList<Response<ByteArray, Object>>();
-            this.zoneResponses = new HashSet<Integer>();
-            this.dependencies = new HashMap<>();
-        } catch (InstantiationException | IllegalAccessException e) {
-            e.printStackTrace();
-        }
+        this.version = Constants.getVersionObject();
+        this.getSuccesses = 0;
+        this.responses = new ArrayList<Response<ByteArray, Object>>();
+        this.zoneResponses = new HashSet<Integer>();
+        this.dependencies = new HashMap<>();
+        this.keyMetaData = new HashMap<>();
     }
 
     public MetaData(Version version) {
@@ -68,6 +68,18 @@ public class MetaData {
         this.versioned = versioned;
     }
 
+    /**
+     * Versions a GET read that the vector clocks cannot order, left to the
+     * client to resolve. Empty when {@link #getVersioned()} holds the value.
+     */
+    public List<Versioned<?>> getConcurrentVersions() {
+        return concurrentVersions == null ? new ArrayList<Versioned<?>>() : concurrentVersions;
+    }
+
+    public void setConcurrentVersions(List<Versioned<?>> concurrentVersions) {
+        this.concurrentVersions = concurrentVersions;
+    }
+
     public HashSet<Integer> getZoneResponses() {
         return zoneResponses;
     }
@@ -159,6 +171,13 @@ public class MetaData {
         this.deleteSuccesses++;
     }
 
+    /**
+     * Outcome of each key of a GET_ALL or PUT_ALL message.
+     */
+    public HashMap<Object, MetaData> getKeyMetaData() {
+        return keyMetaData;
+    }
+
     public void clearZoneResponses() {
         this.zoneResponses.clear();
     }
@@ -0,0 +1,440 @@
+package voldemort.consistency.versioning;
+
+import voldemort.annotations.concurrency.NotThreadsafe;
+import voldemort.consistency.utils.ByteUtils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A {@link VectorClock} equivalent that keeps its entries in two sorted
+ * parallel arrays instead of a TreeMap of boxed values. Comparing two clocks
+ * walks both arrays once without allocating, and serialization writes
+ * straight into the destination buffer. The byte format is the same as the
+ * one of {@link VectorClock}, so both can read each other's output.
+ *
+ * Select it by setting {@link voldemort.consistency.Constants#versioning} to
+ * this class name.
+ *
+ *
+ */
+@NotThreadsafe
+public class ArrayVectorClock implements Version, Serializable {
+
+    private static final long serialVersionUID = 1;
+
+    private static final int MAX_NUMBER_OF_VERSIONS = Short.MAX_VALUE;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    /* Node ids in ascending order, only the first size entries are used */
+    private short[] nodeIds;
+
+    /* versions[i] is the version of nodeIds[i] */
+    private long[] versions;
+
+    private int size;
+
+    /*
+     * The time of the last update on the server on which the update was
+     * performed
+     */
+    private volatile long timestamp;
+
+    /* Read-only view handed out by getVersions, dropped on every update */
+    private transient Map<String, Long> versionsView;
+
+    /**
+     * Construct an empty ArrayVectorClock
+     */
+    public ArrayVectorClock() {
+        this(System.currentTimeMillis());
+    }
+
+    public ArrayVectorClock(long timestamp) {
+        this(new short[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], 0, timestamp);
+    }
+
+    /**
+     * Only used for cloning and merging
+     */
+    private ArrayVectorClock(short[] nodeIds, long[] versions, int size, long timestamp) {
+        this.nodeIds = nodeIds;
+        this.versions = versions;
+        this.size = size;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Takes the bytes of a VectorClock and creates a java object from them.
+     *
+     * @param bytes The serialized bytes of the VectorClock
+     */
+    public ArrayVectorClock(byte[] bytes) {
+        this(bytes, 0);
+    }
+
+    /**
+     * Read the vector clock from the given bytes starting from a particular
+     * offset
+     *
+     * @param bytes The bytes to read from
+     * @param offset The offset to start reading from
+     */
+    public ArrayVectorClock(byte[] bytes, int offset) {
+        if(bytes == null || bytes.length <= offset)
+            throw new IllegalArgumentException("Invalid byte array for serialization--no bytes to read.");
+        int numEntries = ByteUtils.readShort(bytes, offset);
+        int versionSize = bytes[offset + 2];
+        int entrySize = ByteUtils.SIZE_OF_SHORT + versionSize;
+        int minimumBytes = offset + ByteUtils.SIZE_OF_SHORT + 1 + numEntries * entrySize
+                           + ByteUtils.SIZE_OF_LONG;
+        if(bytes.length < minimumBytes)
+            throw new IllegalArgumentException("Too few bytes: expected at least " + minimumBytes
+                                               + " but found only " + bytes.length + ".");
+
+        int capacity = Math.max(numEntries, INITIAL_CAPACITY);
+        this.nodeIds = new short[capacity];
+        this.versions = new long[capacity];
+        int index = 3 + offset;
+        for(int i = 0; i < numEntries; i++) {
+            short nodeId = ByteUtils.readShort(bytes, index);
+            long version = ByteUtils.readBytes(bytes, index + ByteUtils.SIZE_OF_SHORT, versionSize);
+            put(nodeId, version);
+            index += entrySize;
+        }
+        this.timestamp = ByteUtils.readLong(bytes, index);
+    }
+
+    public static Version createNew(DataInputStream inputStream) {
+        try {
+            final int HEADER_LENGTH = ByteUtils.SIZE_OF_SHORT + ByteUtils.SIZE_OF_BYTE;
+            byte[] header = new byte[HEADER_LENGTH];
+            inputStream.readFully(header);
+            int numEntries = ByteUtils.readShort(header, 0);
+
+            byte versionSize = header[ByteUtils.SIZE_OF_SHORT];
+
+            int entrySize = ByteUtils.SIZE_OF_SHORT + versionSize;
+            int totalEntrySize = numEntries * entrySize;
+
+            byte[] vectorClockBytes = new byte[HEADER_LENGTH + totalEntrySize
+                                               + ByteUtils.SIZE_OF_LONG];
+            System.arraycopy(header, 0, vectorClockBytes, 0, header.length);
+
+            inputStream.readFully(vectorClockBytes, HEADER_LENGTH, vectorClockBytes.length
+                                                                   - HEADER_LENGTH);
+            return new ArrayVectorClock(vectorClockBytes);
+        } catch(IOException e) {
+            throw new IllegalArgumentException("Can't deserialize vectorclock from stream", e);
+        }
+    }
+
+    public byte[] toBytes() {
+        byte[] serialized = new byte[sizeInBytes()];
+        toBytes(serialized, 0);
+        return serialized;
+    }
+
+    public int toBytes(byte[] buf, int offset) {
+        int start = offset;
+        // write the number of versions
+        ByteUtils.writeShort(buf, (short) size, offset);
+        offset += ByteUtils.SIZE_OF_SHORT;
+        // write the size of each version in bytes
+        byte versionSize = ByteUtils.numberOfBytesRequired(getMaxVersion());
+        buf[offset] = versionSize;
+        offset++;
+
+        for(int i = 0; i < size; i++) {
+            ByteUtils.writeShort(buf, nodeIds[i], offset);
+            ByteUtils.writeBytes(buf, versions[i], offset + ByteUtils.SIZE_OF_SHORT, versionSize);
+            offset += ByteUtils.SIZE_OF_SHORT + versionSize;
+        }
+        ByteUtils.writeLong(buf, this.timestamp, offset);
+        return offset + ByteUtils.SIZE_OF_LONG - start;
+    }
+
+    public int sizeInBytes() {
+        byte versionSize = ByteUtils.numberOfBytesRequired(getMaxVersion());
+        return ByteUtils.SIZE_OF_SHORT + 1 + size * (ByteUtils.SIZE_OF_SHORT + versionSize)
+               + ByteUtils.SIZE_OF_LONG;
+    }
+
+    /**
+     * Increment the version info associated with the given node
+     *
+     * @param node The node
+     */
+    public void incrementVersion(int node, long time) {
+        if(node < 0 || node > Short.MAX_VALUE)
+            throw new IllegalArgumentException(node
+                                               + " is outside the acceptable range of node ids.");
+
+        this.timestamp = time;
+
+        int index = indexOf((short) node);
+        if(index >= 0) {
+            versions[index]++;
+            versionsView = null;
+        } else {
+            insert(-(index + 1), (short) node, 1L);
+        }
+    }
+
+    /**
+     * Get new vector clock based on this clock but incremented on index nodeId
+     *
+     * @param nodeId The id of the node to increment
+     * @return A vector clock equal on each element execept that indexed by
+     *         nodeId
+     */
+    public Version incremented(int nodeId, long time) {
+        ArrayVectorClock copyClock = this.clone();
+        copyClock.incrementVersion(nodeId, time);
+        return copyClock;
+    }
+
+    @Override
+    public ArrayVectorClock clone() {
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        return new ArrayVectorClock(Arrays.copyOf(nodeIds, capacity),
+                                    Arrays.copyOf(versions, capacity),
+                                    size,
+                                    timestamp);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object)
+            return true;
+        if(object == null)
+            return false;
+        if(!object.getClass().equals(ArrayVectorClock.class))
+            return false;
+        ArrayVectorClock clock = (ArrayVectorClock) object;
+        if(size != clock.size)
+            return false;
+        for(int i = 0; i < size; i++) {
+            if(nodeIds[i] != clock.nodeIds[i] || versions[i] != clock.versions[i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for(int i = 0; i < size; i++)
+            hash += nodeIds[i] ^ (int) (versions[i] ^ (versions[i] >>> 32));
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("version(");
+        for(int i = 0; i < size; i++) {
+            if(i > 0)
+                builder.append(", ");
+            builder.append(nodeIds[i]).append(':').append(versions[i]);
+        }
+        builder.append(")");
+        builder.append(" ts:" + timestamp);
+        return builder.toString();
+    }
+
+    public long getMaxVersion() {
+        long max = -1;
+        for(int i = 0; i < size; i++)
+            max = Math.max(versions[i], max);
+        return max;
+    }
+
+    /**
+     * The merged clock is sized exactly once, the element-wise maximums are
+     * then written into it in a single pass over both clocks.
+     */
+    @Override
+    public Version merge(Version clock) {
+        ArrayVectorClock other = (ArrayVectorClock) clock;
+        int mergedSize = 0;
+        int i = 0, j = 0;
+        while(i < size || j < other.size) {
+            if(j == other.size || (i < size && nodeIds[i] < other.nodeIds[j])) {
+                i++;
+            } else if(i == size || nodeIds[i] > other.nodeIds[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+            mergedSize++;
+        }
+
+        int capacity = Math.max(mergedSize, INITIAL_CAPACITY);
+        short[] mergedNodeIds = new short[capacity];
+        long[] mergedVersions = new long[capacity];
+        int k = 0;
+        i = 0;
+        j = 0;
+        while(i < size || j < other.size) {
+            if(j == other.size || (i < size && nodeIds[i] < other.nodeIds[j])) {
+                mergedNodeIds[k] = nodeIds[i];
+                mergedVersions[k] = versions[i++];
+            } else if(i == size || nodeIds[i] > other.nodeIds[j]) {
+                mergedNodeIds[k] = other.nodeIds[j];
+                mergedVersions[k] = other.versions[j++];
+            } else {
+                mergedNodeIds[k] = nodeIds[i];
+                mergedVersions[k] = Math.max(versions[i++], other.versions[j++]);
+            }
+            k++;
+        }
+        return new ArrayVectorClock(mergedNodeIds,
+                                    mergedVersions,
+                                    mergedSize,
+                                    System.currentTimeMillis());
+    }
+
+    /**
+     * Merges the other clock into this one, keeping the element-wise
+     * maximums. Nothing is allocated unless this clock has to grow to fit
+     * node ids it did not know about.
+     */
+    public void mergeFrom(ArrayVectorClock other) {
+        for(int j = 0; j < other.size; j++) {
+            int index = indexOf(other.nodeIds[j]);
+            if(index < 0)
+                insert(-(index + 1), other.nodeIds[j], other.versions[j]);
+            else if(other.versions[j] > versions[index]) {
+                versions[index] = other.versions[j];
+                versionsView = null;
+            }
+        }
+    }
+
+    /**
+     * Same outcome as {@link VectorClockUtils#compare(VectorClock, VectorClock)},
+     * computed by walking both sorted arrays side by side.
+     */
+    @Override
+    public Occurred compare(Version v) {
+        if(!(v instanceof ArrayVectorClock))
+            throw new IllegalArgumentException("Cannot compare Versions of different types.");
+
+        ArrayVectorClock other = (ArrayVectorClock) v;
+        boolean v1Bigger = false;
+        boolean v2Bigger = false;
+        int i = 0, j = 0;
+        while((i < size || j < other.size) && !(v1Bigger && v2Bigger)) {
+            if(j == other.size || (i < size && nodeIds[i] < other.nodeIds[j])) {
+                // only this clock has the node
+                v1Bigger = true;
+                i++;
+            } else if(i == size || nodeIds[i] > other.nodeIds[j]) {
+                // only the other clock has the node
+                v2Bigger = true;
+                j++;
+            } else {
+                if(versions[i] > other.versions[j])
+                    v1Bigger = true;
+                else if(versions[i] < other.versions[j])
+                    v2Bigger = true;
+                i++;
+                j++;
+            }
+        }
+
+        /*
+         * Equal clocks are BEFORE, so that the we would throw back an
+         * ObsoleteVersionException for online writes with the same clock.
+         */
+        if(!v1Bigger && !v2Bigger)
+            return Occurred.BEFORE;
+        else if(v1Bigger && !v2Bigger)
+            return Occurred.AFTER;
+        else if(!v1Bigger && v2Bigger)
+            return Occurred.BEFORE;
+        else
+            return Occurred.CONCURRENTLY;
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    @Override
+    public void updateVersion(String nodeId, long newVersion, long currentTimeMillis) {
+        if(nodeId.equals(""))
+            throw new IllegalArgumentException(nodeId
+                    + " is outside the acceptable range of node ids.");
+
+        this.timestamp = currentTimeMillis;
+        put(Short.parseShort(nodeId), newVersion);
+    }
+
+    /**
+     * The returned map is a read-only view that is reused until the clock
+     * changes.
+     */
+    @Override
+    public Map<String, Long> getVersions() {
+        Map<String, Long> view = versionsView;
+        if(view == null) {
+            Map<String, Long> output = new TreeMap<>();
+            for(int i = 0; i < size; i++)
+                output.put(String.valueOf(nodeIds[i]), versions[i]);
+            view = Collections.unmodifiableMap(output);
+            versionsView = view;
+        }
+        return view;
+    }
+
+    /**
+     * @return the version of the given node, 0 if the clock has no entry for it
+     */
+    public long getVersion(short nodeId) {
+        int index = indexOf(nodeId);
+        return index >= 0 ? versions[index] : 0L;
+    }
+
+    public int getNumberOfEntries() {
+        return size;
+    }
+
+    private int indexOf(short nodeId) {
+        return Arrays.binarySearch(nodeIds, 0, size, nodeId);
+    }
+
+    private void put(short nodeId, long version) {
+        int index = indexOf(nodeId);
+        if(index >= 0) {
+            versions[index] = version;
+            versionsView = null;
+        } else {
+            insert(-(index + 1), nodeId, version);
+        }
+    }
+
+    private void insert(int index, short nodeId, long version) {
+        if(size + 1 >= MAX_NUMBER_OF_VERSIONS)
+            throw new IllegalStateException("Vector clock is full!");
+        if(size == nodeIds.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            nodeIds = Arrays.copyOf(nodeIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        System.arraycopy(nodeIds, index, nodeIds, index + 1, size - index);
+        System.arraycopy(versions, index, versions, index + 1, size - index);
+        nodeIds[index] = nodeId;
+        versions[index] = version;
+        size++;
+        versionsView = null;
+    }
+}
@@ -0,0 +1,205 @@
+package voldemort.consistency.versioning;
+
+import voldemort.annotations.concurrency.NotThreadsafe;
+import voldemort.consistency.utils.ByteUtils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A hybrid logical clock packed in a single 64 bit word: the high 48 bits
+ * hold the physical time in ms and the low 16 bits a logical counter that
+ * orders the events within the same ms. It uses the same layout as the HLC
+ * of the DKVF causal protocols.
+ *
+ * Unlike a {@link VectorClock} the version does not grow with the number of
+ * replicas, it is always serialized in 8 bytes. The price is that the clock
+ * is a total order consistent with causality, so concurrent writes are never
+ * reported as {@link Occurred#CONCURRENTLY}: the later HLC wins.
+ *
+ * Select it by setting {@link voldemort.consistency.Constants#versioning} to
+ * this class name.
+ *
+ *
+ */
+@NotThreadsafe
+public class HybridLogicalClock implements Version, Serializable {
+
+    private static final long serialVersionUID = 1;
+
+    private static final int COUNTER_BITS = 16;
+
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final long PHYSICAL_MASK = ~COUNTER_MASK;
+
+    /* Key of the single entry returned by getVersions */
+    public static final String HLC_KEY = "hlc";
+
+    private long time;
+
+    /**
+     * Construct a clock at the initial moment of time
+     */
+    public HybridLogicalClock() {
+        this.time = 0L;
+    }
+
+    private HybridLogicalClock(long time) {
+        this.time = time;
+    }
+
+    public HybridLogicalClock(byte[] bytes) {
+        this(bytes, 0);
+    }
+
+    /**
+     * Read the clock written by {@link #toBytes(byte[], int)} at the given
+     * offset
+     */
+    public HybridLogicalClock(byte[] bytes, int offset) {
+        if(bytes == null || bytes.length < offset + ByteUtils.SIZE_OF_LONG)
+            throw new IllegalArgumentException("Too few bytes: expected at least "
+                                               + (offset + ByteUtils.SIZE_OF_LONG));
+        this.time = ByteUtils.readLong(bytes, offset);
+    }
+
+    public static Version createNew(DataInputStream inputStream) {
+        try {
+            return new HybridLogicalClock(inputStream.readLong());
+        } catch(IOException e) {
+            throw new IllegalArgumentException("Can't deserialize hybrid logical clock from stream", e);
+        }
+    }
+
+    /**
+     * @param time The packed physical time and counter, as returned by
+     *        {@link #toLong()}
+     */
+    public static HybridLogicalClock fromLong(long time) {
+        return new HybridLogicalClock(time);
+    }
+
+    public long toLong() {
+        return time;
+    }
+
+    /**
+     * @return the physical part of the clock in ms
+     */
+    public long getPhysicalTime() {
+        return time >>> COUNTER_BITS;
+    }
+
+    /**
+     * @return the logical counter of the clock
+     */
+    public int getCounter() {
+        return (int) (time & COUNTER_MASK);
+    }
+
+    public byte[] toBytes() {
+        byte[] serialized = new byte[ByteUtils.SIZE_OF_LONG];
+        toBytes(serialized, 0);
+        return serialized;
+    }
+
+    public int toBytes(byte[] buf, int offset) {
+        ByteUtils.writeLong(buf, time, offset);
+        return ByteUtils.SIZE_OF_LONG;
+    }
+
+    public int sizeInBytes() {
+        return ByteUtils.SIZE_OF_LONG;
+    }
+
+    /**
+     * Advance the clock for a local event happening at currentTimeMillis. The
+     * node id is not part of the clock.
+     */
+    public void incrementVersion(int nodeId, long currentTimeMillis) {
+        this.time = tick(time, currentTimeMillis);
+    }
+
+    public HybridLogicalClock incremented(int nodeId, long time) {
+        return new HybridLogicalClock(tick(this.time, time));
+    }
+
+    /**
+     * Return the clock of an event that received both clocks, without
+     * advancing it.
+     */
+    public HybridLogicalClock merge(Version version) {
+        return new HybridLogicalClock(Math.max(time, toHlc(version).time));
+    }
+
+    /**
+     * Equal clocks are BEFORE, like in {@link VectorClock}, so that we
+     * would throw back an ObsoleteVersionException for online writes with the
+     * same clock.
+     */
+    public Occurred compare(Version v) {
+        long other = toHlc(v).time;
+        if(time > other)
+            return Occurred.AFTER;
+        return Occurred.BEFORE;
+    }
+
+    public long getTimestamp() {
+        return getPhysicalTime();
+    }
+
+    public void updateVersion(String nodeId, long newVersion, long currentTimeMillis) {
+        this.time = Math.max(time, newVersion);
+    }
+
+    public Map<String, Long> getVersions() {
+        return Collections.singletonMap(HLC_KEY, time);
+    }
+
+    @Override
+    public HybridLogicalClock clone() {
+        return new HybridLogicalClock(time);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object)
+            return true;
+        if(object == null)
+            return false;
+        if(!object.getClass().equals(HybridLogicalClock.class))
+            return false;
+        return time == ((HybridLogicalClock) object).time;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (time ^ (time >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "hlc(" + getPhysicalTime() + ":" + getCounter() + ")";
+    }
+
+    /*
+     * The physical part moves to the wall clock if it is ahead, otherwise the
+     * counter breaks the tie
+     */
+    private static long tick(long time, long currentTimeMillis) {
+        long physical = currentTimeMillis << COUNTER_BITS;
+        if(physical > (time & PHYSICAL_MASK))
+            return physical;
+        return time + 1;
+    }
+
+    private static HybridLogicalClock toHlc(Version v) {
+        if(!(v instanceof HybridLogicalClock))
+            throw new IllegalArgumentException("Cannot compare Versions of different types.");
+        return (HybridLogicalClock) v;
+    }
+}
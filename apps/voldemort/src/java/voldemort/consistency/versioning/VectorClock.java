@@ -18,15 +18,13 @@ package voldemort.consistency.versioning;
 
 import com.google.common.collect.Maps;
 import voldemort.annotations.concurrency.NotThreadsafe;
-import voldemort.consistency.Constants;
+import voldemort.consistency.ComponentRegistry;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.utils.Utils;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 /**
@@ -154,23 +152,10 @@ public class VectorClock implements Version, Serializable {
 
             inputStream.readFully(vectorClockBytes, HEADER_LENGTH, vectorClockBytes.length
                                                                    - HEADER_LENGTH);
-
-            try {
-                Constructor constructor = Constants.getVersionType().getConstructor(vectorClockBytes.getClass());
-                return (Version) constructor.newInstance( vectorClockBytes);
-            } catch (InstantiationException e) {
-                e.printStackTrace();
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            } catch (NoSuchMethodException e) {
-                e.printStackTrace();
-            } catch (InvocationTargetException e) {
-                e.printStackTrace();
-            }
+            return ComponentRegistry.readVersion(vectorClockBytes, 0);
         } catch(IOException e) {
             throw new IllegalArgumentException("Can't deserialize vectorclock from stream", e);
         }
-        return null;
     }
 
     public byte[] toBytes() {
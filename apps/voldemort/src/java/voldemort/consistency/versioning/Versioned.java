@@ -39,18 +39,14 @@ public final class Versioned<T> implements Serializable {
     private volatile T object;
 
     public Versioned(T object) throws IllegalAccessException, InstantiationException {
-        this(object, (Version) Constants.getVersionType().newInstance());
+        this(object, Constants.getVersionObject());
     }
 
     public Versioned(T object, Version version) {
-        if (version==null) {
-            try {
-                this.version = (Version) Constants.getVersionType().newInstance();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    e.printStackTrace();
-                }
-            } else
-                this.version = version;
+        if (version==null)
+            this.version = Constants.getVersionObject();
+        else
+            this.version = version;
         this.object = object;
     }
 
@@ -103,13 +99,7 @@ public final class Versioned<T> implements Serializable {
     }
 
     public static <S> Versioned<S> value(S s) {
-        Version aux = null;
-        try {
-            aux = (Version) Constants.getVersionType().newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            e.printStackTrace();
-        }
-        return new Versioned<S>(s, aux);
+        return new Versioned<S>(s, Constants.getVersionObject());
     }
 
     public static <S> Versioned<S> value(S s, Version v) {
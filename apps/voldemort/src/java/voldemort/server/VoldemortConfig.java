@@ -53,6 +53,7 @@ import voldemort.store.memory.CacheStorageConfiguration;
 import voldemort.store.memory.InMemoryStorageConfiguration;
 import voldemort.store.mysql.MysqlStorageConfiguration;
 import voldemort.store.readonly.BinarySearchStrategy;
+import voldemort.store.readonly.FencePointerSearchStrategy;
 import voldemort.store.readonly.InterpolationSearchStrategy;
 import voldemort.store.readonly.ReadOnlyStorageConfiguration;
 import voldemort.store.readonly.ReadOnlyStorageEngine;
@@ -138,6 +139,11 @@ public class VoldemortConfig implements Serializable {
     public static final String READONLY_STATS_FILE_ENABLED = "readonly.stats.file.enabled";
     public static final String READONLY_STATS_FILE_MAX_VERSIONS = "readonly.stats.file.max.versions";
     public static final String READONLY_MAX_VALUE_BUFFER_ALLOCATION_SIZE = "readonly.max.value.buffer.allocation.size";
+    public static final String READONLY_MMAP_DATA_FILES = "readonly.mmap.data.files";
+    public static final String READONLY_GETALL_THREADS = "readonly.getall.threads";
+    public static final String READONLY_GETALL_PREFETCH = "readonly.getall.prefetch";
+    public static final String READONLY_VALUE_CACHE_MAX_BYTES = "readonly.value.cache.max.bytes";
+    public static final String READONLY_VALUE_CACHE_WARMUP_KEYS = "readonly.value.cache.warmup.keys";
     public static final String READONLY_COMPRESSION_CODEC = "readonly.compression.codec";
     public static final String READONLY_MODIFY_PROTOCOL = "readonly.modify.protocol";
     public static final String READONLY_MODIFY_PORT = "readonly.modify.port";
@@ -347,6 +353,11 @@ public class VoldemortConfig implements Serializable {
         defaultConfig.put(READONLY_STATS_FILE_ENABLED, true);
         defaultConfig.put(READONLY_STATS_FILE_MAX_VERSIONS, 1000);
         defaultConfig.put(READONLY_MAX_VALUE_BUFFER_ALLOCATION_SIZE, VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE);
+        defaultConfig.put(READONLY_MMAP_DATA_FILES, false);
+        defaultConfig.put(READONLY_GETALL_THREADS, 0);
+        defaultConfig.put(READONLY_GETALL_PREFETCH, false);
+        defaultConfig.put(READONLY_VALUE_CACHE_MAX_BYTES, 0);
+        defaultConfig.put(READONLY_VALUE_CACHE_WARMUP_KEYS, 10000);
         // To enable block-level compression over the wire for Read-Only fetches, set this property to "GZIP"
         defaultConfig.put(READONLY_COMPRESSION_CODEC, "NO_CODEC");
         defaultConfig.put(READONLY_MODIFY_PROTOCOL, "");
@@ -594,6 +605,11 @@ public class VoldemortConfig implements Serializable {
     private boolean readOnlyStatsFileEnabled;
     private int readOnlyMaxVersionsStatsFile;
     private int readOnlyMaxValueBufferAllocationSize;
+    private boolean readOnlyMmapDataFiles;
+    private int readOnlyGetAllThreads;
+    private boolean readOnlyGetAllPrefetch;
+    private long readOnlyValueCacheMaxBytes;
+    private int readOnlyValueCacheWarmupKeys;
     private long readOnlyLoginIntervalMs;
     private long defaultStorageSpaceQuotaInKB;
     private String readOnlyModifyProtocol;
@@ -881,6 +897,11 @@ public class VoldemortConfig implements Serializable {
         this.readOnlyStatsFileEnabled = this.allProps.getBoolean(READONLY_STATS_FILE_ENABLED);
         this.readOnlyMaxVersionsStatsFile = this.allProps.getInt(READONLY_STATS_FILE_MAX_VERSIONS);
         this.readOnlyMaxValueBufferAllocationSize = this.allProps.getInt(READONLY_MAX_VALUE_BUFFER_ALLOCATION_SIZE);
+        this.readOnlyMmapDataFiles = this.allProps.getBoolean(READONLY_MMAP_DATA_FILES);
+        this.readOnlyGetAllThreads = this.allProps.getInt(READONLY_GETALL_THREADS);
+        this.readOnlyGetAllPrefetch = this.allProps.getBoolean(READONLY_GETALL_PREFETCH);
+        this.readOnlyValueCacheMaxBytes = this.allProps.getBytes(READONLY_VALUE_CACHE_MAX_BYTES);
+        this.readOnlyValueCacheWarmupKeys = this.allProps.getInt(READONLY_VALUE_CACHE_WARMUP_KEYS);
         this.readOnlyCompressionCodec = this.allProps.getString(READONLY_COMPRESSION_CODEC);
         this.readOnlyModifyProtocol = this.allProps.getString(READONLY_MODIFY_PROTOCOL);
         this.readOnlyModifyPort = this.allProps.getInt(READONLY_MODIFY_PORT);
@@ -3262,6 +3283,17 @@ public class VoldemortConfig implements Serializable {
         return readOnlySearchStrategy;
     }
 
+    /**
+     * Strategy to be used to search the read-only index of the given store.
+     * It is the "{@value #READONLY_SEARCH_STRATEGY}.&lt;store name&gt;"
+     * property if set, else the strategy of all stores,
+     * {@link #getReadOnlySearchStrategy()}.
+     */
+    public String getReadOnlySearchStrategy(String storeName) {
+        return allProps.getString(READONLY_SEARCH_STRATEGY + "." + storeName,
+                                  readOnlySearchStrategy);
+    }
+
     public long getReadOnlyFetcherMaxBytesPerSecond() {
         return readOnlyFetcherMaxBytesPerSecond;
     }
@@ -3429,7 +3461,9 @@ public class VoldemortConfig implements Serializable {
 
     /**
      * Strategy to be used to search the read-only index for a given key. Either
-     * {@link BinarySearchStrategy} or {@link InterpolationSearchStrategy}
+     * {@link BinarySearchStrategy}, {@link InterpolationSearchStrategy} or
+     * {@link FencePointerSearchStrategy}. It can be set for a single store with
+     * the property "{@value #READONLY_SEARCH_STRATEGY}.&lt;store name&gt;".
      * 
      * <ul>
      * <li>Property : "{@value #READONLY_SEARCH_STRATEGY}"</li>
@@ -4051,6 +4085,112 @@ public class VoldemortConfig implements Serializable {
         this.readOnlyMaxValueBufferAllocationSize = readOnlyMaxValueBufferAllocationSize;
     }
 
+    public boolean isReadOnlyMmapDataFiles() {
+        return readOnlyMmapDataFiles;
+    }
+
+    /**
+     * If true, the data files of read-only stores are memory-mapped like
+     * their index files, and values are read from the mapped pages instead of
+     * through positional reads of the files. This saves the system calls and
+     * buffer allocations of each read, but the data files then count against
+     * the address space of the server.
+     *
+     * <ul>
+     * <li>Property : "{@value #READONLY_MMAP_DATA_FILES}"</li>
+     * <li>Default : false</li>
+     * </ul>
+     *
+     * @param readOnlyMmapDataFiles
+     */
+    public void setReadOnlyMmapDataFiles(boolean readOnlyMmapDataFiles) {
+        this.readOnlyMmapDataFiles = readOnlyMmapDataFiles;
+    }
+
+    public int getReadOnlyGetAllThreads() {
+        return readOnlyGetAllThreads;
+    }
+
+    /**
+     * Number of threads shared by all read-only stores to serve the keys of a
+     * getAll in parallel. The keys are grouped by chunk, and each group is
+     * searched and read by one thread. If 0, getAll reads all keys on the
+     * calling thread.
+     *
+     * <ul>
+     * <li>Property : "{@value #READONLY_GETALL_THREADS}"</li>
+     * <li>Default : 0</li>
+     * </ul>
+     *
+     * @param readOnlyGetAllThreads
+     */
+    public void setReadOnlyGetAllThreads(int readOnlyGetAllThreads) {
+        this.readOnlyGetAllThreads = readOnlyGetAllThreads;
+    }
+
+    public boolean isReadOnlyGetAllPrefetch() {
+        return readOnlyGetAllPrefetch;
+    }
+
+    /**
+     * If true, a getAll on a read-only store advises the kernel with
+     * posix_fadvise(WILLNEED) of the values it is about to read, so the reads
+     * of a group of keys are served from the page cache. Only available where
+     * JNA can call posix_fadvise.
+     *
+     * <ul>
+     * <li>Property : "{@value #READONLY_GETALL_PREFETCH}"</li>
+     * <li>Default : false</li>
+     * </ul>
+     *
+     * @param readOnlyGetAllPrefetch
+     */
+    public void setReadOnlyGetAllPrefetch(boolean readOnlyGetAllPrefetch) {
+        this.readOnlyGetAllPrefetch = readOnlyGetAllPrefetch;
+    }
+
+    public long getReadOnlyValueCacheMaxBytes() {
+        return readOnlyValueCacheMaxBytes;
+    }
+
+    /**
+     * Off-heap memory shared by the value caches of all read-only stores. The
+     * caches evict their least recently used values to stay within this bound,
+     * which includes a small per entry overhead. The JVM must allow at least
+     * this much direct memory, see -XX:MaxDirectMemorySize. If 0, read-only
+     * values are not cached.
+     *
+     * <ul>
+     * <li>Property : "{@value #READONLY_VALUE_CACHE_MAX_BYTES}"</li>
+     * <li>Default : 0</li>
+     * </ul>
+     *
+     * @param readOnlyValueCacheMaxBytes
+     */
+    public void setReadOnlyValueCacheMaxBytes(long readOnlyValueCacheMaxBytes) {
+        this.readOnlyValueCacheMaxBytes = readOnlyValueCacheMaxBytes;
+    }
+
+    public int getReadOnlyValueCacheWarmupKeys() {
+        return readOnlyValueCacheWarmupKeys;
+    }
+
+    /**
+     * Number of the most recently used keys of a read-only store whose values
+     * are read from the new version and cached before a swap completes, so the
+     * swap does not start with a cold cache. Only used with a value cache.
+     *
+     * <ul>
+     * <li>Property : "{@value #READONLY_VALUE_CACHE_WARMUP_KEYS}"</li>
+     * <li>Default : 10000</li>
+     * </ul>
+     *
+     * @param readOnlyValueCacheWarmupKeys
+     */
+    public void setReadOnlyValueCacheWarmupKeys(int readOnlyValueCacheWarmupKeys) {
+        this.readOnlyValueCacheWarmupKeys = readOnlyValueCacheWarmupKeys;
+    }
+
     public String getReadOnlyCompressionCodec() {
         return this.readOnlyCompressionCodec;
     }
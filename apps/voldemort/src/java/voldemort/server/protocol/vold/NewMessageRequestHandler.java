@@ -1,7 +1,7 @@
 package voldemort.server.protocol.vold;
 
 import voldemort.VoldemortException;
-import voldemort.consistency.Constants;
+import voldemort.consistency.ComponentRegistry;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.consistency.versioning.Version;
@@ -11,19 +11,39 @@ import voldemort.store.Store;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 
+/**
+ * A PUT forwarded to the node that owns its key. The owner, not the client,
+ * assigns the version of the value: it merges the clock sent by the client
+ * with the versions it stores, increments its own entry, and writes the value
+ * under that version. The writes of a key are serialized on the owner, so
+ * every one gets a version after the previous one. The assigned version is
+ * sent back, for the client to replicate the value with.
+ */
 public class NewMessageRequestHandler extends ClientRequestHandler {
 
+    private static final int NUM_LOCKS = 1024;
+    private static final Object[] locks = new Object[NUM_LOCKS];
+
+    static {
+        for(int i = 0; i < NUM_LOCKS; i++)
+            locks[i] = new Object();
+    }
+
+    private final int nodeId;
+
     ByteArray key;
     byte[] value;
     byte[] transforms;
     Version clock;
+    Version assigned;
 
-    public NewMessageRequestHandler(Store<ByteArray, byte[], byte[]> store, int protocolVersion) {
+    public NewMessageRequestHandler(Store<ByteArray, byte[], byte[]> store,
+                                    int protocolVersion,
+                                    int nodeId) {
         super(store, protocolVersion);
+        this.nodeId = nodeId;
     }
     
     public static boolean isCompleteRequest(DataInputStream inputStream,
@@ -44,18 +64,7 @@ public class NewMessageRequestHandler extends ClientRequestHandler {
     public boolean parseRequest(DataInputStream inputStream) throws IOException {
         key = ClientRequestHandler.readKey(inputStream);
         int valueSize = inputStream.readInt();
-        Class versionClass = null;
-        try {
-            versionClass = Class.forName(Constants.versioning);
-            Method m = versionClass.getDeclaredMethod("createNew", DataInputStream.class);
-            clock = (Version) m.invoke(null, inputStream);
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        }
+        clock = ComponentRegistry.readVersion(inputStream);
         int vectorClockSize = clock.sizeInBytes();
         value = new byte[valueSize - vectorClockSize];
         ByteUtils.read(inputStream, value);
@@ -66,24 +75,35 @@ public class NewMessageRequestHandler extends ClientRequestHandler {
 
     @Override
     public void processRequest() throws VoldemortException {
-        store.put(key, new Versioned<byte[]>(value, clock), transforms);
+        synchronized(locks[(key.hashCode() & Integer.MAX_VALUE) % NUM_LOCKS]) {
+            Version version = clock;
+            for(Versioned<byte[]> current: store.get(key, null))
+                version = version.merge(current.getVersion());
+            version = version.incremented(nodeId, System.currentTimeMillis());
+            store.put(key, new Versioned<byte[]>(value, version), transforms);
+            assigned = version;
+        }
     }
 
     @Override
     public void writeResponse(DataOutputStream outputStream) throws IOException {
         outputStream.writeShort(0);
+        byte[] bytes = assigned.toBytes();
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
     }
 
     @Override
     public int getResponseSize() {
-        return 2;
+        return 2 + 4 + assigned.sizeInBytes();
     }
 
     @Override
     public String getDebugMessage() {
-        return "Operation PUT " + ClientRequestHandler.getDebugMessageForKey(key) + " ValueHash"
-               + (value == null ? "null" : value.hashCode()) + " ClockSize " + clock.sizeInBytes()
-               + " ValueSize " + (value == null ? "null" : value.length);
+        return "Operation NEW_MESSAGE " + ClientRequestHandler.getDebugMessageForKey(key)
+               + " ValueHash" + (value == null ? "null" : value.hashCode()) + " ClockSize "
+               + clock.sizeInBytes() + " ValueSize " + (value == null ? "null" : value.length)
+               + " AssignedVersion " + assigned;
     }
 
 }
@@ -1,7 +1,7 @@
 package voldemort.server.protocol.vold;
 
 import voldemort.VoldemortException;
-import voldemort.consistency.Constants;
+import voldemort.consistency.ComponentRegistry;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.consistency.versioning.Version;
@@ -11,8 +11,6 @@ import voldemort.store.Store;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 
 public class PutRequestHandler extends ClientRequestHandler {
@@ -44,18 +42,7 @@ public class PutRequestHandler extends ClientRequestHandler {
     public boolean parseRequest(DataInputStream inputStream) throws IOException {
         key = ClientRequestHandler.readKey(inputStream);
         int valueSize = inputStream.readInt();
-        Class versionClass = null;
-        try {
-            versionClass = Class.forName(Constants.versioning);
-            Method m = versionClass.getDeclaredMethod("createNew", DataInputStream.class);
-            clock = (Version) m.invoke(null, inputStream);
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        }
+        clock = ComponentRegistry.readVersion(inputStream);
         int vectorClockSize = clock.sizeInBytes();
         value = new byte[valueSize - vectorClockSize];
         ByteUtils.read(inputStream, value);
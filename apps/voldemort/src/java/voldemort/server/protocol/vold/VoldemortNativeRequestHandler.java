@@ -17,7 +17,9 @@ import voldemort.server.protocol.AbstractRequestHandler;
 import voldemort.server.protocol.RequestHandler;
 import voldemort.server.protocol.StreamRequestHandler;
 import voldemort.store.ErrorCodeMapper;
+import voldemort.store.StorageEngine;
 import voldemort.store.Store;
+import voldemort.store.metadata.MetadataStore;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.versioning.ObsoleteVersionException;
 
@@ -56,13 +58,23 @@ public class VoldemortNativeRequestHandler extends AbstractRequestHandler implem
             case VoldemortOpCode.GET_VERSION_OP_CODE:
                 return new GetVersionRequestHandler(store, protocolVersion);
             case VoldemortOpCode.NEW_MESSAGE_OP_CODE:
-                return new NewMessageRequestHandler(store, protocolVersion);
+                return new NewMessageRequestHandler(store, protocolVersion, getNodeId());
             default:
                 throw new IOException("Unknown op code: " + opCode);
         }
 
     }
 
+    /**
+     * The id of this server, which versions the PUTs forwarded to it
+     */
+    private int getNodeId() {
+        StorageEngine<ByteArray, byte[], byte[]> metadata = getStoreRepository().getStorageEngine(MetadataStore.METADATA_STORE_NAME);
+        if(!(metadata instanceof MetadataStore))
+            throw new VoldemortException("No metadata store to get the node id from");
+        return ((MetadataStore) metadata).getNodeId();
+    }
+
     @Override
     public StreamRequestHandler handleRequest(final DataInputStream inputStream,
                                               final DataOutputStream outputStream)
@@ -195,6 +207,11 @@ public class VoldemortNativeRequestHandler extends AbstractRequestHandler implem
                         return false;
                     break;
                 }
+                case VoldemortOpCode.NEW_MESSAGE_OP_CODE: {
+                    if(!NewMessageRequestHandler.isCompleteRequest(inputStream, buffer, protocolVersion))
+                        return false;
+                    break;
+                }
                 default:
                     throw new VoldemortException(" Unrecognized Voldemort OpCode " + opCode);
             }
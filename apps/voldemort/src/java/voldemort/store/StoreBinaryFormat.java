@@ -1,13 +1,11 @@
 package voldemort.store;
 
 import voldemort.VoldemortException;
-import voldemort.consistency.Constants;
+import voldemort.consistency.ComponentRegistry;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.consistency.versioning.Version;
 import voldemort.consistency.versioning.Versioned;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,20 +68,7 @@ public class StoreBinaryFormat {
         int pos = 1;
         List<Versioned<byte[]>> vals = new ArrayList<Versioned<byte[]>>(2);
         while(pos < bytes.length) {
-            Constructor constructor = null;
-            Version clock = null;
-            try {
-                constructor = Constants.getVersionType().getConstructor(bytes.getClass(), int.class);
-                clock = (Version) constructor.newInstance( bytes, pos);
-            } catch (NoSuchMethodException e) {
-                e.printStackTrace();
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            } catch (InstantiationException e) {
-                e.printStackTrace();
-            } catch (InvocationTargetException e) {
-                e.printStackTrace();
-            }
+            Version clock = ComponentRegistry.readVersion(bytes, pos);
             pos += clock.sizeInBytes();
             int valueSize = ByteUtils.readInt(bytes, pos);
             pos += ByteUtils.SIZE_OF_INT;
@@ -89,6 +89,24 @@ public interface NonblockingStore {
                                     Callback callback,
                                     long timeoutMs);
 
+    /**
+     * Submits a PUT to the node that owns the key, which assigns the version
+     * of the value itself. The result passed to the callback is that
+     * {@link Version}. Only stores that {@link #supportsNewMessageRequest()}
+     * can carry it.
+     */
+    public void submitNewMessageRequest(ByteArray key,
+                                        Versioned<byte[]> value,
+                                        byte[] transforms,
+                                        Callback callback,
+                                        long timeoutMs);
+
+    /**
+     * @return whether the store can carry
+     *         {@link #submitNewMessageRequest(ByteArray, Versioned, byte[], Callback, long)}
+     */
+    public boolean supportsNewMessageRequest();
+
     public void close() throws VoldemortException;
 
 }
\ No newline at end of file
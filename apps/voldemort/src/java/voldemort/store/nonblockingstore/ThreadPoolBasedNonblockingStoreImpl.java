@@ -102,6 +102,28 @@ public class ThreadPoolBasedNonblockingStoreImpl implements NonblockingStore {
         }, callback, timeoutMs, "put");
     }
 
+    public void submitNewMessageRequest(ByteArray key,
+                                        Versioned<byte[]> value,
+                                        byte[] transforms,
+                                        Callback callback,
+                                        long timeoutMs) {
+        submit(new StoreRequest<Version>() {
+
+            public Version request(Store<ByteArray, byte[], byte[]> store) {
+                throw new UnsupportedOperationException("Forwarded PUTs need a socket store");
+            }
+
+        }, callback, timeoutMs, "new message");
+    }
+
+    /**
+     * The versions are assigned by the request handler of the owner, which
+     * the wrapped store does not reach
+     */
+    public boolean supportsNewMessageRequest() {
+        return false;
+    }
+
     public void submitDeleteRequest(final ByteArray key,
                                     final Version version,
                                     Callback callback,
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-2009 LinkedIn, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package voldemort.store.readonly;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A search strategy that keeps {@link FencePointers} of every index file in
+ * memory. The fences are built when the chunked file set is opened, and a
+ * lookup then only searches the page of the index between two fences.
+ *
+ * Without fences, as when it is used on a buffer outside of a chunked file
+ * set, it does a binary search comparing the keys in place.
+ *
+ */
+public class FencePointerSearchStrategy implements SearchStrategy {
+
+    /**
+     * Bytes of index between two fences, the size of a page
+     */
+    public static final int DEFAULT_FENCE_BYTES = 4096;
+
+    private final int fenceBytes;
+
+    public FencePointerSearchStrategy() {
+        this(DEFAULT_FENCE_BYTES);
+    }
+
+    public FencePointerSearchStrategy(int fenceBytes) {
+        if(fenceBytes <= 0)
+            throw new IllegalArgumentException("Fence bytes must be positive, but is "
+                                               + fenceBytes);
+        this.fenceBytes = fenceBytes;
+    }
+
+    public int indexOf(ByteBuffer index, byte[] key, int indexFileSize) {
+        int indexSize = ReadOnlyUtils.POSITION_SIZE + key.length;
+        return FencePointers.binarySearch(index, key, 0, indexFileSize / indexSize - 1);
+    }
+
+    /**
+     * Builds the fence pointers of an index file
+     *
+     * @param index The index buffer
+     * @param indexFileSize The size of the index
+     * @param keySize The size of the key hashes in the index
+     * @return The fence pointers
+     */
+    public FencePointers buildFencePointers(ByteBuffer index, int indexFileSize, int keySize) {
+        return FencePointers.build(index, indexFileSize, keySize, fenceBytes);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2008-2009 LinkedIn, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package voldemort.store.readonly;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An in-memory sample of an index file of sorted key hashes and 4 byte
+ * position offsets. It keeps the first 8 bytes of every n-th key, so a lookup
+ * finds the range of entries that may hold the key without touching the index
+ * file, and only searches that range of the file. With a range of about one
+ * page, a lookup faults in one or two index pages instead of the log2(N) pages
+ * of a binary search over the whole file.
+ *
+ * The fences of a 200M-key index with one fence per 4 KB page take about 5 MB.
+ *
+ */
+public class FencePointers {
+
+    private final int keySize;
+    private final int entriesPerFence;
+    private final int numEntries;
+    /**
+     * The first 8 bytes of every entriesPerFence-th key, with the sign bit
+     * flipped so they compare as signed longs in the order of the keys
+     */
+    private final long[] fences;
+
+    private FencePointers(int keySize, int entriesPerFence, int numEntries, long[] fences) {
+        this.keySize = keySize;
+        this.entriesPerFence = entriesPerFence;
+        this.numEntries = numEntries;
+        this.fences = fences;
+    }
+
+    /**
+     * Samples an index file
+     *
+     * @param index The index buffer, which is not modified
+     * @param indexFileSize The size of the index
+     * @param keySize The size of the key hashes in the index
+     * @param fenceBytes The number of bytes of the index between two fences
+     * @return The fence pointers of the index
+     */
+    public static FencePointers build(ByteBuffer index,
+                                      int indexFileSize,
+                                      int keySize,
+                                      int fenceBytes) {
+        int entrySize = keySize + ReadOnlyUtils.POSITION_SIZE;
+        int numEntries = indexFileSize / entrySize;
+        int entriesPerFence = Math.max(1, fenceBytes / entrySize);
+        long[] fences = new long[(numEntries + entriesPerFence - 1) / entriesPerFence];
+        for(int i = 0; i < fences.length; i++)
+            fences[i] = prefix(index, i * entriesPerFence * entrySize, keySize);
+        return new FencePointers(keySize, entriesPerFence, numEntries, fences);
+    }
+
+    /**
+     * Search for the key in the sampled index.
+     *
+     * @param index The index buffer the fences were built from
+     * @param key The key to search for
+     * @return The integer offset of the position offset, if the key is found,
+     *         else -1
+     */
+    public int indexOf(ByteBuffer index, byte[] key) {
+        if(key.length != keySize)
+            throw new IllegalArgumentException("Key of " + key.length
+                                               + " bytes searched in an index of " + keySize
+                                               + " byte keys.");
+        long keyPrefix = prefix(key);
+
+        // The key can only be after the last fence less than its prefix, and
+        // before the first fence greater than its prefix. Fences equal to the
+        // prefix are within the range, so are the keys sharing the prefix.
+        int lowFence = 0;
+        int highFence = fences.length;
+        while(lowFence < highFence) {
+            int mid = (lowFence + highFence) >>> 1;
+            if(fences[mid] < keyPrefix)
+                lowFence = mid + 1;
+            else
+                highFence = mid;
+        }
+        int low = Math.max(lowFence - 1, 0) * entriesPerFence;
+        highFence = lowFence;
+        while(highFence < fences.length && fences[highFence] == keyPrefix)
+            highFence++;
+        int high = Math.min(highFence * entriesPerFence, numEntries) - 1;
+
+        return binarySearch(index, key, low, high);
+    }
+
+    /**
+     * @return The number of fences
+     */
+    public int size() {
+        return fences.length;
+    }
+
+    /**
+     * Search for the key in the entries low to high of the index, comparing
+     * the keys in place.
+     *
+     * @return The integer offset of the position offset, if the key is found,
+     *         else -1
+     */
+    static int binarySearch(ByteBuffer index, byte[] key, int low, int high) {
+        int entrySize = key.length + ReadOnlyUtils.POSITION_SIZE;
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(index, mid * entrySize, key);
+            if(cmp == 0)
+                return index.getInt(mid * entrySize + key.length);
+            else if(cmp > 0)
+                high = mid - 1;
+            else
+                low = mid + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the key stored at the given offset of the index with the given
+     * key, as unsigned bytes
+     */
+    private static int compare(ByteBuffer index, int offset, byte[] key) {
+        for(int i = 0; i < key.length; i++) {
+            int a = index.get(offset + i) & 0xff;
+            int b = key[i] & 0xff;
+            if(a != b)
+                return a - b;
+        }
+        return 0;
+    }
+
+    private static long prefix(ByteBuffer index, int offset, int keySize) {
+        long prefix = 0;
+        for(int i = 0; i < 8; i++)
+            prefix = (prefix << 8) | (i < keySize ? index.get(offset + i) & 0xff : 0);
+        return prefix ^ Long.MIN_VALUE;
+    }
+
+    private static long prefix(byte[] key) {
+        long prefix = 0;
+        for(int i = 0; i < 8; i++)
+            prefix = (prefix << 8) | (i < key.length ? key[i] & 0xff : 0);
+        return prefix ^ Long.MIN_VALUE;
+    }
+}
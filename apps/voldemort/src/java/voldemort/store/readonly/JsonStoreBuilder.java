@@ -16,25 +16,44 @@
 
 package voldemort.store.readonly;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import joptsimple.OptionParser;
 import joptsimple.OptionSet;
@@ -57,6 +76,7 @@ import voldemort.store.compress.CompressionStrategy;
 import voldemort.store.compress.CompressionStrategyFactory;
 import voldemort.consistency.utils.ByteUtils;
 import voldemort.utils.CmdUtils;
+import voldemort.utils.DaemonThreadFactory;
 import voldemort.utils.Pair;
 import voldemort.utils.Utils;
 import voldemort.xml.ClusterMapper;
@@ -64,7 +84,10 @@ import voldemort.xml.StoreDefinitionsMapper;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 
 /**
  * Build a read-only store from given input.
@@ -75,6 +98,11 @@ public class JsonStoreBuilder {
 
     private static final Logger logger = Logger.getLogger(JsonStoreBuilder.class);
 
+    /** Number of key/value pairs parsed before they are handed to a partitioner */
+    private static final int PARSE_BATCH_SIZE = 1000;
+    private static final int MIN_READ_BUFFER_SIZE = 64 * 1024;
+    private static final List<Object> END_OF_BATCHES = Collections.emptyList();
+
     private final JsonReader reader;
     private final Cluster cluster;
     private final StoreDefinition storeDefinition;
@@ -457,6 +485,16 @@ public class JsonStoreBuilder {
         }
     }
 
+    /**
+     * Builds the store in a pipeline of parallel stages. This thread parses
+     * the input and hands batches of key/value objects to numThreads
+     * partitioners. A partitioner serializes and hashes the keys and values,
+     * buffers them by chunk, and spills each full buffer, sorted by chunk and
+     * key md5, to a spill file of one section per chunk. Once the input is
+     * read, numThreads chunk writers merge the sections of each chunk from all
+     * spill files and write its index and data files straight into the node
+     * directories.
+     */
     public void buildVersion2() throws IOException {
         logger.info("Building store " + storeDefinition.getName() + " for "
                     + cluster.getNumberOfPartitions() + " partitions, "
@@ -464,6 +502,55 @@ public class JsonStoreBuilder {
                     + " chunks per partitions per replica type and type "
                     + ReadOnlyStorageFormat.READONLY_V2);
 
+        // Create node folders
+        Map<Integer, File> nodeDirs = new HashMap<Integer, File>(cluster.getNumberOfNodes());
+        for(Node node: cluster.getNodes()) {
+            int nodeId = node.getId();
+
+            // Create data directory
+            File nodeDir = new File(outputDir, "node-" + Integer.toString(nodeId));
+            nodeDir.mkdirs();
+
+            // Add the data directory to the array
+            nodeDirs.put(node.getId(), nodeDir);
+
+            // Create metadata file
+            BufferedWriter writer = new BufferedWriter(new FileWriter(new File(nodeDir, ".metadata")));
+            ReadOnlyStorageMetadata metadata = new ReadOnlyStorageMetadata();
+            metadata.add(ReadOnlyStorageMetadata.FORMAT,
+                         ReadOnlyStorageFormat.READONLY_V2.getCode());
+            writer.write(metadata.toJsonString());
+            writer.close();
+
+        }
+
+        File spillDir = new File(tempDir, "tempDir-" + Integer.toString(new Random().nextInt()));
+        Utils.mkdirs(spillDir);
+        int threads = Math.max(numThreads, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                                                                new DaemonThreadFactory("voldemort-store-builder"));
+        try {
+            List<SpillFile> spillFiles = partitionInput(executor, threads, spillDir);
+            writeChunks(executor, spillFiles, nodeDirs);
+        } finally {
+            executor.shutdownNow();
+            Utils.rm(spillDir);
+        }
+    }
+
+    /**
+     * Builds the store the way {@link #buildVersion2()} did before it became
+     * a pipeline: one external sort of all the records, and all the chunk
+     * files written by this thread. Kept as the reference the output of the
+     * pipeline is checked against.
+     */
+    void buildVersion2Sequential() throws IOException {
+        logger.info("Building store " + storeDefinition.getName() + " for "
+                    + cluster.getNumberOfPartitions() + " partitions, "
+                    + storeDefinition.getReplicationFactor() + " replica types, " + numChunks
+                    + " chunks per partitions per replica type and type "
+                    + ReadOnlyStorageFormat.READONLY_V2);
+
         // Initialize files
         DataOutputStream[][] indexes = new DataOutputStream[cluster.getNumberOfPartitions()][];
         DataOutputStream[][] datas = new DataOutputStream[cluster.getNumberOfPartitions()][];
@@ -642,7 +729,7 @@ public class JsonStoreBuilder {
                 Utils.move(file, new File(nodeDirs.get(nodeId), fileName));
             }
         }
-
+        Utils.rm(tempDirectory);
     }
 
     private byte[] generateFirstElement(KeyValuePair currentPair) throws IOException {
@@ -660,6 +747,519 @@ public class JsonStoreBuilder {
         return stream.toByteArray();
     }
 
+    /**
+     * Parses the input on this thread and partitions it on the partitioners
+     * 
+     * @return The spill files of all partitioners
+     */
+    private List<SpillFile> partitionInput(ExecutorService executor, int threads, File spillDir)
+            throws IOException {
+        logger.info("Reading items...");
+        long start = System.currentTimeMillis();
+        BlockingQueue<List<Object>> batches = new ArrayBlockingQueue<List<Object>>(2 * threads);
+        List<Future<List<SpillFile>>> partitioners = Lists.newArrayList();
+        for(int i = 0; i < threads; i++)
+            partitioners.add(executor.submit(new Partitioner(batches, spillDir)));
+
+        int count = 0;
+        List<Object> batch = Lists.newArrayListWithCapacity(2 * PARSE_BATCH_SIZE);
+        while(true) {
+            Object key;
+            try {
+                key = reader.read();
+            } catch(EndOfFileException e) {
+                break;
+            }
+            try {
+                batch.add(key);
+                batch.add(reader.read());
+            } catch(EndOfFileException e) {
+                throw new VoldemortException("Invalid file: reached end of file with key but no matching value.",
+                                             e);
+            }
+            count++;
+            if(batch.size() == 2 * PARSE_BATCH_SIZE) {
+                handOff(batches, batch, partitioners);
+                batch = Lists.newArrayListWithCapacity(2 * PARSE_BATCH_SIZE);
+            }
+        }
+        if(!batch.isEmpty())
+            handOff(batches, batch, partitioners);
+        for(int i = 0; i < threads; i++)
+            handOff(batches, END_OF_BATCHES, partitioners);
+
+        List<SpillFile> spillFiles = Lists.newArrayList();
+        for(Future<List<SpillFile>> partitioner: partitioners)
+            spillFiles.addAll(getResult(partitioner));
+        logger.info(count + " items read and partitioned into " + spillFiles.size()
+                    + " spill files in " + (System.currentTimeMillis() - start) + " ms.");
+        return spillFiles;
+    }
+
+    /**
+     * Queues a batch for the partitioners, failing if one of them failed
+     */
+    private void handOff(BlockingQueue<List<Object>> batches,
+                         List<Object> batch,
+                         List<Future<List<SpillFile>>> partitioners) throws IOException {
+        try {
+            while(!batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                // partitioners only stop early when they fail
+                for(Future<List<SpillFile>> partitioner: partitioners)
+                    if(partitioner.isDone())
+                        getResult(partitioner);
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VoldemortException("Interrupted while reading items.", e);
+        }
+    }
+
+    /**
+     * Writes the index and data files of every chunk, in parallel on the chunk
+     * writers
+     */
+    private void writeChunks(ExecutorService executor,
+                             List<SpillFile> spillFiles,
+                             Map<Integer, File> nodeDirs) throws IOException {
+        logger.info("Writing all store files.");
+        long start = System.currentTimeMillis();
+        RoutingStrategy strategy = new RoutingStrategyFactory().updateRoutingStrategy(storeDefinition,
+                                                                                      cluster);
+        Map<Integer, Integer> replicaMapping = cluster.getPartitionIdToNodeIdMap();
+        List<Future<Integer>> chunkWriters = Lists.newArrayList();
+        for(int partitionId = 0; partitionId < cluster.getNumberOfPartitions(); partitionId++) {
+            for(int replicaType = 0; replicaType < storeDefinition.getReplicationFactor(); replicaType++) {
+                int nodeId = replicaMapping.get(strategy.getReplicatingPartitionList(partitionId)
+                                                        .get(replicaType));
+                for(int chunk = 0; chunk < numChunks; chunk++) {
+                    String fileName = Integer.toString(partitionId) + "_"
+                                      + Integer.toString(replicaType) + "_"
+                                      + Integer.toString(chunk);
+                    chunkWriters.add(executor.submit(new ChunkWriter(getSection(partitionId,
+                                                                                chunk),
+                                                                     spillFiles,
+                                                                     new File(nodeDirs.get(nodeId),
+                                                                              fileName + ".index"),
+                                                                     new File(nodeDirs.get(nodeId),
+                                                                              fileName + ".data"))));
+                }
+            }
+        }
+        long count = 0;
+        for(Future<Integer> chunkWriter: chunkWriters)
+            count += getResult(chunkWriter);
+        logger.info(count + " index entries written to " + chunkWriters.size()
+                    + " chunks in " + (System.currentTimeMillis() - start) + " ms.");
+    }
+
+    /**
+     * The section of the spill files holding a chunk of a master partition.
+     * The chunks of all replica types of the partition hold the same entries,
+     * so they are all written from this section.
+     */
+    private int getSection(int partitionId, int chunk) {
+        return partitionId * numChunks + chunk;
+    }
+
+    private static <T> T getResult(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VoldemortException("Interrupted while building store.", e);
+        } catch(ExecutionException e) {
+            if(e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            if(e.getCause() instanceof VoldemortException)
+                throw (VoldemortException) e.getCause();
+            throw new VoldemortException("Error while building store.", e.getCause());
+        }
+    }
+
+    /**
+     * Serializes, hashes and routes the key/value objects of the batches it
+     * takes, and spills them to a new file each time its sort buffer fills up
+     */
+    private class Partitioner implements Callable<List<SpillFile>> {
+
+        private final BlockingQueue<List<Object>> batches;
+        private final File spillDir;
+        private final Serializer<Object> keySerializer;
+        private final Serializer<Object> valueSerializer;
+        private final CompressionStrategy keyCompressor;
+        private final CompressionStrategy valueCompressor;
+        private final MessageDigest digest;
+        private final ChunkEntry[] buffer;
+        private final List<SpillFile> spillFiles;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        public Partitioner(BlockingQueue<List<Object>> batches, File spillDir) {
+            SerializerFactory factory = new DefaultSerializerFactory();
+            this.batches = batches;
+            this.spillDir = spillDir;
+            this.keySerializer = (Serializer<Object>) factory.getSerializer(storeDefinition.getKeySerializer());
+            this.valueSerializer = (Serializer<Object>) factory.getSerializer(storeDefinition.getValueSerializer());
+            this.keyCompressor = new CompressionStrategyFactory().get(storeDefinition.getKeySerializer()
+                                                                                     .getCompression());
+            this.valueCompressor = new CompressionStrategyFactory().get(storeDefinition.getValueSerializer()
+                                                                                       .getCompression());
+            this.digest = ByteUtils.getDigest("MD5");
+            this.buffer = new ChunkEntry[Math.max(internalSortSize, 1)];
+            this.spillFiles = Lists.newArrayList();
+            this.size = 0;
+        }
+
+        public List<SpillFile> call() throws IOException, InterruptedException {
+            while(true) {
+                List<Object> batch = batches.take();
+                if(batch == END_OF_BATCHES)
+                    break;
+                for(int i = 0; i < batch.size(); i += 2)
+                    add(batch.get(i), batch.get(i + 1));
+            }
+            spill();
+            return spillFiles;
+        }
+
+        private void add(Object key, Object value) throws IOException {
+            byte[] keyBytes = keySerializer.toBytes(key);
+            byte[] valueBytes = valueSerializer.toBytes(value);
+
+            // compress key and values if required
+            if(storeDefinition.getKeySerializer().hasCompression())
+                keyBytes = keyCompressor.deflate(keyBytes);
+            if(storeDefinition.getValueSerializer().hasCompression())
+                valueBytes = valueCompressor.deflate(valueBytes);
+
+            byte[] keyMd5 = digest.digest(keyBytes);
+            digest.reset();
+
+            int masterPartition = routingStrategy.getPartitionList(keyBytes).get(0);
+            int localChunkId = ReadOnlyUtils.chunk(keyMd5, numChunks);
+            buffer[size++] = new ChunkEntry(getSection(masterPartition, localChunkId),
+                                            keyMd5,
+                                            keyBytes,
+                                            valueBytes);
+            if(size == buffer.length)
+                spill();
+        }
+
+        /**
+         * Sorts the buffer and writes it out, one section per chunk of a master
+         * partition
+         */
+        private void spill() throws IOException {
+            if(size == 0)
+                return;
+            Arrays.sort(buffer, 0, size, new ChunkEntryComparator());
+
+            File file = File.createTempFile("spill-", ".dat", spillDir);
+            SpillFile spillFile = new SpillFile(file,
+                                                cluster.getNumberOfPartitions() * numChunks);
+            CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file),
+                                                                                             ioBufferSize));
+            try {
+                int from = 0;
+                while(from < size) {
+                    int sectionId = buffer[from].getSection();
+                    int to = from;
+                    long start = counter.getCount();
+                    OutputStream section = counter;
+                    if(gzipIntermediate)
+                        section = new GZIPOutputStream(new UnclosableOutputStream(counter));
+                    DataOutputStream output = new DataOutputStream(section);
+                    for(; to < size && buffer[to].getSection() == sectionId; to++) {
+                        ChunkEntry entry = buffer[to];
+                        output.writeInt(entry.getKey().length);
+                        output.writeInt(entry.getValue().length);
+                        output.write(entry.getKeyMd5());
+                        output.write(entry.getKey());
+                        output.write(entry.getValue());
+                    }
+                    if(gzipIntermediate)
+                        output.close();
+                    spillFile.addSection(sectionId, start, counter.getCount() - start, to - from);
+                    from = to;
+                }
+            } finally {
+                counter.close();
+            }
+            spillFiles.add(spillFile);
+            Arrays.fill(buffer, 0, size, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Merges a section from all spill files, and writes it as one chunk of
+     * index and data files. Keys sharing the first 8 bytes of
+     * their md5 are written as one data entry.
+     */
+    private class ChunkWriter implements Callable<Integer> {
+
+        private final int section;
+        private final List<SpillFile> spillFiles;
+        private final File indexFile;
+        private final File dataFile;
+
+        public ChunkWriter(int section, List<SpillFile> spillFiles, File indexFile, File dataFile) {
+            this.section = section;
+            this.spillFiles = spillFiles;
+            this.indexFile = indexFile;
+            this.dataFile = dataFile;
+        }
+
+        public Integer call() throws IOException {
+            int numSections = 0;
+            for(SpillFile spillFile: spillFiles)
+                if(spillFile.getEntries(section) > 0)
+                    numSections++;
+            int readBufferSize = Math.max(ioBufferSize / Math.max(numSections, 1),
+                                          MIN_READ_BUFFER_SIZE);
+            PriorityQueue<SectionReader> readers = new PriorityQueue<SectionReader>(Math.max(numSections,
+                                                                                             1));
+            DataOutputStream index = null;
+            DataOutputStream data = null;
+            int count = 0;
+            try {
+                for(SpillFile spillFile: spillFiles) {
+                    if(spillFile.getEntries(section) > 0) {
+                        SectionReader reader = new SectionReader(spillFile, section, readBufferSize);
+                        try {
+                            reader.next();
+                        } catch(IOException e) {
+                            reader.close();
+                            throw e;
+                        }
+                        readers.add(reader);
+                    }
+                }
+                index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile),
+                                                                      ioBufferSize));
+                data = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dataFile),
+                                                                     ioBufferSize));
+
+                int position = 0;
+                List<ChunkEntry> group = Lists.newArrayList();
+                while(!readers.isEmpty()) {
+                    SectionReader reader = readers.poll();
+                    ChunkEntry entry = reader.getCurrent();
+                    if(reader.next())
+                        readers.add(reader);
+                    else
+                        reader.close();
+
+                    if(!group.isEmpty()
+                       && ByteUtils.compare(group.get(0).getKeyMd5(),
+                                            entry.getKeyMd5(),
+                                            0,
+                                            2 * ByteUtils.SIZE_OF_INT) != 0) {
+                        position = writeGroup(group, index, data, position);
+                        count++;
+                        group.clear();
+                    }
+                    group.add(entry);
+                }
+                if(!group.isEmpty()) {
+                    writeGroup(group, index, data, position);
+                    count++;
+                }
+            } finally {
+                for(SectionReader reader: readers)
+                    reader.close();
+                if(index != null)
+                    index.close();
+                if(data != null)
+                    data.close();
+            }
+            return count;
+        }
+
+        private int writeGroup(List<ChunkEntry> group,
+                               DataOutputStream index,
+                               DataOutputStream data,
+                               int position) throws IOException {
+            index.write(group.get(0).getKeyMd5(), 0, 2 * ByteUtils.SIZE_OF_INT);
+            index.writeInt(position);
+
+            data.writeShort(group.size());
+            int size = ByteUtils.SIZE_OF_SHORT;
+            for(ChunkEntry entry: group) {
+                data.writeInt(entry.getKey().length);
+                data.writeInt(entry.getValue().length);
+                data.write(entry.getKey());
+                data.write(entry.getValue());
+                size += 2 * ByteUtils.SIZE_OF_INT + entry.getKey().length
+                        + entry.getValue().length;
+            }
+            position += size;
+            checkOverFlow(section % numChunks, position);
+            return position;
+        }
+    }
+
+    /**
+     * Reads the entries of one section of a spill file
+     */
+    private class SectionReader implements Comparable<SectionReader> {
+
+        private final DataInputStream input;
+        private int remaining;
+        private ChunkEntry current;
+
+        public SectionReader(SpillFile spillFile, int section, int readBufferSize)
+                throws IOException {
+            FileInputStream fileInput = new FileInputStream(spillFile.getFile());
+            try {
+                fileInput.getChannel().position(spillFile.getStart(section));
+                InputStream sectionInput = ByteStreams.limit(new BufferedInputStream(fileInput,
+                                                                                     readBufferSize),
+                                                             spillFile.getLength(section));
+                if(gzipIntermediate)
+                    sectionInput = new GZIPInputStream(sectionInput);
+                this.input = new DataInputStream(sectionInput);
+            } catch(IOException e) {
+                fileInput.close();
+                throw e;
+            }
+            this.remaining = spillFile.getEntries(section);
+        }
+
+        /**
+         * Reads the next entry
+         * 
+         * @return False if there are no more entries
+         */
+        public boolean next() throws IOException {
+            if(remaining == 0)
+                return false;
+            byte[] key = new byte[input.readInt()];
+            byte[] value = new byte[input.readInt()];
+            byte[] keyMd5 = new byte[ByteUtils.SIZE_OF_LONG * 2];
+            input.readFully(keyMd5);
+            input.readFully(key);
+            input.readFully(value);
+            current = new ChunkEntry(0, keyMd5, key, value);
+            remaining--;
+            return true;
+        }
+
+        public ChunkEntry getCurrent() {
+            return current;
+        }
+
+        public void close() throws IOException {
+            input.close();
+        }
+
+        public int compareTo(SectionReader other) {
+            return ByteUtils.compare(current.getKeyMd5(), other.getCurrent().getKeyMd5());
+        }
+    }
+
+    /**
+     * A file of sorted entries, in one section per chunk of a master partition
+     */
+    private static class SpillFile {
+
+        private final File file;
+        private final long[] starts;
+        private final long[] lengths;
+        private final int[] entries;
+
+        public SpillFile(File file, int numSections) {
+            this.file = file;
+            this.starts = new long[numSections];
+            this.lengths = new long[numSections];
+            this.entries = new int[numSections];
+        }
+
+        public void addSection(int section, long start, long length, int numEntries) {
+            starts[section] = start;
+            lengths[section] = length;
+            entries[section] = numEntries;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public long getStart(int section) {
+            return starts[section];
+        }
+
+        public long getLength(int section) {
+            return lengths[section];
+        }
+
+        public int getEntries(int section) {
+            return entries[section];
+        }
+    }
+
+    private static class ChunkEntry {
+
+        private final int section;
+        private final byte[] keyMd5;
+        private final byte[] key;
+        private final byte[] value;
+
+        public ChunkEntry(int section, byte[] keyMd5, byte[] key, byte[] value) {
+            this.section = section;
+            this.keyMd5 = keyMd5;
+            this.key = key;
+            this.value = value;
+        }
+
+        public int getSection() {
+            return section;
+        }
+
+        public byte[] getKeyMd5() {
+            return keyMd5;
+        }
+
+        public byte[] getKey() {
+            return key;
+        }
+
+        public byte[] getValue() {
+            return value;
+        }
+    }
+
+    private static class ChunkEntryComparator implements Comparator<ChunkEntry> {
+
+        public int compare(ChunkEntry e1, ChunkEntry e2) {
+            if(e1.getSection() != e2.getSection())
+                return e1.getSection() < e2.getSection() ? -1 : 1;
+            return ByteUtils.compare(e1.getKeyMd5(), e2.getKeyMd5());
+        }
+    }
+
+    /**
+     * Lets a gzip stream be closed, to release its deflater, without closing
+     * the spill file it writes a section of
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        public UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
     /* Check if the position has exceeded Integer.MAX_VALUE */
     private void checkOverFlow(int chunk, int position) {
         if(position < 0)
@@ -17,6 +17,8 @@
 package voldemort.store.readonly;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import voldemort.VoldemortException;
 import voldemort.routing.RoutingStrategy;
@@ -25,6 +27,7 @@ import voldemort.store.StorageConfiguration;
 import voldemort.store.StorageEngine;
 import voldemort.store.StoreDefinition;
 import voldemort.consistency.utils.ByteArray;
+import voldemort.utils.DaemonThreadFactory;
 import voldemort.utils.ReflectUtils;
 
 public class ReadOnlyStorageConfiguration implements StorageConfiguration {
@@ -39,6 +42,8 @@ public class ReadOnlyStorageConfiguration implements StorageConfiguration {
     private RoutingStrategy routingStrategy = null;
     private final int deleteBackupMs;
     private final int maxValueBufferAllocationSize;
+    private final ExecutorService getAllExecutor;
+    private final ReadOnlyValueCache.MemoryBudget valueCacheBudget;
 
     public ReadOnlyStorageConfiguration(VoldemortConfig config) {
         this.config = config;
@@ -49,10 +54,20 @@ public class ReadOnlyStorageConfiguration implements StorageConfiguration {
         this.nodeId = config.getNodeId();
         this.deleteBackupMs = config.getReadOnlyDeleteBackupMs();
         this.maxValueBufferAllocationSize = config.getReadOnlyMaxValueBufferAllocationSize();
+        if(config.getReadOnlyGetAllThreads() > 0)
+            this.getAllExecutor = Executors.newFixedThreadPool(config.getReadOnlyGetAllThreads(),
+                                                               new DaemonThreadFactory("voldemort-ro-getall"));
+        else
+            this.getAllExecutor = null;
+        if(config.getReadOnlyValueCacheMaxBytes() > 0)
+            this.valueCacheBudget = new ReadOnlyValueCache.MemoryBudget(config.getReadOnlyValueCacheMaxBytes());
+        else
+            this.valueCacheBudget = null;
     }
 
     public void close() {
-
+        if(getAllExecutor != null)
+            getAllExecutor.shutdown();
     }
 
     public void setRoutingStrategy(RoutingStrategy routingStrategy) {
@@ -63,7 +78,7 @@ public class ReadOnlyStorageConfiguration implements StorageConfiguration {
                                                              RoutingStrategy strategy) {
         this.setRoutingStrategy(strategy);
         ReadOnlyStorageEngine store = new ReadOnlyStorageEngine(storeDef.getName(),
-                                                                this.searcher,
+                                                                getSearchStrategy(storeDef.getName()),
                                                                 this.routingStrategy,
                                                                 this.nodeId,
                                                                 new File(storageDir,
@@ -72,9 +87,23 @@ public class ReadOnlyStorageConfiguration implements StorageConfiguration {
                                                                 deleteBackupMs,
                                                                 maxValueBufferAllocationSize,
                                                                 config);
+        store.setGetAllExecutor(getAllExecutor);
+        if(valueCacheBudget != null)
+            store.setValueCache(new ReadOnlyValueCache(valueCacheBudget));
         return store;
     }
 
+    /**
+     * The search strategy of a store, which may differ from the one of the
+     * other stores
+     */
+    private SearchStrategy getSearchStrategy(String storeName) {
+        String searcherClass = config.getReadOnlySearchStrategy(storeName).trim();
+        if(searcherClass.equals(searcher.getClass().getName()))
+            return this.searcher;
+        return (SearchStrategy) ReflectUtils.callConstructor(ReflectUtils.loadClass(searcherClass));
+    }
+
     public String getType() {
         return TYPE_NAME;
     }
@@ -85,9 +114,10 @@ public class ReadOnlyStorageConfiguration implements StorageConfiguration {
     }
 
     /**
-     * Cleanup the Jmx bean registered previously
+     * Releases the share of the value cache budget of the store
      */
     @Override
     public void removeStorageEngine(StorageEngine<ByteArray, byte[], byte[]> engine) {
+        ((ReadOnlyStorageEngine) engine).setValueCache(null);
     }
 }
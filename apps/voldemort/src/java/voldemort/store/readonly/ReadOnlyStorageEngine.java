@@ -22,9 +22,15 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -50,6 +56,7 @@ import voldemort.consistency.versioning.Version;
 import voldemort.consistency.versioning.Versioned;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * A read-only store that fronts a big file
@@ -60,9 +67,15 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
 
     private static Logger logger = Logger.getLogger(ReadOnlyStorageEngine.class);
     public static final int NO_FETCH_IN_PROGRESS = -1;
+    /** Smallest number of keys of a getAll read by one thread */
+    private static final int MIN_GETALL_BATCH_SIZE = 8;
 
     // Immutable state
     private final int numBackups, nodeId, deleteBackupMs, maxValueBufferAllocationSize;
+    private final boolean mmapDataFiles;
+    private final int getAllThreads;
+    private final boolean getAllPrefetch;
+    private final int valueCacheWarmupKeys;
     private final File storeDir;
     private final ReadWriteLock fileModificationLock;
     private final SearchStrategy searchStrategy;
@@ -75,6 +88,8 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
     private long lastSwapped;
     private int lastFetchRequestId;
     private Long lastVersionGettingFetched = null;
+    private volatile ExecutorService getAllExecutor;
+    private volatile ReadOnlyValueCache valueCache;
 
     /**
      * Create an instance of the store
@@ -132,6 +147,10 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         this.routingStrategy = Utils.notNull(routingStrategy);
         this.nodeId = nodeId;
         this.maxValueBufferAllocationSize = maxValueBufferAllocationSize;
+        this.mmapDataFiles = config != null && config.isReadOnlyMmapDataFiles();
+        this.getAllThreads = config == null ? 0 : config.getReadOnlyGetAllThreads();
+        this.getAllPrefetch = config != null && config.isReadOnlyGetAllPrefetch();
+        this.valueCacheWarmupKeys = config == null ? 0 : config.getReadOnlyValueCacheWarmupKeys();
         this.fileSet = null;
         /*
          * A lock that blocks reads during swap(), open(), and close()
@@ -154,6 +173,37 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         }
     }
 
+    /**
+     * Sets the executor on which getAll reads the keys of different chunks in
+     * parallel. It is shared by all read-only stores, and bounded by the
+     * number of threads of the {@link VoldemortConfig}. If null, getAll reads
+     * all keys on the calling thread.
+     * 
+     * @param getAllExecutor The executor
+     */
+    public void setGetAllExecutor(ExecutorService getAllExecutor) {
+        this.getAllExecutor = getAllExecutor;
+    }
+
+    /**
+     * Sets the cache of the values of this store. It is invalidated whenever
+     * the store is closed, so it only ever holds values of the open version.
+     * If null, every value is read from the data files. The previous cache is
+     * closed, which gives its share of the budget to the other stores.
+     * 
+     * @param valueCache The value cache
+     */
+    public void setValueCache(ReadOnlyValueCache valueCache) {
+        this.fileModificationLock.writeLock().lock();
+        try {
+            if(this.valueCache != null)
+                this.valueCache.close();
+            this.valueCache = valueCache;
+        } finally {
+            this.fileModificationLock.writeLock().unlock();
+        }
+    }
+
     /**
      * Returns the internal chunked file set
      * 
@@ -210,7 +260,12 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
 
             // Validate symbolic link, and create it if it doesn't already exist
             Utils.symlink(versionDir.getAbsolutePath(), storeDir.getAbsolutePath() + File.separator + "latest");
-            this.fileSet = new ChunkedFileSet(versionDir, routingStrategy, nodeId, maxValueBufferAllocationSize);
+            this.fileSet = new ChunkedFileSet(versionDir,
+                                              routingStrategy,
+                                              nodeId,
+                                              maxValueBufferAllocationSize,
+                                              mmapDataFiles,
+                                              searchStrategy);
             storeVersionManager.syncInternalStateFromFileSystem(false);
             this.lastSwapped = System.currentTimeMillis();
             this.isOpen = true;
@@ -292,6 +347,8 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
             if(isOpen) {
                 this.isOpen = false;
                 fileSet.close();
+                if(valueCache != null)
+                    valueCache.invalidate();
             } else {
                 logger.debug("Attempt to close already closed store " + getName());
             }
@@ -341,6 +398,10 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
             return;
         }
 
+        // read the values of the hottest keys from the new version before the
+        // swap, so the cache is warm when the new version starts serving
+        Map<ByteArray, byte[]> warmValues = readWarmValues(newVersionDir);
+
         logger.info("Acquiring write lock on '" + getName() + "':");
         fileModificationLock.writeLock().lock();
         boolean success = false;
@@ -352,6 +413,10 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
             // open the latest store
             open(newVersionDir);
             success = true;
+            if(isOpen && valueCache != null) {
+                for(Entry<ByteArray, byte[]> entry: warmValues.entrySet())
+                    valueCache.put(entry.getKey().get(), entry.getValue());
+            }
         } finally {
             try {
                 // we failed to do the swap, attempt a rollback to last version
@@ -373,6 +438,56 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         deleteBackups();
     }
 
+    /**
+     * Reads the values of the most recently used keys of the value cache from
+     * a version directory which is not open yet
+     * 
+     * @param versionDir The version directory
+     * @return The non-empty values found, or an empty map if there is no value
+     *         cache or the version could not be read
+     */
+    private Map<ByteArray, byte[]> readWarmValues(File versionDir) {
+        Map<ByteArray, byte[]> values = new HashMap<ByteArray, byte[]>();
+        ReadOnlyValueCache valueCache = this.valueCache;
+        if(valueCache == null || valueCacheWarmupKeys <= 0)
+            return values;
+
+        long start = System.currentTimeMillis();
+        List<ByteArray> keys = valueCache.getHottestKeys(valueCacheWarmupKeys);
+        ChunkedFileSet warmFileSet = null;
+        try {
+            warmFileSet = new ChunkedFileSet(versionDir,
+                                             routingStrategy,
+                                             nodeId,
+                                             maxValueBufferAllocationSize);
+            for(ByteArray key: keys) {
+                try {
+                    int chunk = warmFileSet.getChunkForKey(key.get());
+                    int location = warmFileSet.indexOf(chunk,
+                                                       warmFileSet.keyToStorageFormat(key.get()));
+                    if(location >= 0) {
+                        byte[] value = warmFileSet.readValue(key.get(), chunk, location);
+                        if(value.length > 0)
+                            values.put(key, value);
+                    }
+                } catch(IllegalStateException e) {
+                    // the key is no longer hosted on this node
+                }
+            }
+            logger.info("Read " + values.size() + " of " + keys.size()
+                        + " warm-up values for store '" + getName() + "' in "
+                        + (System.currentTimeMillis() - start) + " ms");
+        } catch(Exception e) {
+            logger.warn("Error reading the warm-up values of store '" + getName() + "' from "
+                        + versionDir + ", swapping with a cold value cache", e);
+            values.clear();
+        } finally {
+            if(warmFileSet != null)
+                warmFileSet.close();
+        }
+        return values;
+    }
+
     /**
      * Delete all backups asynchronously
      */
@@ -523,18 +638,24 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         StoreUtils.assertValidKey(key);
         try {
             fileModificationLock.readLock().lock();
+            ReadOnlyValueCache valueCache = this.valueCache;
+            if(valueCache != null) {
+                byte[] value = valueCache.get(key.get());
+                if(value != null)
+                    return Collections.singletonList(Versioned.value(value));
+            }
             int chunk = fileSet.getChunkForKey(key.get());
             if(chunk < 0) {
                 throw new IllegalStateException("Invalid chunk id returned: " + chunk); // should never happen, but just in case
             }
-            int location = searchStrategy.indexOf(fileSet.indexFileFor(chunk),
-                                                  fileSet.keyToStorageFormat(key.get()),
-                                                  fileSet.getIndexFileSize(chunk));
+            int location = fileSet.indexOf(chunk, fileSet.keyToStorageFormat(key.get()));
             if(location >= 0) {
                 byte[] value = fileSet.readValue(key.get(), chunk, location);
                 if(value.length == 0) {
                     return Collections.emptyList();
                 } else {
+                    if(valueCache != null)
+                        valueCache.put(key.get(), value);
                     return Collections.singletonList(Versioned.value(value));
                 }
             } else {
@@ -558,32 +679,96 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         Map<ByteArray, List<Versioned<byte[]>>> results = StoreUtils.newEmptyHashMap(keys);
         try {
             fileModificationLock.readLock().lock();
-            List<KeyValueLocation> keysAndValueLocations = Lists.newArrayList();
+            final ChunkedFileSet fileSet = this.fileSet;
+            ReadOnlyValueCache valueCache = this.valueCache;
+            Map<Integer, List<ByteArray>> keysByChunk = new TreeMap<Integer, List<ByteArray>>();
+            int numKeys = 0;
             for(ByteArray key: keys) {
+                if(valueCache != null) {
+                    byte[] value = valueCache.get(key.get());
+                    if(value != null) {
+                        results.put(key, Collections.singletonList(Versioned.value(value)));
+                        continue;
+                    }
+                }
                 try {
                     int chunk = fileSet.getChunkForKey(key.get());
                     if(chunk < 0) {
                         throw new IllegalStateException("Invalid chunk id returned: " + chunk); // should never happen, but just in case
                     }
-                    int valueLocation = searchStrategy.indexOf(fileSet.indexFileFor(chunk),
-                                                               fileSet.keyToStorageFormat(key.get()),
-                                                               fileSet.getIndexFileSize(chunk));
-                    if(valueLocation >= 0)
-                        keysAndValueLocations.add(new KeyValueLocation(chunk, key, valueLocation));
+                    List<ByteArray> chunkKeys = keysByChunk.get(chunk);
+                    if(chunkKeys == null) {
+                        chunkKeys = Lists.newArrayList();
+                        keysByChunk.put(chunk, chunkKeys);
+                    }
+                    chunkKeys.add(key);
+                    numKeys++;
                 } catch (IllegalStateException e) {
                     logger.warn("ChunkedFileSet.getChunkForKey() did not execute successfully for store '" +
                                 getName() + "'. Skipping key in getAll: " + ByteUtils.toHexString(key.get()), e);
                     continue;
                 }
             }
-            Collections.sort(keysAndValueLocations);
-
-            for(KeyValueLocation keyVal: keysAndValueLocations) {
-                byte[] value = fileSet.readValue(keyVal.getKey().get(),
-                                                 keyVal.getChunk(),
-                                                 keyVal.getValueLocation());
-                if(value.length > 0)
-                    results.put(keyVal.getKey(), Collections.singletonList(Versioned.value(value)));
+
+            ExecutorService executor = this.getAllExecutor;
+            if(executor == null || numKeys < 2 * MIN_GETALL_BATCH_SIZE) {
+                for(Entry<Integer, List<ByteArray>> entry: keysByChunk.entrySet())
+                    readValues(fileSet, entry.getKey(), entry.getValue(), results);
+                return results;
+            }
+
+            // Split the keys of each chunk into batches, so the batches of a
+            // large chunk are also read in parallel
+            int batchSize = Math.max(MIN_GETALL_BATCH_SIZE, numKeys / Math.max(getAllThreads, 1) + 1);
+            List<Future<Map<ByteArray, List<Versioned<byte[]>>>>> batches = Lists.newArrayList();
+            Integer firstChunk = null;
+            List<ByteArray> firstBatch = null;
+            for(Entry<Integer, List<ByteArray>> entry: keysByChunk.entrySet()) {
+                final int chunk = entry.getKey();
+                List<ByteArray> chunkKeys = entry.getValue();
+                for(int from = 0; from < chunkKeys.size(); from += batchSize) {
+                    final List<ByteArray> batch = chunkKeys.subList(from,
+                                                                    Math.min(from + batchSize,
+                                                                             chunkKeys.size()));
+                    if(firstBatch == null) {
+                        // read by this thread while the others run
+                        firstChunk = chunk;
+                        firstBatch = batch;
+                        continue;
+                    }
+                    batches.add(executor.submit(new Callable<Map<ByteArray, List<Versioned<byte[]>>>>() {
+
+                        @Override
+                        public Map<ByteArray, List<Versioned<byte[]>>> call() {
+                            Map<ByteArray, List<Versioned<byte[]>>> batchResults = new HashMap<ByteArray, List<Versioned<byte[]>>>();
+                            readValues(fileSet, chunk, batch, batchResults);
+                            return batchResults;
+                        }
+                    }));
+                }
+            }
+            try {
+                readValues(fileSet, firstChunk, firstBatch, results);
+                for(Future<Map<ByteArray, List<Versioned<byte[]>>>> batch: batches)
+                    results.putAll(batch.get());
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new VoldemortException("Interrupted during getAll on store " + getName(), e);
+            } catch(ExecutionException e) {
+                if(e.getCause() instanceof VoldemortException)
+                    throw (VoldemortException) e.getCause();
+                throw new VoldemortException("Error during getAll on store " + getName(),
+                                             e.getCause());
+            } finally {
+                // the file set must not be read once the lock is released, so
+                // wait for the batches still running after a failure
+                for(Future<Map<ByteArray, List<Versioned<byte[]>>>> batch: batches) {
+                    try {
+                        Uninterruptibles.getUninterruptibly(batch);
+                    } catch(ExecutionException e) {
+                        // the first failure is reported
+                    }
+                }
             }
             return results;
         } finally {
@@ -591,6 +776,42 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         }
     }
 
+    /**
+     * Searches the index of a chunk for the given keys, and reads their values
+     * in the order of their locations in the data file
+     */
+    private void readValues(ChunkedFileSet fileSet,
+                            int chunk,
+                            List<ByteArray> keys,
+                            Map<ByteArray, List<Versioned<byte[]>>> results) {
+        List<KeyValueLocation> keysAndValueLocations = Lists.newArrayListWithCapacity(keys.size());
+        for(ByteArray key: keys) {
+            int valueLocation = fileSet.indexOf(chunk, fileSet.keyToStorageFormat(key.get()));
+            if(valueLocation >= 0)
+                keysAndValueLocations.add(new KeyValueLocation(chunk, key, valueLocation));
+        }
+        Collections.sort(keysAndValueLocations);
+
+        if(getAllPrefetch && keysAndValueLocations.size() > 1) {
+            int[] valueLocations = new int[keysAndValueLocations.size()];
+            for(int i = 0; i < valueLocations.length; i++)
+                valueLocations[i] = keysAndValueLocations.get(i).getValueLocation();
+            fileSet.prefetchValues(chunk, valueLocations, valueLocations.length);
+        }
+
+        ReadOnlyValueCache valueCache = this.valueCache;
+        for(KeyValueLocation keyVal: keysAndValueLocations) {
+            byte[] value = fileSet.readValue(keyVal.getKey().get(),
+                                             keyVal.getChunk(),
+                                             keyVal.getValueLocation());
+            if(value.length > 0) {
+                results.put(keyVal.getKey(), Collections.singletonList(Versioned.value(value)));
+                if(valueCache != null)
+                    valueCache.put(keyVal.getKey().get(), value);
+            }
+        }
+    }
+
     /**
      * Not supported, throws UnsupportedOperationException if called
      */
@@ -608,6 +829,42 @@ public class ReadOnlyStorageEngine extends AbstractStorageEngine<ByteArray, byte
         throw new VoldemortUnsupportedOperationalException("Put is not supported on this store, it is read-only.");
     }
 
+    @JmxGetter(name = "valueCacheHitRatio", description = "Ratio of the gets served from the value cache")
+    public double getValueCacheHitRatio() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getHitRatio();
+    }
+
+    @JmxGetter(name = "valueCacheHits", description = "Number of gets served from the value cache")
+    public long getValueCacheHits() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getHits();
+    }
+
+    @JmxGetter(name = "valueCacheMisses", description = "Number of gets not found in the value cache")
+    public long getValueCacheMisses() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getMisses();
+    }
+
+    @JmxGetter(name = "valueCacheEvictions", description = "Number of values evicted from the value cache")
+    public long getValueCacheEvictions() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getEvictions();
+    }
+
+    @JmxGetter(name = "valueCacheBytes", description = "Off-heap bytes used by the value cache")
+    public long getValueCacheBytes() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getBytes();
+    }
+
+    @JmxGetter(name = "valueCacheEntries", description = "Number of values in the value cache")
+    public int getValueCacheEntries() {
+        ReadOnlyValueCache valueCache = this.valueCache;
+        return valueCache == null ? 0 : valueCache.getEntries();
+    }
+
     @JmxGetter(name = "name", description = "The name of the store.")
     @Override
     public String getName() {
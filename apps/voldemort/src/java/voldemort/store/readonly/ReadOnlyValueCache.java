@@ -0,0 +1,420 @@
+/*
+ * Copyright 2008-2009 LinkedIn, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package voldemort.store.readonly;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.utils.ByteUtils;
+import voldemort.store.readonly.io.ByteBufferCloser;
+
+import com.google.common.collect.Lists;
+
+/**
+ * An LRU cache of the values of a read-only store, kept off the heap. The
+ * entries are keyed by the md5 of the key, like the index, and also keep the
+ * key, so a hit is checked against the full key. Each entry is a direct
+ * buffer that is freed as soon as it is evicted.
+ *
+ * The caches of all read-only stores draw from one {@link MemoryBudget}. A
+ * put evicts the least recently used entries of all the caches of its budget
+ * until the budget can pay for the new entry, so the off-heap memory of all
+ * caches never exceeds the budget, and a store whose cache was just
+ * invalidated wins back its share from the others as it is used again.
+ *
+ * The cache is not aware of store versions: the store invalidates it while
+ * it holds the write lock to swap or roll back its files.
+ *
+ */
+public class ReadOnlyValueCache {
+
+    private static final Logger logger = Logger.getLogger(ReadOnlyValueCache.class);
+
+    /**
+     * Bytes charged to the budget per entry on top of its key and value, for
+     * the length prefix and the heap side of the entry
+     */
+    public static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private static final int NUM_SEGMENTS = 16;
+
+    private final MemoryBudget budget;
+    private final Segment[] segments;
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    public ReadOnlyValueCache(MemoryBudget budget) {
+        this.budget = budget;
+        this.segments = new Segment[NUM_SEGMENTS];
+        for(int i = 0; i < NUM_SEGMENTS; i++)
+            segments[i] = new Segment();
+        budget.caches.add(this);
+    }
+
+    /**
+     * Gets the cached value of a key
+     *
+     * @param key The key
+     * @return A copy of the value, or null if it is not cached
+     */
+    public byte[] get(byte[] key) {
+        Md5 md5 = new Md5(ByteUtils.md5(key));
+        Segment segment = segmentFor(md5);
+        byte[] value = null;
+        synchronized(segment) {
+            Entry entry = segment.entries.get(md5);
+            if(entry != null && keyEquals(entry.buffer, key)) {
+                value = new byte[entry.buffer.capacity() - ByteUtils.SIZE_OF_INT - key.length];
+                ByteBuffer source = entry.buffer.duplicate();
+                source.position(ByteUtils.SIZE_OF_INT + key.length);
+                source.get(value);
+                entry.lastAccessNs = System.nanoTime();
+                segment.updateOldestAccess();
+            }
+        }
+        if(value == null)
+            misses.incrementAndGet();
+        else
+            hits.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * Caches the value of a key, unless it is larger than a segment's share
+     * of the budget. The budget is paid for by evicting the least recently
+     * used entries of any of the caches of the budget.
+     *
+     * @param key The key
+     * @param value The value
+     */
+    public void put(byte[] key, byte[] value) {
+        Md5 md5 = new Md5(ByteUtils.md5(key));
+        int size = ByteUtils.SIZE_OF_INT + key.length + value.length;
+        long charge = size + ENTRY_OVERHEAD_BYTES;
+        if(charge > budget.getMaxBytes() / NUM_SEGMENTS)
+            return;
+
+        Segment segment = segmentFor(md5);
+        synchronized(segment) {
+            segment.remove(md5);
+        }
+        // evicts without holding the lock of the segment, since the victim
+        // may be in any segment of any cache
+        while(!budget.tryReserve(charge)) {
+            if(!budget.evictLeastRecentlyUsed())
+                return;
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.allocateDirect(size);
+        } catch(OutOfMemoryError e) {
+            budget.release(charge);
+            logger.warn("Out of direct memory for the read-only value cache, raise -XX:MaxDirectMemorySize above the cache size");
+            return;
+        }
+        buffer.putInt(key.length);
+        buffer.put(key);
+        buffer.put(value);
+        synchronized(segment) {
+            segment.remove(md5);
+            segment.entries.put(md5, new Entry(buffer));
+            segment.bytes += charge;
+            segment.updateOldestAccess();
+        }
+    }
+
+    /**
+     * Removes all entries, and frees their memory
+     */
+    public void invalidate() {
+        for(Segment segment: segments) {
+            synchronized(segment) {
+                for(Entry entry: segment.entries.values())
+                    free(entry.buffer);
+                segment.entries.clear();
+                budget.release(segment.bytes);
+                segment.bytes = 0;
+                segment.updateOldestAccess();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries, and leaves the budget to the other caches for good
+     */
+    public void close() {
+        budget.caches.remove(this);
+        invalidate();
+    }
+
+    /**
+     * Gets the keys of the most recently used entries. Each segment gives its
+     * share of the keys, the hottest first.
+     *
+     * @param maxKeys The maximum number of keys
+     * @return The keys
+     */
+    public List<ByteArray> getHottestKeys(int maxKeys) {
+        int totalEntries = Math.max(getEntries(), 1);
+        List<ByteArray> keys = Lists.newArrayList();
+        for(Segment segment: segments) {
+            synchronized(segment) {
+                int keysPerSegment = (int) Math.min(segment.entries.size(),
+                                                    ((long) maxKeys * segment.entries.size()
+                                                     + totalEntries - 1)
+                                                            / totalEntries);
+                if(keysPerSegment == 0)
+                    continue;
+                ArrayDeque<Entry> hottest = new ArrayDeque<Entry>(keysPerSegment);
+                // iterates from the least to the most recently used
+                for(Entry entry: segment.entries.values()) {
+                    if(hottest.size() == keysPerSegment)
+                        hottest.removeFirst();
+                    hottest.addLast(entry);
+                }
+                Iterator<Entry> it = hottest.descendingIterator();
+                while(it.hasNext() && keys.size() < maxKeys)
+                    keys.add(new ByteArray(readKey(it.next().buffer)));
+            }
+        }
+        return keys;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public double getHitRatio() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return The bytes charged to the budget by this cache
+     */
+    public long getBytes() {
+        long bytes = 0;
+        for(Segment segment: segments) {
+            synchronized(segment) {
+                bytes += segment.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    public int getEntries() {
+        int entries = 0;
+        for(Segment segment: segments) {
+            synchronized(segment) {
+                entries += segment.entries.size();
+            }
+        }
+        return entries;
+    }
+
+    private Segment segmentFor(Md5 md5) {
+        return segments[(int) (md5.low >>> 32) & (NUM_SEGMENTS - 1)];
+    }
+
+    private static void free(ByteBuffer entry) {
+        try {
+            new ByteBufferCloser(entry).close();
+        } catch(IOException e) {
+            logger.warn("Error freeing a read-only value cache entry", e);
+        }
+    }
+
+    private static boolean keyEquals(ByteBuffer entry, byte[] key) {
+        if(entry.getInt(0) != key.length)
+            return false;
+        for(int i = 0; i < key.length; i++) {
+            if(entry.get(ByteUtils.SIZE_OF_INT + i) != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private static byte[] readKey(ByteBuffer entry) {
+        byte[] key = new byte[entry.getInt(0)];
+        ByteBuffer source = entry.duplicate();
+        source.position(ByteUtils.SIZE_OF_INT);
+        source.get(key);
+        return key;
+    }
+
+    private final class Segment {
+
+        /** In access order, from the least to the most recently used */
+        final Map<Md5, Entry> entries = new LinkedHashMap<Md5, Entry>(16, 0.75f, true);
+        long bytes = 0;
+
+        /**
+         * The last access time of the least recently used entry, read without
+         * the lock to pick the segment to evict from
+         */
+        volatile long oldestAccessNs = Long.MAX_VALUE;
+
+        /**
+         * Removes an entry, with the lock held
+         */
+        void remove(Md5 md5) {
+            Entry entry = entries.remove(md5);
+            if(entry != null) {
+                long charge = entry.buffer.capacity() + ENTRY_OVERHEAD_BYTES;
+                bytes -= charge;
+                budget.release(charge);
+                free(entry.buffer);
+                updateOldestAccess();
+            }
+        }
+
+        /**
+         * Evicts the least recently used entry, with the lock held
+         *
+         * @return false if the segment is empty
+         */
+        boolean evictLeastRecentlyUsed() {
+            if(entries.isEmpty())
+                return false;
+            remove(entries.keySet().iterator().next());
+            evictions.incrementAndGet();
+            return true;
+        }
+
+        void updateOldestAccess() {
+            oldestAccessNs = entries.isEmpty() ? Long.MAX_VALUE
+                                               : entries.values().iterator().next().lastAccessNs;
+        }
+    }
+
+    private static final class Entry {
+
+        final ByteBuffer buffer;
+        long lastAccessNs;
+
+        Entry(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.lastAccessNs = System.nanoTime();
+        }
+    }
+
+    private static final class Md5 {
+
+        final long high, low;
+
+        Md5(byte[] md5) {
+            this.high = ByteUtils.readLong(md5, 0);
+            this.low = ByteUtils.readLong(md5, 8);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (low ^ (low >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Md5))
+                return false;
+            Md5 other = (Md5) o;
+            return high == other.high && low == other.low;
+        }
+    }
+
+    /**
+     * The off-heap memory shared by the value caches of all read-only stores
+     */
+    public static class MemoryBudget {
+
+        private final long maxBytes;
+        private final AtomicLong usedBytes = new AtomicLong(0);
+        private final List<ReadOnlyValueCache> caches = new CopyOnWriteArrayList<ReadOnlyValueCache>();
+
+        public MemoryBudget(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        boolean tryReserve(long bytes) {
+            while(true) {
+                long used = usedBytes.get();
+                if(used + bytes > maxBytes)
+                    return false;
+                if(usedBytes.compareAndSet(used, used + bytes))
+                    return true;
+            }
+        }
+
+        void release(long bytes) {
+            usedBytes.addAndGet(-bytes);
+        }
+
+        /**
+         * Evicts the least recently used entry of all the caches of the
+         * budget. Each segment is only locked on its own, so this never
+         * deadlocks with a put or a get.
+         *
+         * @return false if all the caches are empty
+         */
+        boolean evictLeastRecentlyUsed() {
+            while(true) {
+                Segment oldest = null;
+                for(ReadOnlyValueCache cache: caches) {
+                    for(Segment segment: cache.segments) {
+                        if(segment.oldestAccessNs != Long.MAX_VALUE
+                           && (oldest == null || segment.oldestAccessNs - oldest.oldestAccessNs < 0))
+                            oldest = segment;
+                    }
+                }
+                if(oldest == null)
+                    return false;
+                synchronized(oldest) {
+                    // another put may have emptied it since, then look again
+                    if(oldest.evictLeastRecentlyUsed())
+                        return true;
+                }
+            }
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public long getUsedBytes() {
+            return usedBytes.get();
+        }
+    }
+}
@@ -10,6 +10,11 @@ import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -19,12 +24,19 @@ import org.apache.log4j.Logger;
 import voldemort.VoldemortException;
 import voldemort.consistency.cluster.Node;
 import voldemort.routing.RoutingStrategy;
+import voldemort.store.readonly.BinarySearchStrategy;
+import voldemort.store.readonly.FencePointerSearchStrategy;
+import voldemort.store.readonly.FencePointers;
 import voldemort.store.readonly.ReadOnlyStorageFormat;
 import voldemort.store.readonly.ReadOnlyStorageMetadata;
 import voldemort.store.readonly.ReadOnlyUtils;
+import voldemort.store.readonly.SearchStrategy;
 import voldemort.store.readonly.io.MappedFileReader;
+import voldemort.store.readonly.io.Native;
+import voldemort.store.readonly.io.jna.fcntl;
 import voldemort.consistency.utils.ByteArray;
 import voldemort.consistency.utils.ByteUtils;
+import voldemort.utils.DaemonThreadFactory;
 import voldemort.utils.Pair;
 import voldemort.utils.Utils;
 import voldemort.consistency.versioning.Versioned;
@@ -40,6 +52,15 @@ public class ChunkedFileSet {
 
     private static Logger logger = Logger.getLogger(ChunkedFileSet.class);
 
+    /**
+     * Bytes advised per value by {@link #prefetchValues(int, int[], int)},
+     * enough for the record header, key and value of most records
+     */
+    public static final int PREFETCH_BYTES_PER_VALUE = 4096;
+
+    /** Cleared if posix_fadvise cannot be called on this platform */
+    private static volatile boolean fadviseAvailable = true;
+
     private int numChunks;
     private final int nodeId;
     private final int maxValueBufferAllocationSize;
@@ -52,6 +73,15 @@ public class ChunkedFileSet {
 
     private List<MappedFileReader> mappedIndexFileReader;
     private final List<FileChannel> dataFiles;
+    /** File descriptors of the data file channels, for posix_fadvise */
+    private final List<Integer> dataFileDescriptors;
+    /** Mapped data files, only when the data files are read through mmap */
+    private final boolean mmapDataFiles;
+    private final List<MappedByteBuffer> mappedDataFiles;
+    private final List<MappedFileReader> mappedDataFileReader;
+    private final SearchStrategy searchStrategy;
+    /** Fence pointers of the index files, only with a FencePointerSearchStrategy */
+    private final List<FencePointers> fencePointers;
     private final HashMap<Object, Integer> chunkIdToChunkStart;
     private final HashMap<Object, Integer> chunkIdToNumChunks;
     /** Primary partition IDs hosted by the current node */
@@ -63,6 +93,53 @@ public class ChunkedFileSet {
                           RoutingStrategy routingStrategy,
                           int nodeId,
                           int maxValueBufferAllocationSize) throws IOException {
+        this(directory, routingStrategy, nodeId, maxValueBufferAllocationSize, false);
+    }
+
+    /**
+     * Opens the chunked file set of a version directory
+     * 
+     * @param directory The version directory
+     * @param routingStrategy The routing strategy used to route keys
+     * @param nodeId Node id
+     * @param maxValueBufferAllocationSize The largest value size a read accepts
+     * @param mmapDataFiles If true, the data files are memory-mapped and
+     *        values are read from the mapped pages instead of through
+     *        positional reads of the file channels
+     */
+    public ChunkedFileSet(File directory,
+                          RoutingStrategy routingStrategy,
+                          int nodeId,
+                          int maxValueBufferAllocationSize,
+                          boolean mmapDataFiles) throws IOException {
+        this(directory,
+             routingStrategy,
+             nodeId,
+             maxValueBufferAllocationSize,
+             mmapDataFiles,
+             new BinarySearchStrategy());
+    }
+
+    /**
+     * Opens the chunked file set of a version directory
+     * 
+     * @param directory The version directory
+     * @param routingStrategy The routing strategy used to route keys
+     * @param nodeId Node id
+     * @param maxValueBufferAllocationSize The largest value size a read accepts
+     * @param mmapDataFiles If true, the data files are memory-mapped and
+     *        values are read from the mapped pages instead of through
+     *        positional reads of the file channels
+     * @param searchStrategy The algorithm to use for searching for keys in the
+     *        index files. A {@link FencePointerSearchStrategy} builds its fence
+     *        pointers here, in parallel across the chunks.
+     */
+    public ChunkedFileSet(File directory,
+                          RoutingStrategy routingStrategy,
+                          int nodeId,
+                          int maxValueBufferAllocationSize,
+                          boolean mmapDataFiles,
+                          SearchStrategy searchStrategy) throws IOException {
 
         this.baseDir = directory;
         if(!Utils.isReadableDir(directory)) {
@@ -102,6 +179,12 @@ public class ChunkedFileSet {
         this.mappedIndexFileReader = new ArrayList<MappedFileReader>();
 
         this.dataFiles = new ArrayList<FileChannel>();
+        this.dataFileDescriptors = new ArrayList<Integer>();
+        this.mmapDataFiles = mmapDataFiles;
+        this.mappedDataFiles = new ArrayList<MappedByteBuffer>();
+        this.mappedDataFileReader = new ArrayList<MappedFileReader>();
+        this.searchStrategy = searchStrategy;
+        this.fencePointers = new ArrayList<FencePointers>();
         this.chunkIdToChunkStart = new HashMap<Object, Integer>();
         this.chunkIdToNumChunks = new HashMap<Object, Integer>();
         this.nodeId = nodeId;
@@ -123,10 +206,52 @@ public class ChunkedFileSet {
         }
 
         this.numChunks = indexFileSizes.size();
+        if(searchStrategy instanceof FencePointerSearchStrategy)
+            buildFencePointers((FencePointerSearchStrategy) searchStrategy);
         logger.trace("Opened chunked file set for " + baseDir + " with " + indexFileSizes.size()
                      + " chunks and format  " + storageFormat);
     }
 
+    /**
+     * Builds the fence pointers of all index files, one chunk per thread
+     */
+    private void buildFencePointers(final FencePointerSearchStrategy fencePointerSearchStrategy)
+            throws IOException {
+        if(numChunks == 0)
+            return;
+        long start = System.currentTimeMillis();
+        int numThreads = Math.min(numChunks, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads,
+                                                                new DaemonThreadFactory("voldemort-ro-fence-pointers"));
+        try {
+            List<Future<FencePointers>> results = new ArrayList<Future<FencePointers>>(numChunks);
+            for(int chunk = 0; chunk < numChunks; chunk++) {
+                final ByteBuffer index = indexFileFor(chunk);
+                final int indexFileSize = getIndexFileSize(chunk);
+                results.add(executor.submit(new Callable<FencePointers>() {
+
+                    @Override
+                    public FencePointers call() {
+                        return fencePointerSearchStrategy.buildFencePointers(index,
+                                                                             indexFileSize,
+                                                                             getKeyHashSize());
+                    }
+                }));
+            }
+            for(Future<FencePointers> result: results)
+                fencePointers.add(result.get());
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while building the fence pointers of " + baseDir, e);
+        } catch(ExecutionException e) {
+            throw new IOException("Error building the fence pointers of " + baseDir, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Built fence pointers of " + numChunks + " chunks in " + baseDir + " in "
+                    + (System.currentTimeMillis() - start) + " ms");
+    }
+
     public DataFileChunkSet toDataFileChunkSet() {
 
         // Convert the index file into chunk set
@@ -176,6 +301,8 @@ public class ChunkedFileSet {
 
             /* Add the file channel for data */
             dataFiles.add(openChannel(data));
+            if(mmapDataFiles)
+                mapAndRememberDataFile(data);
 
             mapAndRememberIndexFile(index);
 
@@ -231,6 +358,8 @@ public class ChunkedFileSet {
 
                     /* Add the file channel for data */
                     dataFiles.add(openChannel(data));
+                    if(mmapDataFiles)
+                        mapAndRememberDataFile(data);
 
                     mapAndRememberIndexFile(index);
 
@@ -412,6 +541,8 @@ public class ChunkedFileSet {
 
                         /* Add the file channel for data */
                         dataFiles.add(openChannel(data));
+                        if(mmapDataFiles)
+                            mapAndRememberDataFile(data);
 
                         mapAndRememberIndexFile(index);
 
@@ -482,6 +613,10 @@ public class ChunkedFileSet {
         this.mappedIndexFileReader.clear();
 
         this.dataFiles.clear();
+        this.dataFileDescriptors.clear();
+        this.mappedDataFiles.clear();
+        this.mappedDataFileReader.clear();
+        this.fencePointers.clear();
         this.chunkIdToChunkStart.clear();
         this.chunkIdToNumChunks.clear();
 
@@ -503,14 +638,27 @@ public class ChunkedFileSet {
 
                 logger.error("Error while closing file.", e);
             }
+
+            if(mmapDataFiles) {
+                try {
+                    mappedDataFileReader.get(chunk).close();
+                } catch(IOException e) {
+                    logger.error("Error while closing file.", e);
+                }
+            }
         }
         reset();
 
     }
 
+    /**
+     * Opens a data file, and remembers its file descriptor
+     */
     private FileChannel openChannel(File file) {
         try {
-            return new FileInputStream(file).getChannel();
+            FileInputStream in = new FileInputStream(file);
+            dataFileDescriptors.add(Native.getFd(in.getFD()));
+            return in.getChannel();
         } catch(IOException e) {
             throw new VoldemortException(e);
         }
@@ -625,12 +773,81 @@ public class ChunkedFileSet {
 
     }
 
+    /**
+     * Searches the index file of a chunk for a key, with the fence pointers of
+     * the chunk if there are any, else with the search strategy
+     * 
+     * @param chunk The chunk id
+     * @param key The key, in the format in which it is stored
+     * @return The position of the value in the data file, if the key is
+     *         found, else -1
+     */
+    public int indexOf(int chunk, byte[] key) {
+        if(!fencePointers.isEmpty())
+            return fencePointers.get(chunk).indexOf(indexFileFor(chunk), key);
+        return searchStrategy.indexOf(indexFileFor(chunk), key, getIndexFileSize(chunk));
+    }
+
+    /**
+     * Advises the kernel that the values at the given locations of the data
+     * file of a chunk will be read soon, so it reads them ahead in the
+     * background. Close locations are advised as one range. This is a hint
+     * only, and it does nothing where posix_fadvise is not available.
+     * 
+     * @param chunk The chunk id
+     * @param sortedLocations The value locations, in increasing order
+     * @param count The number of locations to advise
+     */
+    public void prefetchValues(int chunk, int[] sortedLocations, int count) {
+        if(!fadviseAvailable || count == 0)
+            return;
+        int fd = dataFileDescriptors.get(chunk);
+        if(fd < 0)
+            return;
+        try {
+            long start = sortedLocations[0];
+            long end = start + PREFETCH_BYTES_PER_VALUE;
+            for(int i = 1; i < count; i++) {
+                long location = sortedLocations[i];
+                if(location > end) {
+                    fcntl.posix_fadvise(fd, start, end - start, fcntl.POSIX_FADV_WILLNEED);
+                    start = location;
+                }
+                end = location + PREFETCH_BYTES_PER_VALUE;
+            }
+            fcntl.posix_fadvise(fd, start, end - start, fcntl.POSIX_FADV_WILLNEED);
+        } catch(IOException e) {
+            if(logger.isDebugEnabled())
+                logger.debug("posix_fadvise failed on " + getDataFile(chunk), e);
+        } catch(LinkageError e) {
+            fadviseAvailable = false;
+            logger.warn("posix_fadvise is not available, read-only values will not be prefetched",
+                        e);
+        }
+    }
+
     private String scaryMessage(byte[] key) {
         return "There might be data corruption, or the index/data files might be mismatched. " +
                 "Key: " + ByteUtils.toHexString(key);
     }
 
+    /**
+     * Returns true if the data files are memory-mapped
+     */
+    public boolean isDataFilesMapped() {
+        return mmapDataFiles;
+    }
+
     public byte[] readValue(byte[] key, int chunk, int valueLocation) {
+        if(mmapDataFiles) {
+            ByteBuffer valueBuffer = readValueBuffer(key, chunk, valueLocation);
+            if(valueBuffer == null)
+                return new byte[0];
+            byte[] value = new byte[valueBuffer.remaining()];
+            valueBuffer.get(value);
+            return value;
+        }
+
         FileChannel dataFile = dataFileFor(chunk);
         try {
             switch(storageFormat) {
@@ -723,6 +940,113 @@ public class ChunkedFileSet {
         }
     }
 
+    /**
+     * Finds the value of a key in the mapped data file of a chunk, scanning
+     * the collided entries in place. Only works if the data files are
+     * memory-mapped.
+     * 
+     * @param key Byte array of the key
+     * @param chunk The chunk id
+     * @param valueLocation The position found in the index file
+     * @return A read-only slice of the mapped data file holding the value, or
+     *         null if the key is not found. The slice is only valid until the
+     *         file set is closed.
+     */
+    public ByteBuffer readValueBuffer(byte[] key, int chunk, int valueLocation) {
+        if(!mmapDataFiles)
+            throw new IllegalStateException("The data files of " + baseDir + " are not mapped.");
+
+        ByteBuffer dataFile = dataFileBufferFor(chunk);
+        switch(storageFormat) {
+            case READONLY_V0:
+            case READONLY_V1: {
+                int fileSize = getDataFileSize(chunk);
+                if(valueLocation < 0 || valueLocation > fileSize - ByteUtils.SIZE_OF_INT) {
+                    logger.error("Data file " + getDataFile(chunk) + " has no record at position "
+                                 + valueLocation + ". " + scaryMessage(key));
+                    throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                }
+                int valueSize = dataFile.getInt(valueLocation);
+                valueLocation += ByteUtils.SIZE_OF_INT;
+                if(valueSize < 0 || (long) valueLocation + valueSize > fileSize) {
+                    logger.error("Data file " + getDataFile(chunk) + " claims the value size of a " +
+                                 "record is negative or beyond the end of the file. " + scaryMessage(key));
+                    throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                } else if(valueSize > maxValueBufferAllocationSize) {
+                    logger.error("Data file " + getDataFile(chunk) + " claims the value size is greater than " +
+                                 "the max value buffer allocation size (" + maxValueBufferAllocationSize + "). " +
+                                 "The actual values may be too big or... " + scaryMessage(key));
+                    throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                }
+                return slice(dataFile, valueLocation, valueSize);
+            }
+            case READONLY_V2: {
+                int fileSize = getDataFileSize(chunk);
+                int headerSize = ByteUtils.SIZE_OF_SHORT + (2 * ByteUtils.SIZE_OF_INT);
+                if(valueLocation > fileSize - headerSize) {
+                    logger.error("Data file " + getDataFile(chunk) + " has no record at position "
+                                 + valueLocation + ". " + scaryMessage(key));
+                    throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                }
+                short numKeyValues = dataFile.getShort(valueLocation);
+                valueLocation += ByteUtils.SIZE_OF_SHORT;
+
+                do {
+                    if(valueLocation > (fileSize - (2 * ByteUtils.SIZE_OF_INT))) {
+                        logger.error("Data file " + getDataFile(chunk) + " claims there are " + numKeyValues +
+                                " more records to be read for our key hash, but this brings us over the " +
+                                "limit of the data file size (" + fileSize + " bytes). " + scaryMessage(key));
+                        throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                    }
+                    int keySize = dataFile.getInt(valueLocation);
+                    int valueSize = dataFile.getInt(valueLocation + ByteUtils.SIZE_OF_INT);
+                    valueLocation += (2 * ByteUtils.SIZE_OF_INT);
+
+                    if (keySize < 0 || valueSize < 0
+                        || (long) valueLocation + keySize + valueSize > fileSize) {
+                        logger.error("Data file " + getDataFile(chunk) + " claims the key or value size of a " +
+                                     "record is negative or beyond the end of the file. " + scaryMessage(key));
+                        throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                    } else if (valueSize > maxValueBufferAllocationSize) {
+                        logger.error("Data file " + getDataFile(chunk) + " claims the value size is greater than " +
+                                     "the max value buffer allocation size (" + maxValueBufferAllocationSize + "). " +
+                                     "The actual values may be too big or... " + scaryMessage(key));
+                        throw new VoldemortException("The data cannot be read because of an internal Voldemort server error.");
+                    }
+
+                    // if the keys are not the same size, they're not even worth comparing
+                    if(keySize == key.length && equalsInPlace(dataFile, valueLocation, key))
+                        return slice(dataFile, valueLocation + keySize, valueSize);
+
+                    valueLocation += (keySize + valueSize);
+                } while(--numKeyValues > 0);
+                // Could not find key
+                return null;
+            }
+            default: {
+                throw new VoldemortException("Storage format not supported ");
+            }
+        }
+    }
+
+    /**
+     * Compares the key with the bytes at the given position of the buffer,
+     * without copying them
+     */
+    private static boolean equalsInPlace(ByteBuffer buffer, int position, byte[] key) {
+        for(int i = 0; i < key.length; i++) {
+            if(buffer.get(position + i) != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int position, int size) {
+        buffer.limit(position + size);
+        buffer.position(position);
+        return buffer.slice().asReadOnlyBuffer();
+    }
+
     /**
      * Iterator for RO keys - Works only for ReadOnlyStorageFormat.READONLY_V2
      */
@@ -894,6 +1218,20 @@ public class ChunkedFileSet {
         }
     }
 
+    /**
+     * Open and map the given data file and remember it in the
+     * mappedDataFileReader[] and mappedDataFiles[] arrays
+     */
+    private void mapAndRememberDataFile(File data) {
+        try {
+            MappedFileReader dataFileReader = new MappedFileReader(data);
+            mappedDataFileReader.add(dataFileReader);
+            mappedDataFiles.add(dataFileReader.map());
+        } catch(IOException e) {
+            throw new VoldemortException("Error mmapping " + data, e);
+        }
+    }
+
     public ByteBuffer indexFileFor(int chunk) {
         return indexFiles.get(chunk).duplicate();
     }
@@ -902,6 +1240,14 @@ public class ChunkedFileSet {
         return dataFiles.get(chunk);
     }
 
+    /**
+     * Returns a duplicate of the mapped data file of a chunk, so the caller
+     * owns its position and limit
+     */
+    public ByteBuffer dataFileBufferFor(int chunk) {
+        return mappedDataFiles.get(chunk).duplicate();
+    }
+
     public int getIndexFileSize(int chunk) {
         return this.indexFileSizes.get(chunk);
     }
@@ -41,6 +41,7 @@ import voldemort.store.socket.clientrequest.DeleteClientRequest;
 import voldemort.store.socket.clientrequest.GetAllClientRequest;
 import voldemort.store.socket.clientrequest.GetClientRequest;
 import voldemort.store.socket.clientrequest.GetVersionsClientRequest;
+import voldemort.store.socket.clientrequest.NewMessageClientRequest;
 import voldemort.store.socket.clientrequest.PutClientRequest;
 import voldemort.store.stats.ClientSocketStats;
 import voldemort.consistency.utils.ByteArray;
@@ -173,6 +174,30 @@ public class SocketStore extends AbstractStore<ByteArray, byte[], byte[]> implem
         requestAsync(clientRequest, callback, timeoutMs, "put");
     }
 
+    @Override
+    public void submitNewMessageRequest(ByteArray key,
+                                        Versioned<byte[]> value,
+                                        byte[] transforms,
+                                        Callback callback,
+                                        long timeoutMs) {
+        StoreUtils.assertValidKey(key);
+        NewMessageClientRequest clientRequest = new NewMessageClientRequest(getName(),
+                                                                            requestFormat,
+                                                                            requestRoutingType,
+                                                                            key,
+                                                                            value,
+                                                                            transforms);
+        if(logger.isDebugEnabled())
+            logger.debug("NEW_MESSAGE keyRef: " + System.identityHashCode(key) + " requestRef: "
+                         + System.identityHashCode(clientRequest));
+        requestAsync(clientRequest, callback, timeoutMs, "new message");
+    }
+
+    @Override
+    public boolean supportsNewMessageRequest() {
+        return requestFormat.supportsNewMessage();
+    }
+
     @Override
     public boolean delete(ByteArray key, Version version) throws VoldemortException {
         StoreUtils.assertValidKey(key);
@@ -0,0 +1,69 @@
+package voldemort.store.socket.clientrequest;
+
+import voldemort.client.protocol.RequestFormat;
+import voldemort.common.nio.ByteBufferBackedOutputStream;
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.versioning.Version;
+import voldemort.consistency.versioning.Versioned;
+import voldemort.server.RequestRoutingType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A PUT sent to the owner of its key, which answers with the version it
+ * assigned to the value
+ */
+public class NewMessageClientRequest extends AbstractStoreClientRequest<Version> {
+
+    private final ByteArray key;
+
+    private final Versioned<byte[]> versioned;
+
+    private final byte[] transforms;
+
+    public NewMessageClientRequest(String storeName,
+                                   RequestFormat requestFormat,
+                                   RequestRoutingType requestRoutingType,
+                                   ByteArray key,
+                                   Versioned<byte[]> versioned,
+                                   byte[] transforms) {
+        super(storeName, requestFormat, requestRoutingType);
+        this.key = key;
+        this.versioned = versioned;
+        this.transforms = transforms;
+    }
+
+    public boolean isCompleteResponse(ByteBuffer buffer) {
+        return requestFormat.isCompleteNewMessageResponse(buffer);
+    }
+
+    @Override
+    protected void formatRequestInternal(ByteBufferBackedOutputStream outputStream)
+            throws IOException {
+        int size = requestFormat.getExpectedPutRequestSize(storeName,
+                                                   key,
+                                                   versioned.getValue(),
+                                                   transforms,
+                                                   versioned.getVersion(),
+                                                   requestRoutingType);
+        if(size != RequestFormat.SIZE_UNKNOWN) {
+            outputStream.getBufferContainer().ensureSpace(size);
+        }
+        requestFormat.writeNewMessageRequest(new DataOutputStream(outputStream),
+                                             storeName,
+                                             key,
+                                             versioned.getValue(),
+                                             transforms,
+                                             versioned.getVersion(),
+                                             requestRoutingType);
+    }
+
+    @Override
+    protected Version parseResponseInternal(DataInputStream inputStream) throws IOException {
+        return requestFormat.readNewMessageResponse(inputStream);
+    }
+
+}
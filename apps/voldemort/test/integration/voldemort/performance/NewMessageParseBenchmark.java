@@ -0,0 +1,94 @@
+package voldemort.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import voldemort.TestUtils;
+import voldemort.consistency.Constants;
+import voldemort.consistency.utils.ByteUtils;
+import voldemort.consistency.versioning.Version;
+import voldemort.server.protocol.vold.NewMessageRequestHandler;
+
+/**
+ * JMH benchmark of the parsing of a NEW_MESSAGE request, comparing the
+ * previous per request reflective lookup of createNew with the cached factory
+ * that {@link NewMessageRequestHandler#parseRequest(DataInputStream)} now
+ * uses, e.g.
+ * <pre>
+ * java -cp ... org.openjdk.jmh.Main NewMessageParseBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewMessageParseBenchmark {
+
+    byte[] request;
+    NewMessageRequestHandler handler;
+
+    @Setup
+    public void setUp() throws IOException {
+        request = buildRequest();
+        handler = new NewMessageRequestHandler(null, 1, 0);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        return parseReflective(new DataInputStream(new ByteArrayInputStream(request)));
+    }
+
+    @Benchmark
+    public boolean cached() throws IOException {
+        return handler.parseRequest(new DataInputStream(new ByteArrayInputStream(request)));
+    }
+
+    private static byte[] buildRequest() throws IOException {
+        Version clock = TestUtils.getClock(1, 2, 3);
+        byte[] key = "key".getBytes();
+        byte[] value = new byte[100];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(key.length);
+        output.write(key);
+        output.writeInt(clock.sizeInBytes() + value.length);
+        output.write(clock.toBytes());
+        output.write(value);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The parsing done before the versions were resolved through
+     * ComponentRegistry
+     */
+    private static Object parseReflective(DataInputStream inputStream) throws Exception {
+        byte[] key = new byte[inputStream.readInt()];
+        inputStream.readFully(key);
+        int valueSize = inputStream.readInt();
+        Class<?> versionClass = Class.forName(Constants.versioning);
+        Method m = versionClass.getDeclaredMethod("createNew", DataInputStream.class);
+        Version clock = (Version) m.invoke(null, inputStream);
+        byte[] value = new byte[valueSize - clock.sizeInBytes()];
+        ByteUtils.read(inputStream, value);
+        return clock;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2008-2009 LinkedIn, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package voldemort.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+import voldemort.consistency.cluster.Cluster;
+import voldemort.consistency.utils.serialization.Serializer;
+import voldemort.routing.RoutingStrategy;
+import voldemort.routing.RoutingStrategyFactory;
+import voldemort.serialization.json.JsonTypeDefinition;
+import voldemort.serialization.json.JsonTypeSerializer;
+import voldemort.server.VoldemortConfig;
+import voldemort.store.StoreDefinition;
+import voldemort.store.readonly.BinarySearchStrategy;
+import voldemort.store.readonly.SearchStrategy;
+import voldemort.store.readonly.chunk.ChunkedFileSet;
+import voldemort.utils.CmdUtils;
+import voldemort.utils.ReflectUtils;
+import voldemort.utils.Utils;
+import voldemort.xml.ClusterMapper;
+import voldemort.xml.StoreDefinitionsMapper;
+
+/**
+ * Compares the GET throughput of a read-only store version when the values are
+ * read through positional reads of the data file channels, and when they are
+ * read from memory-mapped data files.
+ *
+ * The keys are the json strings "0" to "num-values - 1", as built by
+ * {@link ReadOnlyStorePerformanceTest} with --build. Build a store larger than
+ * the page cache to see the cold read behavior.
+ *
+ */
+public class ReadOnlyValueReadPerformanceTest {
+
+    public static void main(String[] args) throws IOException {
+        OptionParser parser = new OptionParser();
+        parser.accepts("help", "print usage information");
+        parser.accepts("threads", "number of threads").withRequiredArg().ofType(Integer.class);
+        parser.accepts("requests", "[REQUIRED] number of requests per path")
+              .withRequiredArg()
+              .ofType(Integer.class);
+        parser.accepts("version-dir", "[REQUIRED] version directory of the store")
+              .withRequiredArg()
+              .describedAs("directory");
+        parser.accepts("cluster-xml", "[REQUIRED] Path to cluster.xml")
+              .withRequiredArg()
+              .describedAs("path");
+        parser.accepts("stores-xml", "[REQUIRED] Path to stores.xml")
+              .withRequiredArg()
+              .describedAs("path");
+        parser.accepts("store-name", "[REQUIRED] Name of the store")
+              .withRequiredArg()
+              .describedAs("name");
+        parser.accepts("node-id", "Id of node")
+              .withRequiredArg()
+              .ofType(Integer.class)
+              .describedAs("node-id");
+        parser.accepts("num-values", "[REQUIRED] The number of values in the store")
+              .withRequiredArg()
+              .describedAs("count")
+              .ofType(Integer.class);
+        parser.accepts("search-strategy", "class of the search strategy to use")
+              .withRequiredArg()
+              .describedAs("class_name");
+        OptionSet options = parser.parse(args);
+
+        if(options.has("help")) {
+            parser.printHelpOn(System.out);
+            System.exit(0);
+        }
+
+        CmdUtils.croakIfMissing(parser,
+                                options,
+                                "requests",
+                                "version-dir",
+                                "cluster-xml",
+                                "stores-xml",
+                                "store-name",
+                                "num-values");
+
+        final int numThreads = CmdUtils.valueOf(options, "threads", 10);
+        final int numRequests = (Integer) options.valueOf("requests");
+        final int numValues = (Integer) options.valueOf("num-values");
+        final int nodeId = CmdUtils.valueOf(options, "node-id", 0);
+        String searcherClass = CmdUtils.valueOf(options,
+                                                "search-strategy",
+                                                BinarySearchStrategy.class.getName()).trim();
+        final SearchStrategy searcher = (SearchStrategy) ReflectUtils.callConstructor(ReflectUtils.loadClass(searcherClass));
+        File versionDir = new File((String) options.valueOf("version-dir"));
+        String storeName = (String) options.valueOf("store-name");
+
+        Cluster cluster = new ClusterMapper().readCluster(new File((String) options.valueOf("cluster-xml")));
+        StoreDefinition storeDef = null;
+        for(StoreDefinition def: new StoreDefinitionsMapper().readStoreList(new File((String) options.valueOf("stores-xml"))))
+            if(def.getName().equals(storeName))
+                storeDef = def;
+        if(storeDef == null)
+            Utils.croak("No store named " + storeName + " in stores.xml");
+        RoutingStrategy routingStrategy = new RoutingStrategyFactory().updateRoutingStrategy(storeDef,
+                                                                                             cluster);
+        final Serializer<Object> keySerializer = new JsonTypeSerializer(JsonTypeDefinition.fromJson("'string'"),
+                                                                        true);
+
+        double[] opsPerSecond = new double[2];
+        for(final boolean mmapDataFiles: new boolean[] { false, true }) {
+            final ChunkedFileSet fileSet = new ChunkedFileSet(versionDir,
+                                                              routingStrategy,
+                                                              nodeId,
+                                                              VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE,
+                                                              mmapDataFiles,
+                                                              searcher);
+            final AtomicInteger nullResults = new AtomicInteger(0);
+            PerformanceTest readTest = new PerformanceTest() {
+
+                private final Random random = new Random();
+
+                @Override
+                public void doOperation(int index) throws Exception {
+                    byte[] key = keySerializer.toBytes(Integer.toString(random.nextInt(numValues)));
+                    int chunk;
+                    try {
+                        chunk = fileSet.getChunkForKey(key);
+                    } catch(IllegalStateException e) {
+                        // the key is hosted on another node
+                        nullResults.incrementAndGet();
+                        return;
+                    }
+                    int location = fileSet.indexOf(chunk, fileSet.keyToStorageFormat(key));
+                    if(location < 0 || fileSet.readValue(key, chunk, location).length == 0)
+                        nullResults.incrementAndGet();
+                }
+            };
+
+            System.out.println("Running test with " + (mmapDataFiles ? "mapped" : "channel")
+                               + " data files...");
+            readTest.run(numRequests, numThreads);
+            readTest.printStats();
+            System.out.println("Null reads ratio: " + nullResults.doubleValue() / numRequests);
+            opsPerSecond[mmapDataFiles ? 1 : 0] = readTest.getOperationsPerSecond();
+            fileSet.close();
+        }
+        System.out.println("Mapped / channel throughput: " + opsPerSecond[1] / opsPerSecond[0]);
+        System.exit(0);
+    }
+}
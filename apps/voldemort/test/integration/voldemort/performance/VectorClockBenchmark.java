@@ -0,0 +1,80 @@
+package voldemort.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import voldemort.consistency.versioning.ArrayVectorClock;
+import voldemort.consistency.versioning.Occurred;
+import voldemort.consistency.versioning.VectorClock;
+import voldemort.consistency.versioning.Version;
+
+/**
+ * JMH benchmark comparing the TreeMap based {@link VectorClock} with
+ * {@link ArrayVectorClock} on compare, merge and serialization for clocks of
+ * 3, 16 and 128 entries, e.g.
+ * <pre>
+ * java -cp ... org.openjdk.jmh.Main VectorClockBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorClockBenchmark {
+
+    @Param({ "VectorClock", "ArrayVectorClock" })
+    String clock;
+
+    @Param({ "3", "16", "128" })
+    int entries;
+
+    Version one;
+    Version other;
+    byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        one = newClock();
+        other = newClock();
+        long now = System.currentTimeMillis();
+        for(int node = 0; node < entries; node++) {
+            one.incrementVersion(node, now);
+            other.incrementVersion(node, now);
+        }
+        // last entry differs so compare has to walk the whole clock
+        other.incrementVersion(entries - 1, now);
+        buffer = new byte[one.sizeInBytes()];
+    }
+
+    private Version newClock() {
+        return clock.equals("VectorClock") ? new VectorClock() : new ArrayVectorClock();
+    }
+
+    @Benchmark
+    public Occurred compare() {
+        return one.compare(other);
+    }
+
+    @Benchmark
+    public Version merge() {
+        return one.merge(other);
+    }
+
+    @Benchmark
+    public int toBytes() {
+        return one.toBytes(buffer, 0);
+    }
+}
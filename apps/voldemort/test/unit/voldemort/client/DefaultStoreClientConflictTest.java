@@ -0,0 +1,109 @@
+package voldemort.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import voldemort.TestUtils;
+import voldemort.consistency.Framework;
+import voldemort.consistency.types.Message;
+import voldemort.consistency.types.MetaData;
+import voldemort.consistency.versioning.InconsistentDataException;
+import voldemort.consistency.versioning.TimeBasedInconsistencyResolver;
+import voldemort.consistency.versioning.Versioned;
+
+/**
+ * GETs whose replicas returned versions the vector clocks cannot order
+ */
+public class DefaultStoreClientConflictTest {
+
+    private DefaultStoreClient<String, String> client;
+
+    private static List<Versioned<?>> conflicting() {
+        List<Versioned<?>> versions = new ArrayList<Versioned<?>>();
+        versions.add(new Versioned<String>("older", TestUtils.getClockWithTs(1000, 1)));
+        versions.add(new Versioned<String>("newer", TestUtils.getClockWithTs(2000, 2)));
+        return versions;
+    }
+
+    private static MetaData conflict() {
+        MetaData metaData = new MetaData();
+        metaData.setConcurrentVersions(conflicting());
+        return metaData;
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        client = new DefaultStoreClient<String, String>();
+        client.metadataRefreshAttempts = 1;
+        client.framework = mock(Framework.class);
+        // every key of a GET or a GET_ALL reads two concurrent versions
+        doAnswer(new Answer<Void>() {
+
+            public Void answer(InvocationOnMock invocation) {
+                Message<String, String> message = (Message<String, String>) invocation.getArguments()[0];
+                if(message.getType() == Message.Type.GET_ALL) {
+                    for(Object key: message.getContent().getKeys())
+                        message.getMetaData().getKeyMetaData().put(key, conflict());
+                } else {
+                    message.getMetaData().setConcurrentVersions(conflicting());
+                }
+                return null;
+            }
+        }).when(client.framework).newMessage(any(Message.class));
+    }
+
+    @Test
+    public void testResolveReturnsTheOnlyVersion() {
+        MetaData metaData = new MetaData();
+        metaData.setVersioned(new Versioned<String>("value", TestUtils.getClock(1)));
+
+        assertEquals("value", client.resolve("key", metaData).getValue());
+        assertNull(client.resolve("key", new MetaData()));
+    }
+
+    @Test
+    public void testGetThrowsWithoutAResolver() {
+        try {
+            client.get("key");
+            fail("Concurrent versions were dropped");
+        } catch(InconsistentDataException e) {
+            assertEquals(2, e.getVersions().size());
+        }
+    }
+
+    @Test
+    public void testGetAllThrowsWithoutAResolver() {
+        try {
+            client.getAll(Arrays.asList("a", "b"));
+            fail("Concurrent versions were dropped");
+        } catch(InconsistentDataException e) {
+            assertEquals(2, e.getVersions().size());
+        }
+    }
+
+    @Test
+    public void testTheResolverOfTheStoreSettlesTheVersions() {
+        client.resolver = new TimeBasedInconsistencyResolver<String>();
+
+        assertEquals("newer", client.get("key").getValue());
+        Map<String, Versioned<String>> all = client.getAll(Arrays.asList("a", "b"));
+        assertEquals(2, all.size());
+        assertEquals("newer", all.get("a").getValue());
+        assertEquals("newer", all.get("b").getValue());
+    }
+}
@@ -0,0 +1,335 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import voldemort.TestUtils;
+import voldemort.VoldemortClientShell;
+import voldemort.client.SocketStoreClientFactory;
+import voldemort.cluster.failuredetector.FailureDetector;
+import voldemort.consistency.cluster.Node;
+import voldemort.consistency.exception.ConsistencyException;
+import voldemort.consistency.types.Content;
+import voldemort.consistency.types.Message;
+import voldemort.consistency.types.MetaData;
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.versioning.Versioned;
+import voldemort.serialization.DefaultSerializerFactory;
+import voldemort.serialization.SerializerDefinition;
+import voldemort.store.InsufficientOperationalNodesException;
+import voldemort.store.StoreDefinition;
+
+/**
+ * The futures of the asynchronous API against replicas that answer, fail or
+ * never answer
+ */
+public class FrameworkAsyncTest {
+
+    private final List<Node> nodes = Arrays.asList(node(1), node(2));
+
+    private SocketStoreClientFactory factory;
+    private StoreDefinition storeDef;
+    private int requiredReads;
+    private int preferedReads;
+    private int requiredWrites;
+    private int preferredWrites;
+    private long getOpTimeoutInMs;
+    private long putOpTimeoutInMs;
+    private long deleteOpTimeoutInMs;
+
+    private CommunicationInterface.internal<String, String> communication;
+    private Framework<String, String> framework;
+
+    private static Node node(int id) {
+        return new Node(id, "localhost", 8080 + id, 6666 + id, 7777 + id, new ArrayList<Integer>());
+    }
+
+    private static List<Versioned<byte[]>> value(String value) {
+        List<Versioned<byte[]>> versions = new ArrayList<Versioned<byte[]>>();
+        versions.add(new Versioned<byte[]>(value.getBytes(), TestUtils.getClock(1)));
+        return versions;
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        factory = VoldemortClientShell.factory;
+        storeDef = VoldemortClientShell.storeDef;
+        requiredReads = Constants.requiredReads;
+        preferedReads = Constants.preferedReads;
+        requiredWrites = Constants.requiredWrites;
+        preferredWrites = Constants.preferredWrites;
+        getOpTimeoutInMs = Constants.getOpTimeoutInMs;
+        putOpTimeoutInMs = Constants.putOpTimeoutInMs;
+        deleteOpTimeoutInMs = Constants.deleteOpTimeoutInMs;
+
+        FailureDetector failureDetector = mock(FailureDetector.class);
+        VoldemortClientShell.factory = mock(SocketStoreClientFactory.class);
+        when(VoldemortClientShell.factory.getFailureDetector()).thenReturn(failureDetector);
+        when(VoldemortClientShell.factory.getSerializerFactory()).thenReturn(new DefaultSerializerFactory());
+        VoldemortClientShell.storeDef = mock(StoreDefinition.class);
+        when(VoldemortClientShell.storeDef.getKeySerializer()).thenReturn(new SerializerDefinition("string"));
+
+        Constants.requiredReads = 2;
+        Constants.preferedReads = 2;
+        Constants.requiredWrites = 2;
+        Constants.preferredWrites = 2;
+
+        GroupMembershipInterface groupMembership = mock(GroupMembershipInterface.class);
+        when(groupMembership.getNodes(any(ByteArray.class), anyInt())).thenReturn(nodes);
+        when(groupMembership.getTimestamper()).thenReturn(1);
+        communication = mock(CommunicationInterface.internal.class);
+        when(communication.getActualVersion(any(Content.class), any(MetaData.class))).thenReturn(TestUtils.getClock(1));
+        Quorum<String, String> quorum = new Quorum<String, String>();
+        framework = new Framework<String, String>(groupMembership,
+                                                  communication,
+                                                  new Order<String, String>(1, groupMembership, communication),
+                                                  quorum,
+                                                  new Replicate<String, String>(groupMembership, quorum, communication, null, null),
+                                                  failureDetector);
+    }
+
+    @After
+    public void tearDown() {
+        framework.close();
+        VoldemortClientShell.factory = factory;
+        VoldemortClientShell.storeDef = storeDef;
+        Constants.requiredReads = requiredReads;
+        Constants.preferedReads = preferedReads;
+        Constants.requiredWrites = requiredWrites;
+        Constants.preferredWrites = preferredWrites;
+        Constants.getOpTimeoutInMs = getOpTimeoutInMs;
+        Constants.putOpTimeoutInMs = putOpTimeoutInMs;
+        Constants.deleteOpTimeoutInMs = deleteOpTimeoutInMs;
+    }
+
+    /**
+     * @return the failure the future completed with
+     */
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch(CompletionException e) {
+            return e.getCause();
+        }
+        fail("The future did not fail");
+        return null;
+    }
+
+    private List<Callback> getCallbacks() {
+        ArgumentCaptor<Callback> callbacks = ArgumentCaptor.forClass(Callback.class);
+        verify(communication, times(nodes.size())).get(any(Node.class),
+                                                       any(Content.class),
+                                                       any(MetaData.class),
+                                                       callbacks.capture());
+        return callbacks.getAllValues();
+    }
+
+    private List<Callback> deleteCallbacks() {
+        ArgumentCaptor<Callback> callbacks = ArgumentCaptor.forClass(Callback.class);
+        verify(communication, times(nodes.size())).delete(any(Node.class),
+                                                          any(Content.class),
+                                                          any(MetaData.class),
+                                                          callbacks.capture());
+        return callbacks.getAllValues();
+    }
+
+    private CompletableFuture<Message<String, String>> get() {
+        return framework.newMessageAsync(new Message<String, String>(Message.Type.GET,
+                                                                     new Content<String, String>("key"),
+                                                                     new MetaData()));
+    }
+
+    /**
+     * @return the callbacks of the PUTs sent so far, the master first
+     */
+    private List<Callback> putCallbacks(int sent) {
+        ArgumentCaptor<Callback> callbacks = ArgumentCaptor.forClass(Callback.class);
+        verify(communication, times(sent)).put(any(Node.class),
+                                               any(Content.class),
+                                               any(MetaData.class),
+                                               callbacks.capture());
+        return callbacks.getAllValues();
+    }
+
+    private CompletableFuture<Message<String, String>> put() {
+        return framework.newMessageAsync(new Message<String, String>(Message.Type.PUT,
+                                                                     new Content<String, String>("key", "value"),
+                                                                     new MetaData()));
+    }
+
+    private CompletableFuture<Message<String, String>> delete() {
+        return framework.newMessageAsync(new Message<String, String>(Message.Type.DELETE,
+                                                                     new Content<String, String>("key"),
+                                                                     new MetaData()));
+    }
+
+    @Test
+    public void testGetQuorumSuccess() {
+        CompletableFuture<Message<String, String>> future = get();
+        List<Callback> callbacks = getCallbacks();
+        callbacks.get(0).requestComplete(value("value"), 1);
+        assertFalse(future.isDone());
+        callbacks.get(1).requestComplete(new ArrayList<Versioned<byte[]>>(), 1);
+
+        Message<String, String> message = future.join();
+        assertEquals(2, message.getMetaData().getGetSuccesses());
+        assertEquals("value", message.getMetaData().getVersioned().getValue());
+    }
+
+    @Test
+    public void testGetQuorumFailure() {
+        CompletableFuture<Message<String, String>> future = get();
+        List<Callback> callbacks = getCallbacks();
+        callbacks.get(0).requestComplete(value("value"), 1);
+        callbacks.get(1).requestComplete(new ConsistencyException("replica down"), 1);
+
+        assertTrue(failureOf(future) instanceof InsufficientOperationalNodesException);
+    }
+
+    @Test
+    public void testGetTimeout() throws Exception {
+        Constants.getOpTimeoutInMs = 50;
+        CompletableFuture<Message<String, String>> future = get();
+        getCallbacks().get(0).requestComplete(value("value"), 1);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("The GET did not fail");
+        } catch(ExecutionException e) {
+            assertTrue(e.getCause() instanceof InsufficientOperationalNodesException);
+        }
+    }
+
+    @Test
+    public void testPutQuorumSuccess() {
+        CompletableFuture<Message<String, String>> future = put();
+        // the master write is in flight, the caller was not held
+        assertFalse(future.isDone());
+        putCallbacks(1).get(0).requestComplete(null, 1);
+        assertFalse(future.isDone());
+        putCallbacks(2).get(1).requestComplete(null, 1);
+
+        MetaData metadata = future.join().getMetaData();
+        assertEquals(2, metadata.getPutSuccesses());
+        assertEquals(nodes.get(0), metadata.getMaster());
+        assertEquals(TestUtils.getClock(1, 1), metadata.getVersioned().getVersion());
+    }
+
+    @Test
+    public void testPutQuorumFailure() {
+        CompletableFuture<Message<String, String>> future = put();
+        putCallbacks(1).get(0).requestComplete(null, 1);
+        putCallbacks(2).get(1).requestComplete(new ConsistencyException("replica down"), 1);
+
+        assertTrue(failureOf(future) instanceof InsufficientOperationalNodesException);
+    }
+
+    @Test
+    public void testPutTimeout() throws Exception {
+        Constants.putOpTimeoutInMs = 50;
+        CompletableFuture<Message<String, String>> future = put();
+        putCallbacks(1).get(0).requestComplete(null, 1);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("The PUT did not fail");
+        } catch(ExecutionException e) {
+            assertTrue(e.getCause() instanceof InsufficientOperationalNodesException);
+        }
+    }
+
+    @Test
+    public void testPutMasterFailsOver() {
+        Constants.requiredWrites = 1;
+        Constants.preferredWrites = 1;
+        CompletableFuture<Message<String, String>> future = put();
+        putCallbacks(1).get(0).requestComplete(new ConsistencyException("master down"), 1);
+        putCallbacks(2).get(1).requestComplete(null, 1);
+
+        assertEquals(nodes.get(1), future.join().getMetaData().getMaster());
+    }
+
+    @Test
+    public void testDeleteQuorumSuccess() {
+        CompletableFuture<Message<String, String>> future = delete();
+        for(Callback callback: deleteCallbacks())
+            callback.requestComplete(true, 1);
+
+        assertEquals(2, future.join().getMetaData().getDeleteSuccesses());
+    }
+
+    @Test
+    public void testDeleteQuorumFailure() {
+        CompletableFuture<Message<String, String>> future = delete();
+        List<Callback> callbacks = deleteCallbacks();
+        callbacks.get(0).requestComplete(new ConsistencyException("replica down"), 1);
+        callbacks.get(1).requestComplete(true, 1);
+
+        assertTrue(failureOf(future) instanceof InsufficientOperationalNodesException);
+    }
+
+    @Test
+    public void testDeleteTimeout() throws Exception {
+        Constants.deleteOpTimeoutInMs = 50;
+        CompletableFuture<Message<String, String>> future = delete();
+        deleteCallbacks().get(0).requestComplete(true, 1);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("The DELETE did not fail");
+        } catch(ExecutionException e) {
+            assertTrue(e.getCause() instanceof InsufficientOperationalNodesException);
+        }
+    }
+
+    @Test
+    public void testDeleteOfAMissingKey() {
+        when(communication.getActualVersion(any(Content.class), any(MetaData.class))).thenReturn(null);
+        CompletableFuture<Message<String, String>> future = framework.newMessageAsync(new Message<String, String>(Message.Type.DELETE,
+                                                                                                                  new Content<String, String>("key"),
+                                                                                                                  new MetaData()));
+        assertEquals(0, future.join().getMetaData().getDeleteSuccesses());
+    }
+
+    @Test
+    public void testBlockingGetKeepsReportingThroughTheMetadata() {
+        final Message<String, String> message = new Message<String, String>(Message.Type.GET,
+                                                                            new Content<String, String>("key"),
+                                                                            new MetaData());
+        CompletableFuture<Void> call = CompletableFuture.runAsync(() -> framework.newMessage(message));
+        ArgumentCaptor<Callback> callbacks = ArgumentCaptor.forClass(Callback.class);
+        verify(communication, timeout(5000).times(nodes.size())).get(any(Node.class),
+                                                                     any(Content.class),
+                                                                     any(MetaData.class),
+                                                                     callbacks.capture());
+        callbacks.getAllValues().get(0).requestComplete(value("value"), 1);
+        callbacks.getAllValues().get(1).requestComplete(new ConsistencyException("replica down"), 1);
+
+        // the blocking call does not throw, the missed quorum is in the metadata
+        call.join();
+        assertEquals(1, message.getMetaData().getGetSuccesses());
+    }
+}
@@ -0,0 +1,166 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import voldemort.TestUtils;
+import voldemort.cluster.failuredetector.FailureDetector;
+import voldemort.consistency.cluster.Node;
+import voldemort.consistency.exception.ConsistencyException;
+import voldemort.consistency.stats.ConsistencyStats;
+import voldemort.consistency.types.Content;
+import voldemort.consistency.types.Message;
+import voldemort.consistency.types.MetaData;
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.utils.pipeline.Response;
+import voldemort.consistency.versioning.VectorClock;
+import voldemort.consistency.versioning.Versioned;
+
+public class FrameworkTest {
+
+    private static final ByteArray KEY = new ByteArray("key".getBytes());
+
+    private static Node node(int id) {
+        return new Node(id, "localhost", 8080 + id, 6666 + id, 7777 + id, new ArrayList<Integer>());
+    }
+
+    private static Message<String, String> getMessage() {
+        return new Message<String, String>(Message.Type.GET, new Content<String, String>("key"), new MetaData());
+    }
+
+    private static Response<ByteArray, Object> value(Node node, String value) {
+        return value(node, value, new VectorClock());
+    }
+
+    private static Response<ByteArray, Object> value(Node node, String value, VectorClock clock) {
+        List<Versioned<byte[]>> versions = new ArrayList<Versioned<byte[]>>();
+        versions.add(new Versioned<byte[]>(value.getBytes(), clock));
+        return new Response<ByteArray, Object>(node, KEY, versions, 1);
+    }
+
+    private static Response<ByteArray, Object> failure(Node node) {
+        return new Response<ByteArray, Object>(node, KEY, new ConsistencyException("replica down"), 1);
+    }
+
+    @Test
+    public void testGetSucceedsWhenAnyReplicaSucceeds() {
+        Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<Integer, Response<ByteArray, Object>>();
+        responses.put(1, failure(node(1)));
+        responses.put(2, value(node(2), "value"));
+        Message<String, String> message = getMessage();
+
+        Framework.processGetResponses(message, responses, mock(FailureDetector.class));
+
+        assertEquals(1, message.getMetaData().getGetSuccesses());
+        assertEquals("value", message.getMetaData().getVersioned().getValue());
+    }
+
+    @Test
+    public void testGetFailsWhenEveryReplicaFails() {
+        Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<Integer, Response<ByteArray, Object>>();
+        responses.put(1, failure(node(1)));
+        responses.put(2, failure(node(2)));
+        Message<String, String> message = getMessage();
+
+        Framework.processGetResponses(message, responses, mock(FailureDetector.class));
+
+        assertEquals(0, message.getMetaData().getGetSuccesses());
+        assertNull(message.getMetaData().getVersioned());
+    }
+
+    @Test
+    public void testGetDropsTheVersionsOthersOverwrote() {
+        Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<Integer, Response<ByteArray, Object>>();
+        responses.put(1, value(node(1), "old", TestUtils.getClock(1)));
+        responses.put(2, value(node(2), "new", TestUtils.getClock(1, 1)));
+        responses.put(3, value(node(3), "new", TestUtils.getClock(1, 1)));
+        Message<String, String> message = getMessage();
+
+        Framework.processGetResponses(message, responses, mock(FailureDetector.class));
+
+        assertEquals("new", message.getMetaData().getVersioned().getValue());
+        assertTrue(message.getMetaData().getConcurrentVersions().isEmpty());
+    }
+
+    @Test
+    public void testGetLeavesConcurrentVersionsToTheClient() {
+        Map<Integer, Response<ByteArray, Object>> responses = new ConcurrentHashMap<Integer, Response<ByteArray, Object>>();
+        responses.put(1, value(node(1), "one", TestUtils.getClock(1)));
+        responses.put(2, value(node(2), "two", TestUtils.getClock(2)));
+        Message<String, String> message = getMessage();
+
+        Framework.processGetResponses(message, responses, mock(FailureDetector.class));
+
+        assertNull(message.getMetaData().getVersioned());
+        List<Object> values = new ArrayList<Object>();
+        for(Versioned<?> versioned: message.getMetaData().getConcurrentVersions())
+            values.add(versioned.getValue());
+        assertEquals(2, values.size());
+        assertTrue(values.containsAll(Arrays.asList("one", "two")));
+    }
+
+    @Test
+    public void testJoinThrowsTheFailureItself() {
+        ConsistencyException failure = new ConsistencyException("No master node succeeded");
+        CompletableFuture<Object> future = new CompletableFuture<Object>();
+        future.completeExceptionally(failure);
+        try {
+            Framework.join(future.thenApply(value -> value));
+            fail("The failure was not thrown");
+        } catch(ConsistencyException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testNoHedgeWithoutLatency() {
+        ConsistencyStats stats = new ConsistencyStats();
+        stats.recordNodeLatency(1, 500);
+        assertEquals(-1, Framework.getHedgeDelayUs(stats, Arrays.asList(node(1), node(2))));
+    }
+
+    @Test
+    public void testHedgeDelayFollowsTheSlowestNode() {
+        ConsistencyStats stats = new ConsistencyStats();
+        for(int i = 0; i < 100; i++) {
+            stats.recordNodeLatency(1, 1500);
+            stats.recordNodeLatency(2, 4000);
+        }
+        long delayUs = Framework.getHedgeDelayUs(stats, Arrays.asList(node(1), node(2)));
+        assertEquals(4000, delayUs, 4);
+    }
+
+    @Test
+    public void testHedgeDelayIsAtLeastTheMinimum() {
+        // sub-millisecond replicas must not get every GET hedged at once
+        ConsistencyStats stats = new ConsistencyStats();
+        for(int i = 0; i < 100; i++)
+            stats.recordNodeLatency(1, 80);
+        assertEquals(Constants.hedgeMinDelayUs, Framework.getHedgeDelayUs(stats, Arrays.asList(node(1))));
+    }
+
+    @Test
+    public void testSlowRequestsRaiseTheHedgeDelay() {
+        // requests that time out are recorded with the time they waited, so
+        // they pull the percentile up instead of being left out
+        ConsistencyStats stats = new ConsistencyStats();
+        for(int i = 0; i < 90; i++)
+            stats.recordNodeLatency(1, 2000);
+        for(int i = 0; i < 10; i++)
+            stats.recordNodeLatency(1, 5000000);
+        assertEquals(5000000, Framework.getHedgeDelayUs(stats, Arrays.asList(node(1))), 5000);
+    }
+}
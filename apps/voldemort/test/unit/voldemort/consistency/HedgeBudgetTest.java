@@ -0,0 +1,45 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HedgeBudgetTest {
+
+    @Test
+    public void testNoHedgeBeforeItIsEarned() {
+        HedgeBudget budget = new HedgeBudget(0.1);
+        assertFalse(budget.tryHedge());
+        for(int i = 0; i < 9; i++)
+            budget.onGet();
+        assertFalse(budget.tryHedge());
+        budget.onGet();
+        assertTrue(budget.tryHedge());
+        assertFalse(budget.tryHedge());
+    }
+
+    @Test
+    public void testHedgesAreCappedToTheRate() {
+        HedgeBudget budget = new HedgeBudget(0.05);
+        int hedges = 0;
+        for(int i = 0; i < 10000; i++) {
+            budget.onGet();
+            if(budget.tryHedge())
+                hedges++;
+        }
+        assertEquals(500, hedges);
+    }
+
+    @Test
+    public void testQuietPeriodOnlyEarnsABurst() {
+        HedgeBudget budget = new HedgeBudget(0.5);
+        for(int i = 0; i < 10000; i++)
+            budget.onGet();
+        int hedges = 0;
+        while(budget.tryHedge())
+            hedges++;
+        assertEquals(HedgeBudget.BURST, hedges);
+    }
+}
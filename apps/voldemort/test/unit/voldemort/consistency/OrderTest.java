@@ -0,0 +1,145 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import voldemort.TestUtils;
+import voldemort.VoldemortClientShell;
+import voldemort.client.SocketStoreClientFactory;
+import voldemort.cluster.failuredetector.FailureDetector;
+import voldemort.consistency.cluster.Node;
+import voldemort.consistency.exception.ConsistencyException;
+import voldemort.consistency.types.Content;
+import voldemort.consistency.types.MetaData;
+import voldemort.consistency.versioning.VectorClock;
+import voldemort.consistency.versioning.Version;
+
+public class OrderTest {
+
+    private final Node owner = new Node(1, "localhost", 8081, 6667, 7778, new ArrayList<Integer>());
+
+    private SocketStoreClientFactory factory;
+    private int localNodeId;
+    private GroupMembershipInterface groupMembership;
+    private CommunicationInterface.internal<String, String> communication;
+    private Order<String, String> order;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        factory = VoldemortClientShell.factory;
+        localNodeId = Constants.localNodeId;
+        FailureDetector failureDetector = mock(FailureDetector.class);
+        VoldemortClientShell.factory = mock(SocketStoreClientFactory.class);
+        when(VoldemortClientShell.factory.getFailureDetector()).thenReturn(failureDetector);
+        groupMembership = mock(GroupMembershipInterface.class);
+        communication = mock(CommunicationInterface.internal.class);
+        when(communication.supportsNewMessage(owner)).thenReturn(true);
+        order = new Order<String, String>(1, groupMembership, communication) {
+
+            @Override
+            protected Node getOwner(Content<String, String> content) {
+                return owner;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        VoldemortClientShell.factory = factory;
+        Constants.localNodeId = localNodeId;
+    }
+
+    @Test
+    public void testOwnerVersionsForwardedPut() {
+        CompletableFuture<MetaData> future = order.forward(new Content<String, String>("key", "value"), 0);
+        ArgumentCaptor<MetaData> sent = ArgumentCaptor.forClass(MetaData.class);
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(communication).newMessage(any(Node.class), any(Content.class), sent.capture(), callback.capture());
+        // the client neither reads nor builds the version of the value
+        verify(communication, never()).getActualVersion(any(Content.class), any(MetaData.class));
+        assertTrue(sent.getValue().getVersioned().getVersion().getVersions().isEmpty());
+        assertFalse(future.isDone());
+
+        VectorClock assigned = TestUtils.getClock(1, 1);
+        callback.getValue().requestComplete(assigned, 3);
+
+        MetaData metadata = future.join();
+        assertEquals(assigned, metadata.getVersion());
+        assertEquals(assigned, metadata.getVersioned().getVersion());
+        assertArrayEquals("value".getBytes(), (byte[]) metadata.getVersioned().getValue());
+        assertEquals(owner, metadata.getMaster());
+        assertEquals(1, metadata.getPutSuccesses());
+    }
+
+    @Test
+    public void testFailedForwardHasNoMetaData() {
+        CompletableFuture<MetaData> future = order.forward(new Content<String, String>("key", "value"), 0);
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(communication).newMessage(any(Node.class), any(Content.class), any(MetaData.class), callback.capture());
+        callback.getValue().requestComplete(new ConsistencyException("owner down"), 3);
+        assertNull(future.join());
+    }
+
+    @Test
+    public void testForwardToProtocolBuffersOwnerIsAPut() {
+        // a protocol buffers or thread pool based store cannot carry NEW_MESSAGE
+        when(communication.supportsNewMessage(owner)).thenReturn(false);
+        VectorClock current = TestUtils.getClock(2);
+        when(communication.getActualVersion(any(Content.class), any(MetaData.class))).thenReturn(current);
+
+        CompletableFuture<MetaData> future = order.forward(new Content<String, String>("key", "value"), 0);
+        ArgumentCaptor<MetaData> sent = ArgumentCaptor.forClass(MetaData.class);
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(communication).put(any(Node.class), any(Content.class), sent.capture(), callback.capture());
+        verify(communication, never()).newMessage(any(Node.class), any(Content.class), any(MetaData.class), any(Callback.class));
+        Version versioned = sent.getValue().getVersioned().getVersion();
+        assertEquals(TestUtils.getClock(1, 2), versioned);
+
+        callback.getValue().requestComplete(null, 3);
+        MetaData metadata = future.join();
+        assertEquals(versioned, metadata.getVersion());
+        assertEquals(owner, metadata.getMaster());
+        assertEquals(1, metadata.getPutSuccesses());
+    }
+
+    @Test
+    public void testTimestamperRoleOfTheLocalNode() {
+        Content<String, String> content = new Content<String, String>("key", "value");
+        when(groupMembership.getRole(0)).thenReturn(true);
+        when(groupMembership.getRole(1)).thenReturn(false);
+
+        Constants.localNodeId = 0;
+        assertTrue(order.isTimestamper(content));
+        Constants.localNodeId = 1;
+        assertFalse(order.isTimestamper(content));
+        Constants.localNodeId = 2;
+        assertFalse(order.isTimestamper(content));
+    }
+
+    @Test
+    public void testClientOfNoNodeTimestampsIfANodeMay() {
+        Content<String, String> content = new Content<String, String>("key", "value");
+        Constants.localNodeId = -1;
+        when(groupMembership.getTimestamper()).thenReturn(0);
+        assertTrue(order.isTimestamper(content));
+        when(groupMembership.getTimestamper()).thenReturn(-1);
+        assertFalse(order.isTimestamper(content));
+    }
+}
@@ -0,0 +1,221 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import voldemort.TestUtils;
+import voldemort.VoldemortClientShell;
+import voldemort.client.SocketStoreClientFactory;
+import voldemort.cluster.failuredetector.FailureDetector;
+import voldemort.consistency.cluster.Node;
+import voldemort.consistency.types.Content;
+import voldemort.consistency.types.Message;
+import voldemort.consistency.types.MetaData;
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.versioning.Versioned;
+import voldemort.serialization.DefaultSerializerFactory;
+import voldemort.serialization.SerializerDefinition;
+import voldemort.store.StoreDefinition;
+
+/**
+ * Replication of PUTs through one Replicate shared by many messages, with the
+ * replicas answering from other threads
+ */
+public class ReplicateTest {
+
+    private static final Node MASTER = node(1);
+
+    private final List<Node> nodes = Arrays.asList(MASTER, node(2), node(3));
+
+    private SocketStoreClientFactory factory;
+    private StoreDefinition storeDef;
+    private int requiredWrites;
+    private int preferredWrites;
+    private long putOpTimeoutInMs;
+
+    private ExecutorService replicas;
+    private CommunicationInterface.internal<String, String> communication;
+    private Replicate<String, String> replicate;
+
+    private static Node node(int id) {
+        return new Node(id, "localhost", 8080 + id, 6666 + id, 7777 + id, new ArrayList<Integer>());
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        factory = VoldemortClientShell.factory;
+        storeDef = VoldemortClientShell.storeDef;
+        requiredWrites = Constants.requiredWrites;
+        preferredWrites = Constants.preferredWrites;
+        putOpTimeoutInMs = Constants.putOpTimeoutInMs;
+
+        VoldemortClientShell.factory = mock(SocketStoreClientFactory.class);
+        FailureDetector failureDetector = mock(FailureDetector.class);
+        when(VoldemortClientShell.factory.getFailureDetector()).thenReturn(failureDetector);
+        when(VoldemortClientShell.factory.getSerializerFactory()).thenReturn(new DefaultSerializerFactory());
+        VoldemortClientShell.storeDef = mock(StoreDefinition.class);
+        when(VoldemortClientShell.storeDef.getKeySerializer()).thenReturn(new SerializerDefinition("string"));
+
+        Constants.requiredWrites = 3;
+        Constants.preferredWrites = 3;
+
+        replicas = Executors.newFixedThreadPool(4);
+        GroupMembershipInterface groupMembership = mock(GroupMembershipInterface.class);
+        when(groupMembership.getNodes(any(ByteArray.class), anyInt())).thenReturn(nodes);
+        communication = mock(CommunicationInterface.internal.class);
+        replicate = new Replicate<String, String>(groupMembership,
+                                                  new Quorum<String, String>(),
+                                                  communication,
+                                                  null,
+                                                  null);
+    }
+
+    @After
+    public void tearDown() {
+        replicas.shutdownNow();
+        VoldemortClientShell.factory = factory;
+        VoldemortClientShell.storeDef = storeDef;
+        Constants.requiredWrites = requiredWrites;
+        Constants.preferredWrites = preferredWrites;
+        Constants.putOpTimeoutInMs = putOpTimeoutInMs;
+    }
+
+    /**
+     * Every replica answers with the given result from a replica thread
+     */
+    private void replicasAnswer(final Object result) {
+        doAnswer(new Answer<Void>() {
+
+            public Void answer(InvocationOnMock invocation) {
+                final Callback callback = (Callback) invocation.getArguments()[3];
+                replicas.execute(() -> callback.requestComplete(result, 1));
+                return null;
+            }
+        }).when(communication).put(any(Node.class), any(Content.class), any(MetaData.class), any(Callback.class));
+    }
+
+    /**
+     * @return a PUT whose master write on the first node succeeded
+     */
+    private static Message<String, String> mastered(String key) {
+        MetaData metadata = new MetaData(TestUtils.getClock(1));
+        metadata.setStartTimeNs(System.nanoTime());
+        metadata.setVersioned(new Versioned<byte[]>(key.getBytes(), TestUtils.getClock(1)));
+        metadata.setMaster(MASTER);
+        metadata.incrementPutSuccesses();
+        return new Message<String, String>(Message.Type.PUT, new Content<String, String>(key, key), metadata);
+    }
+
+    @Test
+    public void testBlockingReplicateWaitsForTheReplicas() {
+        replicasAnswer(null);
+        Message<String, String> message = mastered("key");
+
+        replicate.replicate(message);
+
+        assertEquals(3, message.getMetaData().getPutSuccesses());
+    }
+
+    @Test
+    public void testBlockingReplicateGivesUpAtTheTimeout() {
+        Constants.putOpTimeoutInMs = 50;
+        Message<String, String> message = mastered("key");
+
+        long startNs = System.nanoTime();
+        replicate.replicate(message);
+
+        assertEquals(1, message.getMetaData().getPutSuccesses());
+        assertTrue(System.nanoTime() - startNs >= TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    public void testLateResponseIsNotCounted() {
+        Constants.requiredWrites = 2;
+        Constants.preferredWrites = 2;
+        final List<Callback> callbacks = new ArrayList<Callback>();
+        doAnswer(new Answer<Void>() {
+
+            public Void answer(InvocationOnMock invocation) {
+                callbacks.add((Callback) invocation.getArguments()[3]);
+                return null;
+            }
+        }).when(communication).put(any(Node.class), any(Content.class), any(MetaData.class), any(Callback.class));
+        Message<String, String> message = mastered("key");
+
+        CompletableFuture<Message<String, String>> future = replicate.replicateAsync(message);
+        callbacks.get(0).requestComplete(null, 1);
+        assertEquals(2, future.join().getMetaData().getPutSuccesses());
+
+        callbacks.get(1).requestComplete(null, 1);
+        assertEquals(2, message.getMetaData().getPutSuccesses());
+    }
+
+    @Test
+    public void testConcurrentPutsShareOneReplicate() throws Exception {
+        replicasAnswer(null);
+        final int threads = 8;
+        final int perThread = 200;
+        ExecutorService clients = Executors.newFixedThreadPool(threads);
+        List<CompletableFuture<Message<String, String>>> futures = new ArrayList<CompletableFuture<Message<String, String>>>();
+        try {
+            List<CompletableFuture<List<CompletableFuture<Message<String, String>>>>> submitted = new ArrayList<CompletableFuture<List<CompletableFuture<Message<String, String>>>>>();
+            for(int t = 0; t < threads; t++) {
+                final int thread = t;
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    List<CompletableFuture<Message<String, String>>> own = new ArrayList<CompletableFuture<Message<String, String>>>();
+                    for(int i = 0; i < perThread; i++)
+                        own.add(replicate.replicateAsync(mastered("key" + thread + "-" + i)));
+                    return own;
+                }, clients));
+            }
+            for(CompletableFuture<List<CompletableFuture<Message<String, String>>>> own: submitted)
+                futures.addAll(own.get(10, TimeUnit.SECONDS));
+        } finally {
+            clients.shutdown();
+        }
+
+        assertEquals(threads * perThread, futures.size());
+        for(CompletableFuture<Message<String, String>> future: futures) {
+            MetaData metadata = future.get(10, TimeUnit.SECONDS).getMetaData();
+            // the master and exactly its two replicas, nothing from other PUTs
+            assertEquals(3, metadata.getPutSuccesses());
+            assertEquals(1, metadata.getZoneResponses().size());
+        }
+    }
+
+    @Test
+    public void testReplicasAreTheNodesAfterTheMaster() {
+        Constants.requiredWrites = 2;
+        Constants.preferredWrites = 2;
+        replicasAnswer(null);
+        Message<String, String> message = mastered("key");
+        message.getMetaData().setMaster(nodes.get(1));
+
+        replicate.replicateAsync(message).join();
+
+        verify(communication).put(eq(nodes.get(2)), any(Content.class), any(MetaData.class), any(Callback.class));
+        assertEquals(2, message.getMetaData().getPutSuccesses());
+    }
+}
@@ -0,0 +1,68 @@
+package voldemort.consistency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TimeoutsTest {
+
+    @Test
+    public void testCallbacksDoNotRunOnTheTimerThread() throws Exception {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> thread = future.thenApply(ignored -> Thread.currentThread().getName());
+        Timeouts.bind(future, () -> future.complete("timeout"), 1);
+        assertFalse(thread.get(5, TimeUnit.SECONDS).startsWith("vcml-timeouts"));
+    }
+
+    @Test
+    public void testSlowCallbackDoesNotDelayOtherTimeouts() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> slow = new CompletableFuture<>();
+        slow.thenRun(() -> {
+            try {
+                release.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Timeouts.bind(slow, () -> slow.complete(null), 1);
+
+        final CompletableFuture<String> other = new CompletableFuture<>();
+        Timeouts.bind(other, () -> other.complete("timeout"), 10);
+        try {
+            assertEquals("timeout", other.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testCompletedFutureCancelsTheTimeout() throws Exception {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        Timeouts.bind(future, () -> future.completeExceptionally(new IllegalStateException()), 50);
+        assertTrue(future.complete("done"));
+        Thread.sleep(100);
+        assertEquals("done", future.get());
+    }
+
+    @Test
+    public void testThreadsStopWithTheLastUser() {
+        Timeouts.acquire();
+        Timeouts.acquire();
+        Timeouts.release();
+        assertTrue(Timeouts.isRunning());
+        Timeouts.release();
+        assertFalse(Timeouts.isRunning());
+
+        // used again without a framework, the timer starts on demand
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        Timeouts.bind(future, () -> future.complete("timeout"), 1);
+        assertEquals("timeout", future.join());
+    }
+}
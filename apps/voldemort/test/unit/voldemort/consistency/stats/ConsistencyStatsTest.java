@@ -0,0 +1,137 @@
+package voldemort.consistency.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import voldemort.consistency.stats.ConsistencyStats.Stage;
+
+public class ConsistencyStatsTest {
+
+    private ConsistencyStats stats;
+
+    @Before
+    public void setUp() {
+        stats = new ConsistencyStats();
+    }
+
+    @Test
+    public void testStages() {
+        long startNs = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+        stats.recordStage(Stage.ORDER, startNs);
+        stats.recordStage(Stage.ORDER, startNs);
+        stats.recordStage(Stage.QUORUM, startNs);
+
+        assertEquals(2, stats.getCount(Stage.ORDER));
+        assertEquals(1, stats.getCount(Stage.QUORUM));
+        assertEquals(0, stats.getCount(Stage.REPLICATE));
+        assertTrue(stats.getAvgTimeInMs(Stage.ORDER) >= 5.0);
+        assertTrue(stats.getQuantileInMs(Stage.ORDER, 99.0) >= 5.0);
+    }
+
+    @Test
+    public void testNodeLatency() {
+        for(int i = 1; i <= 100; i++)
+            stats.recordNodeLatency(1, i * 1000);
+        stats.recordNodeLatency(2, 7000);
+
+        assertEquals(50, stats.getNodeQuantileInMs(1, 50.0));
+        assertEquals(100, stats.getNodeQuantileInMs(1, 100.0));
+        assertEquals(7, stats.getNodeQuantileInMs(2, 50.0));
+        assertEquals(-1, stats.getNodeQuantileInMs(3, 50.0));
+    }
+
+    @Test
+    public void testNodeLatencyInMicroseconds() {
+        for(int i = 1; i <= 100; i++)
+            stats.recordNodeLatency(1, i * 10);
+
+        assertEquals(500, stats.getNodeQuantileInUs(1, 50.0));
+        assertEquals(0, stats.getNodeQuantileInMs(1, 50.0));
+        assertEquals(-1, stats.getNodeQuantileInUs(3, 50.0));
+    }
+
+    @Test
+    public void testNodeLatencyIsReadFromTheCurrentInterval() {
+        ConsistencyStats stats = new ConsistencyStats(0);
+        for(int i = 0; i < 100; i++)
+            stats.recordNodeLatency(1, 5000);
+        assertEquals(5000, stats.getNodeQuantileInUs(1, 99.0), 5);
+
+        // the slow interval is gone once the node answers fast again
+        for(int i = 0; i < 100; i++)
+            stats.recordNodeLatency(1, 200);
+        assertEquals(200, stats.getNodeQuantileInUs(1, 99.0));
+
+        // an interval without GETs keeps the last latency
+        assertEquals(200, stats.getNodeQuantileInUs(1, 99.0));
+    }
+
+    @Test
+    public void testNodeLatencyWithinTheInterval() {
+        for(int i = 0; i < 100; i++)
+            stats.recordNodeLatency(1, 5000);
+        assertEquals(5000, stats.getNodeQuantileInUs(1, 99.0), 5);
+
+        // the interval has not elapsed, later samples wait for the next one
+        for(int i = 0; i < 100; i++)
+            stats.recordNodeLatency(1, 200);
+        assertEquals(5000, stats.getNodeQuantileInUs(1, 99.0), 5);
+    }
+
+    @Test
+    public void testCountersAndReset() {
+        stats.recordQuorumFailure();
+        stats.recordQuorumFailure();
+        stats.recordZoneShortfall();
+        stats.recordHedge();
+        stats.recordHedge();
+        stats.recordHedgeWon();
+        stats.recordStage(Stage.GET, System.nanoTime());
+        stats.recordNodeLatency(1, 3000);
+
+        assertEquals(2, stats.getQuorumFailures());
+        assertEquals(1, stats.getZoneShortfalls());
+        assertEquals(2, stats.getHedges());
+        assertEquals(1, stats.getHedgesWon());
+
+        stats.reset();
+        assertEquals(0, stats.getQuorumFailures());
+        assertEquals(0, stats.getZoneShortfalls());
+        assertEquals(0, stats.getHedges());
+        assertEquals(0, stats.getCount(Stage.GET));
+        assertEquals(-1, stats.getNodeQuantileInMs(1, 50.0));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        final int threads = 8;
+        final int perThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for(int t = 0; t < threads; t++) {
+            final int nodeId = t % 2;
+            executor.submit(new Runnable() {
+
+                public void run() {
+                    for(int i = 0; i < perThread; i++) {
+                        stats.recordStage(Stage.REPLICATE, System.nanoTime());
+                        stats.recordNodeLatency(nodeId, i % 50);
+                    }
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        assertEquals(threads * perThread, stats.getCount(Stage.REPLICATE));
+    }
+}
@@ -0,0 +1,119 @@
+package voldemort.consistency.versioning;
+
+import org.junit.Test;
+import voldemort.TestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+import static org.junit.Assert.*;
+import static voldemort.TestUtils.getClock;
+
+/**
+ * ArrayVectorClock tests, mostly checking it behaves like {@link VectorClock}
+ *
+ *
+ */
+public class ArrayVectorClockTest {
+
+    private static ArrayVectorClock getArrayClock(int... nodes) {
+        ArrayVectorClock clock = new ArrayVectorClock();
+        for(int node: nodes)
+            clock.incrementVersion(node, System.currentTimeMillis());
+        return clock;
+    }
+
+    @Test
+    public void testEqualsAndHashcode() {
+        ArrayVectorClock one = getArrayClock(1, 2);
+        ArrayVectorClock other = getArrayClock(2, 1);
+        assertEquals(one, other);
+        assertEquals(one.hashCode(), other.hashCode());
+        assertFalse(one.equals(getArrayClock(1, 2, 2)));
+    }
+
+    @Test
+    public void testComparisons() {
+        assertTrue("The empty clock should not happen before itself.",
+                   getArrayClock().compare(getArrayClock()) != Occurred.CONCURRENTLY);
+        assertTrue("A clock should not happen before an identical clock.",
+                   getArrayClock(1, 1, 2).compare(getArrayClock(1, 1, 2)) != Occurred.CONCURRENTLY);
+        assertTrue(" A clock should happen before an identical clock with a single additional event.",
+                   getArrayClock(1, 1, 2).compare(getArrayClock(1, 1, 2, 3)) == Occurred.BEFORE);
+        assertTrue("Clocks with different events should be concurrent.",
+                   getArrayClock(1).compare(getArrayClock(2)) == Occurred.CONCURRENTLY);
+        assertTrue("Clocks with different events should be concurrent.",
+                   getArrayClock(1, 1, 2).compare(getArrayClock(1, 1, 3)) == Occurred.CONCURRENTLY);
+        assertTrue("Clocks with different events should be concurrent.",
+                   getArrayClock(1, 2, 3, 3).compare(getArrayClock(1, 1, 2, 3)) == Occurred.CONCURRENTLY);
+        assertTrue(getArrayClock(2, 2).compare(getArrayClock(1, 2, 2, 3)) == Occurred.BEFORE
+                   && getArrayClock(1, 2, 2, 3).compare(getArrayClock(2, 2)) == Occurred.AFTER);
+    }
+
+    @Test
+    public void testCompareMatchesVectorClock() {
+        for(int t = 0; t < 200; t++) {
+            int[] first = TestUtils.randomInts(10, 8);
+            int[] second = TestUtils.randomInts(10, 8);
+            assertEquals(getClock(first).compare(getClock(second)),
+                         getArrayClock(first).compare(getArrayClock(second)));
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        assertEquals("Two empty clocks merge to an empty clock.",
+                     getArrayClock().merge(getArrayClock()),
+                     getArrayClock());
+        assertEquals("Merge of a clock with itself does nothing",
+                     getArrayClock(1).merge(getArrayClock(1)),
+                     getArrayClock(1));
+        assertEquals(getArrayClock(1).merge(getArrayClock(2)), getArrayClock(1, 2));
+        assertEquals(getArrayClock(1, 2).merge(getArrayClock(1)), getArrayClock(1, 2));
+        assertEquals("Two-way merge fails.",
+                     getArrayClock(1, 1, 1, 2, 3, 5).merge(getArrayClock(1, 2, 2, 4)),
+                     getArrayClock(1, 1, 1, 2, 2, 3, 4, 5));
+        assertEquals(getArrayClock(2, 3, 5).merge(getArrayClock(1, 2, 2, 4, 7)),
+                     getArrayClock(1, 2, 2, 3, 4, 5, 7));
+    }
+
+    @Test
+    public void testMergeFrom() {
+        ArrayVectorClock clock = getArrayClock(2, 3, 5);
+        clock.mergeFrom(getArrayClock(1, 2, 2, 4, 7));
+        assertEquals(getArrayClock(1, 2, 2, 3, 4, 5, 7), clock);
+    }
+
+    @Test
+    public void testSerializationCompatibleWithVectorClock() {
+        VectorClock clock = getClock(1, 1, 2, 3, 4, 4, 6);
+        ArrayVectorClock arrayClock = new ArrayVectorClock(clock.toBytes());
+        assertEquals(getArrayClock(1, 1, 2, 3, 4, 4, 6), arrayClock);
+        assertArrayEquals(clock.toBytes(), arrayClock.toBytes());
+        assertEquals(clock, new VectorClock(arrayClock.toBytes()));
+    }
+
+    @Test
+    public void testSerializationInPlace() {
+        ArrayVectorClock clock = getArrayClock(1, 1, 2, 3, 3, 6);
+        for(int i = 0; i < 300; i++)
+            clock.incrementVersion(2, System.currentTimeMillis());
+        byte[] buffer = new byte[clock.sizeInBytes() + 5];
+        assertEquals(clock.sizeInBytes(), clock.toBytes(buffer, 5));
+        assertEquals("Clock does not serialize to itself.", clock, new ArrayVectorClock(buffer, 5));
+
+        DataInputStream ds = new DataInputStream(new ByteArrayInputStream(clock.toBytes()));
+        assertEquals(clock, ArrayVectorClock.createNew(ds));
+    }
+
+    @Test
+    public void testGetVersions() {
+        ArrayVectorClock clock = getArrayClock(1, 1, 3);
+        assertEquals(Long.valueOf(2), clock.getVersions().get("1"));
+        assertSame(clock.getVersions(), clock.getVersions());
+        clock.updateVersion("3", 7, System.currentTimeMillis());
+        assertEquals(Long.valueOf(7), clock.getVersions().get("3"));
+        assertEquals(7, clock.getVersion((short) 3));
+        assertEquals(0, clock.getVersion((short) 4));
+    }
+}
@@ -0,0 +1,99 @@
+package voldemort.consistency.versioning;
+
+import org.junit.After;
+import org.junit.Test;
+import voldemort.consistency.ComponentRegistry;
+import voldemort.consistency.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+import static org.junit.Assert.*;
+
+public class HybridLogicalClockTest {
+
+    private final String versioning = Constants.versioning;
+
+    @After
+    public void tearDown() {
+        Constants.versioning = versioning;
+    }
+
+    @Test
+    public void testIncrementFollowsPhysicalTime() {
+        HybridLogicalClock clock = new HybridLogicalClock().incremented(1, 1000);
+        assertEquals(1000, clock.getPhysicalTime());
+        assertEquals(0, clock.getCounter());
+
+        // same ms, the counter orders the events
+        HybridLogicalClock next = clock.incremented(2, 1000);
+        assertEquals(1000, next.getPhysicalTime());
+        assertEquals(1, next.getCounter());
+
+        // the wall clock went backwards, the clock keeps moving forward
+        HybridLogicalClock behind = next.incremented(1, 900);
+        assertEquals(1000, behind.getPhysicalTime());
+        assertEquals(2, behind.getCounter());
+
+        HybridLogicalClock ahead = behind.incremented(1, 1001);
+        assertEquals(1001, ahead.getPhysicalTime());
+        assertEquals(0, ahead.getCounter());
+
+        HybridLogicalClock inPlace = clock.clone();
+        inPlace.incrementVersion(1, 1000);
+        assertEquals(next, inPlace);
+    }
+
+    @Test
+    public void testComparisons() {
+        HybridLogicalClock one = new HybridLogicalClock().incremented(1, 1000);
+        HybridLogicalClock two = one.incremented(1, 1000);
+        assertEquals(Occurred.BEFORE, one.compare(two));
+        assertEquals(Occurred.AFTER, two.compare(one));
+        assertEquals("Equal clocks should be BEFORE, like VectorClock",
+                     Occurred.BEFORE,
+                     one.compare(one.clone()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompareOtherType() {
+        new HybridLogicalClock().compare(new VectorClock());
+    }
+
+    @Test
+    public void testMerge() {
+        HybridLogicalClock one = new HybridLogicalClock().incremented(1, 1000);
+        HybridLogicalClock two = new HybridLogicalClock().incremented(2, 2000);
+        assertEquals(two, one.merge(two));
+        assertEquals(two, two.merge(one));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        HybridLogicalClock clock = new HybridLogicalClock().incremented(1, System.currentTimeMillis())
+                                                           .incremented(1, 0);
+        byte[] bytes = clock.toBytes();
+        assertEquals(8, bytes.length);
+        assertEquals(clock.sizeInBytes(), bytes.length);
+        assertEquals(clock, new HybridLogicalClock(bytes));
+
+        byte[] buffer = new byte[20];
+        assertEquals(8, clock.toBytes(buffer, 5));
+        assertEquals(clock, new HybridLogicalClock(buffer, 5));
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        assertEquals(clock, HybridLogicalClock.createNew(input));
+        assertEquals(clock, HybridLogicalClock.fromLong(clock.toLong()));
+    }
+
+    @Test
+    public void testSelectedThroughConstants() {
+        Constants.versioning = HybridLogicalClock.class.getName();
+        assertTrue(Constants.getVersionObject() instanceof HybridLogicalClock);
+
+        HybridLogicalClock clock = new HybridLogicalClock().incremented(3, 12345);
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(clock.toBytes()));
+        assertEquals(clock, ComponentRegistry.readVersion(input));
+        assertEquals(clock, ComponentRegistry.readVersion(clock.toBytes(), 0));
+    }
+}
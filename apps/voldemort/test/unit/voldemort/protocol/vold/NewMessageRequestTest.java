@@ -0,0 +1,123 @@
+package voldemort.protocol.vold;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import voldemort.ServerTestUtils;
+import voldemort.TestUtils;
+import voldemort.client.protocol.RequestFormat;
+import voldemort.client.protocol.RequestFormatFactory;
+import voldemort.client.protocol.RequestFormatType;
+import voldemort.consistency.utils.ByteArray;
+import voldemort.consistency.versioning.Occurred;
+import voldemort.consistency.versioning.VectorClock;
+import voldemort.consistency.versioning.Version;
+import voldemort.consistency.versioning.Versioned;
+import voldemort.server.RequestRoutingType;
+import voldemort.server.StoreRepository;
+import voldemort.server.protocol.RequestHandler;
+import voldemort.store.memory.InMemoryStorageEngine;
+
+/**
+ * Tests that the owner of a key versions the PUTs forwarded to it
+ */
+@RunWith(Parameterized.class)
+public class NewMessageRequestTest {
+
+    private static final int NODE_ID = 2;
+    private static final String STORE_NAME = "test";
+
+    private final RequestFormatType type;
+    private InMemoryStorageEngine<ByteArray, byte[], byte[]> store;
+    private RequestFormat clientWireFormat;
+    private RequestHandler serverWireFormat;
+
+    public NewMessageRequestTest(RequestFormatType type) {
+        this.type = type;
+    }
+
+    @Parameters
+    public static Collection<Object[]> configs() {
+        return Arrays.asList(new Object[][] { { RequestFormatType.VOLDEMORT_V1 },
+                { RequestFormatType.VOLDEMORT_V2 }, { RequestFormatType.VOLDEMORT_V3 } });
+    }
+
+    @Before
+    public void setUp() {
+        store = new InMemoryStorageEngine<ByteArray, byte[], byte[]>(STORE_NAME);
+        StoreRepository repository = new StoreRepository();
+        repository.addLocalStore(store);
+        repository.addStorageEngine(ServerTestUtils.createMetadataStore(ServerTestUtils.getLocalCluster(3),
+                                                                        ServerTestUtils.getStoreDefs(1),
+                                                                        NODE_ID));
+        clientWireFormat = new RequestFormatFactory().getRequestFormat(type);
+        serverWireFormat = ServerTestUtils.getSocketRequestHandlerFactory(repository)
+                                          .getRequestHandler(type);
+    }
+
+    @Test
+    public void testOwnerAssignsIncreasingVersions() throws Exception {
+        ByteArray key = TestUtils.toByteArray("hello");
+        Version previous = null;
+        for(int i = 0; i < 3; i++) {
+            Version assigned = newMessage(key, ("value" + i).getBytes(), new VectorClock());
+            assertEquals(i + 1, assigned.getVersions().get(Integer.toString(NODE_ID)).longValue());
+            if(previous != null)
+                assertEquals(Occurred.AFTER, assigned.compare(previous));
+            previous = assigned;
+        }
+        List<Versioned<byte[]>> stored = store.get(key, null);
+        assertEquals(1, stored.size());
+        assertEquals(previous, stored.get(0).getVersion());
+        assertArrayEquals("value2".getBytes(), stored.get(0).getValue());
+    }
+
+    @Test
+    public void testOwnerKeepsTheClientContext() throws Exception {
+        ByteArray key = TestUtils.toByteArray("hello");
+        newMessage(key, "first".getBytes(), new VectorClock());
+        VectorClock context = TestUtils.getClock(0, 0, 1);
+        Version assigned = newMessage(key, "second".getBytes(), context);
+        assertEquals(Occurred.AFTER, assigned.compare(context));
+        assertEquals(1, store.get(key, null).size());
+    }
+
+    private Version newMessage(ByteArray key, byte[] value, Version context) throws Exception {
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        clientWireFormat.writeNewMessageRequest(new DataOutputStream(request),
+                                                STORE_NAME,
+                                                key,
+                                                value,
+                                                null,
+                                                context,
+                                                RequestRoutingType.NORMAL);
+        assertTrue(serverWireFormat.isCompleteRequest(ByteBuffer.wrap(request.toByteArray())));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        serverWireFormat.handleRequest(new DataInputStream(new ByteArrayInputStream(request.toByteArray())),
+                                       new DataOutputStream(response));
+
+        byte[] bytes = response.toByteArray();
+        for(int i = 0; i < bytes.length; i++)
+            assertFalse("Partial response should be incomplete",
+                        clientWireFormat.isCompleteNewMessageResponse(ByteBuffer.wrap(bytes, 0, i)));
+        assertTrue(clientWireFormat.isCompleteNewMessageResponse(ByteBuffer.wrap(bytes)));
+        return clientWireFormat.readNewMessageResponse(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -3,14 +3,17 @@ package voldemort.store.readonly;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
 import voldemort.TestUtils;
+import voldemort.VoldemortException;
 import voldemort.consistency.cluster.Cluster;
 import voldemort.consistency.cluster.Node;
 import voldemort.routing.ConsistentRoutingStrategy;
@@ -34,8 +37,102 @@ public class ChunkedFileSetTest {
         return router;
     }
 
+    private static final String[] md5collision = {
+            "4dc968ff0ee35c209572d4777b721587d36fa7b21bdc56b74a3dc0783e7b9518afbfa200a8284bf36e8e4b55b35f427593d849676da0d1555d8360fb5f07fea2",
+            "4dc968ff0ee35c209572d4777b721587d36fa7b21bdc56b74a3dc0783e7b9518afbfa202a8284bf36e8e4b55b35f427593d849676da0d1d55d8360fb5f07fea2" };
+
     @Test
     public void testCollision() throws Exception {
+        ChunkedFileSet fileSet = new ChunkedFileSet(createCollisionFiles(), 
+                                                    getTempStrategy(),
+                                                    NODE_ID, 
+                                                    VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE);
+
+        for(int i = 0; i < 2; i ++) {
+            String input = md5collision[i];
+            byte[] hexInput = ByteUtils.fromHexString(input);
+            byte[] hexValue = fileSet.readValue(hexInput, 0, 0);
+            Assert.assertArrayEquals(hexInput, hexValue);
+        }
+        fileSet.close();
+    }
+
+    @Test
+    public void testCollisionWithMappedDataFiles() throws Exception {
+        ChunkedFileSet fileSet = new ChunkedFileSet(createCollisionFiles(),
+                                                    getTempStrategy(),
+                                                    NODE_ID,
+                                                    VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE,
+                                                    true);
+        Assert.assertTrue(fileSet.isDataFilesMapped());
+
+        for(int i = 0; i < 2; i ++) {
+            byte[] hexInput = ByteUtils.fromHexString(md5collision[i]);
+            Assert.assertArrayEquals(hexInput, fileSet.readValue(hexInput, 0, 0));
+
+            ByteBuffer valueBuffer = fileSet.readValueBuffer(hexInput, 0, 0);
+            Assert.assertTrue(valueBuffer.isReadOnly());
+            byte[] hexValue = new byte[valueBuffer.remaining()];
+            valueBuffer.get(hexValue);
+            Assert.assertArrayEquals(hexInput, hexValue);
+        }
+
+        // same size as the collided keys, but not in the bucket
+        byte[] missingKey = ByteUtils.fromHexString(md5collision[0]);
+        missingKey[0]++;
+        Assert.assertEquals(0, fileSet.readValue(missingKey, 0, 0).length);
+        Assert.assertNull(fileSet.readValueBuffer(missingKey, 0, 0));
+        fileSet.close();
+    }
+
+    @Test
+    public void testValueSizeBeyondMappedVersion0File() throws Exception {
+        ChunkedFileSet fileSet = new ChunkedFileSet(createVersion0Files(),
+                                                    getTempStrategy(),
+                                                    NODE_ID,
+                                                    VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE,
+                                                    true);
+        byte[] key = "key".getBytes();
+
+        ByteBuffer valueBuffer = fileSet.readValueBuffer(key, 0, 0);
+        Assert.assertEquals(4, valueBuffer.remaining());
+
+        // the second record claims 1000 bytes, only 4 follow it
+        try {
+            fileSet.readValueBuffer(key, 0, 8);
+            Assert.fail("Read a value beyond the end of the data file");
+        } catch(VoldemortException e) {
+            // expected
+        }
+        try {
+            fileSet.readValueBuffer(key, 0, 14);
+            Assert.fail("Read a value size beyond the end of the data file");
+        } catch(VoldemortException e) {
+            // expected
+        }
+        fileSet.close();
+    }
+
+    private File createVersion0Files() throws Exception {
+        File fileDir = TestUtils.createTempDir();
+
+        ReadOnlyStorageMetadata metadata = new ReadOnlyStorageMetadata();
+        metadata.add(ReadOnlyStorageMetadata.FORMAT, ReadOnlyStorageFormat.READONLY_V0.getCode());
+        FileUtils.writeStringToFile(new File(fileDir, ".metadata"), metadata.toJsonString());
+
+        DataOutputStream outputStream = new DataOutputStream(new FileOutputStream(new File(fileDir,
+                                                                                           "0.data")));
+        outputStream.writeInt(4);
+        outputStream.writeInt(42);
+        outputStream.writeInt(1000);
+        outputStream.writeInt(42);
+        outputStream.close();
+
+        new File(fileDir, "0.index").createNewFile();
+        return fileDir;
+    }
+
+    private File createCollisionFiles() throws Exception {
         File fileDir = TestUtils.createTempDir();
 
         File dataFile = new File(fileDir + File.separator + "0_0_0.data");
@@ -52,10 +149,6 @@ public class ChunkedFileSetTest {
          * both have MD5 hash 008ee33a9d58b51cfeb425b0959121c9
          */
 
-        String[] md5collision = {
-                "4dc968ff0ee35c209572d4777b721587d36fa7b21bdc56b74a3dc0783e7b9518afbfa200a8284bf36e8e4b55b35f427593d849676da0d1555d8360fb5f07fea2",
-                "4dc968ff0ee35c209572d4777b721587d36fa7b21bdc56b74a3dc0783e7b9518afbfa202a8284bf36e8e4b55b35f427593d849676da0d1d55d8360fb5f07fea2" };
-        
         outputStream.writeShort(2);
         for(int i = 0; i < 2; i ++) {
             String input = md5collision[i];
@@ -72,18 +165,6 @@ public class ChunkedFileSetTest {
         File indexFile = new File(fileDir + File.separator + "0_0_0.index");
         indexFile.createNewFile();
         indexFile.deleteOnExit();
-
-        ChunkedFileSet fileSet = new ChunkedFileSet(fileDir, 
-                                                    getTempStrategy(),
-                                                    NODE_ID, 
-                                                    VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE);
-
-        for(int i = 0; i < 2; i ++) {
-            String input = md5collision[i];
-            byte[] hexInput = ByteUtils.fromHexString(input);
-            byte[] hexValue = fileSet.readValue(hexInput, 0, 0);
-            Assert.assertArrayEquals(hexInput, hexValue);
-        }
-
+        return fileDir;
     }
 }
@@ -0,0 +1,127 @@
+package voldemort.store.readonly;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import voldemort.consistency.utils.ByteUtils;
+
+/**
+ * Tests lookups through {@link FencePointers} with fences a few entries apart,
+ * so most keys are found between two fences
+ *
+ */
+@RunWith(Parameterized.class)
+public class FencePointersTest {
+
+    private final int keySize;
+    private final int entriesPerFence;
+
+    @Parameters
+    public static Collection<Object[]> configs() {
+        return Arrays.asList(new Object[][] { { 4, 1 }, { 4, 3 }, { 8, 1 }, { 8, 5 }, { 16, 2 },
+                { 16, 7 } });
+    }
+
+    public FencePointersTest(int keySize, int entriesPerFence) {
+        this.keySize = keySize;
+        this.entriesPerFence = entriesPerFence;
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        ByteBuffer index = ByteBuffer.allocate(0);
+        FencePointers fences = build(index);
+        assertEquals(0, fences.size());
+        assertEquals(-1, fences.indexOf(index, new byte[keySize]));
+    }
+
+    @Test
+    public void testRandomKeys() {
+        Random rand = new Random(2468);
+        for(int size: new int[] { 1, 2, 10, 100, 1000 }) {
+            byte[][] keys = randomKeys(rand, size, false);
+            ByteBuffer index = makeIndex(keys);
+            FencePointers fences = build(index);
+            assertEquals((size + entriesPerFence - 1) / entriesPerFence, fences.size());
+            for(int i = 0; i < size; i++)
+                assertEquals(i, fences.indexOf(index, keys[i]));
+            for(int i = 0; i < 100; i++) {
+                byte[] key = new byte[keySize];
+                rand.nextBytes(key);
+                if(Arrays.binarySearch(keys, key, new KeyComparator()) < 0)
+                    assertEquals(-1, fences.indexOf(index, key));
+            }
+        }
+    }
+
+    @Test
+    public void testKeysSharingPrefixes() {
+        if(keySize <= 8)
+            return;
+        Random rand = new Random(1357);
+        byte[][] keys = randomKeys(rand, 200, true);
+        ByteBuffer index = makeIndex(keys);
+        FencePointers fences = build(index);
+        for(int i = 0; i < keys.length; i++)
+            assertEquals(i, fences.indexOf(index, keys[i]));
+        byte[] missing = keys[keys.length / 2].clone();
+        missing[keySize - 1]++;
+        if(Arrays.binarySearch(keys, missing, new KeyComparator()) < 0)
+            assertEquals(-1, fences.indexOf(index, missing));
+    }
+
+    private FencePointers build(ByteBuffer index) {
+        int entrySize = keySize + ReadOnlyUtils.POSITION_SIZE;
+        return FencePointers.build(index, index.limit(), keySize, entriesPerFence * entrySize);
+    }
+
+    /**
+     * Sorted distinct keys, in runs of keys that share their first 8 bytes if
+     * sharePrefixes is set
+     */
+    private byte[][] randomKeys(Random rand, int size, boolean sharePrefixes) {
+        byte[][] keys = new byte[size][];
+        for(int i = 0; i < size; i++) {
+            keys[i] = new byte[keySize];
+            rand.nextBytes(keys[i]);
+            if(sharePrefixes && i % 10 != 0)
+                System.arraycopy(keys[i - 1], 0, keys[i], 0, 8);
+        }
+        Arrays.sort(keys, new KeyComparator());
+        for(int i = 1; i < size; i++) {
+            if(ByteUtils.compare(keys[i - 1], keys[i]) == 0)
+                return randomKeys(rand, size, sharePrefixes);
+        }
+        return keys;
+    }
+
+    /**
+     * An index where the position of the i-th key is i
+     */
+    private ByteBuffer makeIndex(byte[][] keys) {
+        ByteBuffer buffer = ByteBuffer.allocate((keySize + ReadOnlyUtils.POSITION_SIZE)
+                                                * keys.length);
+        for(int i = 0; i < keys.length; i++) {
+            buffer.put(keys[i]);
+            buffer.putInt(i);
+        }
+        return buffer;
+    }
+
+    private static class KeyComparator implements Comparator<byte[]> {
+
+        public int compare(byte[] b1, byte[] b2) {
+            return ByteUtils.compare(b1, b2);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package voldemort.store.readonly;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import voldemort.ServerTestUtils;
+import voldemort.TestUtils;
+import voldemort.consistency.cluster.Cluster;
+import voldemort.routing.RoutingStrategy;
+import voldemort.routing.RoutingStrategyFactory;
+import voldemort.routing.RoutingStrategyType;
+import voldemort.store.StoreDefinition;
+import voldemort.utils.Utils;
+
+/**
+ * Tests that the read-only v2 files built by the pipeline of
+ * {@link JsonStoreBuilder} are the ones its sequential build writes, for any
+ * number of threads, sort buffer size, or intermediate compression
+ *
+ */
+public class JsonStoreBuilderTest {
+
+    private static final int NUM_RECORDS = 2000;
+    private static final int NUM_CHUNKS = 3;
+
+    private File dir;
+    private Cluster cluster;
+    private StoreDefinition storeDef;
+    private RoutingStrategy routingStrategy;
+    private Map<String, String> data;
+
+    @Before
+    public void setUp() {
+        dir = TestUtils.createTempDir();
+        cluster = ServerTestUtils.getLocalCluster(3);
+        storeDef = ServerTestUtils.getStoreDef("test",
+                                               2,
+                                               1,
+                                               1,
+                                               1,
+                                               1,
+                                               RoutingStrategyType.CONSISTENT_STRATEGY);
+        routingStrategy = new RoutingStrategyFactory().updateRoutingStrategy(storeDef, cluster);
+        data = new HashMap<String, String>();
+        for(int i = 0; i < NUM_RECORDS; i++)
+            data.put(TestUtils.randomLetters(10), TestUtils.randomLetters(i % 100));
+    }
+
+    @After
+    public void tearDown() {
+        Utils.rm(dir);
+    }
+
+    @Test
+    public void testSameFilesAsTheSequentialBuild() throws Exception {
+        File expected = buildSequential(data);
+        assertSameFiles(expected, build(data, 1, NUM_RECORDS, false));
+        assertSameFiles(expected, build(data, 4, NUM_RECORDS / 7, false));
+        assertSameFiles(expected, build(data, 3, 1, false));
+    }
+
+    @Test
+    public void testSameFilesWithGzipIntermediate() throws Exception {
+        File expected = buildSequential(data);
+        assertSameFiles(expected, build(data, 4, NUM_RECORDS / 7, true));
+    }
+
+    @Test
+    public void testEmptyInput() throws Exception {
+        File output = build(new HashMap<String, String>(), 4, 10, false);
+        for(File nodeDir: output.listFiles()) {
+            File[] files = nodeDir.listFiles();
+            assertTrue(files.length > 1);
+            for(File file: files)
+                if(!file.getName().equals(".metadata"))
+                    assertEquals(0, file.length());
+        }
+    }
+
+    private JsonStoreBuilder builder(Map<String, String> data,
+                                     File output,
+                                     int numThreads,
+                                     int sortSize,
+                                     boolean gzip) throws Exception {
+        return new JsonStoreBuilder(ReadOnlyStorageEngineTestInstance.makeTestDataReader(data, dir),
+                                    cluster,
+                                    storeDef,
+                                    routingStrategy,
+                                    output,
+                                    dir,
+                                    sortSize,
+                                    numThreads,
+                                    NUM_CHUNKS,
+                                    10000,
+                                    gzip);
+    }
+
+    private File build(Map<String, String> data, int numThreads, int sortSize, boolean gzip)
+            throws Exception {
+        File output = TestUtils.createTempDir(dir);
+        builder(data, output, numThreads, sortSize, gzip).build(ReadOnlyStorageFormat.READONLY_V2);
+        return output;
+    }
+
+    private File buildSequential(Map<String, String> data) throws Exception {
+        File output = TestUtils.createTempDir(dir);
+        builder(data, output, 1, NUM_RECORDS, false).buildVersion2Sequential();
+        return output;
+    }
+
+    private void assertSameFiles(File expected, File actual) throws Exception {
+        String[] nodeDirs = expected.list();
+        Arrays.sort(nodeDirs);
+        String[] actualNodeDirs = actual.list();
+        Arrays.sort(actualNodeDirs);
+        assertTrue(Arrays.equals(nodeDirs, actualNodeDirs));
+        for(String nodeDir: nodeDirs) {
+            String[] files = new File(expected, nodeDir).list();
+            Arrays.sort(files);
+            String[] actualFiles = new File(actual, nodeDir).list();
+            Arrays.sort(actualFiles);
+            assertTrue(Arrays.equals(files, actualFiles));
+            for(String file: files)
+                assertTrue("File " + nodeDir + "/" + file + " differs",
+                           FileUtils.contentEquals(new File(new File(expected, nodeDir), file),
+                                                   new File(new File(actual, nodeDir), file)));
+        }
+    }
+}
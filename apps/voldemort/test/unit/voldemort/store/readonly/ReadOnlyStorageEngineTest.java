@@ -1,5 +1,6 @@
 package voldemort.store.readonly;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -13,12 +14,16 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.log4j.Logger;
 import org.junit.After;
 import org.junit.Assert;
@@ -42,6 +47,7 @@ import voldemort.serialization.DefaultSerializerFactory;
 import voldemort.consistency.utils.serialization.Serializer;
 import voldemort.serialization.SerializerDefinition;
 import voldemort.serialization.SerializerFactory;
+import voldemort.server.VoldemortConfig;
 import voldemort.store.Store;
 import voldemort.store.StoreDefinition;
 import voldemort.consistency.utils.ByteArray;
@@ -80,26 +86,35 @@ public class ReadOnlyStorageEngineTest {
                 // Replication factor 1, 1 node, simple partition assignment
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V0, 1, 1,  null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V0, 1, 1,  null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V0, 1, 1,  null },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V1, 1, 1,  null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V1, 1, 1,  null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V1, 1, 1,  null },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V2, 1, 1,  null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V2, 1, 1,  null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V2, 1, 1,  null },
 
                 // Replication factor 2, 10 nodes, simple partition assignment
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V0, 2, 10, null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V0, 2, 10, null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V0, 2, 10, null },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V1, 2, 10, null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V1, 2, 10, null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V1, 2, 10, null },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V2, 2, 10, null },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V2, 2, 10, null },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V2, 2, 10, null },
 
                 // Replication factor 2, 10 nodes, complex partition assignment
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V0, 2, 10, complexPartitionMap },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V0, 2, 10, complexPartitionMap },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V0, 2, 10, complexPartitionMap },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V1, 2, 10, complexPartitionMap },
                 { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V1, 2, 10, complexPartitionMap },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V1, 2, 10, complexPartitionMap },
                 { new BinarySearchStrategy(),        ReadOnlyStorageFormat.READONLY_V2, 2, 10, complexPartitionMap },
-                { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V2, 2, 10, complexPartitionMap }
+                { new InterpolationSearchStrategy(), ReadOnlyStorageFormat.READONLY_V2, 2, 10, complexPartitionMap },
+                { new FencePointerSearchStrategy(),  ReadOnlyStorageFormat.READONLY_V2, 2, 10, complexPartitionMap }
         });
     }
 
@@ -287,6 +302,32 @@ public class ReadOnlyStorageEngineTest {
                                                                                               serDef,
                                                                                               storageType,
                                                                                               partitionMap);
+        canMultigetGoodRecords(testData);
+    }
+
+    @Test
+    public void canMultigetGoodValuesInParallel() throws Exception {
+        ReadOnlyStorageEngineTestInstance testData = ReadOnlyStorageEngineTestInstance.create(strategy,
+                                                                                              dir,
+                                                                                              TOTAL_NUMBER_OF_RECORDS,
+                                                                                              numberOfNodes,
+                                                                                              replicationFactor,
+                                                                                              serDef,
+                                                                                              serDef,
+                                                                                              storageType,
+                                                                                              partitionMap);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for(ReadOnlyStorageEngine engine: testData.getReadOnlyStores().values())
+                engine.setGetAllExecutor(executor);
+            canMultigetGoodRecords(testData);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void canMultigetGoodRecords(ReadOnlyStorageEngineTestInstance testData)
+            throws Exception {
         Set<String> keys = testData.getData().keySet();
         Set<String> gotten = new HashSet<String>();
         for(Map.Entry<Integer, Store<String, String, String>> entry: testData.getNodeStores()
@@ -395,6 +436,67 @@ public class ReadOnlyStorageEngineTest {
 
     }
 
+    @Test
+    public void testValueCacheWarmedUpOnSwap() throws Exception {
+        ReadOnlyStorageEngineTestInstance testData = ReadOnlyStorageEngineTestInstance.create(strategy,
+                                                                                              dir,
+                                                                                              TOTAL_NUMBER_OF_RECORDS,
+                                                                                              numberOfNodes,
+                                                                                              replicationFactor,
+                                                                                              serDef,
+                                                                                              serDef,
+                                                                                              storageType,
+                                                                                              partitionMap);
+        ReadOnlyStorageEngine testEngine = testData.getReadOnlyStores().get(0);
+        File storeDir = new File(testEngine.getStoreDirPath());
+        testEngine.close();
+
+        VoldemortConfig config = ServerTestUtils.getVoldemortConfig();
+        config.setReadOnlyValueCacheWarmupKeys(TOTAL_NUMBER_OF_RECORDS);
+        ReadOnlyStorageEngine engine = new ReadOnlyStorageEngine("test",
+                                                                 strategy,
+                                                                 testData.getRoutingStrategy(),
+                                                                 0,
+                                                                 storeDir,
+                                                                 1,
+                                                                 0,
+                                                                 VoldemortConfig.DEFAULT_RO_MAX_VALUE_BUFFER_ALLOCATION_SIZE,
+                                                                 config);
+        ReadOnlyValueCache cache = new ReadOnlyValueCache(new ReadOnlyValueCache.MemoryBudget(1024 * 1024));
+        engine.setValueCache(cache);
+
+        Map<ByteArray, byte[]> values = new HashMap<ByteArray, byte[]>();
+        for(String key: testData.getData().keySet()) {
+            if(testData.routeRequest(key).contains(node)) {
+                ByteArray keyBytes = new ByteArray(testData.getKeySerializer().toBytes(key));
+                List<Versioned<byte[]>> found = engine.get(keyBytes, null);
+                assertEquals(1, found.size());
+                values.put(keyBytes, found.get(0).getValue());
+            }
+        }
+        assertEquals(values.size(), cache.getEntries());
+
+        // the values of the previous version are read again from the new one
+        File versionDir = new File(storeDir, "version-0");
+        File newVersionDir = new File(storeDir, "version-1");
+        FileUtils.copyDirectory(versionDir, newVersionDir);
+        engine.swapFiles(newVersionDir.getAbsolutePath());
+        assertEquals(values.size(), cache.getEntries());
+        long hits = cache.getHits();
+        for(Map.Entry<ByteArray, byte[]> entry: values.entrySet())
+            assertArrayEquals(entry.getValue(), engine.get(entry.getKey(), null)
+                                                      .get(0)
+                                                      .getValue());
+        assertEquals(hits + values.size(), cache.getHits());
+
+        // a rollback drops the values of the rolled back version
+        engine.rollback(versionDir);
+        assertEquals(0, cache.getEntries());
+        assertEquals(0, cache.getBytes());
+        engine.close();
+        testData.delete();
+    }
+
     @Test
     public void testNodeNotInRoutingStrategy() throws IOException {
         File versionDir = new File(dir, "version-0");
@@ -209,4 +209,8 @@ public class ReadOnlyStorageEngineTestInstance {
         return routingStrategy;
     }
 
+    public Serializer<String> getKeySerializer() {
+        return keySerializer;
+    }
+
 }
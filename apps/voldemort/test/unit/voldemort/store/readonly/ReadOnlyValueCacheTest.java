@@ -0,0 +1,179 @@
+package voldemort.store.readonly;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import voldemort.TestUtils;
+import voldemort.consistency.utils.ByteArray;
+
+/**
+ * Tests the eviction, memory bound, and invalidation of the
+ * {@link ReadOnlyValueCache}
+ *
+ */
+public class ReadOnlyValueCacheTest {
+
+    private static final int VALUE_SIZE = 100;
+
+    @Test
+    public void testGetAndPut() {
+        ReadOnlyValueCache cache = new ReadOnlyValueCache(new ReadOnlyValueCache.MemoryBudget(1024 * 1024));
+        byte[] key = "key".getBytes();
+        byte[] value = TestUtils.randomBytes(VALUE_SIZE);
+        assertNull(cache.get(key));
+        cache.put(key, value);
+        assertArrayEquals(value, cache.get(key));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRatio(), 0.0);
+
+        // a put of a cached key replaces its value
+        byte[] newValue = TestUtils.randomBytes(VALUE_SIZE / 2);
+        cache.put(key, newValue);
+        assertArrayEquals(newValue, cache.get(key));
+        assertEquals(1, cache.getEntries());
+        assertEquals(entrySize(key, newValue), cache.getBytes());
+    }
+
+    @Test
+    public void testStaysWithinBudget() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(64 * 1024);
+        ReadOnlyValueCache cache1 = new ReadOnlyValueCache(budget);
+        ReadOnlyValueCache cache2 = new ReadOnlyValueCache(budget);
+        for(int i = 0; i < 10000; i++) {
+            byte[] key = Integer.toString(i).getBytes();
+            cache1.put(key, TestUtils.randomBytes(VALUE_SIZE));
+            cache2.put(key, TestUtils.randomBytes(VALUE_SIZE));
+            assertTrue(budget.getUsedBytes() <= budget.getMaxBytes());
+        }
+        assertEquals(budget.getUsedBytes(), cache1.getBytes() + cache2.getBytes());
+        assertTrue(cache1.getEvictions() > 0);
+        assertTrue(cache2.getEvictions() > 0);
+
+        // the most recent values are kept
+        assertTrue(cache1.get("9999".getBytes()) != null);
+        assertNull(cache1.get("0".getBytes()));
+    }
+
+    @Test
+    public void testEvictsFromOtherCachesOfTheBudget() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(64 * 1024);
+        ReadOnlyValueCache full = new ReadOnlyValueCache(budget);
+        ReadOnlyValueCache empty = new ReadOnlyValueCache(budget);
+        for(int i = 0; i < 10000; i++)
+            full.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        long fullBytes = full.getBytes();
+        assertTrue(budget.getMaxBytes() - budget.getUsedBytes() < entrySize("0".getBytes(),
+                                                                            new byte[VALUE_SIZE]));
+
+        // the other cache evicts the least recently used entries of the full one
+        for(int i = 0; i < 100; i++) {
+            byte[] key = Integer.toString(i).getBytes();
+            byte[] value = TestUtils.randomBytes(VALUE_SIZE);
+            empty.put(key, value);
+            assertArrayEquals(value, empty.get(key));
+        }
+        assertEquals(100, empty.getEntries());
+        assertTrue(full.getBytes() < fullBytes);
+        assertTrue(full.getEvictions() > 0);
+        assertEquals(0, empty.getEvictions());
+        assertTrue(full.get("9999".getBytes()) != null);
+        assertEquals(budget.getUsedBytes(), full.getBytes() + empty.getBytes());
+    }
+
+    @Test
+    public void testInvalidatedCacheWinsBackItsShare() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(64 * 1024);
+        ReadOnlyValueCache swapped = new ReadOnlyValueCache(budget);
+        ReadOnlyValueCache other = new ReadOnlyValueCache(budget);
+        for(int i = 0; i < 10000; i++) {
+            byte[] key = Integer.toString(i).getBytes();
+            swapped.put(key, TestUtils.randomBytes(VALUE_SIZE));
+            other.put(key, TestUtils.randomBytes(VALUE_SIZE));
+        }
+
+        // the other cache takes the bytes released by the invalidation
+        swapped.invalidate();
+        for(int i = 10000; i < 20000; i++)
+            other.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        assertEquals(0, swapped.getBytes());
+
+        // and the warm up of the swapped cache is still cached
+        for(int i = 0; i < 100; i++)
+            swapped.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        assertEquals(100, swapped.getEntries());
+        for(int i = 0; i < 100; i++)
+            assertTrue(swapped.get(Integer.toString(i).getBytes()) != null);
+    }
+
+    @Test
+    public void testClosedCacheLeavesTheBudget() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(64 * 1024);
+        ReadOnlyValueCache closed = new ReadOnlyValueCache(budget);
+        ReadOnlyValueCache open = new ReadOnlyValueCache(budget);
+        closed.put("key".getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        closed.close();
+        assertEquals(0, budget.getUsedBytes());
+        closed.put("key".getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        for(int i = 0; i < 10000; i++)
+            open.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        assertEquals(budget.getUsedBytes(), open.getBytes() + closed.getBytes());
+    }
+
+    @Test
+    public void testSkipsValuesLargerThanASegment() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(16 * 1024);
+        ReadOnlyValueCache cache = new ReadOnlyValueCache(budget);
+        cache.put("key".getBytes(), TestUtils.randomBytes(4 * 1024));
+        assertNull(cache.get("key".getBytes()));
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    public void testInvalidateReleasesBudget() {
+        ReadOnlyValueCache.MemoryBudget budget = new ReadOnlyValueCache.MemoryBudget(1024 * 1024);
+        ReadOnlyValueCache cache = new ReadOnlyValueCache(budget);
+        for(int i = 0; i < 100; i++)
+            cache.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+        assertEquals(100, cache.getEntries());
+        assertTrue(budget.getUsedBytes() > 0);
+
+        cache.invalidate();
+        assertEquals(0, cache.getEntries());
+        assertEquals(0, cache.getBytes());
+        assertEquals(0, budget.getUsedBytes());
+        for(int i = 0; i < 100; i++)
+            assertNull(cache.get(Integer.toString(i).getBytes()));
+    }
+
+    @Test
+    public void testHottestKeys() {
+        ReadOnlyValueCache cache = new ReadOnlyValueCache(new ReadOnlyValueCache.MemoryBudget(1024 * 1024));
+        for(int i = 0; i < 1000; i++)
+            cache.put(Integer.toString(i).getBytes(), TestUtils.randomBytes(VALUE_SIZE));
+
+        // touch a few of the oldest keys, which makes them the hottest
+        Set<ByteArray> touched = new HashSet<ByteArray>();
+        for(int i = 0; i < 5; i++) {
+            cache.get(Integer.toString(i).getBytes());
+            touched.add(new ByteArray(Integer.toString(i).getBytes()));
+        }
+
+        List<ByteArray> hottest = cache.getHottestKeys(100);
+        assertTrue(hottest.size() <= 100);
+        assertTrue(hottest.containsAll(touched));
+        assertEquals(1000, cache.getHottestKeys(2000).size());
+    }
+
+    private static long entrySize(byte[] key, byte[] value) {
+        return 4 + key.length + value.length + ReadOnlyValueCache.ENTRY_OVERHEAD_BYTES;
+    }
+}
@@ -33,8 +33,9 @@ public class SearchStrategyTest {
     @Parameters
     public static Collection<Object[]> configs() {
         return Arrays.asList(new Object[][] { { new BinarySearchStrategy(), 4 },
-                { new InterpolationSearchStrategy(), 4 }, { new BinarySearchStrategy(), 16 },
-                { new InterpolationSearchStrategy(), 16 } });
+                { new InterpolationSearchStrategy(), 4 }, { new FencePointerSearchStrategy(), 4 },
+                { new BinarySearchStrategy(), 16 }, { new InterpolationSearchStrategy(), 16 },
+                { new FencePointerSearchStrategy(), 16 } });
     }
 
     public SearchStrategyTest(SearchStrategy strategy, int keyHashSize) {
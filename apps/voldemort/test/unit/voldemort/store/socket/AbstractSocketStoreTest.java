@@ -17,6 +17,7 @@
 package voldemort.store.socket;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.net.InetSocketAddress;
 import java.net.Socket;
@@ -94,6 +95,13 @@ public abstract class AbstractSocketStoreTest extends AbstractByteArrayStoreTest
         return socketStore;
     }
 
+    @Test
+    public void testNewMessageSupport() {
+        // Order falls back to a plain PUT where the owner cannot version forwarded PUTs
+        assertEquals(requestFormatType != RequestFormatType.PROTOCOL_BUFFERS,
+                     ((SocketStore) socketStore).supportsNewMessageRequest());
+    }
+
     @Test
     public void testVeryLargeValues() throws Exception {
         final Store<ByteArray, byte[], byte[]> store = getStore();